@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -113,6 +113,9 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 	@Nullable
 	private BeanFactory beanFactory;
 
+	@Nullable
+	private ShadowMatchCacheRegistry shadowMatchCacheRegistry;
+
 	@Nullable
 	private transient ClassLoader pointcutClassLoader;
 
@@ -171,6 +174,18 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 		this.beanFactory = beanFactory;
 	}
 
+	/**
+	 * Set a registry through which this pointcut shares its method match cache
+	 * with all equal pointcuts, i.e. with the same expression, declaration scope
+	 * and parameters, that use the same registry.
+	 * <p>All pointcuts using the same registry need to be created for the same
+	 * {@link #setBeanFactory BeanFactory}.
+	 * @since 5.2.26
+	 */
+	public void setShadowMatchCacheRegistry(@Nullable ShadowMatchCacheRegistry shadowMatchCacheRegistry) {
+		this.shadowMatchCacheRegistry = shadowMatchCacheRegistry;
+	}
+
 
 	@Override
 	public ClassFilter getClassFilter() {
@@ -196,6 +211,13 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 		if (this.pointcutExpression == null) {
 			this.pointcutClassLoader = determinePointcutClassLoader();
 			this.pointcutExpression = buildPointcutExpression(this.pointcutClassLoader);
+			if (this.shadowMatchCacheRegistry != null) {
+				// Key on the state the expression has been built with
+				Object key = Arrays.asList(getExpression(), this.pointcutDeclarationScope,
+						Arrays.asList(this.pointcutParameterNames.clone()),
+						Arrays.asList(this.pointcutParameterTypes.clone()));
+				this.shadowMatchCache = this.shadowMatchCacheRegistry.getShadowMatchCache(key, this.shadowMatchCache);
+			}
 		}
 		return this.pointcutExpression;
 	}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.aspectj;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.weaver.tools.ShadowMatch;
+
+/**
+ * Registry of method match caches shared by {@link AspectJExpressionPointcut}
+ * instances with the same expression, declaration scope and parameters, e.g.
+ * the pointcuts of several advice methods referring to the same named pointcut.
+ * Each method then only needs to be matched against such an expression once.
+ *
+ * <p>All pointcuts using the same registry need to be created for the same
+ * bean factory, as is the case for the advisors of an
+ * {@link org.springframework.aop.aspectj.annotation.AspectJAdvisorFactory}.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see AspectJExpressionPointcut#setShadowMatchCacheRegistry
+ */
+@SuppressWarnings("serial")
+public class ShadowMatchCacheRegistry implements Serializable {
+
+	private transient Map<Object, Map<Method, ShadowMatch>> shadowMatchCaches = new ConcurrentHashMap<>(64);
+
+
+	/**
+	 * Return the cache registered under the given key, registering the
+	 * given cache if none is present yet.
+	 * @param key the key identifying the pointcut expression
+	 * @param shadowMatchCache the cache of the calling pointcut
+	 * @return the cache to use for the calling pointcut
+	 */
+	Map<Method, ShadowMatch> getShadowMatchCache(Object key, Map<Method, ShadowMatch> shadowMatchCache) {
+		Map<Method, ShadowMatch> existing = this.shadowMatchCaches.putIfAbsent(key, shadowMatchCache);
+		return (existing != null ? existing : shadowMatchCache);
+	}
+
+	/**
+	 * Return the number of distinct pointcut expressions registered.
+	 */
+	public int size() {
+		return this.shadowMatchCaches.size();
+	}
+
+	/**
+	 * Remove all registered caches. Pointcuts that are already using a
+	 * shared cache keep using it.
+	 */
+	public void clear() {
+		this.shadowMatchCaches.clear();
+	}
+
+
+	//---------------------------------------------------------------------
+	// Serialization support
+	//---------------------------------------------------------------------
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		// Rely on default serialization, just initialize state after deserialization.
+		ois.defaultReadObject();
+
+		// Initialize transient fields.
+		this.shadowMatchCaches = new ConcurrentHashMap<>(64);
+	}
+
+}
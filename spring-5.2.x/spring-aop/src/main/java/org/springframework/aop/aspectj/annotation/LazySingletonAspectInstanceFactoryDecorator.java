@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2017 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -57,10 +57,13 @@ public class LazySingletonAspectInstanceFactoryDecorator implements MetadataAwar
 				this.materialized = aspectInstance;
 			}
 			else {
+				// Obtain the instance outside of the mutex, since a bean factory
+				// may have to wait for singleton creation in other threads...
+				Object newInstance = this.maaif.getAspectInstance();
 				synchronized (mutex) {
 					aspectInstance = this.materialized;
 					if (aspectInstance == null) {
-						aspectInstance = this.maaif.getAspectInstance();
+						aspectInstance = newInstance;
 						this.materialized = aspectInstance;
 					}
 				}
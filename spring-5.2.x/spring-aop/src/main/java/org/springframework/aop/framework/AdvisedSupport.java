@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -83,6 +83,9 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 	/** Cache with Method as key and advisor chain List as value. */
 	private transient Map<MethodCacheKey, List<Object>> methodCache;
 
+	/** Number of advice changes, for proxies to detect advice chains resolved before a change. */
+	private transient volatile int adviceChangeCount;
+
 	/**
 	 * Interfaces to be implemented by the proxy. Held in List to keep the order
 	 * of registration, to create JDK proxy with specified order of interfaces.
@@ -491,6 +494,14 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 	 */
 	protected void adviceChanged() {
 		this.methodCache.clear();
+		this.adviceChangeCount++;
+	}
+
+	/**
+	 * Return the number of {@link #adviceChanged() advice changes} so far.
+	 */
+	int getAdviceChangeCount() {
+		return this.adviceChangeCount;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -27,17 +29,18 @@ import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
 
-import org.aopalliance.aop.Advice;
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.aop.Advisor;
 import org.springframework.aop.AopInvocationException;
+import org.springframework.aop.Pointcut;
 import org.springframework.aop.PointcutAdvisor;
 import org.springframework.aop.RawTargetAccess;
 import org.springframework.aop.TargetSource;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.cglib.core.ClassGenerator;
 import org.springframework.cglib.core.ClassLoaderAwareGeneratorStrategy;
 import org.springframework.cglib.core.CodeGenerationException;
 import org.springframework.cglib.core.SpringNamingPolicy;
@@ -135,6 +138,9 @@ class CglibAopProxy implements AopProxy, Serializable {
 	// 方法调用器在 Callback 数组中的偏移量
 	private transient int fixedInterceptorOffset;
 
+	@Nullable
+	private transient ProxyClassStatistics proxyClassStatistics;
+
 
 	/**
 	 * Create a new CglibAopProxy for the given AOP configuration.
@@ -169,6 +175,15 @@ class CglibAopProxy implements AopProxy, Serializable {
 		this.constructorArgTypes = constructorArgTypes;
 	}
 
+	/**
+	 * Set the statistics to record created proxies and generated classes in.
+	 * @param proxyClassStatistics the statistics to record in, or {@code null} for none
+	 * @since 5.2.26
+	 */
+	void setProxyClassStatistics(@Nullable ProxyClassStatistics proxyClassStatistics) {
+		this.proxyClassStatistics = proxyClassStatistics;
+	}
+
 
 	@Override
 	public Object getProxy() {
@@ -220,7 +235,9 @@ class CglibAopProxy implements AopProxy, Serializable {
 			enhancer.setInterfaces(AopProxyUtils.completeProxiedInterfaces(this.advised));
 			// <5.3> 设置命名策略，默认生成的代理对象的名称中包含 '$$' 和 'BySpringCGLIB'
 			enhancer.setNamingPolicy(SpringNamingPolicy.INSTANCE);
-			enhancer.setStrategy(new ClassLoaderAwareGeneratorStrategy(classLoader));
+			enhancer.setStrategy(this.proxyClassStatistics != null ?
+					new StatisticsRecordingGeneratorStrategy(classLoader, this.proxyClassStatistics) :
+					new ClassLoaderAwareGeneratorStrategy(classLoader));
 
 			// <5.4> 获取回调接口，也就是 MethodInterceptor 方法拦截器
 			Callback[] callbacks = getCallbacks(rootClass);
@@ -230,13 +247,25 @@ class CglibAopProxy implements AopProxy, Serializable {
 			}
 			// fixedInterceptorMap only populated at this point, after getCallbacks call above
 			// <5.5> 设置 Callback 过滤器，用于筛选出方法对应的 Callback 回调接口
-			enhancer.setCallbackFilter(new ProxyCallbackFilter(
-					this.advised.getConfigurationOnlyCopy(), this.fixedInterceptorMap, this.fixedInterceptorOffset));
+			ProxyCallbackFilter filter = new ProxyCallbackFilter(
+					this.advised.getConfigurationOnlyCopy(), this.fixedInterceptorMap, this.fixedInterceptorOffset);
+			enhancer.setCallbackFilter(filter);
 			enhancer.setCallbackTypes(types);
 
 			// Generate the proxy class and create a proxy instance.
 			// <6> 创建代理对象，CGLIG 字节码替身，创建目标类的子类
-			return createProxyClassAndInstance(enhancer, callbacks);
+			try {
+				Object proxy = createProxyClassAndInstance(enhancer, callbacks);
+				if (this.proxyClassStatistics != null) {
+					this.proxyClassStatistics.recordProxy();
+				}
+				return proxy;
+			}
+			finally {
+				// The filter remains in CGLIB's class cache as part of the key:
+				// Only keep the state that identifies the proxy class.
+				filter.releaseConfiguration();
+			}
 		}
 		catch (CodeGenerationException | IllegalArgumentException ex) {
 			throw new AopConfigException("Could not generate CGLIB subclass of " + this.advised.getTargetClass() +
@@ -394,8 +423,8 @@ class CglibAopProxy implements AopProxy, Serializable {
 			for (int x = 0; x < methods.length; x++) {
 				Method method = methods[x];
 				List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, rootClass);
-				fixedCallbacks[x] = new FixedChainStaticTargetInterceptor(
-						chain, this.advised.getTargetSource().getTarget(), this.advised.getTargetClass());
+				fixedCallbacks[x] = new FixedChainStaticTargetInterceptor(new FixedAdviceChain(chain),
+						this.advised.getTargetSource().getTarget(), this.advised.getTargetClass());
 				this.fixedInterceptorMap.put(method, x);
 			}
 
@@ -696,7 +725,7 @@ class CglibAopProxy implements AopProxy, Serializable {
 	 */
 	private static class FixedChainStaticTargetInterceptor implements MethodInterceptor, Serializable {
 
-		private final List<Object> adviceChain;
+		private final FixedAdviceChain adviceChain;
 
 		@Nullable
 		private final Object target;
@@ -705,7 +734,7 @@ class CglibAopProxy implements AopProxy, Serializable {
 		private final Class<?> targetClass;
 
 		public FixedChainStaticTargetInterceptor(
-				List<Object> adviceChain, @Nullable Object target, @Nullable Class<?> targetClass) {
+				FixedAdviceChain adviceChain, @Nullable Object target, @Nullable Class<?> targetClass) {
 
 			this.adviceChain = adviceChain;
 			this.target = target;
@@ -715,13 +744,39 @@ class CglibAopProxy implements AopProxy, Serializable {
 		@Override
 		@Nullable
 		public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
-			MethodInvocation invocation = new CglibMethodInvocation(
-					proxy, this.target, method, args, this.targetClass, this.adviceChain, methodProxy);
-			// If we get here, we need to create a MethodInvocation.
-			Object retVal = invocation.proceed();
+			Object retVal;
+			if (!this.adviceChain.requiresInvocation()) {
+				// Plain before and after returning advice only: no MethodInvocation needed.
+				retVal = invokeDirectly(method, args, methodProxy);
+			}
+			else {
+				// If we get here, we need to create a MethodInvocation.
+				MethodInvocation invocation = new CglibMethodInvocation(proxy, this.target, method, args,
+						this.targetClass, this.adviceChain.getInterceptors(), methodProxy);
+				retVal = invocation.proceed();
+			}
 			retVal = processReturnType(proxy, this.target, method, retVal);
 			return retVal;
 		}
+
+		@Nullable
+		private Object invokeDirectly(Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+			Object[] argsToUse = AopProxyUtils.adaptArgumentsIfNecessary(method, args);
+			try {
+				this.adviceChain.before(method, argsToUse, this.target);
+				Object retVal = (CglibMethodInvocation.isMethodProxyCompatible(method) ?
+						invokeMethod(this.target, method, argsToUse, methodProxy) :
+						AopUtils.invokeJoinpointUsingReflection(this.target, method, argsToUse));
+				this.adviceChain.afterReturning(retVal, method, argsToUse, this.target);
+				return retVal;
+			}
+			catch (RuntimeException ex) {
+				throw ex;
+			}
+			catch (Exception ex) {
+				throw CglibMethodInvocation.adaptCheckedException(method, ex);
+			}
+		}
 	}
 
 
@@ -850,19 +905,7 @@ class CglibAopProxy implements AopProxy, Serializable {
 				throw ex;
 			}
 			catch (Exception ex) {
-				if (ReflectionUtils.declaresException(getMethod(), ex.getClass()) ||
-						KotlinDetector.isKotlinType(getMethod().getDeclaringClass())) {
-					// Propagate original exception if declared on the target method
-					// (with callers expecting it). Always propagate it for Kotlin code
-					// since checked exceptions do not have to be explicitly declared there.
-					throw ex;
-				}
-				else {
-					// Checked exception thrown in the interceptor but not declared on the
-					// target method signature -> apply an UndeclaredThrowableException,
-					// aligned with standard JDK dynamic proxy behavior.
-					throw new UndeclaredThrowableException(ex);
-				}
+				throw adaptCheckedException(getMethod(), ex);
 			}
 		}
 
@@ -885,6 +928,22 @@ class CglibAopProxy implements AopProxy, Serializable {
 			return super.invokeJoinpoint();
 		}
 
+		static Exception adaptCheckedException(Method method, Exception ex) {
+			if (ReflectionUtils.declaresException(method, ex.getClass()) ||
+					KotlinDetector.isKotlinType(method.getDeclaringClass())) {
+				// Propagate original exception if declared on the target method
+				// (with callers expecting it). Always propagate it for Kotlin code
+				// since checked exceptions do not have to be explicitly declared there.
+				return ex;
+			}
+			else {
+				// Checked exception thrown in the interceptor but not declared on the
+				// target method signature -> apply an UndeclaredThrowableException,
+				// aligned with standard JDK dynamic proxy behavior.
+				return new UndeclaredThrowableException(ex);
+			}
+		}
+
 		static boolean isMethodProxyCompatible(Method method) {
 			return (Modifier.isPublic(method.getModifiers()) // 方法被 public 修饰
 					&& method.getDeclaringClass() != Object.class // 不是 Object 中的方法
@@ -903,21 +962,67 @@ class CglibAopProxy implements AopProxy, Serializable {
 
 	/**
 	 * CallbackFilter to assign Callbacks to methods.
+	 * <p>Equality is based on the structure of the configuration only, i.e. the
+	 * flags affecting the callback assignment, the proxied interfaces and the
+	 * types of advice and the pointcuts in order, so that proxies differing only
+	 * in their advice instances share the same proxy class.
 	 */
 	private static class ProxyCallbackFilter implements CallbackFilter {
 
-		private final AdvisedSupport advised;
+		@Nullable
+		private AdvisedSupport advised;
 
-		private final Map<Method, Integer> fixedInterceptorMap;
+		private Map<Method, Integer> fixedInterceptorMap;
 
 		private final int fixedInterceptorOffset;
 
+		private final boolean frozen;
+
+		private final boolean exposeProxy;
+
+		private final boolean staticTarget;
+
+		private final boolean opaque;
+
+		private final Class<?>[] proxiedInterfaces;
+
+		private final List<AdvisorKey> advisorKeys;
+
+		private final int hashCode;
+
 		public ProxyCallbackFilter(
 				AdvisedSupport advised, Map<Method, Integer> fixedInterceptorMap, int fixedInterceptorOffset) {
 
 			this.advised = advised;
 			this.fixedInterceptorMap = fixedInterceptorMap;
 			this.fixedInterceptorOffset = fixedInterceptorOffset;
+			this.frozen = advised.isFrozen();
+			this.exposeProxy = advised.isExposeProxy();
+			this.staticTarget = advised.getTargetSource().isStatic();
+			this.opaque = advised.isOpaque();
+			this.proxiedInterfaces = advised.getProxiedInterfaces();
+			Advisor[] advisors = advised.getAdvisors();
+			List<AdvisorKey> advisorKeys = new ArrayList<>(advisors.length);
+			int hashCode = 0;
+			for (Advisor advisor : advisors) {
+				AdvisorKey advisorKey = new AdvisorKey(advisor);
+				advisorKeys.add(advisorKey);
+				hashCode = 13 * hashCode + advisorKey.hashCode();
+			}
+			hashCode = 13 * hashCode + (this.frozen ? 1 : 0);
+			hashCode = 13 * hashCode + (this.exposeProxy ? 1 : 0);
+			hashCode = 13 * hashCode + (this.opaque ? 1 : 0);
+			this.advisorKeys = advisorKeys;
+			this.hashCode = hashCode;
+		}
+
+		/**
+		 * Release the configuration once the proxy class has been generated,
+		 * keeping only the state needed for {@link #equals} and {@link #hashCode}.
+		 */
+		public void releaseConfiguration() {
+			this.advised = null;
+			this.fixedInterceptorMap = Collections.emptyMap();
 		}
 
 		/**
@@ -958,11 +1063,13 @@ class CglibAopProxy implements AopProxy, Serializable {
 		 */
 		@Override
 		public int accept(Method method) {
+			AdvisedSupport advised = this.advised;
+			Assert.state(advised != null, "Proxy class already generated");
 			if (AopUtils.isFinalizeMethod(method)) {
 				logger.trace("Found finalize() method - using NO_OVERRIDE");
 				return NO_OVERRIDE;
 			}
-			if (!this.advised.isOpaque() && method.getDeclaringClass().isInterface() &&
+			if (!this.opaque && method.getDeclaringClass().isInterface() &&
 					method.getDeclaringClass().isAssignableFrom(Advised.class)) {
 				if (logger.isTraceEnabled()) {
 					logger.trace("Method is declared on Advised interface: " + method);
@@ -983,13 +1090,13 @@ class CglibAopProxy implements AopProxy, Serializable {
 				}
 				return INVOKE_HASHCODE;
 			}
-			Class<?> targetClass = this.advised.getTargetClass();
+			Class<?> targetClass = advised.getTargetClass();
 			// Proxy is not yet available, but that shouldn't matter.
-			List<?> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
+			List<?> chain = advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
 			boolean haveAdvice = !chain.isEmpty();
-			boolean exposeProxy = this.advised.isExposeProxy();
-			boolean isStatic = this.advised.getTargetSource().isStatic();
-			boolean isFrozen = this.advised.isFrozen();
+			boolean exposeProxy = this.exposeProxy;
+			boolean isStatic = this.staticTarget;
+			boolean isFrozen = this.frozen;
 			if (haveAdvice || !isFrozen) {
 				// If exposing the proxy, then AOP_PROXY must be used.
 				if (exposeProxy) {
@@ -1051,64 +1158,81 @@ class CglibAopProxy implements AopProxy, Serializable {
 				return false;
 			}
 			ProxyCallbackFilter otherCallbackFilter = (ProxyCallbackFilter) other;
-			AdvisedSupport otherAdvised = otherCallbackFilter.advised;
-			if (this.advised.isFrozen() != otherAdvised.isFrozen()) {
-				return false;
-			}
-			if (this.advised.isExposeProxy() != otherAdvised.isExposeProxy()) {
-				return false;
-			}
-			if (this.advised.getTargetSource().isStatic() != otherAdvised.getTargetSource().isStatic()) {
-				return false;
-			}
-			if (!AopProxyUtils.equalsProxiedInterfaces(this.advised, otherAdvised)) {
-				return false;
+			return (this.frozen == otherCallbackFilter.frozen &&
+					this.exposeProxy == otherCallbackFilter.exposeProxy &&
+					this.staticTarget == otherCallbackFilter.staticTarget &&
+					this.opaque == otherCallbackFilter.opaque &&
+					Arrays.equals(this.proxiedInterfaces, otherCallbackFilter.proxiedInterfaces) &&
+					// Advice instance identity is unimportant to the proxy class:
+					// All that matters is type and ordering.
+					this.advisorKeys.equals(otherCallbackFilter.advisorKeys));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+
+	/**
+	 * Key for an advisor within a {@link ProxyCallbackFilter}, retaining the
+	 * type of advice and the pointcut but not the advice instance itself.
+	 */
+	private static final class AdvisorKey {
+
+		private final Class<?> adviceType;
+
+		@Nullable
+		private final Pointcut pointcut;
+
+		public AdvisorKey(Advisor advisor) {
+			this.adviceType = advisor.getAdvice().getClass();
+			this.pointcut = (advisor instanceof PointcutAdvisor ? ((PointcutAdvisor) advisor).getPointcut() : null);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			if (this == other) {
+				return true;
 			}
-			// Advice instance identity is unimportant to the proxy class:
-			// All that matters is type and ordering.
-			Advisor[] thisAdvisors = this.advised.getAdvisors();
-			Advisor[] thatAdvisors = otherAdvised.getAdvisors();
-			if (thisAdvisors.length != thatAdvisors.length) {
+			if (!(other instanceof AdvisorKey)) {
 				return false;
 			}
-			for (int i = 0; i < thisAdvisors.length; i++) {
-				Advisor thisAdvisor = thisAdvisors[i];
-				Advisor thatAdvisor = thatAdvisors[i];
-				if (!equalsAdviceClasses(thisAdvisor, thatAdvisor)) {
-					return false;
-				}
-				if (!equalsPointcuts(thisAdvisor, thatAdvisor)) {
-					return false;
-				}
-			}
-			return true;
+			AdvisorKey otherKey = (AdvisorKey) other;
+			// If only one of the advisors is a PointcutAdvisor, then it is a mismatch.
+			// Takes care of the situations where an IntroductionAdvisor is used (see SPR-3959).
+			return (this.adviceType == otherKey.adviceType &&
+					ObjectUtils.nullSafeEquals(this.pointcut, otherKey.pointcut));
 		}
 
-		private static boolean equalsAdviceClasses(Advisor a, Advisor b) {
-			return (a.getAdvice().getClass() == b.getAdvice().getClass());
+		@Override
+		public int hashCode() {
+			return this.adviceType.hashCode();
 		}
+	}
 
-		private static boolean equalsPointcuts(Advisor a, Advisor b) {
-			// If only one of the advisor (but not both) is PointcutAdvisor, then it is a mismatch.
-			// Takes care of the situations where an IntroductionAdvisor is used (see SPR-3959).
-			return (!(a instanceof PointcutAdvisor) ||
-					(b instanceof PointcutAdvisor &&
-							ObjectUtils.nullSafeEquals(((PointcutAdvisor) a).getPointcut(), ((PointcutAdvisor) b).getPointcut())));
+
+	/**
+	 * GeneratorStrategy recording each generated class in a
+	 * {@link ProxyClassStatistics} instance.
+	 */
+	private static class StatisticsRecordingGeneratorStrategy extends ClassLoaderAwareGeneratorStrategy {
+
+		private final ProxyClassStatistics statistics;
+
+		public StatisticsRecordingGeneratorStrategy(
+				@Nullable ClassLoader classLoader, ProxyClassStatistics statistics) {
+
+			super(classLoader);
+			this.statistics = statistics;
 		}
 
 		@Override
-		public int hashCode() {
-			int hashCode = 0;
-			Advisor[] advisors = this.advised.getAdvisors();
-			for (Advisor advisor : advisors) {
-				Advice advice = advisor.getAdvice();
-				hashCode = 13 * hashCode + advice.getClass().hashCode();
-			}
-			hashCode = 13 * hashCode + (this.advised.isFrozen() ? 1 : 0);
-			hashCode = 13 * hashCode + (this.advised.isExposeProxy() ? 1 : 0);
-			hashCode = 13 * hashCode + (this.advised.isOptimize() ? 1 : 0);
-			hashCode = 13 * hashCode + (this.advised.isOpaque() ? 1 : 0);
-			return hashCode;
+		public byte[] generate(ClassGenerator cg) throws Exception {
+			byte[] bytes = super.generate(cg);
+			this.statistics.recordGeneratedClass(bytes.length);
+			return bytes;
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.lang.reflect.Proxy;
 
 import org.springframework.aop.SpringProxy;
+import org.springframework.lang.Nullable;
 
 /**
  * Default {@link AopProxyFactory} implementation, creating either a CGLIB proxy
@@ -47,6 +48,27 @@ public class DefaultAopProxyFactory implements AopProxyFactory, Serializable {
 
 	private static final long serialVersionUID = 7930414337282325166L;
 
+	@Nullable
+	private final ProxyClassStatistics proxyClassStatistics;
+
+
+	/**
+	 * Create a new DefaultAopProxyFactory.
+	 */
+	public DefaultAopProxyFactory() {
+		this.proxyClassStatistics = null;
+	}
+
+	/**
+	 * Create a new DefaultAopProxyFactory, recording the CGLIB proxies it
+	 * creates and the classes generated for them in the given statistics.
+	 * @param proxyClassStatistics the statistics to record in
+	 * @since 5.2.26
+	 */
+	public DefaultAopProxyFactory(ProxyClassStatistics proxyClassStatistics) {
+		this.proxyClassStatistics = proxyClassStatistics;
+	}
+
     //创建 AOP 代理类的过程如下：
 	//1.判断是否满足下面三个条件的其中一个，则进行下面的处理
 	//是否需要优化，默认为 false；
@@ -79,7 +101,9 @@ public class DefaultAopProxyFactory implements AopProxyFactory, Serializable {
 				return new JdkDynamicAopProxy(config);
 			}
 			// <1.3> 使用 CGLIB 动态代理，创建一个  ObjenesisCglibAopProxy 对象，传入 AdvisedSupport 配置管理器，并返回
-			return new ObjenesisCglibAopProxy(config);
+			ObjenesisCglibAopProxy proxy = new ObjenesisCglibAopProxy(config);
+			proxy.setProxyClassStatistics(this.proxyClassStatistics);
+			return proxy;
 		}
 		// <2> 否则
 		else {
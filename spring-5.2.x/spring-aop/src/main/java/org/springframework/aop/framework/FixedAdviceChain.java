@@ -0,0 +1,147 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.aop.AfterReturningAdvice;
+import org.springframework.aop.MethodBeforeAdvice;
+import org.springframework.aop.framework.adapter.AfterReturningAdviceInterceptor;
+import org.springframework.aop.framework.adapter.MethodBeforeAdviceInterceptor;
+import org.springframework.lang.Nullable;
+
+/**
+ * An interceptor chain for a single method, resolved once when creating a
+ * proxy for a {@link ProxyConfig#isFrozen() frozen} configuration with a
+ * static target.
+ *
+ * <p>If the chain only consists of plain before and after returning advice,
+ * none of its elements needs a {@code MethodInvocation}: the advice is then
+ * invoked directly around the target method, in the same order as through
+ * a {@link ReflectiveMethodInvocation}, without creating an invocation object
+ * per call.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see JdkDynamicAopProxy
+ * @see CglibAopProxy
+ */
+@SuppressWarnings("serial")
+final class FixedAdviceChain implements Serializable {
+
+	private static final MethodBeforeAdvice[] NO_BEFORE_ADVICE = new MethodBeforeAdvice[0];
+
+	private static final AfterReturningAdvice[] NO_AFTER_RETURNING_ADVICE = new AfterReturningAdvice[0];
+
+
+	private final List<Object> interceptors;
+
+	@Nullable
+	private final MethodBeforeAdvice[] beforeAdvice;
+
+	@Nullable
+	private final AfterReturningAdvice[] afterReturningAdvice;
+
+
+	/**
+	 * Create a new FixedAdviceChain for the given interceptors.
+	 * @param interceptors the interceptors and dynamic interception advice
+	 * as returned by {@link AdvisedSupport#getInterceptorsAndDynamicInterceptionAdvice}
+	 */
+	FixedAdviceChain(List<Object> interceptors) {
+		this.interceptors = interceptors;
+		List<MethodBeforeAdvice> before = new ArrayList<>();
+		List<AfterReturningAdvice> afterReturning = new ArrayList<>();
+		boolean simple = true;
+		for (Object interceptor : interceptors) {
+			// Subclasses may override invoke, so only accept the exact adapter types
+			if (interceptor.getClass() == MethodBeforeAdviceInterceptor.class) {
+				before.add(((MethodBeforeAdviceInterceptor) interceptor).getAdvice());
+			}
+			else if (interceptor.getClass() == AfterReturningAdviceInterceptor.class) {
+				afterReturning.add(((AfterReturningAdviceInterceptor) interceptor).getAdvice());
+			}
+			else {
+				simple = false;
+				break;
+			}
+		}
+		if (simple) {
+			this.beforeAdvice = (before.isEmpty() ? NO_BEFORE_ADVICE : before.toArray(NO_BEFORE_ADVICE));
+			this.afterReturningAdvice = (afterReturning.isEmpty() ? NO_AFTER_RETURNING_ADVICE :
+					afterReturning.toArray(NO_AFTER_RETURNING_ADVICE));
+		}
+		else {
+			this.beforeAdvice = null;
+			this.afterReturningAdvice = null;
+		}
+	}
+
+
+	/**
+	 * Return the interceptors and dynamic interception advice of this chain.
+	 */
+	public List<Object> getInterceptors() {
+		return this.interceptors;
+	}
+
+	/**
+	 * Return whether this chain has to be executed through a
+	 * {@code MethodInvocation}, i.e. whether it contains any element other
+	 * than plain before and after returning advice.
+	 * <p>If not, callers invoke {@link #before}, the target method and
+	 * {@link #afterReturning} instead.
+	 */
+	public boolean requiresInvocation() {
+		return (this.beforeAdvice == null);
+	}
+
+	/**
+	 * Invoke all before advice of this chain, in order.
+	 * @param method the method being invoked
+	 * @param args the (adapted) arguments to the method
+	 * @param target the target of the method invocation
+	 */
+	public void before(Method method, Object[] args, @Nullable Object target) throws Throwable {
+		if (this.beforeAdvice != null) {
+			for (MethodBeforeAdvice advice : this.beforeAdvice) {
+				advice.before(method, args, target);
+			}
+		}
+	}
+
+	/**
+	 * Invoke all after returning advice of this chain, innermost first.
+	 * @param returnValue the value returned by the target method, if any
+	 * @param method the method being invoked
+	 * @param args the (adapted) arguments to the method
+	 * @param target the target of the method invocation
+	 */
+	public void afterReturning(@Nullable Object returnValue, Method method, Object[] args, @Nullable Object target)
+			throws Throwable {
+
+		if (this.afterReturningAdvice != null) {
+			for (int i = this.afterReturningAdvice.length - 1; i >= 0; i--) {
+				this.afterReturningAdvice[i].afterReturning(returnValue, method, args, target);
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,9 @@ import java.io.Serializable;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.logging.Log;
@@ -95,6 +97,16 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 	/** 目标对象是否重写了 hashCode 方法 */
 	private boolean hashCodeDefined;
 
+	/**
+	 * Interceptor chains per proxied interface method, resolved when creating
+	 * the proxy for a frozen configuration with a static target.
+	 */
+	@Nullable
+	private transient volatile Map<Method, FixedAdviceChain> fixedChains;
+
+	/** The advice change count of the configuration that the fixed chains were resolved for. */
+	private transient int fixedChainsAdviceChangeCount;
+
 
 	/**
 	 * Construct a new JdkDynamicAopProxy for the given AOP configuration.
@@ -127,6 +139,10 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 		// <2> 判断目标类是否重写了 `equals` 或者 `hashCode` 方法
 		// 没有重写在拦截到这两个方法的时候，会调用当前类的实现
 		findDefinedEqualsAndHashCodeMethods(proxiedInterfaces);
+		if (this.advised.isFrozen() && this.advised.getTargetSource().isStatic()) {
+			this.fixedChainsAdviceChangeCount = this.advised.getAdviceChangeCount();
+			this.fixedChains = resolveFixedChains(proxiedInterfaces);
+		}
 		// <3> 调用 JDK 的 Proxy#newProxyInstance(..) 方法创建代理对象
 		// 传入的参数就是当前 ClassLoader 类加载器、需要代理的接口、InvocationHandler 实现类
 		return Proxy.newProxyInstance(classLoader, proxiedInterfaces, this);
@@ -155,6 +171,31 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 	}
 
 
+	/**
+	 * Resolve the interceptor chain for each method on the supplied interfaces,
+	 * so that invocations on a frozen proxy do not need to look them up.
+	 * @param proxiedInterfaces the interfaces to introspect
+	 */
+	private Map<Method, FixedAdviceChain> resolveFixedChains(Class<?>[] proxiedInterfaces) {
+		Object target;
+		try {
+			target = this.advised.getTargetSource().getTarget();
+		}
+		catch (Exception ex) {
+			throw new AopConfigException("Unexpected AOP exception", ex);
+		}
+		Class<?> targetClass = (target != null ? target.getClass() : null);
+		Map<Method, FixedAdviceChain> fixedChains = new HashMap<>();
+		for (Class<?> proxiedInterface : proxiedInterfaces) {
+			for (Method method : proxiedInterface.getMethods()) {
+				fixedChains.computeIfAbsent(method, key -> new FixedAdviceChain(
+						this.advised.getInterceptorsAndDynamicInterceptionAdvice(key, targetClass)));
+			}
+		}
+		return fixedChains;
+	}
+
+
 	/**
 	 * Implementation of {@code InvocationHandler.invoke}.
 	 * <p>Callers will see exactly the exception thrown by the target,
@@ -241,12 +282,30 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 			// <5> 获取能够应用于该方法的所有拦截器（有序）
 			// 不同的 AspectJ 根据 @Order 排序
 			// 同一个 AspectJ 中的 Advice 排序：AspectJAfterThrowingAdvice > AfterReturningAdviceInterceptor > AspectJAfterAdvice > AspectJAroundAdvice > MethodBeforeAdviceInterceptor
-			List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
-
+			// A frozen proxy may use the chain resolved on proxy creation, unless it
+			// has been unfrozen in the meantime. Once the advice has changed, e.g. when
+			// unfreezing and freezing again, the fixed chains are stale for good.
+			Map<Method, FixedAdviceChain> fixedChains = this.fixedChains;
+			if (fixedChains != null && this.advised.getAdviceChangeCount() != this.fixedChainsAdviceChangeCount) {
+				this.fixedChains = fixedChains = null;
+			}
+			FixedAdviceChain fixedChain =
+					(fixedChains != null && this.advised.isFrozen() ? fixedChains.get(method) : null);
+			List<Object> chain = (fixedChain != null ? fixedChain.getInterceptors() :
+					this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass));
+
+			// The fixed chain may consist of plain before and after returning advice only:
+			// invoke it around the target directly, without creating a MethodInvocation.
+			if (fixedChain != null && !fixedChain.requiresInvocation()) {
+				Object[] argsToUse = AopProxyUtils.adaptArgumentsIfNecessary(method, args);
+				fixedChain.before(method, argsToUse, target);
+				retVal = AopUtils.invokeJoinpointUsingReflection(target, method, argsToUse);
+				fixedChain.afterReturning(retVal, method, argsToUse, target);
+			}
 			// Check whether we have any advice. If we don't, we can fallback on direct
 			// reflective invocation of the target, and avoid creating a MethodInvocation.
 			// <6> 如果拦截器链为空，则直接执行目标方法
-			if (chain.isEmpty()) {
+			else if (chain.isEmpty()) {
 				// We can skip creating a MethodInvocation: just invoke the target directly
 				// Note that the final invoker must be an InvokerInterceptor so we know it does
 				// nothing but a reflective operation on the target, and no hot swapping or fancy proxying.
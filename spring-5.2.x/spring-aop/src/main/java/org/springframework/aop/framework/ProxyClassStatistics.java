@@ -0,0 +1,85 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the CGLIB proxies created through a {@link DefaultAopProxyFactory},
+ * e.g. by an auto-proxy creator for a single application context.
+ *
+ * <p>Proxies with the same target class and an equivalent configuration share
+ * their proxy class, so the number of generated classes is usually much lower
+ * than the number of proxies. Generated classes include the proxy classes as
+ * well as the fast-class helpers that CGLIB generates on first invocation of
+ * a proxied method; classes taken from CGLIB's class cache are not counted.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see DefaultAopProxyFactory#DefaultAopProxyFactory(ProxyClassStatistics)
+ */
+@SuppressWarnings("serial")
+public class ProxyClassStatistics implements Serializable {
+
+	private final LongAdder proxyCount = new LongAdder();
+
+	private final LongAdder generatedClassCount = new LongAdder();
+
+	private final LongAdder generatedClassBytes = new LongAdder();
+
+
+	void recordProxy() {
+		this.proxyCount.increment();
+	}
+
+	void recordGeneratedClass(int bytes) {
+		this.generatedClassCount.increment();
+		this.generatedClassBytes.add(bytes);
+	}
+
+	/**
+	 * Return the number of CGLIB proxy instances created.
+	 */
+	public long getProxyCount() {
+		return this.proxyCount.sum();
+	}
+
+	/**
+	 * Return the number of classes generated for these proxies.
+	 */
+	public long getGeneratedClassCount() {
+		return this.generatedClassCount.sum();
+	}
+
+	/**
+	 * Return the total size in bytes of the classes generated for these proxies.
+	 */
+	public long getGeneratedClassBytes() {
+		return this.generatedClassBytes.sum();
+	}
+
+
+	@Override
+	public String toString() {
+		return getProxyCount() + " CGLIB proxies, " + getGeneratedClassCount() + " generated classes (" +
+				getGeneratedClassBytes() + " bytes)";
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -50,6 +50,14 @@ public class AfterReturningAdviceInterceptor implements MethodInterceptor, After
 	}
 
 
+	/**
+	 * Return the wrapped after returning advice.
+	 * @since 5.2.26
+	 */
+	public AfterReturningAdvice getAdvice() {
+		return this.advice;
+	}
+
 	@Override
 	public Object invoke(MethodInvocation mi) throws Throwable {
 		Object retVal = mi.proceed();
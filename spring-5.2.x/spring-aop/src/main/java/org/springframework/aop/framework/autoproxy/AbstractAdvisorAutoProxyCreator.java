@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,19 @@
 
 package org.springframework.aop.framework.autoproxy;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.aop.Advisor;
 import org.springframework.aop.TargetSource;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.lang.Nullable;
@@ -44,17 +51,34 @@ import org.springframework.util.Assert;
  * interface will be considered as unordered; they will appear at the end of the
  * advisor chain in an undefined order.
  *
+ * <p>With debug logging enabled, the time spent on matching each advisor against
+ * the beans created during startup is logged once all singletons have been
+ * instantiated, listing the costliest advisors first, along with the
+ * {@link #getProxyClassStatistics() number of CGLIB proxies and generated classes}.
+ * This is triggered through the {@link SmartInitializingSingleton} callback,
+ * which is {@code final} here: subclasses that need a callback of their own
+ * after singleton instantiation have to register a separate bean for it.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @see #findCandidateAdvisors
  */
 @SuppressWarnings("serial")
-public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyCreator {
+public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyCreator
+		implements SmartInitializingSingleton {
+
+	/** Maximum number of advisors to list in the startup matching report. */
+	private static final int MATCHING_REPORT_SIZE = 10;
+
 	/** Advisor 检索工具类 */
 
 	@Nullable
 	private BeanFactoryAdvisorRetrievalHelper advisorRetrievalHelper;
 
+	/** Time spent on matching per advisor, collected until startup completes. */
+	@Nullable
+	private transient volatile Map<Advisor, LongAdder> advisorMatchingTimes;
+
 
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) {
@@ -63,6 +87,9 @@ public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyC
 			throw new IllegalArgumentException(
 					"AdvisorAutoProxyCreator requires a ConfigurableListableBeanFactory: " + beanFactory);
 		}
+		if (logger.isDebugEnabled()) {
+			this.advisorMatchingTimes = new ConcurrentHashMap<>();
+		}
 		// 初始化工作
 		initBeanFactory((ConfigurableListableBeanFactory) beanFactory);
 	}
@@ -169,6 +196,11 @@ public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyC
 		ProxyCreationContext.setCurrentProxiedBeanName(beanName);
 		try {
 			//筛选出能够应用到 `beanClass` 上面的所有 Advisor 对象
+			Map<Advisor, LongAdder> matchingTimes = this.advisorMatchingTimes;
+			if (matchingTimes != null) {
+				return AopUtils.findAdvisorsThatCanApply(candidateAdvisors, beanClass, (advisor, nanos) ->
+						matchingTimes.computeIfAbsent(advisor, key -> new LongAdder()).add(nanos));
+			}
 			return AopUtils.findAdvisorsThatCanApply(candidateAdvisors, beanClass);
 		}
 		finally {
@@ -221,6 +253,45 @@ public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyC
 	}
 
 
+	/**
+	 * Log the time spent on matching advisors against the beans created
+	 * during startup, if collected, and stop collecting it.
+	 * <p>Final in order to reliably end the collection after startup.
+	 * @since 5.2.26
+	 */
+	@Override
+	public final void afterSingletonsInstantiated() {
+		Map<Advisor, LongAdder> matchingTimes = this.advisorMatchingTimes;
+		this.advisorMatchingTimes = null;
+		if (matchingTimes != null && !matchingTimes.isEmpty() && logger.isDebugEnabled()) {
+			logger.debug(buildMatchingReport(matchingTimes));
+		}
+		if (logger.isDebugEnabled() && getProxyClassStatistics().getProxyCount() > 0) {
+			logger.debug("Created " + getProxyClassStatistics() + " during startup");
+		}
+	}
+
+	private static String buildMatchingReport(Map<Advisor, LongAdder> matchingTimes) {
+		List<Map.Entry<Advisor, Long>> entries = new ArrayList<>(matchingTimes.size());
+		long totalTime = 0;
+		for (Map.Entry<Advisor, LongAdder> entry : matchingTimes.entrySet()) {
+			long time = entry.getValue().sum();
+			entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), time));
+			totalTime += time;
+		}
+		entries.sort(Map.Entry.<Advisor, Long>comparingByValue().reversed());
+		StringBuilder sb = new StringBuilder("Matching ").append(entries.size())
+				.append(" advisors against beans took ").append(TimeUnit.NANOSECONDS.toMillis(totalTime))
+				.append(" ms during startup, costliest first:");
+		for (int i = 0; i < entries.size() && i < MATCHING_REPORT_SIZE; i++) {
+			Map.Entry<Advisor, Long> entry = entries.get(i);
+			sb.append("\n  ").append(TimeUnit.NANOSECONDS.toMillis(entry.getValue())).append(" ms: ")
+					.append(entry.getKey());
+		}
+		return sb.toString();
+	}
+
+
 	/**
 	 * Subclass of BeanFactoryAdvisorRetrievalHelper that delegates to
 	 * surrounding AbstractAdvisorAutoProxyCreator facilities.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,9 @@ import org.springframework.aop.Advisor;
 import org.springframework.aop.Pointcut;
 import org.springframework.aop.TargetSource;
 import org.springframework.aop.framework.AopInfrastructureBean;
+import org.springframework.aop.framework.AopProxyFactory;
+import org.springframework.aop.framework.DefaultAopProxyFactory;
+import org.springframework.aop.framework.ProxyClassStatistics;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.framework.ProxyProcessorSupport;
 import org.springframework.aop.framework.adapter.AdvisorAdapterRegistry;
@@ -172,6 +175,10 @@ public abstract class AbstractAutoProxyCreator extends ProxyProcessorSupport
 	 */
 	private final Map<Object, Boolean> advisedBeans = new ConcurrentHashMap<>(256);
 
+	private final ProxyClassStatistics proxyClassStatistics = new ProxyClassStatistics();
+
+	private final AopProxyFactory aopProxyFactory = new DefaultAopProxyFactory(this.proxyClassStatistics);
+
 
 	/**
 	 * Set whether or not the proxy should be frozen, preventing advice
@@ -249,6 +256,15 @@ public abstract class AbstractAutoProxyCreator extends ProxyProcessorSupport
 		return this.beanFactory;
 	}
 
+	/**
+	 * Return statistics about the CGLIB proxies created by this post-processor
+	 * and the classes generated for them.
+	 * @since 5.2.26
+	 */
+	public ProxyClassStatistics getProxyClassStatistics() {
+		return this.proxyClassStatistics;
+	}
+
 
 	@Override
 	@Nullable
@@ -560,6 +576,7 @@ public abstract class AbstractAutoProxyCreator extends ProxyProcessorSupport
 		}
 		// <1> 创建一个代理工厂
 		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setAopProxyFactory(this.aopProxyFactory);
 		// <2> 复制当前 ProxyConfig 的一些属性（例如 proxyTargetClass、exposeProxy）
 		proxyFactory.copyFrom(this);
 
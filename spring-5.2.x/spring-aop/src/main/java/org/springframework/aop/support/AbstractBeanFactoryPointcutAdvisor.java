@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2017 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,6 @@ import org.aopalliance.aop.Advice;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -58,8 +57,8 @@ public abstract class AbstractBeanFactoryPointcutAdvisor extends AbstractPointcu
 	/**
 	 * Specify the name of the advice bean that this advisor should refer to.
 	 * <p>An instance of the specified bean will be obtained on first access
-	 * of this advisor's advice. This advisor will only ever obtain at most one
-	 * single instance of the advice bean, caching the instance for the lifetime
+	 * of this advisor's advice. This advisor will only ever use a single
+	 * instance of the advice bean, caching the instance for the lifetime
 	 * of the advisor.
 	 * @see #getAdvice()
 	 */
@@ -78,16 +77,6 @@ public abstract class AbstractBeanFactoryPointcutAdvisor extends AbstractPointcu
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
-		resetAdviceMonitor();
-	}
-
-	private void resetAdviceMonitor() {
-		if (this.beanFactory instanceof ConfigurableBeanFactory) {
-			this.adviceMonitor = ((ConfigurableBeanFactory) this.beanFactory).getSingletonMutex();
-		}
-		else {
-			this.adviceMonitor = new Object();
-		}
 	}
 
 	/**
@@ -118,15 +107,16 @@ public abstract class AbstractBeanFactoryPointcutAdvisor extends AbstractPointcu
 			return advice;
 		}
 		else {
-			// No singleton guarantees from the factory -> let's lock locally but
-			// reuse the factory's singleton lock, just in case a lazy dependency
-			// of our advice bean happens to trigger the singleton lock implicitly...
+			// No singleton guarantees from the factory -> obtain the advice bean
+			// outside of any lock, since its dependencies may have to wait for
+			// singleton creation in other threads, and keep the first instance.
+			advice = this.beanFactory.getBean(this.adviceBeanName, Advice.class);
 			synchronized (this.adviceMonitor) {
-				advice = this.advice;
-				if (advice == null) {
-					advice = this.beanFactory.getBean(this.adviceBeanName, Advice.class);
-					this.advice = advice;
+				Advice existingAdvice = this.advice;
+				if (existingAdvice != null) {
+					return existingAdvice;
 				}
+				this.advice = advice;
 				return advice;
 			}
 		}
@@ -155,7 +145,7 @@ public abstract class AbstractBeanFactoryPointcutAdvisor extends AbstractPointcu
 		ois.defaultReadObject();
 
 		// Initialize transient fields.
-		resetAdviceMonitor();
+		this.adviceMonitor = new Object();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +21,12 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.ObjLongConsumer;
 
 import org.springframework.aop.Advisor;
 import org.springframework.aop.AopInvocationException;
@@ -240,6 +243,12 @@ public abstract class AopUtils {
 	//总结下来，PointcutAdvisor 是根据 Pointcut 的 ClassFilter 对目标类进行过滤，
 	//如果通过的话，则通过 MethodMatcher 方法匹配器对目标类的方法进行匹配，有一个方法满足条件就表示这个 PointcutAdvisor 可以应用于目标类
 	public static boolean canApply(Pointcut pc, Class<?> targetClass, boolean hasIntroductions) {
+		return canApply(pc, targetClass, hasIntroductions, null);
+	}
+
+	private static boolean canApply(Pointcut pc, Class<?> targetClass, boolean hasIntroductions,
+			@Nullable CandidateMethods candidateMethods) {
+
 		Assert.notNull(pc, "Pointcut must not be null");
 		// <1> 使用 ClassFilter 匹配 `targetClass`
 		if (!pc.getClassFilter().matches(targetClass)) {
@@ -260,23 +269,15 @@ public abstract class AopUtils {
 			introductionAwareMethodMatcher = (IntroductionAwareMethodMatcher) methodMatcher;
 		}
 		/*
-		 * <5> 获取目标类、以及实现的所有接口，并添加至 `classes` 集合中
+		 * <5> 获取目标类、以及实现的所有接口的所有方法（批量筛选时只获取一次）
 		 */
-		Set<Class<?>> classes = new LinkedHashSet<>();
-		// <5.1> 如果不是 java.lang.reflect.Proxy 的子类
-		if (!Proxy.isProxyClass(targetClass)) {
-			// 获取目标类的 Class 对象（如果目标类是 CGLIB 代理对象，则获取其父类的 Class 对象，也就得到了目标类）
-			classes.add(ClassUtils.getUserClass(targetClass));
-		}
-		// <5.2> 获取目标类实现的所有接口，如果目标类本身是一个接口，那么就取这个目标类
-		classes.addAll(ClassUtils.getAllInterfacesForClassAsSet(targetClass));
+		List<Method[]> methodsPerClass = (candidateMethods != null ?
+				candidateMethods.get() : getCandidateMethods(targetClass));
 
 		/*
-		 * <6> 遍历上面的 `classes` 集合
+		 * <6> 遍历每个 Class 对象的所有方法
 		 */
-		for (Class<?> clazz : classes) {
-			// <6.1> 获取这个 Class 对象的所有方法
-			Method[] methods = ReflectionUtils.getAllDeclaredMethods(clazz);
+		for (Method[] methods : methodsPerClass) {
 			// <6.2> 遍历上一步获取到的所有方法
 			for (Method method : methods) {
 				// <6.3> 使用方法匹配器对该方法进行匹配，如果匹配成功则直接返回 `true`
@@ -292,6 +293,30 @@ public abstract class AopUtils {
 		return false;
 	}
 
+	/**
+	 * Determine the methods that a pointcut needs to check for the given class:
+	 * all methods of the target class itself and of all of its interfaces.
+	 * @param targetClass the class to introspect
+	 * @return the methods per introspected class
+	 */
+	private static List<Method[]> getCandidateMethods(Class<?> targetClass) {
+		Set<Class<?>> classes = new LinkedHashSet<>();
+		// <5.1> 如果不是 java.lang.reflect.Proxy 的子类
+		if (!Proxy.isProxyClass(targetClass)) {
+			// 获取目标类的 Class 对象（如果目标类是 CGLIB 代理对象，则获取其父类的 Class 对象，也就得到了目标类）
+			classes.add(ClassUtils.getUserClass(targetClass));
+		}
+		// <5.2> 获取目标类实现的所有接口，如果目标类本身是一个接口，那么就取这个目标类
+		classes.addAll(ClassUtils.getAllInterfacesForClassAsSet(targetClass));
+
+		List<Method[]> methodsPerClass = new ArrayList<>(classes.size());
+		for (Class<?> clazz : classes) {
+			// <6.1> 获取这个 Class 对象的所有方法
+			methodsPerClass.add(ReflectionUtils.getAllDeclaredMethods(clazz));
+		}
+		return methodsPerClass;
+	}
+
 	/**
 	 * Can the given advisor apply at all on the given class?
 	 * This is an important test as it can be used to optimize
@@ -355,6 +380,26 @@ public abstract class AopUtils {
 	//2.遍历所有的 Advisor 对象，找到能够应用当前 Bean 的 Advisor 对象，放入 eligibleAdvisors 集合中；如果是 IntroductionAdvisor 类型，则会跳过，因为上面已经判断过
 	//3.返回能够应用到当前 Bean 的所有 Advisor 对象
 	public static List<Advisor> findAdvisorsThatCanApply(List<Advisor> candidateAdvisors, Class<?> clazz) {
+		return findAdvisorsThatCanApply(candidateAdvisors, clazz, null);
+	}
+
+	/**
+	 * Determine the sublist of the {@code candidateAdvisors} list
+	 * that is applicable to the given class.
+	 * <p>The methods of the given class are introspected once for all advisors,
+	 * and advisors with {@linkplain Object#equals equal} pointcuts share the
+	 * result of matching the first of them against the given class.
+	 * @param candidateAdvisors the Advisors to evaluate
+	 * @param clazz the target class
+	 * @param matchingTimeCallback a callback to receive each advisor along with
+	 * the time in nanoseconds spent on matching it, or {@code null} if none
+	 * @return sublist of Advisors that can apply to an object of the given class
+	 * (may be the incoming List as-is)
+	 * @since 5.2.26
+	 */
+	public static List<Advisor> findAdvisorsThatCanApply(List<Advisor> candidateAdvisors, Class<?> clazz,
+			@Nullable ObjLongConsumer<Advisor> matchingTimeCallback) {
+
 		if (candidateAdvisors.isEmpty()) {
 			return candidateAdvisors;
 		}
@@ -365,11 +410,20 @@ public abstract class AopUtils {
 		 */
 		for (Advisor candidate : candidateAdvisors) {
 			// 如果是 IntroductionAdvisor 类型并且能够应用到当前 Bean 中，通过其 ClassFilter 进行过滤
-			if (candidate instanceof IntroductionAdvisor && canApply(candidate, clazz)) {
-				eligibleAdvisors.add(candidate);
+			if (candidate instanceof IntroductionAdvisor) {
+				long startTime = (matchingTimeCallback != null ? System.nanoTime() : 0);
+				boolean canApply = canApply(candidate, clazz);
+				if (matchingTimeCallback != null) {
+					matchingTimeCallback.accept(candidate, System.nanoTime() - startTime);
+				}
+				if (canApply) {
+					eligibleAdvisors.add(candidate);
+				}
 			}
 		}
 		boolean hasIntroductions = !eligibleAdvisors.isEmpty();
+		CandidateMethods candidateMethods = new CandidateMethods(clazz);
+		Map<Pointcut, Boolean> pointcutResults = new HashMap<>();
 		/*
 		 * <2> 遍历所有的 Advisor 对象
 		 * 如果是 IntroductionAdvisor 类型，则会跳过，因为上面已经判断过
@@ -381,7 +435,21 @@ public abstract class AopUtils {
 				continue;
 			}
 			// 判断是否能够应用到这个 Bean 上面
-			if (canApply(candidate, clazz, hasIntroductions)) {
+			long startTime = (matchingTimeCallback != null ? System.nanoTime() : 0);
+			boolean canApply = true;
+			if (candidate instanceof PointcutAdvisor) {
+				Pointcut pc = ((PointcutAdvisor) candidate).getPointcut();
+				Boolean result = pointcutResults.get(pc);
+				if (result == null) {
+					result = canApply(pc, clazz, hasIntroductions, candidateMethods);
+					pointcutResults.put(pc, result);
+				}
+				canApply = result;
+			}
+			if (matchingTimeCallback != null) {
+				matchingTimeCallback.accept(candidate, System.nanoTime() - startTime);
+			}
+			if (canApply) {
 				eligibleAdvisors.add(candidate);
 			}
 		}
@@ -423,4 +491,30 @@ public abstract class AopUtils {
 		}
 	}
 
+
+	/**
+	 * Lazily determined candidate methods of a target class,
+	 * shared by all pointcuts matched against that class.
+	 */
+	private static final class CandidateMethods {
+
+		private final Class<?> targetClass;
+
+		@Nullable
+		private List<Method[]> methodsPerClass;
+
+		CandidateMethods(Class<?> targetClass) {
+			this.targetClass = targetClass;
+		}
+
+		List<Method[]> get() {
+			List<Method[]> methodsPerClass = this.methodsPerClass;
+			if (methodsPerClass == null) {
+				methodsPerClass = getCandidateMethods(this.targetClass);
+				this.methodsPerClass = methodsPerClass;
+			}
+			return methodsPerClass;
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -284,6 +284,29 @@ public class AspectJExpressionPointcutTests {
 		assertThat(expr.getPointcutExpression()).isEqualTo("execution(* *(..)) && args(String) && this(Object)");
 	}
 
+	@Test
+	public void testSharedShadowMatchCache() {
+		ShadowMatchCacheRegistry registry = new ShadowMatchCacheRegistry();
+		AspectJExpressionPointcut pc1 = getSharingPointcut("execution(* *.getAge())", registry);
+		AspectJExpressionPointcut pc2 = getSharingPointcut("execution(* *.getAge())", registry);
+		AspectJExpressionPointcut pc3 = getSharingPointcut("execution(* *.setAge(..))", registry);
+
+		assertThat(pc1.matches(getAge, TestBean.class)).isTrue();
+		assertThat(pc1.matches(setAge, TestBean.class)).isFalse();
+		assertThat(pc2.matches(getAge, TestBean.class)).isTrue();
+		assertThat(pc2.matches(setAge, TestBean.class)).isFalse();
+		assertThat(pc3.matches(getAge, TestBean.class)).isFalse();
+		assertThat(pc3.matches(setAge, TestBean.class)).isTrue();
+		assertThat(registry.size()).isEqualTo(2);
+	}
+
+	private AspectJExpressionPointcut getSharingPointcut(String expression, ShadowMatchCacheRegistry registry) {
+		AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+		pointcut.setExpression(expression);
+		pointcut.setShadowMatchCacheRegistry(registry);
+		return pointcut;
+	}
+
 	private Pointcut getPointcut(String expression) {
 		AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
 		pointcut.setExpression(expression);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,14 @@
 package org.springframework.aop.support;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.aop.Advisor;
 import org.springframework.aop.ClassFilter;
 import org.springframework.aop.MethodMatcher;
 import org.springframework.aop.Pointcut;
@@ -72,6 +77,41 @@ public class AopUtilsTests {
 		assertThat(AopUtils.canApply(pc, Object.class)).isTrue();
 	}
 
+	@Test
+	public void testFindAdvisorsThatCanApplyMatchesEqualPointcutsOnce() {
+		List<Method> matchedMethods = new ArrayList<>();
+		class TestPointcut extends StaticMethodMatcherPointcut {
+			@Override
+			public boolean matches(Method method, @Nullable Class<?> clazz) {
+				matchedMethods.add(method);
+				return method.getName().equals("getAge");
+			}
+			@Override
+			public boolean equals(@Nullable Object other) {
+				return (other instanceof TestPointcut);
+			}
+			@Override
+			public int hashCode() {
+				return TestPointcut.class.hashCode();
+			}
+		}
+
+		Advisor advisor1 = new DefaultPointcutAdvisor(new TestPointcut(), new NopInterceptor());
+		Advisor advisor2 = new DefaultPointcutAdvisor(new TestPointcut(), new NopInterceptor());
+		Advisor advisor3 = new DefaultPointcutAdvisor(Pointcuts.SETTERS, new NopInterceptor());
+		List<Advisor> timedAdvisors = new ArrayList<>();
+		List<Advisor> eligibleAdvisors = AopUtils.findAdvisorsThatCanApply(
+				Arrays.asList(advisor1, advisor2, advisor3), TestBean.class, (advisor, nanos) -> timedAdvisors.add(advisor));
+		assertThat(eligibleAdvisors).containsExactly(advisor1, advisor2, advisor3);
+		assertThat(timedAdvisors).containsExactly(advisor1, advisor2, advisor3);
+
+		int matchCount = matchedMethods.size();
+		matchedMethods.clear();
+		AopUtils.findAdvisorsThatCanApply(Collections.singletonList(advisor1), TestBean.class);
+		assertThat(matchedMethods).hasSize(matchCount);
+		assertThat(AopUtils.findAdvisorsThatCanApply(Collections.singletonList(advisor1), String.class)).isEmpty();
+	}
+
 	/**
 	 * Test that when we serialize and deserialize various canonical instances
 	 * of AOP classes, they return the same instance, not a new instance
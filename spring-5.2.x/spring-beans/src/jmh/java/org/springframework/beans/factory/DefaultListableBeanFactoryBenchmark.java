@@ -0,0 +1,187 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+/**
+ * Benchmarks for the core lookup and creation paths of {@link DefaultListableBeanFactory}:
+ * singleton retrieval by name and by type, prototype creation with constructor and
+ * property autowiring, and {@code getBeanNamesForType} on large bean factories.
+ *
+ * @author Jankin Wong
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DefaultListableBeanFactoryBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class SingletonLookupState {
+
+		@Param({"10", "1000"})
+		public int beanCount;
+
+		public DefaultListableBeanFactory beanFactory;
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				this.beanFactory.registerBeanDefinition("filler" + i, new RootBeanDefinition(Filler.class));
+			}
+			this.beanFactory.registerBeanDefinition("repository", new RootBeanDefinition(Repository.class));
+			this.beanFactory.freezeConfiguration();
+			this.beanFactory.preInstantiateSingletons();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class PrototypeCreationState {
+
+		@Param({"simple", "constructorAutowiring", "propertyAutowiring"})
+		public String mode;
+
+		public DefaultListableBeanFactory beanFactory;
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			this.beanFactory.registerBeanDefinition("repository", new RootBeanDefinition(Repository.class));
+			RootBeanDefinition rbd;
+			switch (this.mode) {
+				case "simple":
+					rbd = new RootBeanDefinition(Repository.class);
+					break;
+				case "constructorAutowiring":
+					rbd = new RootBeanDefinition(ConstructorService.class);
+					rbd.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+					break;
+				case "propertyAutowiring":
+					rbd = new RootBeanDefinition(PropertyService.class);
+					rbd.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
+					break;
+				default:
+					throw new IllegalStateException("Unknown mode: " + this.mode);
+			}
+			rbd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			this.beanFactory.registerBeanDefinition("prototype", rbd);
+			this.beanFactory.freezeConfiguration();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class BeanNamesForTypeState {
+
+		@Param({"10000", "20000"})
+		public int beanCount;
+
+		public DefaultListableBeanFactory beanFactory;
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				this.beanFactory.registerBeanDefinition("filler" + i, new RootBeanDefinition(Filler.class));
+			}
+			this.beanFactory.registerBeanDefinition("repository", new RootBeanDefinition(Repository.class));
+			this.beanFactory.freezeConfiguration();
+		}
+	}
+
+
+	@Benchmark
+	public Object singletonByName(SingletonLookupState state) {
+		return state.beanFactory.getBean("repository");
+	}
+
+	@Benchmark
+	public Object singletonByType(SingletonLookupState state) {
+		return state.beanFactory.getBean(Repository.class);
+	}
+
+	@Benchmark
+	public Object prototypeCreation(PrototypeCreationState state) {
+		return state.beanFactory.getBean("prototype");
+	}
+
+	/**
+	 * Measures the uncached path by clearing the by-type caches on every invocation,
+	 * which is what happens whenever a bean definition gets registered.
+	 */
+	@Benchmark
+	public void beanNamesForTypeUncached(BeanNamesForTypeState state, Blackhole bh) {
+		state.beanFactory.clearMetadataCache();
+		bh.consume(state.beanFactory.getBeanNamesForType(Repository.class));
+	}
+
+	@Benchmark
+	public void beanNamesForTypeCached(BeanNamesForTypeState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBeanNamesForType(Repository.class));
+	}
+
+
+	public static class Filler {
+	}
+
+
+	public static class Repository {
+	}
+
+
+	public static class ConstructorService {
+
+		private final Repository repository;
+
+		public ConstructorService(Repository repository) {
+			this.repository = repository;
+		}
+
+		public Repository getRepository() {
+			return this.repository;
+		}
+	}
+
+
+	public static class PropertyService {
+
+		private Repository repository;
+
+		public void setRepository(Repository repository) {
+			this.repository = repository;
+		}
+
+		public Repository getRepository() {
+			return this.repository;
+		}
+	}
+
+}
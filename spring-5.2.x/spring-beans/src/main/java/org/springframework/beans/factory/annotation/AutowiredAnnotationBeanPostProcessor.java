@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,12 +27,12 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -51,9 +51,12 @@ import org.springframework.beans.factory.UnsatisfiedDependencyException;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessorAdapter;
+import org.springframework.beans.factory.support.AbstractBeanFactory;
+import org.springframework.beans.factory.support.GeneratedBeanAccessors;
 import org.springframework.beans.factory.support.LookupOverride;
 import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.beans.factory.support.ShortcutDependencyDescriptor;
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.Ordered;
@@ -406,6 +409,36 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 		return (candidateConstructors.length > 0 ? candidateConstructors : null);
 	}
 
+	@Override
+	public List<DependencyDescriptor> predictDependencies(Class<?> beanClass, String beanName)
+			throws BeanCreationException {
+
+		List<DependencyDescriptor> descriptors = new ArrayList<>();
+		Constructor<?>[] candidateConstructors = determineCandidateConstructors(beanClass, beanName);
+		if (candidateConstructors != null) {
+			for (Constructor<?> candidate : candidateConstructors) {
+				for (int i = 0; i < candidate.getParameterCount(); i++) {
+					descriptors.add(new DependencyDescriptor(new MethodParameter(candidate, i), true));
+				}
+			}
+		}
+		InjectionMetadata metadata = findAutowiringMetadata(beanName, beanClass, null);
+		for (InjectionMetadata.InjectedElement element : metadata.getInjectedElements()) {
+			if (element instanceof AutowiredFieldElement) {
+				Field field = (Field) element.getMember();
+				descriptors.add(new DependencyDescriptor(field, ((AutowiredFieldElement) element).required));
+			}
+			else if (element instanceof AutowiredMethodElement) {
+				Method method = (Method) element.getMember();
+				for (int i = 0; i < method.getParameterCount(); i++) {
+					descriptors.add(new DependencyDescriptor(
+							new MethodParameter(method, i), ((AutowiredMethodElement) element).required));
+				}
+			}
+		}
+		return descriptors;
+	}
+
 	@Override
 	public PropertyValues postProcessProperties(PropertyValues pvs, Object bean, String beanName) {
 		InjectionMetadata metadata = findAutowiringMetadata(beanName, bean.getClass(), pvs);
@@ -604,6 +637,54 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 		}
 	}
 
+	/**
+	 * Return the registration version of the bean factory, against which
+	 * resolved injection points get cached.
+	 * @see AbstractBeanFactory#getRegistrationVersion()
+	 */
+	private int getRegistrationVersion() {
+		return (this.beanFactory instanceof AbstractBeanFactory ?
+				((AbstractBeanFactory) this.beanFactory).getRegistrationVersion() : 0);
+	}
+
+	/**
+	 * Determine whether the given cached method argument or field value is a
+	 * shortcut which has been resolved for a previous registration version.
+	 */
+	private boolean isStaleShortcut(@Nullable Object cachedArgument) {
+		return (cachedArgument instanceof ShortcutDependencyDescriptor &&
+				!((ShortcutDependencyDescriptor) cachedArgument).isValidFor(getRegistrationVersion()));
+	}
+
+	/**
+	 * Re-resolve the dependency behind the given stale shortcut for the current
+	 * bean registrations, handing the method argument or field value to cache
+	 * from now on (a fresh shortcut if possible) to the given callback.
+	 */
+	@Nullable
+	private Object resolveStaleShortcut(@Nullable String beanName, Object cachedArgument,
+			Consumer<Object> cachedArgumentUpdate) {
+
+		ShortcutDependencyDescriptor shortcut = (ShortcutDependencyDescriptor) cachedArgument;
+		DependencyDescriptor descriptor = new DependencyDescriptor(shortcut);
+		Set<String> autowiredBeanNames = new LinkedHashSet<>(1);
+		Assert.state(this.beanFactory != null, "No BeanFactory available");
+		int registrationVersion = getRegistrationVersion();
+		Object value = this.beanFactory.resolveDependency(descriptor, beanName, autowiredBeanNames, null);
+		registerDependentBeans(beanName, autowiredBeanNames);
+		Object updatedArgument = descriptor;
+		if (autowiredBeanNames.size() == 1) {
+			String autowiredBeanName = autowiredBeanNames.iterator().next();
+			if (this.beanFactory.containsBean(autowiredBeanName) &&
+					this.beanFactory.isTypeMatch(autowiredBeanName, shortcut.getRequiredType())) {
+				updatedArgument = new ShortcutDependencyDescriptor(
+						descriptor, autowiredBeanName, shortcut.getRequiredType(), registrationVersion);
+			}
+		}
+		cachedArgumentUpdate.accept(updatedArgument);
+		return value;
+	}
+
 	/**
 	 * Resolve the specified cached method argument or field value.
 	 */
@@ -643,7 +724,10 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 			Object value;
 			if (this.cached) {
 				try {
-					value = resolvedCachedArgument(beanName, this.cachedFieldValue);
+					Object cachedFieldValue = this.cachedFieldValue;
+					value = (isStaleShortcut(cachedFieldValue) ?
+							resolveStaleShortcut(beanName, cachedFieldValue, arg -> this.cachedFieldValue = arg) :
+							resolvedCachedArgument(beanName, cachedFieldValue));
 				}
 				catch (NoSuchBeanDefinitionException ex) {
 					// Unexpected removal of target bean for cached argument -> re-resolve
@@ -655,7 +739,7 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 			}
 			if (value != null) {
 				ReflectionUtils.makeAccessible(field);
-				field.set(bean, value);
+				GeneratedBeanAccessors.setField(field, bean, value);
 			}
 		}
 
@@ -666,6 +750,7 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 			Set<String> autowiredBeanNames = new LinkedHashSet<>(1);
 			Assert.state(beanFactory != null, "No BeanFactory available");
 			TypeConverter typeConverter = beanFactory.getTypeConverter();
+			int registrationVersion = getRegistrationVersion();
 			Object value;
 			try {
 				value = beanFactory.resolveDependency(desc, beanName, autowiredBeanNames, typeConverter);
@@ -684,7 +769,7 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 							if (beanFactory.containsBean(autowiredBeanName) &&
 									beanFactory.isTypeMatch(autowiredBeanName, field.getType())) {
 								cachedFieldValue = new ShortcutDependencyDescriptor(
-										desc, autowiredBeanName, field.getType());
+										desc, autowiredBeanName, field.getType(), registrationVersion);
 							}
 						}
 					}
@@ -736,7 +821,7 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 			if (arguments != null) {
 				try {
 					ReflectionUtils.makeAccessible(method);
-					method.invoke(bean, arguments);
+					GeneratedBeanAccessors.invokeMethod(method, bean, arguments);
 				}
 				catch (InvocationTargetException ex) {
 					throw ex.getTargetException();
@@ -752,26 +837,49 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 			}
 			Object[] arguments = new Object[cachedMethodArguments.length];
 			for (int i = 0; i < arguments.length; i++) {
-				arguments[i] = resolvedCachedArgument(beanName, cachedMethodArguments[i]);
+				Object cachedArgument = cachedMethodArguments[i];
+				int index = i;
+				arguments[i] = (isStaleShortcut(cachedArgument) ?
+						resolveStaleShortcut(beanName, cachedArgument, arg -> updateCachedArgument(index, arg)) :
+						resolvedCachedArgument(beanName, cachedArgument));
 			}
 			return arguments;
 		}
 
+		private void updateCachedArgument(int index, Object cachedArgument) {
+			synchronized (this) {
+				// Publish a fresh array rather than mutating one that concurrent callers may read
+				Object[] cachedMethodArguments = this.cachedMethodArguments;
+				if (cachedMethodArguments != null) {
+					Object[] updatedArguments = cachedMethodArguments.clone();
+					updatedArguments[index] = cachedArgument;
+					this.cachedMethodArguments = updatedArguments;
+				}
+			}
+		}
+
 		@Nullable
 		private Object[] resolveMethodArguments(Method method, Object bean, @Nullable String beanName) {
 			int argumentCount = method.getParameterCount();
 			Object[] arguments = new Object[argumentCount];
 			DependencyDescriptor[] descriptors = new DependencyDescriptor[argumentCount];
 			Set<String> autowiredBeans = new LinkedHashSet<>(argumentCount);
+			String[] shortcuts = new String[argumentCount];
 			Assert.state(beanFactory != null, "No BeanFactory available");
 			TypeConverter typeConverter = beanFactory.getTypeConverter();
+			int registrationVersion = getRegistrationVersion();
 			for (int i = 0; i < arguments.length; i++) {
 				MethodParameter methodParam = new MethodParameter(method, i);
 				DependencyDescriptor currDesc = new DependencyDescriptor(methodParam, this.required);
 				currDesc.setContainingClass(bean.getClass());
 				descriptors[i] = currDesc;
 				try {
-					Object arg = beanFactory.resolveDependency(currDesc, beanName, autowiredBeans, typeConverter);
+					Set<String> argumentBeans = new LinkedHashSet<>(1);
+					Object arg = beanFactory.resolveDependency(currDesc, beanName, argumentBeans, typeConverter);
+					autowiredBeans.addAll(argumentBeans);
+					if (argumentBeans.size() == 1) {
+						shortcuts[i] = argumentBeans.iterator().next();
+					}
 					if (arg == null && !this.required) {
 						arguments = null;
 						break;
@@ -787,16 +895,14 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 					if (arguments != null) {
 						DependencyDescriptor[] cachedMethodArguments = Arrays.copyOf(descriptors, arguments.length);
 						registerDependentBeans(beanName, autowiredBeans);
-						if (autowiredBeans.size() == argumentCount) {
-							Iterator<String> it = autowiredBeans.iterator();
-							Class<?>[] paramTypes = method.getParameterTypes();
-							for (int i = 0; i < paramTypes.length; i++) {
-								String autowiredBeanName = it.next();
-								if (beanFactory.containsBean(autowiredBeanName) &&
-										beanFactory.isTypeMatch(autowiredBeanName, paramTypes[i])) {
-									cachedMethodArguments[i] = new ShortcutDependencyDescriptor(
-											descriptors[i], autowiredBeanName, paramTypes[i]);
-								}
+						// Shortcut each argument resolved to a single bean, independent of the others
+						Class<?>[] paramTypes = method.getParameterTypes();
+						for (int i = 0; i < paramTypes.length; i++) {
+							String autowiredBeanName = shortcuts[i];
+							if (autowiredBeanName != null && beanFactory.containsBean(autowiredBeanName) &&
+									beanFactory.isTypeMatch(autowiredBeanName, paramTypes[i])) {
+								cachedMethodArguments[i] = new ShortcutDependencyDescriptor(
+										descriptors[i], autowiredBeanName, paramTypes[i], registrationVersion);
 							}
 						}
 						this.cachedMethodArguments = cachedMethodArguments;
@@ -811,27 +917,4 @@ public class AutowiredAnnotationBeanPostProcessor extends InstantiationAwareBean
 		}
 	}
 
-
-	/**
-	 * DependencyDescriptor variant with a pre-resolved target bean name.
-	 */
-	@SuppressWarnings("serial")
-	private static class ShortcutDependencyDescriptor extends DependencyDescriptor {
-
-		private final String shortcut;
-
-		private final Class<?> requiredType;
-
-		public ShortcutDependencyDescriptor(DependencyDescriptor original, String shortcut, Class<?> requiredType) {
-			super(original);
-			this.shortcut = shortcut;
-			this.requiredType = requiredType;
-		}
-
-		@Override
-		public Object resolveShortcut(BeanFactory beanFactory) {
-			return beanFactory.getBean(this.shortcut, this.requiredType);
-		}
-	}
-
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import java.util.Set;
 
 import org.springframework.beans.MutablePropertyValues;
 import org.springframework.beans.PropertyValues;
+import org.springframework.beans.factory.support.GeneratedBeanAccessors;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
@@ -98,6 +99,14 @@ public class InjectionMetadata {
 		return this.targetClass != clazz;
 	}
 
+	/**
+	 * Return the elements to inject, including externally managed members.
+	 * @since 5.2.26
+	 */
+	Collection<InjectedElement> getInjectedElements() {
+		return this.injectedElements;
+	}
+
 	public void checkConfigMembers(RootBeanDefinition beanDefinition) {
 		Set<InjectedElement> checkedElements = new LinkedHashSet<>(this.injectedElements.size());
 		for (InjectedElement element : this.injectedElements) {
@@ -225,7 +234,7 @@ public class InjectionMetadata {
 			if (this.isField) {
 				Field field = (Field) this.member;
 				ReflectionUtils.makeAccessible(field);
-				field.set(target, getResourceToInject(target, requestingBeanName));
+				GeneratedBeanAccessors.setField(field, target, getResourceToInject(target, requestingBeanName));
 			}
 			else {
 				if (checkPropertySkipping(pvs)) {
@@ -234,7 +243,7 @@ public class InjectionMetadata {
 				try {
 					Method method = (Method) this.member;
 					ReflectionUtils.makeAccessible(method);
-					method.invoke(target, getResourceToInject(target, requestingBeanName));
+					GeneratedBeanAccessors.invokeMethod(method, target, getResourceToInject(target, requestingBeanName));
 				}
 				catch (InvocationTargetException ex) {
 					throw ex.getTargetException();
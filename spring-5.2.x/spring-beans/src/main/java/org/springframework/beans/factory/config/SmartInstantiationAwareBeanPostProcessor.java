@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package org.springframework.beans.factory.config;
 
 import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.List;
 
 import org.springframework.beans.BeansException;
 import org.springframework.lang.Nullable;
@@ -66,6 +68,25 @@ public interface SmartInstantiationAwareBeanPostProcessor extends InstantiationA
 		return null;
 	}
 
+	/**
+	 * Determine the dependencies that this processor is going to inject into
+	 * the given bean, for the purpose of analyzing the dependency graph before
+	 * any bean gets created (e.g. for parallel pre-instantiation of singletons).
+	 * <p>The returned descriptors only serve as a hint: dependencies that are
+	 * not reported here will still be resolved on demand at creation time.
+	 * <p>The default implementation returns an empty list.
+	 * @param beanClass the raw class of the bean (never {@code null})
+	 * @param beanName the name of the bean
+	 * @return the descriptors for the injection points of the bean
+	 * @throws org.springframework.beans.BeansException in case of errors
+	 * @since 5.2.26
+	 */
+	default List<DependencyDescriptor> predictDependencies(Class<?> beanClass, String beanName)
+			throws BeansException {
+
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Obtain a reference for early access to the specified bean,
 	 * typically for the purpose of resolving a circular reference.
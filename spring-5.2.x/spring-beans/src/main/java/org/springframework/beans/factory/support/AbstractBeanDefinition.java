@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,6 +35,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -160,7 +161,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 
 	private boolean primary = false;
 
-	private final Map<String, AutowireCandidateQualifier> qualifiers = new LinkedHashMap<>();
+	@Nullable
+	private Map<String, AutowireCandidateQualifier> qualifiers;
 
 	@Nullable
 	private Supplier<?> instanceSupplier;
@@ -181,7 +183,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	@Nullable
 	private MutablePropertyValues propertyValues;
 
-	private MethodOverrides methodOverrides = new MethodOverrides();
+	@Nullable
+	private MethodOverrides methodOverrides;
 
 	@Nullable
 	private String initMethodName;
@@ -711,14 +714,20 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @see AutowireCandidateQualifier#getTypeName()
 	 */
 	public void addQualifier(AutowireCandidateQualifier qualifier) {
-		this.qualifiers.put(qualifier.getTypeName(), qualifier);
+		Map<String, AutowireCandidateQualifier> qualifiers = this.qualifiers;
+		if (qualifiers == null) {
+			qualifiers = new LinkedHashMap<>(4);
+			this.qualifiers = qualifiers;
+		}
+		qualifiers.put(qualifier.getTypeName(), qualifier);
 	}
 
 	/**
 	 * Return whether this bean has the specified qualifier.
 	 */
 	public boolean hasQualifier(String typeName) {
-		return this.qualifiers.containsKey(typeName);
+		Map<String, AutowireCandidateQualifier> qualifiers = this.qualifiers;
+		return (qualifiers != null && qualifiers.containsKey(typeName));
 	}
 
 	/**
@@ -726,7 +735,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	@Nullable
 	public AutowireCandidateQualifier getQualifier(String typeName) {
-		return this.qualifiers.get(typeName);
+		Map<String, AutowireCandidateQualifier> qualifiers = this.qualifiers;
+		return (qualifiers != null ? qualifiers.get(typeName) : null);
 	}
 
 	/**
@@ -734,7 +744,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @return the Set of {@link AutowireCandidateQualifier} objects.
 	 */
 	public Set<AutowireCandidateQualifier> getQualifiers() {
-		return new LinkedHashSet<>(this.qualifiers.values());
+		Map<String, AutowireCandidateQualifier> qualifiers = this.qualifiers;
+		return (qualifiers != null ? new LinkedHashSet<>(qualifiers.values()) : new LinkedHashSet<>());
 	}
 
 	/**
@@ -743,7 +754,9 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	public void copyQualifiersFrom(AbstractBeanDefinition source) {
 		Assert.notNull(source, "Source must not be null");
-		this.qualifiers.putAll(source.qualifiers);
+		if (source.qualifiers != null) {
+			source.qualifiers.values().forEach(this::addQualifier);
+		}
 	}
 
 	/**
@@ -861,10 +874,12 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	@Override
 	public ConstructorArgumentValues getConstructorArgumentValues() {
-		if (this.constructorArgumentValues == null) {
-			this.constructorArgumentValues = new ConstructorArgumentValues();
+		ConstructorArgumentValues cav = this.constructorArgumentValues;
+		if (cav == null) {
+			cav = new ConstructorArgumentValues();
+			this.constructorArgumentValues = cav;
 		}
-		return this.constructorArgumentValues;
+		return cav;
 	}
 
 	/**
@@ -872,7 +887,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	@Override
 	public boolean hasConstructorArgumentValues() {
-		return (this.constructorArgumentValues != null && !this.constructorArgumentValues.isEmpty());
+		ConstructorArgumentValues cav = this.constructorArgumentValues;
+		return (cav != null && !cav.isEmpty());
 	}
 
 	/**
@@ -887,10 +903,12 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	@Override
 	public MutablePropertyValues getPropertyValues() {
-		if (this.propertyValues == null) {
-			this.propertyValues = new MutablePropertyValues();
+		MutablePropertyValues pvs = this.propertyValues;
+		if (pvs == null) {
+			pvs = new MutablePropertyValues();
+			this.propertyValues = pvs;
 		}
-		return this.propertyValues;
+		return pvs;
 	}
 
 	/**
@@ -899,7 +917,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	@Override
 	public boolean hasPropertyValues() {
-		return (this.propertyValues != null && !this.propertyValues.isEmpty());
+		MutablePropertyValues pvs = this.propertyValues;
+		return (pvs != null && !pvs.isEmpty());
 	}
 
 	/**
@@ -915,7 +934,12 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * <p>Never returns {@code null}.
 	 */
 	public MethodOverrides getMethodOverrides() {
-		return this.methodOverrides;
+		MethodOverrides overrides = this.methodOverrides;
+		if (overrides == null) {
+			overrides = new MethodOverrides();
+			this.methodOverrides = overrides;
+		}
+		return overrides;
 	}
 
 	/**
@@ -923,7 +947,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @since 5.0.2
 	 */
 	public boolean hasMethodOverrides() {
-		return !this.methodOverrides.isEmpty();
+		MethodOverrides overrides = this.methodOverrides;
+		return (overrides != null && !overrides.isEmpty());
 	}
 
 	/**
@@ -1110,6 +1135,43 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 				((BeanDefinitionResource) this.resource).getBeanDefinition() : null);
 	}
 
+	/**
+	 * Release the holders of constructor argument values, property values,
+	 * method overrides and qualifiers if they are empty, and intern the method
+	 * and factory bean names, once this bean definition is not expected to change.
+	 * <p>All state remains accessible: empty holders get recreated on demand,
+	 * e.g. when a prototype or lazy-init bean gets created later on, which
+	 * undoes the compaction for that holder. Accessors therefore read each
+	 * holder field only once, as it may be released concurrently.
+	 * @since 5.2.26
+	 * @see DefaultListableBeanFactory#freezeConfiguration()
+	 * @see RootBeanDefinition#compact()
+	 */
+	void compact() {
+		if (this.constructorArgumentValues != null && this.constructorArgumentValues.isEmpty()) {
+			this.constructorArgumentValues = null;
+		}
+		if (this.propertyValues != null && this.propertyValues.isEmpty()) {
+			this.propertyValues = null;
+		}
+		if (this.methodOverrides != null && this.methodOverrides.isEmpty()) {
+			this.methodOverrides = null;
+		}
+		if (this.qualifiers != null && this.qualifiers.isEmpty()) {
+			this.qualifiers = null;
+		}
+		this.scope = intern(this.scope);
+		this.factoryBeanName = intern(this.factoryBeanName);
+		this.factoryMethodName = intern(this.factoryMethodName);
+		this.initMethodName = intern(this.initMethodName);
+		this.destroyMethodName = intern(this.destroyMethodName);
+	}
+
+	@Nullable
+	private static String intern(@Nullable String name) {
+		return (name != null ? name.intern() : null);
+	}
+
 	/**
 	 * Validate this bean definition.
 	 * @throws BeanDefinitionValidationException in case of validation failure
@@ -1192,13 +1254,13 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 				this.dependencyCheck == that.dependencyCheck &&
 				Arrays.equals(this.dependsOn, that.dependsOn) &&
 				this.autowireCandidate == that.autowireCandidate &&
-				ObjectUtils.nullSafeEquals(this.qualifiers, that.qualifiers) &&
+				equalsQualifiers(that) &&
 				this.primary == that.primary &&
 				this.nonPublicAccessAllowed == that.nonPublicAccessAllowed &&
 				this.lenientConstructorResolution == that.lenientConstructorResolution &&
 				equalsConstructorArgumentValues(that) &&
 				equalsPropertyValues(that) &&
-				ObjectUtils.nullSafeEquals(this.methodOverrides, that.methodOverrides) &&
+				equalsMethodOverrides(that) &&
 				ObjectUtils.nullSafeEquals(this.factoryBeanName, that.factoryBeanName) &&
 				ObjectUtils.nullSafeEquals(this.factoryMethodName, that.factoryMethodName) &&
 				ObjectUtils.nullSafeEquals(this.initMethodName, that.initMethodName) &&
@@ -1224,6 +1286,20 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 		return ObjectUtils.nullSafeEquals(this.propertyValues, other.propertyValues);
 	}
 
+	private boolean equalsQualifiers(AbstractBeanDefinition other) {
+		if (CollectionUtils.isEmpty(this.qualifiers)) {
+			return CollectionUtils.isEmpty(other.qualifiers);
+		}
+		return this.qualifiers.equals(other.qualifiers);
+	}
+
+	private boolean equalsMethodOverrides(AbstractBeanDefinition other) {
+		if (!hasMethodOverrides()) {
+			return !other.hasMethodOverrides();
+		}
+		return ObjectUtils.nullSafeEquals(this.methodOverrides, other.methodOverrides);
+	}
+
 	@Override
 	public int hashCode() {
 		int hashCode = ObjectUtils.nullSafeHashCode(getBeanClassName());
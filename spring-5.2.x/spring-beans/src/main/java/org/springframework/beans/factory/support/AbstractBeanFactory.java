@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
@@ -177,6 +178,9 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 	private final ThreadLocal<Object> prototypesCurrentlyInCreation =
 			new NamedThreadLocal<>("Prototype beans currently in creation");
 
+	/** Version of the registered beans, for invalidating pre-resolved dependencies. */
+	private final AtomicInteger registrationVersion = new AtomicInteger();
+
 
 	/**
 	 * Create a new AbstractBeanFactory.
@@ -1118,7 +1122,7 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 
 	@Override
 	public boolean isActuallyInCreation(String beanName) {
-		return (isSingletonCurrentlyInCreation(beanName) || isPrototypeCurrentlyInCreation(beanName));
+		return (isSingletonCurrentlyInCreationByCurrentThread(beanName) || isPrototypeCurrentlyInCreation(beanName));
 	}
 
 	/**
@@ -1475,6 +1479,41 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 				bd.stale = true;
 			}
 		});
+		incrementRegistrationVersion();
+	}
+
+	/**
+	 * Return the current version of the beans registered with this factory.
+	 * <p>The version changes whenever bean definitions or singletons get registered
+	 * or removed, and on {@link #clearMetadataCache()}. Dependency resolution state,
+	 * such as a pre-resolved injection plan, may be cached along with the version
+	 * and rebuilt once the version differs.
+	 * @since 5.2.26
+	 */
+	public int getRegistrationVersion() {
+		return this.registrationVersion.get();
+	}
+
+	/**
+	 * Signal a change to the registered beans, invalidating dependency resolution
+	 * state cached against a previous {@link #getRegistrationVersion() version}.
+	 * @since 5.2.26
+	 */
+	protected void incrementRegistrationVersion() {
+		this.registrationVersion.incrementAndGet();
+	}
+
+	/**
+	 * Compact the merged bean definitions cached so far, releasing empty
+	 * holders of definition state.
+	 * <p>Each definition is compacted under its post-processing lock, so this
+	 * may overlap with bean creation on other threads. Beans created later on,
+	 * such as prototypes, may re-create some of the released holders.
+	 * @since 5.2.26
+	 * @see RootBeanDefinition#compact()
+	 */
+	protected void compactMergedBeanDefinitions() {
+		this.mergedBeanDefinitions.values().forEach(AbstractBeanDefinition::compact);
 	}
 
 	/**
@@ -1681,6 +1720,10 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 				return (objectType != null ? ResolvableType.forClass(objectType) : ResolvableType.NONE);
 			}
 			catch (BeanCreationException ex) {
+				if (isCircularWaitFailure(ex)) {
+					// Not to be treated as unknown type: retry from the outermost creation step.
+					throw ex;
+				}
 				if (ex.contains(BeanCurrentlyInCreationException.class)) {
 					logger.trace(LogMessage.format("Bean currently in creation on FactoryBean type check: %s", ex));
 				}
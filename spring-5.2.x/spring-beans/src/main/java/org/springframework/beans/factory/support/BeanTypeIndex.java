@@ -0,0 +1,324 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Incrementally maintained index from types to the names of the bean definitions
+ * that may be assignable to them, used by {@link DefaultListableBeanFactory} to
+ * narrow the candidates of a by-type lookup before the full type match is applied.
+ *
+ * <p>Every bean name is indexed under each class and interface in the hierarchy
+ * of its <i>indexed type</i>: the class of its singleton instance if available,
+ * or otherwise the bean class of a plain constructor-based definition. Bean names
+ * without such a type (factory methods, factory beans, unresolved bean classes etc.)
+ * are kept in a separate set and are always returned as candidates. The index
+ * never removes a candidate that the full type match would accept; it only skips
+ * bean definitions that cannot possibly match the requested raw type.
+ *
+ * <p>The bean class of a definition without an exposed instance only narrows
+ * the lookup while no {@code SmartInstantiationAwareBeanPostProcessor} may
+ * predict a different bean type. With such a post-processor registered, e.g.
+ * any auto-proxy creator, all of these bean definitions are returned as
+ * candidates, and only bean names with an exposed singleton instance are
+ * narrowed down by type.
+ *
+ * <p>Lookups are lock-free. Modifications are expected to be performed under the
+ * index lock of the owning bean factory.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see DefaultListableBeanFactory#getBeanNamesForType(org.springframework.core.ResolvableType)
+ */
+final class BeanTypeIndex {
+
+	/** Bean names keyed by every class and interface of their indexed type. */
+	private final Map<Class<?>, Set<String>> beanNamesByType = new ConcurrentHashMap<>(256);
+
+	/** Index entries keyed by bean name. */
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>(256);
+
+	/** Bean names without an indexed type: always candidates. */
+	private final Set<String> untypedBeanNames = ConcurrentHashMap.newKeySet();
+
+	/** Bean names that are only indexed by their bean definition's bean class. */
+	private final Set<String> definitionTypedBeanNames = ConcurrentHashMap.newKeySet();
+
+	/** Cache of type hierarchies, keyed by indexed type. */
+	private final Map<Class<?>, Class<?>[]> hierarchyCache = new ConcurrentHashMap<>(256);
+
+	private int registrationSequence;
+
+
+	/**
+	 * Register the given bean definition name with the given bean class,
+	 * keeping its registration order if the name is already indexed.
+	 * @param beanName the name of the bean definition
+	 * @param definitionType the bean class to index the bean definition under,
+	 * or {@code null} if its type can only be determined by full type matching
+	 */
+	void registerBeanDefinition(String beanName, @Nullable Class<?> definitionType) {
+		Entry entry = this.entries.get(beanName);
+		if (entry == null) {
+			entry = new Entry(this.registrationSequence++);
+			this.entries.put(beanName, entry);
+		}
+		Set<Class<?>> oldKeys = getIndexKeys(entry);
+		entry.definitionType = definitionType;
+		reindex(beanName, entry, oldKeys);
+	}
+
+	/**
+	 * Remove the given bean definition name from the index.
+	 * @param beanName the name of the bean definition
+	 */
+	void removeBeanDefinition(String beanName) {
+		Entry entry = this.entries.remove(beanName);
+		if (entry != null) {
+			for (Class<?> type : getIndexKeys(entry)) {
+				removeFromType(type, beanName);
+			}
+			this.untypedBeanNames.remove(beanName);
+			this.definitionTypedBeanNames.remove(beanName);
+		}
+	}
+
+	/**
+	 * Register the type of an exposed singleton instance (or early singleton
+	 * reference) for the given bean definition name, if indexed.
+	 * @param beanName the name of the bean definition
+	 * @param instanceType the type of the exposed object, or {@code null} if
+	 * the object does not expose its type directly (e.g. a {@code FactoryBean})
+	 * @param declaredType an additional type that the bean definition declares
+	 * for the exposed object (e.g. a factory method return type), if any
+	 */
+	void registerInstance(String beanName, @Nullable Class<?> instanceType, @Nullable Class<?> declaredType) {
+		Entry entry = this.entries.get(beanName);
+		if (entry != null) {
+			Set<Class<?>> oldKeys = getIndexKeys(entry);
+			entry.instanceType = instanceType;
+			entry.declaredType = (instanceType != null && declaredType != null &&
+					!declaredType.isAssignableFrom(instanceType) ? declaredType : null);
+			entry.hasInstance = true;
+			reindex(beanName, entry, oldKeys);
+		}
+	}
+
+	/**
+	 * Remove the singleton instance type for the given bean definition name,
+	 * falling back to its bean definition type.
+	 * @param beanName the name of the bean definition
+	 */
+	void removeInstance(String beanName) {
+		Entry entry = this.entries.get(beanName);
+		if (entry != null && entry.hasInstance) {
+			Set<Class<?>> oldKeys = getIndexKeys(entry);
+			entry.instanceType = null;
+			entry.declaredType = null;
+			entry.hasInstance = false;
+			reindex(beanName, entry, oldKeys);
+		}
+	}
+
+	/**
+	 * Return the bean definition names that may match the given raw type,
+	 * in registration order.
+	 * @param type the raw type to match
+	 * @param definitionTypesReliable whether the bean class of a bean definition
+	 * without an exposed instance reliably determines its type; if not, all such
+	 * bean definitions are returned as candidates
+	 * @return the candidate bean names
+	 */
+	List<String> getCandidateNames(Class<?> type, boolean definitionTypesReliable) {
+		Set<String> typedBeanNames = this.beanNamesByType.getOrDefault(type, Collections.emptySet());
+		Set<String> definitionTypedBeanNames =
+				(definitionTypesReliable ? Collections.emptySet() : this.definitionTypedBeanNames);
+		Candidates candidates = new Candidates(
+				typedBeanNames.size() + this.untypedBeanNames.size() + definitionTypedBeanNames.size());
+		addCandidates(candidates, typedBeanNames);
+		addCandidates(candidates, this.untypedBeanNames);
+		addCandidates(candidates, definitionTypedBeanNames);
+		return candidates.toList();
+	}
+
+	private void addCandidates(Candidates candidates, Set<String> beanNames) {
+		for (String beanName : beanNames) {
+			Entry entry = this.entries.get(beanName);
+			if (entry != null) {
+				candidates.add(entry.sequence, beanName);
+			}
+		}
+	}
+
+	private void reindex(String beanName, Entry entry, Set<Class<?>> oldKeys) {
+		Set<Class<?>> newKeys = getIndexKeys(entry);
+		// Add to the new buckets first, so that concurrent lookups never miss the bean.
+		for (Class<?> type : newKeys) {
+			this.beanNamesByType.computeIfAbsent(type, key -> ConcurrentHashMap.newKeySet()).add(beanName);
+		}
+		if (entry.getIndexedType() == null) {
+			this.untypedBeanNames.add(beanName);
+			this.definitionTypedBeanNames.remove(beanName);
+		}
+		else if (entry.hasInstance) {
+			this.untypedBeanNames.remove(beanName);
+			this.definitionTypedBeanNames.remove(beanName);
+		}
+		else {
+			this.definitionTypedBeanNames.add(beanName);
+			this.untypedBeanNames.remove(beanName);
+		}
+		for (Class<?> type : oldKeys) {
+			if (!newKeys.contains(type)) {
+				removeFromType(type, beanName);
+			}
+		}
+	}
+
+	private Set<Class<?>> getIndexKeys(Entry entry) {
+		Class<?> indexedType = entry.getIndexedType();
+		if (indexedType == null) {
+			return Collections.emptySet();
+		}
+		Set<Class<?>> keys = new LinkedHashSet<>();
+		Collections.addAll(keys, getHierarchy(indexedType));
+		Class<?> declaredType = entry.declaredType;
+		if (declaredType != null) {
+			Collections.addAll(keys, getHierarchy(declaredType));
+		}
+		return keys;
+	}
+
+	private void removeFromType(Class<?> type, String beanName) {
+		Set<String> beanNames = this.beanNamesByType.get(type);
+		if (beanNames != null) {
+			beanNames.remove(beanName);
+		}
+	}
+
+	private Class<?>[] getHierarchy(Class<?> type) {
+		return this.hierarchyCache.computeIfAbsent(type, BeanTypeIndex::determineHierarchy);
+	}
+
+	private static Class<?>[] determineHierarchy(Class<?> type) {
+		Set<Class<?>> hierarchy = new LinkedHashSet<>();
+		Class<?> current = type;
+		while (current != null) {
+			hierarchy.add(current);
+			addInterfaces(current, hierarchy);
+			current = current.getSuperclass();
+		}
+		hierarchy.add(Object.class);
+		return hierarchy.toArray(new Class<?>[0]);
+	}
+
+	private static void addInterfaces(Class<?> type, Set<Class<?>> hierarchy) {
+		for (Class<?> ifc : type.getInterfaces()) {
+			if (hierarchy.add(ifc)) {
+				addInterfaces(ifc, hierarchy);
+			}
+		}
+	}
+
+
+	/**
+	 * Candidate bean names collected from several index sets, restored to
+	 * registration order by sorting primitive keys that combine the
+	 * registration sequence of each name with its position.
+	 */
+	private static final class Candidates {
+
+		private String[] beanNames;
+
+		private long[] keys;
+
+		private int count;
+
+		Candidates(int expectedSize) {
+			this.beanNames = new String[expectedSize];
+			this.keys = new long[expectedSize];
+		}
+
+		void add(int sequence, String beanName) {
+			if (this.count == this.keys.length) {
+				// Names indexed concurrently since the sets have been sized
+				int newLength = this.count * 2 + 1;
+				this.beanNames = Arrays.copyOf(this.beanNames, newLength);
+				this.keys = Arrays.copyOf(this.keys, newLength);
+			}
+			this.beanNames[this.count] = beanName;
+			this.keys[this.count] = ((long) sequence << 32) | this.count;
+			this.count++;
+		}
+
+		List<String> toList() {
+			Arrays.sort(this.keys, 0, this.count);
+			List<String> result = new ArrayList<>(this.count);
+			long previousSequence = -1;
+			for (int i = 0; i < this.count; i++) {
+				long key = this.keys[i];
+				long sequence = key >>> 32;
+				// A bean name may be contained in more than one set
+				if (sequence != previousSequence) {
+					result.add(this.beanNames[(int) key]);
+					previousSequence = sequence;
+				}
+			}
+			return result;
+		}
+	}
+
+
+	/**
+	 * Index state for a single bean definition name.
+	 */
+	private static final class Entry {
+
+		final int sequence;
+
+		@Nullable
+		volatile Class<?> definitionType;
+
+		@Nullable
+		volatile Class<?> instanceType;
+
+		@Nullable
+		volatile Class<?> declaredType;
+
+		volatile boolean hasInstance;
+
+		Entry(int sequence) {
+			this.sequence = sequence;
+		}
+
+		@Nullable
+		Class<?> getIndexedType() {
+			return (this.hasInstance ? this.instanceType : this.definitionType);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -729,6 +729,7 @@ class ConstructorResolver {
 		ArgumentsHolder args = new ArgumentsHolder(paramTypes.length);
 		Set<ConstructorArgumentValues.ValueHolder> usedValueHolders = new HashSet<>(paramTypes.length);
 		Set<String> autowiredBeanNames = new LinkedHashSet<>(4);
+		int registrationVersion = this.beanFactory.getRegistrationVersion();
 
 		for (int paramIndex = 0; paramIndex < paramTypes.length; paramIndex++) {
 			Class<?> paramType = paramTypes[paramIndex];
@@ -787,11 +788,14 @@ class ConstructorResolver {
 							"] - did you specify the correct bean references as arguments?");
 				}
 				try {
+					Set<String> argumentBeanNames = new LinkedHashSet<>(1);
 					Object autowiredArgument = resolveAutowiredArgument(
-							methodParam, beanName, autowiredBeanNames, converter, fallback);
+							methodParam, beanName, argumentBeanNames, converter, fallback);
+					autowiredBeanNames.addAll(argumentBeanNames);
 					args.rawArguments[paramIndex] = autowiredArgument;
 					args.arguments[paramIndex] = autowiredArgument;
-					args.preparedArguments[paramIndex] = autowiredArgumentMarker;
+					args.preparedArguments[paramIndex] =
+							prepareAutowiredArgument(methodParam, argumentBeanNames, registrationVersion);
 					args.resolveNecessary = true;
 				}
 				catch (BeansException ex) {
@@ -832,6 +836,9 @@ class ConstructorResolver {
 			if (argValue == autowiredArgumentMarker) {
 				argValue = resolveAutowiredArgument(methodParam, beanName, null, converter, true);
 			}
+			else if (argValue instanceof ShortcutDependencyDescriptor) {
+				argValue = resolveShortcutArgument(beanName, mbd, argsToResolve, argIndex, methodParam, converter);
+			}
 			else if (argValue instanceof BeanMetadataElement) {
 				argValue = valueResolver.resolveValueIfNecessary("constructor argument", argValue);
 			}
@@ -852,6 +859,57 @@ class ConstructorResolver {
 		return resolvedArgs;
 	}
 
+	/**
+	 * Resolve a prepared autowired argument through its shortcut to the target bean,
+	 * re-resolving the argument (and updating the prepared arguments in the given
+	 * bean definition) if the shortcut has become stale in the meantime.
+	 */
+	@Nullable
+	private Object resolveShortcutArgument(String beanName, RootBeanDefinition mbd, Object[] preparedArgs,
+			int argIndex, MethodParameter methodParam, TypeConverter converter) {
+
+		ShortcutDependencyDescriptor shortcut = (ShortcutDependencyDescriptor) preparedArgs[argIndex];
+		int registrationVersion = this.beanFactory.getRegistrationVersion();
+		if (shortcut.isValidFor(registrationVersion)) {
+			try {
+				return this.beanFactory.resolveDependency(shortcut, beanName, null, converter);
+			}
+			catch (NoSuchBeanDefinitionException ex) {
+				// Unexpected removal of target bean for shortcut -> re-resolve
+			}
+		}
+		Set<String> autowiredBeanNames = new LinkedHashSet<>(1);
+		Object autowiredArgument = resolveAutowiredArgument(methodParam, beanName, autowiredBeanNames, converter, true);
+		for (String autowiredBeanName : autowiredBeanNames) {
+			this.beanFactory.registerDependentBean(autowiredBeanName, beanName);
+		}
+		Object preparedArgument = prepareAutowiredArgument(methodParam, autowiredBeanNames, registrationVersion);
+		synchronized (mbd.constructorArgumentLock) {
+			preparedArgs[argIndex] = preparedArgument;
+		}
+		return autowiredArgument;
+	}
+
+	/**
+	 * Determine the form in which to cache an autowired argument: a shortcut to
+	 * the single bean that the argument has been resolved to, if possible,
+	 * or a marker for resolving the argument from scratch otherwise.
+	 */
+	private Object prepareAutowiredArgument(
+			MethodParameter methodParam, Set<String> autowiredBeanNames, int registrationVersion) {
+
+		Class<?> paramType = methodParam.getParameterType();
+		if (autowiredBeanNames.size() == 1 && !InjectionPoint.class.isAssignableFrom(paramType)) {
+			String autowiredBeanName = autowiredBeanNames.iterator().next();
+			if (this.beanFactory.containsBean(autowiredBeanName) &&
+					this.beanFactory.isTypeMatch(autowiredBeanName, paramType)) {
+				return new ShortcutDependencyDescriptor(
+						new DependencyDescriptor(methodParam, true), autowiredBeanName, paramType, registrationVersion);
+			}
+		}
+		return autowiredArgumentMarker;
+	}
+
 	protected Constructor<?> getUserDeclaredConstructor(Constructor<?> constructor) {
 		Class<?> declaringClass = constructor.getDeclaringClass();
 		Class<?> userClass = ClassUtils.getUserClass(declaringClass);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -40,6 +41,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -47,6 +49,7 @@ import java.util.stream.Stream;
 import javax.inject.Provider;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -68,10 +71,15 @@ import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessorAdapter;
 import org.springframework.beans.factory.config.NamedBeanHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
+import org.springframework.core.MethodParameter;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.MergedAnnotation;
@@ -83,6 +91,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CompositeIterator;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -157,6 +166,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Resolver to use for checking if a bean definition is an autowire candidate. */
 	private AutowireCandidateResolver autowireCandidateResolver = SimpleAutowireCandidateResolver.INSTANCE;
 
+	/** Executor for parallel pre-instantiation of singletons, if any. */
+	@Nullable
+	private Executor preInstantiationExecutor;
+
 	/** Map from dependency type to corresponding autowired value. */
 	private final Map<Class<?>, Object> resolvableDependencies = new ConcurrentHashMap<>(16);
 
@@ -186,6 +199,16 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Whether bean definition metadata may be cached for all beans. */
 	private volatile boolean configurationFrozen;
 
+	/** Index of bean definition names by type, lazily built once the configuration is frozen. */
+	@Nullable
+	private volatile BeanTypeIndex beanTypeIndex;
+
+	/** Lock for building and updating the by-type index. */
+	private final Object beanTypeIndexLock = new Object();
+
+	/** Whether a given post-processor type overrides {@code predictBeanType}. */
+	private final Map<Class<?>, Boolean> typePredictingPostProcessorTypes = new ConcurrentHashMap<>(8);
+
 
 	/**
 	 * Create a new DefaultListableBeanFactory.
@@ -317,6 +340,37 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.autowireCandidateResolver;
 	}
 
+	/**
+	 * Specify an {@link Executor} for pre-instantiating non-lazy singletons in
+	 * parallel, typically a {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>Default is none, creating all singletons one after another on the
+	 * calling thread, in registration order. If an executor is specified,
+	 * {@link #preInstantiateSingletons()} analyzes the dependencies between
+	 * the singletons to create ({@code depends-on}, bean references, factory
+	 * methods, and injection points reported by a
+	 * {@link SmartInstantiationAwareBeanPostProcessor}) and creates independent
+	 * singletons concurrently. Singletons involved in circular references or
+	 * conflicting with a concurrent creation are still created on the calling
+	 * thread afterwards, and {@link SmartInitializingSingleton} callbacks are
+	 * triggered in registration order once all singletons have been created.
+	 * <p><b>NOTE:</b> Only switch this on for applications whose singletons do
+	 * not rely on their creation order beyond their declared dependencies.
+	 * @since 5.2.26
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setPreInstantiationExecutor(@Nullable Executor preInstantiationExecutor) {
+		this.preInstantiationExecutor = preInstantiationExecutor;
+	}
+
+	/**
+	 * Return the executor for parallel pre-instantiation of singletons, if any.
+	 * @since 5.2.26
+	 */
+	@Nullable
+	public Executor getPreInstantiationExecutor() {
+		return this.preInstantiationExecutor;
+	}
+
 
 	@Override
 	public void copyConfigurationFrom(ConfigurableBeanFactory otherFactory) {
@@ -326,6 +380,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
+			this.preInstantiationExecutor = otherListableFactory.preInstantiationExecutor;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
 			// Make resolvable dependencies (e.g. ResourceLoader) available here as well
@@ -513,8 +568,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
 		List<String> result = new ArrayList<>();
 
-		// Check all bean definitions.
-		for (String beanName : this.beanDefinitionNames) {
+		// Check all bean definitions that may match the requested raw type.
+		for (String beanName : getCandidateBeanDefinitionNames(type)) {
 			// Only consider bean as eligible if the bean name is not defined as alias for some other bean.
 			if (!isAlias(beanName)) {
 				try {
@@ -595,6 +650,158 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return StringUtils.toStringArray(result);
 	}
 
+	/**
+	 * Determine the bean definition names to check for the given type:
+	 * the candidates from the by-type index once the configuration is frozen,
+	 * or all bean definition names otherwise.
+	 * @param type the type to match
+	 * @return the bean definition names to check, in registration order
+	 * @see BeanTypeIndex#getCandidateNames
+	 */
+	private Collection<String> getCandidateBeanDefinitionNames(ResolvableType type) {
+		Class<?> rawType = type.resolve();
+		if (rawType != null) {
+			BeanTypeIndex index = obtainBeanTypeIndex();
+			if (index != null) {
+				return index.getCandidateNames(rawType, !hasTypePredictingPostProcessors());
+			}
+		}
+		return this.beanDefinitionNames;
+	}
+
+	/**
+	 * Return the by-type index, building it on first access once the
+	 * configuration has been frozen.
+	 * @return the index, or {@code null} if the configuration is not frozen yet
+	 */
+	@Nullable
+	private BeanTypeIndex obtainBeanTypeIndex() {
+		if (!this.configurationFrozen) {
+			return null;
+		}
+		BeanTypeIndex index = this.beanTypeIndex;
+		if (index == null) {
+			synchronized (this.beanTypeIndexLock) {
+				index = this.beanTypeIndex;
+				if (index == null) {
+					index = new BeanTypeIndex();
+					for (String beanName : this.beanDefinitionNames) {
+						index.registerBeanDefinition(beanName, determineIndexedBeanType(beanName));
+						Object singletonObject = getSingleton(beanName, false);
+						if (singletonObject != null) {
+							registerIndexedSingleton(index, beanName, singletonObject);
+						}
+					}
+					this.beanTypeIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Determine the type to index the given bean definition under before
+	 * its instance is available: the bean class of a plain constructor-based
+	 * bean definition, or {@code null} if a full type match is required.
+	 */
+	@Nullable
+	private Class<?> determineIndexedBeanType(String beanName) {
+		if (isAlias(beanName)) {
+			return null;
+		}
+		try {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (mbd.hasBeanClass() && mbd.getFactoryMethodName() == null && mbd.targetType == null &&
+					mbd.getDecoratedDefinition() == null && !mbd.isAbstract()) {
+				Class<?> beanClass = mbd.getBeanClass();
+				if (!FactoryBean.class.isAssignableFrom(beanClass)) {
+					return beanClass;
+				}
+			}
+		}
+		catch (BeansException ex) {
+			// Not resolvable yet: leave it to the full type match.
+		}
+		return null;
+	}
+
+	/**
+	 * Index the given singleton object (or early singleton reference) under its
+	 * exposed type, plus any type declared by the bean definition for it.
+	 */
+	private void registerIndexedSingleton(BeanTypeIndex index, String beanName, Object singletonObject) {
+		Class<?> instanceType = null;
+		Class<?> declaredType = null;
+		if (!(singletonObject instanceof FactoryBean) && singletonObject.getClass() != NullBean.class &&
+				!singletonObject.getClass().isArray()) {
+			instanceType = singletonObject.getClass();
+			if (containsBeanDefinition(beanName)) {
+				try {
+					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+					ResolvableType resolvableType = mbd.targetType;
+					if (resolvableType == null) {
+						resolvableType = mbd.factoryMethodReturnType;
+					}
+					Method factoryMethod = mbd.getResolvedFactoryMethod();
+					if (resolvableType == null && factoryMethod != null) {
+						resolvableType = ResolvableType.forMethodReturnType(factoryMethod);
+					}
+					declaredType = (resolvableType != null ? resolvableType.resolve() : null);
+				}
+				catch (BeansException ex) {
+					// Only index the exposed type then.
+				}
+			}
+		}
+		index.registerInstance(beanName, instanceType, declaredType);
+	}
+
+	/**
+	 * Update the by-type index, if already built, for the given bean definition name
+	 * after its bean definition has been registered, replaced or removed.
+	 */
+	private void updateBeanTypeIndex(String beanName) {
+		if (this.beanTypeIndex != null) {
+			synchronized (this.beanTypeIndexLock) {
+				BeanTypeIndex index = this.beanTypeIndex;
+				if (index != null) {
+					if (containsBeanDefinition(beanName)) {
+						index.registerBeanDefinition(beanName, determineIndexedBeanType(beanName));
+						Object singletonObject = getSingleton(beanName, false);
+						if (singletonObject != null) {
+							registerIndexedSingleton(index, beanName, singletonObject);
+						}
+					}
+					else {
+						index.removeBeanDefinition(beanName);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check whether any registered {@link SmartInstantiationAwareBeanPostProcessor}
+	 * may predict a bean type other than the bean class, in which case bean
+	 * definitions without an instance have to go through full type matching.
+	 */
+	private boolean hasTypePredictingPostProcessors() {
+		if (!hasInstantiationAwareBeanPostProcessors()) {
+			return false;
+		}
+		for (BeanPostProcessor bp : getBeanPostProcessors()) {
+			if (bp instanceof SmartInstantiationAwareBeanPostProcessor &&
+					this.typePredictingPostProcessorTypes.computeIfAbsent(bp.getClass(), type -> {
+						Method method = ReflectionUtils.findMethod(type, "predictBeanType", Class.class, String.class);
+						return (method != null && method.getDeclaringClass() != SmartInstantiationAwareBeanPostProcessor.class &&
+								method.getDeclaringClass() != InstantiationAwareBeanPostProcessorAdapter.class);
+					})) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean isSingleton(String beanName, RootBeanDefinition mbd, @Nullable BeanDefinitionHolder dbd) {
 		return (dbd != null ? mbd.isSingleton() : isSingleton(beanName));
 	}
@@ -846,6 +1053,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void freezeConfiguration() {
 		this.configurationFrozen = true;
 		this.frozenBeanDefinitionNames = StringUtils.toStringArray(this.beanDefinitionNames);
+		compactMergedBeanDefinitions();
 	}
 
 	@Override
@@ -876,35 +1084,23 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 		// Trigger initialization of all non-lazy singleton beans...
 		// 下面这个循环，触发所有的非懒加载的 singleton beans 的初始化操作
-		for (String beanName : beanNames) {
-			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
-			// 非抽象、非懒加载的 singletons。如果配置了 'abstract = true'，那是不需要初始化的
-			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
-				// 处理 FactoryBean
-				if (isFactoryBean(beanName)) {
-					// FactoryBean 的话，在 beanName 前面加上 ‘&’ 符号。再调用 getBean
-					Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
-					// 判断当前 FactoryBean 是否是 SmartFactoryBean 的实现
-					if (bean instanceof FactoryBean) {
-						FactoryBean<?> factory = (FactoryBean<?>) bean;
-						boolean isEagerInit;
-						if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
-							isEagerInit = AccessController.doPrivileged(
-									(PrivilegedAction<Boolean>) ((SmartFactoryBean<?>) factory)::isEagerInit,
-									getAccessControlContext());
-						}
-						else {
-							isEagerInit = (factory instanceof SmartFactoryBean &&
-									((SmartFactoryBean<?>) factory).isEagerInit());
-						}
-						if (isEagerInit) {
-							getBean(beanName);
-						}
-					}
+		Executor executor = this.preInstantiationExecutor;
+		if (executor != null) {
+			List<String> singletonNames = new ArrayList<>(beanNames.size());
+			for (String beanName : beanNames) {
+				RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+				if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+					singletonNames.add(beanName);
 				}
-				else {
-					// 对于普通的 Bean，只要调用 getBean(beanName) 这个方法就可以进行初始化了
-					getBean(beanName);
+			}
+			new ParallelSingletonPreInstantiator(this, executor).preInstantiate(singletonNames);
+		}
+		else {
+			for (String beanName : beanNames) {
+				RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+				// 非抽象、非懒加载的 singletons。如果配置了 'abstract = true'，那是不需要初始化的
+				if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+					preInstantiateSingleton(beanName);
 				}
 			}
 		}
@@ -927,6 +1123,164 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				}
 			}
 		}
+
+		// Release definition state that was lazily initialized during instantiation.
+		if (this.configurationFrozen) {
+			compactMergedBeanDefinitions();
+		}
+	}
+
+
+	/**
+	 * Pre-instantiate the given non-lazy singleton, or the given {@code FactoryBean}
+	 * and - if it is a {@code SmartFactoryBean} asking for it - its object.
+	 * @param beanName the name of the singleton bean definition
+	 * @throws BeansException if the bean could not be created
+	 */
+	void preInstantiateSingleton(String beanName) throws BeansException {
+		// 处理 FactoryBean
+		if (isFactoryBean(beanName)) {
+			// FactoryBean 的话，在 beanName 前面加上 ‘&’ 符号。再调用 getBean
+			Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
+			// 判断当前 FactoryBean 是否是 SmartFactoryBean 的实现
+			if (bean instanceof FactoryBean) {
+				FactoryBean<?> factory = (FactoryBean<?>) bean;
+				boolean isEagerInit;
+				if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
+					isEagerInit = AccessController.doPrivileged(
+							(PrivilegedAction<Boolean>) ((SmartFactoryBean<?>) factory)::isEagerInit,
+							getAccessControlContext());
+				}
+				else {
+					isEagerInit = (factory instanceof SmartFactoryBean &&
+							((SmartFactoryBean<?>) factory).isEagerInit());
+				}
+				if (isEagerInit) {
+					getBean(beanName);
+				}
+			}
+		}
+		else {
+			// 对于普通的 Bean，只要调用 getBean(beanName) 这个方法就可以进行初始化了
+			getBean(beanName);
+		}
+	}
+
+	/**
+	 * Predict the names of the beans that the given bean definition depends on,
+	 * for analyzing the dependency graph before the bean gets created.
+	 * <p>Considers {@code depends-on} declarations, factory beans, bean references
+	 * in constructor arguments and property values, as well as factory method
+	 * parameters and the injection points reported by registered
+	 * {@link SmartInstantiationAwareBeanPostProcessor SmartInstantiationAwareBeanPostProcessors},
+	 * matched by raw type only. The result is a hint: it may contain beans that
+	 * will not be injected, and it may miss dependencies resolved on demand.
+	 * @param beanName the name of the bean definition
+	 * @return the names of the predicted dependencies (possibly aliases)
+	 * @since 5.2.26
+	 * @see SmartInstantiationAwareBeanPostProcessor#predictDependencies
+	 */
+	Set<String> predictDependencies(String beanName) {
+		Set<String> dependencies = new LinkedHashSet<>();
+		try {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			String[] dependsOn = mbd.getDependsOn();
+			if (dependsOn != null) {
+				Collections.addAll(dependencies, dependsOn);
+			}
+			String factoryBeanName = mbd.getFactoryBeanName();
+			if (factoryBeanName != null) {
+				dependencies.add(factoryBeanName);
+			}
+			ConstructorArgumentValues cargs = mbd.getConstructorArgumentValues();
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cargs.getIndexedArgumentValues().values()) {
+				addReferencedBeanNames(valueHolder.getValue(), dependencies);
+			}
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cargs.getGenericArgumentValues()) {
+				addReferencedBeanNames(valueHolder.getValue(), dependencies);
+			}
+			for (PropertyValue pv : mbd.getPropertyValues().getPropertyValueList()) {
+				addReferencedBeanNames(pv.getValue(), dependencies);
+			}
+
+			List<DependencyDescriptor> descriptors = new ArrayList<>();
+			if (mbd.getFactoryMethodName() != null) {
+				Class<?> factoryClass = (factoryBeanName != null ? getType(factoryBeanName, false) :
+						resolveBeanClass(mbd, beanName));
+				if (factoryClass != null) {
+					for (Method candidate : ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(factoryClass))) {
+						if (mbd.isFactoryMethod(candidate)) {
+							for (int i = 0; i < candidate.getParameterCount(); i++) {
+								descriptors.add(new DependencyDescriptor(new MethodParameter(candidate, i), true));
+							}
+						}
+					}
+				}
+			}
+			else if (hasInstantiationAwareBeanPostProcessors()) {
+				Class<?> beanClass = resolveBeanClass(mbd, beanName);
+				if (beanClass != null) {
+					for (BeanPostProcessor bp : getBeanPostProcessors()) {
+						if (bp instanceof SmartInstantiationAwareBeanPostProcessor) {
+							SmartInstantiationAwareBeanPostProcessor ibp = (SmartInstantiationAwareBeanPostProcessor) bp;
+							descriptors.addAll(ibp.predictDependencies(beanClass, beanName));
+						}
+					}
+				}
+			}
+			for (DependencyDescriptor descriptor : descriptors) {
+				addPredictedCandidateNames(descriptor, dependencies);
+			}
+		}
+		catch (Throwable ex) {
+			// Dependencies will be resolved on demand at creation time anyway.
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to predict dependencies of bean '" + beanName + "': " + ex);
+			}
+		}
+		return dependencies;
+	}
+
+	private void addReferencedBeanNames(@Nullable Object value, Set<String> beanNames) {
+		if (value instanceof RuntimeBeanReference) {
+			beanNames.add(((RuntimeBeanReference) value).getBeanName());
+		}
+		else if (value instanceof Collection) {
+			for (Object element : (Collection<?>) value) {
+				addReferencedBeanNames(element, beanNames);
+			}
+		}
+		else if (value instanceof Map) {
+			for (Object element : ((Map<?, ?>) value).values()) {
+				addReferencedBeanNames(element, beanNames);
+			}
+		}
+	}
+
+	private void addPredictedCandidateNames(DependencyDescriptor descriptor, Set<String> beanNames) {
+		ResolvableType type = descriptor.getResolvableType();
+		Class<?> rawType = type.resolve();
+		if (rawType == Optional.class) {
+			type = type.getGeneric();
+			rawType = type.resolve();
+		}
+		if (rawType == null || ObjectFactory.class.isAssignableFrom(rawType) || rawType == javaxInjectProviderClass) {
+			// Unknown or lazily resolved dependency
+			return;
+		}
+		if (rawType.isArray()) {
+			type = type.getComponentType();
+		}
+		else if (Collection.class.isAssignableFrom(rawType) && rawType.isInterface()) {
+			type = type.asCollection().getGeneric();
+		}
+		else if (Map.class == rawType) {
+			type = type.asMap().getGeneric(1);
+		}
+		Class<?> candidateType = type.resolve();
+		if (candidateType != null && candidateType != Object.class) {
+			Collections.addAll(beanNames, getBeanNamesForType(candidateType, true, false));
+		}
 	}
 
 
@@ -1009,6 +1363,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			}
 			//重置所有已经注册过的BeanDefinition的缓存
 			this.frozenBeanDefinitionNames = null;
+			incrementRegistrationVersion();
 		}
 
 		if (existingDefinition != null || containsSingleton(beanName)) {
@@ -1016,6 +1371,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 		else if (isConfigurationFrozen()) {
 			clearByTypeCache();
+			updateBeanTypeIndex(beanName);
 		}
 	}
 
@@ -1085,6 +1441,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				}
 			}
 		}
+
+		// Re-index the bean definition (or drop it from the index if removed).
+		updateBeanTypeIndex(beanName);
 	}
 
 	/**
@@ -1102,6 +1461,50 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		clearByTypeCache();
 	}
 
+	@Override
+	protected void addSingleton(String beanName, Object singletonObject) {
+		super.addSingleton(beanName, singletonObject);
+		synchronized (this.beanTypeIndexLock) {
+			BeanTypeIndex index = this.beanTypeIndex;
+			if (index != null) {
+				registerIndexedSingleton(index, beanName, singletonObject);
+			}
+		}
+	}
+
+	@Override
+	protected Object getEarlyBeanReference(String beanName, RootBeanDefinition mbd, Object bean) {
+		Object exposedObject = super.getEarlyBeanReference(beanName, mbd, bean);
+		if (this.beanTypeIndex != null) {
+			synchronized (this.beanTypeIndexLock) {
+				BeanTypeIndex index = this.beanTypeIndex;
+				if (index != null) {
+					registerIndexedSingleton(index, beanName, exposedObject);
+				}
+			}
+		}
+		return exposedObject;
+	}
+
+	@Override
+	protected void removeSingleton(String beanName) {
+		super.removeSingleton(beanName);
+		synchronized (this.beanTypeIndexLock) {
+			BeanTypeIndex index = this.beanTypeIndex;
+			if (index != null) {
+				index.removeInstance(beanName);
+			}
+		}
+	}
+
+	@Override
+	protected void clearSingletonCache() {
+		super.clearSingletonCache();
+		synchronized (this.beanTypeIndexLock) {
+			this.beanTypeIndex = null;
+		}
+	}
+
 	@Override
 	public void destroySingletons() {
 		super.destroySingletons();
@@ -1151,6 +1554,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private void clearByTypeCache() {
 		this.allBeanNamesByType.clear();
 		this.singletonBeanNamesByType.clear();
+		incrementRegistrationVersion();
 	}
 
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,6 @@
 
 package org.springframework.beans.factory.support;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -25,13 +23,16 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCreationNotAllowedException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.SimpleAliasRegistry;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -55,6 +56,14 @@ import org.springframework.util.StringUtils;
  * the {@link org.springframework.beans.factory.config.ConfigurableBeanFactory}
  * interface extends the {@link SingletonBeanRegistry} interface.
  *
+ * <p>Singletons are created under a creation lock per bean name, so that
+ * independent singletons can be created concurrently while fully initialized
+ * singletons are available without any locking. Early singleton references
+ * (for resolving circular references) are only exposed to the thread that
+ * creates the singleton; other threads wait for its full initialization.
+ * Accordingly, a singleton only counts as {@link #isCurrentlyInCreation
+ * currently in creation} for the thread that creates it.
+ *
  * <p>Note that this class assumes neither a bean definition concept
  * nor a specific creation process for bean instances, in contrast to
  * {@link AbstractBeanFactory} and {@link DefaultListableBeanFactory}
@@ -80,7 +89,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 
 	/** Cache of singleton factories: bean name to ObjectFactory. */
 	//单例工厂的缓存
-	private final Map<String, ObjectFactory<?>> singletonFactories = new HashMap<>(16);
+	private final Map<String, ObjectFactory<?>> singletonFactories = new ConcurrentHashMap<>(16);
 
 	/** Cache of early singleton objects: bean name to bean instance. */
 	//单例对象缓存池，已经实例化但尚未属性赋值，这里的对象是半成品对象；
@@ -89,20 +98,29 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/** Set of registered singletons, containing the bean names in registration order. */
 	private final Set<String> registeredSingletons = new LinkedHashSet<>(256);
 
-	/** Names of beans that are currently in creation. */
-	private final Set<String> singletonsCurrentlyInCreation =
-			Collections.newSetFromMap(new ConcurrentHashMap<>(16));
+	/** Names of beans that are currently in creation: bean name to creating thread. */
+	private final Map<String, Thread> singletonsCurrentlyInCreation = new ConcurrentHashMap<>(16);
 
-	/** Names of beans currently excluded from in creation checks. */
-	private final Set<String> inCreationCheckExclusions =
-			Collections.newSetFromMap(new ConcurrentHashMap<>(16));
+	/** Names of beans currently excluded from in creation checks within the current thread. */
+	private final ThreadLocal<Set<String>> inCreationCheckExclusions =
+			new NamedThreadLocal<>("Beans excluded from in-creation checks");
 
-	/** Collection of suppressed Exceptions, available for associating related causes. */
-	@Nullable
-	private Set<Exception> suppressedExceptions;
+	/** Creation locks for singletons currently in use: bean name to lock. */
+	private final Map<String, SingletonCreationLock> singletonCreationLocks = new ConcurrentHashMap<>(16);
+
+	/** Threads waiting for a singleton creation lock: thread to lock. */
+	private final Map<Thread, SingletonCreationLock> singletonCreationWaits = new ConcurrentHashMap<>(16);
+
+	/** Number of singleton creation locks held by the current thread. */
+	private final ThreadLocal<int[]> singletonCreationLockCount =
+			new NamedThreadLocal<>("Singleton creation lock count");
+
+	/** Collection of suppressed Exceptions per creating thread, available for associating related causes. */
+	private final ThreadLocal<Set<Exception>> suppressedExceptions =
+			new NamedThreadLocal<>("Suppressed singleton creation exceptions");
 
 	/** Flag that indicates whether we're currently within destroySingletons. */
-	private boolean singletonsCurrentlyInDestruction = false;
+	private volatile boolean singletonsCurrentlyInDestruction = false;
 
 	/** Disposable bean instances: bean name to disposable instance. */
 	private final Map<String, Object> disposableBeans = new LinkedHashMap<>();
@@ -121,13 +139,19 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		Assert.notNull(beanName, "Bean name must not be null");
 		Assert.notNull(singletonObject, "Singleton object must not be null");
-		synchronized (this.singletonObjects) {
-			Object oldObject = this.singletonObjects.get(beanName);
-			if (oldObject != null) {
-				throw new IllegalStateException("Could not register object [" + singletonObject +
-						"] under bean name '" + beanName + "': there is already object [" + oldObject + "] bound");
+		SingletonCreationLock creationLock = lockSingletonCreation(beanName);
+		try {
+			synchronized (this.registeredSingletons) {
+				Object oldObject = this.singletonObjects.get(beanName);
+				if (oldObject != null) {
+					throw new IllegalStateException("Could not register object [" + singletonObject +
+							"] under bean name '" + beanName + "': there is already object [" + oldObject + "] bound");
+				}
+				addSingleton(beanName, singletonObject);
 			}
-			addSingleton(beanName, singletonObject);
+		}
+		finally {
+			unlockSingletonCreation(beanName, creationLock);
 		}
 	}
 
@@ -139,7 +163,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	//把初始化完成的bean添加对象到一级缓存singletonObjects中
 	protected void addSingleton(String beanName, Object singletonObject) {
-		synchronized (this.singletonObjects) {
+		synchronized (this.registeredSingletons) {
 			//放入一级缓存，并从二级缓存和三级缓存中移除
 			this.singletonObjects.put(beanName, singletonObject);
 			this.singletonFactories.remove(beanName);
@@ -159,7 +183,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	//这里只是添加了一个工厂，通过这个工厂的getObject方法可以得到一个对象，而这个对象实际上就是通过getEarlyBeanReference这个方法创建的
 	protected void addSingletonFactory(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(singletonFactory, "Singleton factory must not be null");
-		synchronized (this.singletonObjects) {
+		synchronized (this.registeredSingletons) {
 			if (!this.singletonObjects.containsKey(beanName)) {
 				//放入三级缓存里的是一个ObjectFactory工厂，等到真正需要这个bean的时候（发生循环依赖的时候）再通过这个工厂使用getEarlyBeanReference方法里获取
 				this.singletonFactories.put(beanName, singletonFactory);
@@ -194,27 +218,25 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		// Spring首先从singletonObjects（一级缓存）中尝试获取
 		Object singletonObject = this.singletonObjects.get(beanName);
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
+			if (allowEarlyReference && !isSingletonCreationLockedByCurrentThread(beanName)) {
+				// Currently created in another thread: no early reference to be exposed here,
+				// the caller is expected to wait for the fully initialized singleton instead.
+				return null;
+			}
 			//若是获取不到而且对象在建立中（singletonsCurrentlyInCreation里面存储的都是尚在建立中的bean对象的name），则尝试从earlySingletonObjects(二级缓存)中获取
 			singletonObject = this.earlySingletonObjects.get(beanName);
 			if (singletonObject == null && allowEarlyReference) {
-				//发现二级缓存里也是空的，并且允许从三级缓存里查询，就对一级缓存对象加锁，从一级缓存开始一级一级的重新获取
-				synchronized (this.singletonObjects) {
-					// Consistent creation of early reference within full singleton lock
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
-						singletonObject = this.earlySingletonObjects.get(beanName);
-						if (singletonObject == null) {
-							//获取到三级缓存里的工厂
-							ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
-							if (singletonFactory != null) { //只有发生循环依赖时才可能走到这里
-								//发生循环依赖时，执行singletonFactory的getObject方法，会去真正执行lambda的函数式接口里的方法-getEarlyBeanReference方法
-								singletonObject = singletonFactory.getObject();
-								//如果获取到了就从singletonFactories中移除这个工厂
-								//并且把生成好的对象或者代理对象放进二级缓存里
-								this.earlySingletonObjects.put(beanName, singletonObject);
-								this.singletonFactories.remove(beanName);
-							}
-						}
+				// Consistent creation of early reference within the singleton's creation lock
+				//获取到三级缓存里的工厂
+				ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
+				if (singletonFactory != null) { //只有发生循环依赖时才可能走到这里
+					//发生循环依赖时，执行singletonFactory的getObject方法，会去真正执行lambda的函数式接口里的方法-getEarlyBeanReference方法
+					singletonObject = singletonFactory.getObject();
+					//如果获取到了就从singletonFactories中移除这个工厂
+					//并且把生成好的对象或者代理对象放进二级缓存里
+					synchronized (this.registeredSingletons) {
+						this.earlySingletonObjects.put(beanName, singletonObject);
+						this.singletonFactories.remove(beanName);
 					}
 				}
 			}
@@ -225,6 +247,10 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/**
 	 * Return the (raw) singleton object registered under the given name,
 	 * creating and registering a new one if none registered yet.
+	 * <p>The creation happens within the creation lock for the given bean name,
+	 * waiting for a concurrent creation of the same singleton to complete.
+	 * If the creation had to back off from a circular wait across threads,
+	 * it is retried once this thread does not hold any creation lock anymore.
 	 * @param beanName the name of the bean
 	 * @param singletonFactory the ObjectFactory to lazily create the singleton
 	 * with, if necessary
@@ -232,7 +258,31 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "Bean name must not be null");
-		synchronized (this.singletonObjects) {
+		// Quick check for existing instance without any locking
+		Object singletonObject = this.singletonObjects.get(beanName);
+		if (singletonObject != null) {
+			return singletonObject;
+		}
+		boolean retryOnCircularWait = !isSingletonCreationLockHeldByCurrentThread();
+		while (true) {
+			try {
+				return createSingleton(beanName, singletonFactory);
+			}
+			catch (BeansException ex) {
+				if (!retryOnCircularWait || !isCircularWaitFailure(ex)) {
+					throw ex;
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug("Retrying creation of singleton bean '" + beanName +
+							"' after backing off from a circular wait across threads");
+				}
+			}
+		}
+	}
+
+	private Object createSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+		SingletonCreationLock creationLock = lockSingletonCreation(beanName);
+		try {
 			Object singletonObject = this.singletonObjects.get(beanName);
 			if (singletonObject == null) {
 				if (this.singletonsCurrentlyInDestruction) {
@@ -245,9 +295,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 				}
 				beforeSingletonCreation(beanName);
 				boolean newSingleton = false;
-				boolean recordSuppressedExceptions = (this.suppressedExceptions == null);
+				boolean recordSuppressedExceptions = (this.suppressedExceptions.get() == null);
 				if (recordSuppressedExceptions) {
-					this.suppressedExceptions = new LinkedHashSet<>();
+					this.suppressedExceptions.set(new LinkedHashSet<>());
 				}
 				try {
 					//假如没有循环依赖，这里能够从工厂里获得对象，如果进行了AOP，则执行代理
@@ -267,7 +317,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 				}
 				catch (BeanCreationException ex) {
 					if (recordSuppressedExceptions) {
-						for (Exception suppressedException : this.suppressedExceptions) {
+						for (Exception suppressedException : this.suppressedExceptions.get()) {
 							ex.addRelatedCause(suppressedException);
 						}
 					}
@@ -275,7 +325,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 				}
 				finally {
 					if (recordSuppressedExceptions) {
-						this.suppressedExceptions = null;
+						this.suppressedExceptions.remove();
 					}
 					// 创建完成后将对应的beanName从singletonsCurrentlyInCreation移除
 					afterSingletonCreation(beanName);
@@ -287,6 +337,124 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 			}
 			return singletonObject;
 		}
+		finally {
+			unlockSingletonCreation(beanName, creationLock);
+		}
+	}
+
+	/**
+	 * Acquire the creation lock for the given singleton, waiting for a creation of
+	 * the same singleton in another thread to complete. The lock is reentrant.
+	 * <p>If waiting would result in a deadlock since the thread holding the lock
+	 * waits for a singleton currently created by this thread, this thread backs
+	 * off with a {@link CircularSingletonWaitException}: the outermost creation
+	 * step of this thread, not holding any creation lock itself, then retries
+	 * after the other thread completed its creation.
+	 * @param beanName the name of the singleton
+	 * @return the acquired lock, to be released through {@link #unlockSingletonCreation}
+	 * @throws CircularSingletonWaitException if waiting for the lock would result
+	 * in a deadlock (a circular reference across threads)
+	 * @since 5.2.26
+	 */
+	final SingletonCreationLock lockSingletonCreation(String beanName) {
+		Thread currentThread = Thread.currentThread();
+		while (true) {
+			SingletonCreationLock creationLock =
+					this.singletonCreationLocks.computeIfAbsent(beanName, name -> new SingletonCreationLock());
+			if (!creationLock.tryLock()) {
+				this.singletonCreationWaits.put(currentThread, creationLock);
+				try {
+					if (isCircularWait(currentThread, creationLock)) {
+						throw new CircularSingletonWaitException(beanName);
+					}
+					creationLock.lock();
+				}
+				finally {
+					this.singletonCreationWaits.remove(currentThread);
+				}
+			}
+			if (creationLock.getHoldCount() > 1 || this.singletonCreationLocks.get(beanName) == creationLock) {
+				creationLock.owningThread = currentThread;
+				int[] lockCount = this.singletonCreationLockCount.get();
+				if (lockCount == null) {
+					lockCount = new int[1];
+					this.singletonCreationLockCount.set(lockCount);
+				}
+				lockCount[0]++;
+				return creationLock;
+			}
+			// Lock discarded by its previous owner in the meantime: try again with a current one.
+			creationLock.unlock();
+		}
+	}
+
+	/**
+	 * Release the given creation lock for the given singleton, discarding
+	 * the lock once it is not held anymore.
+	 * @param beanName the name of the singleton
+	 * @param creationLock the lock obtained from {@link #lockSingletonCreation}
+	 * @since 5.2.26
+	 */
+	final void unlockSingletonCreation(String beanName, SingletonCreationLock creationLock) {
+		if (creationLock.getHoldCount() == 1) {
+			// Threads currently waiting for the discarded lock will obtain a new one.
+			this.singletonCreationLocks.remove(beanName, creationLock);
+		}
+		int[] lockCount = this.singletonCreationLockCount.get();
+		if (lockCount != null && --lockCount[0] == 0) {
+			this.singletonCreationLockCount.remove();
+		}
+		creationLock.unlock();
+	}
+
+	/**
+	 * Check whether the current thread holds the creation lock of any singleton.
+	 * @since 5.2.26
+	 */
+	final boolean isSingletonCreationLockHeldByCurrentThread() {
+		return (this.singletonCreationLockCount.get() != null);
+	}
+
+	/**
+	 * Check whether the given exception indicates that a creation step
+	 * backed off from a circular wait across threads.
+	 * @param ex the exception thrown by the creation step
+	 * @since 5.2.26
+	 */
+	final boolean isCircularWaitFailure(BeansException ex) {
+		return ex.contains(CircularSingletonWaitException.class);
+	}
+
+	/**
+	 * Check whether the creation lock for the given singleton is held by the current thread.
+	 * @param beanName the name of the singleton
+	 * @since 5.2.26
+	 */
+	final boolean isSingletonCreationLockedByCurrentThread(String beanName) {
+		SingletonCreationLock creationLock = this.singletonCreationLocks.get(beanName);
+		return (creationLock != null && creationLock.isHeldByCurrentThread());
+	}
+
+	/**
+	 * Follow the chain of lock owners waiting for other creation locks, starting
+	 * with the owner of the given lock, to see whether it leads back to the given thread.
+	 * <p>Each waiting thread registers itself before performing this check, so the
+	 * last thread entering a circular wait is guaranteed to detect it.
+	 */
+	private boolean isCircularWait(Thread currentThread, SingletonCreationLock creationLock) {
+		Set<Thread> visitedThreads = new HashSet<>();
+		Thread owner = creationLock.owningThread;
+		while (owner != null && visitedThreads.add(owner)) {
+			if (owner == currentThread) {
+				return true;
+			}
+			SingletonCreationLock awaitedLock = this.singletonCreationWaits.get(owner);
+			if (awaitedLock == null) {
+				return false;
+			}
+			owner = awaitedLock.owningThread;
+		}
+		return false;
 	}
 
 	/**
@@ -299,10 +467,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see BeanCreationException#getRelatedCauses()
 	 */
 	protected void onSuppressedException(Exception ex) {
-		synchronized (this.singletonObjects) {
-			if (this.suppressedExceptions != null && this.suppressedExceptions.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
-				this.suppressedExceptions.add(ex);
-			}
+		Set<Exception> suppressedExceptions = this.suppressedExceptions.get();
+		if (suppressedExceptions != null && suppressedExceptions.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
+			suppressedExceptions.add(ex);
 		}
 	}
 
@@ -313,12 +480,13 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see #getSingletonMutex()
 	 */
 	protected void removeSingleton(String beanName) {
-		synchronized (this.singletonObjects) {
+		synchronized (this.registeredSingletons) {
 			this.singletonObjects.remove(beanName);
 			this.singletonFactories.remove(beanName);
 			this.earlySingletonObjects.remove(beanName);
 			this.registeredSingletons.remove(beanName);
 		}
+		this.singletonCreationLocks.computeIfPresent(beanName, (name, lock) -> (lock.isLocked() ? lock : null));
 	}
 
 	@Override
@@ -328,36 +496,64 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 
 	@Override
 	public String[] getSingletonNames() {
-		synchronized (this.singletonObjects) {
+		synchronized (this.registeredSingletons) {
 			return StringUtils.toStringArray(this.registeredSingletons);
 		}
 	}
 
 	@Override
 	public int getSingletonCount() {
-		synchronized (this.singletonObjects) {
+		synchronized (this.registeredSingletons) {
 			return this.registeredSingletons.size();
 		}
 	}
 
 
+	/**
+	 * Explicitly control the in-creation status of the specified bean
+	 * within the current thread.
+	 * <p>As of 5.2.26, excluding a bean from in-creation checks only affects
+	 * the current thread, not a creation of the same bean in another thread.
+	 * @param beanName the name of the bean
+	 * @param inCreation whether the bean is currently in creation
+	 */
 	public void setCurrentlyInCreation(String beanName, boolean inCreation) {
 		Assert.notNull(beanName, "Bean name must not be null");
+		Set<String> exclusions = this.inCreationCheckExclusions.get();
 		if (!inCreation) {
-			this.inCreationCheckExclusions.add(beanName);
+			if (exclusions == null) {
+				exclusions = new HashSet<>(4);
+				this.inCreationCheckExclusions.set(exclusions);
+			}
+			exclusions.add(beanName);
 		}
-		else {
-			this.inCreationCheckExclusions.remove(beanName);
+		else if (exclusions != null) {
+			exclusions.remove(beanName);
+			if (exclusions.isEmpty()) {
+				this.inCreationCheckExclusions.remove();
+			}
 		}
 	}
 
+	/**
+	 * Determine whether the specified bean is currently in creation
+	 * within the current thread.
+	 * <p>As of 5.2.26, a bean in creation in another thread does not count:
+	 * callers obtaining such a bean wait for its creation to complete.
+	 * @param beanName the name of the bean
+	 */
 	public boolean isCurrentlyInCreation(String beanName) {
 		Assert.notNull(beanName, "Bean name must not be null");
-		return (!this.inCreationCheckExclusions.contains(beanName) && isActuallyInCreation(beanName));
+		return (!isExcludedFromInCreationCheck(beanName) && isActuallyInCreation(beanName));
 	}
 
 	protected boolean isActuallyInCreation(String beanName) {
-		return isSingletonCurrentlyInCreation(beanName);
+		return isSingletonCurrentlyInCreationByCurrentThread(beanName);
+	}
+
+	private boolean isExcludedFromInCreationCheck(String beanName) {
+		Set<String> exclusions = this.inCreationCheckExclusions.get();
+		return (exclusions != null && exclusions.contains(beanName));
 	}
 
 	/**
@@ -366,7 +562,18 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @param beanName the name of the bean
 	 */
 	public boolean isSingletonCurrentlyInCreation(String beanName) {
-		return this.singletonsCurrentlyInCreation.contains(beanName);
+		return this.singletonsCurrentlyInCreation.containsKey(beanName);
+	}
+
+	/**
+	 * Return whether the specified singleton bean is currently in creation
+	 * within the current thread.
+	 * @param beanName the name of the bean
+	 * @since 5.2.26
+	 * @see #isSingletonCurrentlyInCreation
+	 */
+	public boolean isSingletonCurrentlyInCreationByCurrentThread(String beanName) {
+		return (this.singletonsCurrentlyInCreation.get(beanName) == Thread.currentThread());
 	}
 
 	/**
@@ -376,7 +583,8 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see #isSingletonCurrentlyInCreation
 	 */
 	protected void beforeSingletonCreation(String beanName) {
-		if (!this.inCreationCheckExclusions.contains(beanName) && !this.singletonsCurrentlyInCreation.add(beanName)) {
+		if (!isExcludedFromInCreationCheck(beanName) &&
+				this.singletonsCurrentlyInCreation.putIfAbsent(beanName, Thread.currentThread()) != null) {
 			throw new BeanCurrentlyInCreationException(beanName);
 		}
 	}
@@ -388,7 +596,8 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see #isSingletonCurrentlyInCreation
 	 */
 	protected void afterSingletonCreation(String beanName) {
-		if (!this.inCreationCheckExclusions.contains(beanName) && !this.singletonsCurrentlyInCreation.remove(beanName)) {
+		if (!isExcludedFromInCreationCheck(beanName) &&
+				!this.singletonsCurrentlyInCreation.remove(beanName, Thread.currentThread())) {
 			throw new IllegalStateException("Singleton '" + beanName + "' isn't currently in creation");
 		}
 	}
@@ -536,7 +745,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		if (logger.isTraceEnabled()) {
 			logger.trace("Destroying singletons in " + this);
 		}
-		synchronized (this.singletonObjects) {
+		synchronized (this.registeredSingletons) {
 			this.singletonsCurrentlyInDestruction = true;
 		}
 
@@ -561,13 +770,14 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @since 4.3.15
 	 */
 	protected void clearSingletonCache() {
-		synchronized (this.singletonObjects) {
+		synchronized (this.registeredSingletons) {
 			this.singletonObjects.clear();
 			this.singletonFactories.clear();
 			this.earlySingletonObjects.clear();
 			this.registeredSingletons.clear();
 			this.singletonsCurrentlyInDestruction = false;
 		}
+		this.singletonCreationLocks.values().removeIf(lock -> !lock.isLocked());
 	}
 
 	/**
@@ -655,14 +865,54 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 
 	/**
 	 * Exposes the singleton mutex to subclasses and external collaborators.
-	 * <p>Subclasses should synchronize on the given Object if they perform
-	 * any sort of extended singleton creation phase. In particular, subclasses
-	 * should <i>not</i> have their own mutexes involved in singleton creation,
-	 * to avoid the potential for deadlocks in lazy-init situations.
+	 * <p>As of 5.2.26, this mutex is not held during singleton creation anymore:
+	 * singletons are created within a creation lock per bean name instead, and
+	 * this registry's own state is guarded by an internal lock. Subclasses
+	 * performing any sort of extended singleton creation phase should use the
+	 * creation lock of the affected singleton rather than this mutex, and
+	 * should <i>not</i> hold this mutex while obtaining beans, to avoid the
+	 * potential for deadlocks in lazy-init situations.
 	 */
 	@Override
 	public final Object getSingletonMutex() {
 		return this.singletonObjects;
 	}
 
+
+	/**
+	 * Reentrant creation lock for a single singleton, exposing its owning thread
+	 * for detecting circular waits between threads.
+	 */
+	@SuppressWarnings("serial")
+	static final class SingletonCreationLock extends ReentrantLock {
+
+		@Nullable
+		volatile Thread owningThread;
+
+		@Override
+		public void unlock() {
+			if (getHoldCount() == 1) {
+				this.owningThread = null;
+			}
+			super.unlock();
+		}
+	}
+
+
+	/**
+	 * Exception thrown when a thread backs off from waiting for a singleton
+	 * creation lock since the lock's owner in turn waits for this thread.
+	 * <p>Deliberately not a {@link BeanCurrentlyInCreationException}: handlers
+	 * which skip beans in creation on the current thread need to rethrow it,
+	 * so that the outermost creation step of the current thread can retry.
+	 */
+	@SuppressWarnings("serial")
+	static final class CircularSingletonWaitException extends BeanCreationException {
+
+		CircularSingletonWaitException(String beanName) {
+			super(beanName, "Requested bean is currently in creation in another thread which in turn " +
+					"waits for a bean currently in creation in this thread: backing off for a retry");
+		}
+	}
+
 }
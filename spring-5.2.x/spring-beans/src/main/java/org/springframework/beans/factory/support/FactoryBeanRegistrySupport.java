@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -95,40 +95,21 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 	 */
 	protected Object getObjectFromFactoryBean(FactoryBean<?> factory, String beanName, boolean shouldPostProcess) {
 		if (factory.isSingleton() && containsSingleton(beanName)) {
-			synchronized (getSingletonMutex()) {
-				Object object = this.factoryBeanObjectCache.get(beanName);
-				if (object == null) {
-					object = doGetObjectFromFactoryBean(factory, beanName);
-					// Only post-process and store if not put there already during getObject() call above
-					// (e.g. because of circular reference processing triggered by custom getBean calls)
-					Object alreadyThere = this.factoryBeanObjectCache.get(beanName);
-					if (alreadyThere != null) {
-						object = alreadyThere;
-					}
-					else {
-						if (shouldPostProcess) {
-							if (isSingletonCurrentlyInCreation(beanName)) {
-								// Temporarily return non-post-processed object, not storing it yet..
-								return object;
-							}
-							beforeSingletonCreation(beanName);
-							try {
-								object = postProcessObjectFromFactoryBean(object, beanName);
-							}
-							catch (Throwable ex) {
-								throw new BeanCreationException(beanName,
-										"Post-processing of FactoryBean's singleton object failed", ex);
-							}
-							finally {
-								afterSingletonCreation(beanName);
-							}
-						}
-						if (containsSingleton(beanName)) {
-							this.factoryBeanObjectCache.put(beanName, object);
-						}
+			// Quick check for an already obtained object without any locking
+			Object object = this.factoryBeanObjectCache.get(beanName);
+			if (object != null) {
+				return object;
+			}
+			boolean retryOnCircularWait = !isSingletonCreationLockHeldByCurrentThread();
+			while (true) {
+				try {
+					return getSingletonObjectFromFactoryBean(factory, beanName, shouldPostProcess);
+				}
+				catch (BeansException ex) {
+					if (!retryOnCircularWait || !isCircularWaitFailure(ex)) {
+						throw ex;
 					}
 				}
-				return object;
 			}
 		}
 		else {
@@ -145,6 +126,52 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 		}
 	}
 
+	/**
+	 * Obtain the singleton object to expose from the given FactoryBean
+	 * within the FactoryBean's creation lock.
+	 */
+	private Object getSingletonObjectFromFactoryBean(FactoryBean<?> factory, String beanName, boolean shouldPostProcess) {
+		SingletonCreationLock creationLock = lockSingletonCreation(beanName);
+		try {
+			Object object = this.factoryBeanObjectCache.get(beanName);
+			if (object == null) {
+				object = doGetObjectFromFactoryBean(factory, beanName);
+				// Only post-process and store if not put there already during getObject() call above
+				// (e.g. because of circular reference processing triggered by custom getBean calls)
+				Object alreadyThere = this.factoryBeanObjectCache.get(beanName);
+				if (alreadyThere != null) {
+					object = alreadyThere;
+				}
+				else {
+					if (shouldPostProcess) {
+						if (isSingletonCurrentlyInCreation(beanName)) {
+							// Temporarily return non-post-processed object, not storing it yet..
+							return object;
+						}
+						beforeSingletonCreation(beanName);
+						try {
+							object = postProcessObjectFromFactoryBean(object, beanName);
+						}
+						catch (Throwable ex) {
+							throw new BeanCreationException(beanName,
+									"Post-processing of FactoryBean's singleton object failed", ex);
+						}
+						finally {
+							afterSingletonCreation(beanName);
+						}
+					}
+					if (containsSingleton(beanName)) {
+						this.factoryBeanObjectCache.put(beanName, object);
+					}
+				}
+			}
+			return object;
+		}
+		finally {
+			unlockSingletonCreation(beanName, creationLock);
+		}
+	}
+
 	/**
 	 * Obtain an object to expose from the given FactoryBean.
 	 * @param factory the FactoryBean instance
@@ -222,10 +249,8 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 	 */
 	@Override
 	protected void removeSingleton(String beanName) {
-		synchronized (getSingletonMutex()) {
-			super.removeSingleton(beanName);
-			this.factoryBeanObjectCache.remove(beanName);
-		}
+		super.removeSingleton(beanName);
+		this.factoryBeanObjectCache.remove(beanName);
 	}
 
 	/**
@@ -233,10 +258,8 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 	 */
 	@Override
 	protected void clearSingletonCache() {
-		synchronized (getSingletonMutex()) {
-			super.clearSingletonCache();
-			this.factoryBeanObjectCache.clear();
-		}
+		super.clearSingletonCache();
+		this.factoryBeanObjectCache.clear();
 	}
 
 	/**
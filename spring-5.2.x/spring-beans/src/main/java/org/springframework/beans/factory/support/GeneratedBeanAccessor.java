@@ -0,0 +1,92 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface to be implemented by classes that are generated at build time
+ * for a specific bean class, providing direct (non-reflective) access to its
+ * constructors, injection fields and methods.
+ *
+ * <p>An accessor is located by naming convention: it lives in the same package
+ * as the class it is generated for, with the binary name of that class plus
+ * {@link GeneratedBeanAccessors#ACCESSOR_CLASS_SUFFIX} as its name, and needs to
+ * provide a public no-arg constructor. Accessors are typically generated by the
+ * {@code spring-context-indexer} annotation processor.
+ *
+ * <p>Members are addressed through an index that is resolved once per member,
+ * with every accessor operation then dispatching on that index.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see GeneratedBeanAccessors
+ */
+public interface GeneratedBeanAccessor {
+
+	/**
+	 * Return the index of the constructor with the given parameter types.
+	 * @param parameterTypes the parameter types of the constructor
+	 * @return the constructor index, or {@code -1} if not accessible
+	 */
+	int getConstructorIndex(Class<?>[] parameterTypes);
+
+	/**
+	 * Invoke the constructor with the given index.
+	 * @param constructorIndex the index of the constructor
+	 * @param args the constructor arguments to apply
+	 * @return the new instance
+	 * @throws Throwable if thrown by the constructor
+	 */
+	Object instantiate(int constructorIndex, Object[] args) throws Throwable;
+
+	/**
+	 * Return the index of the field with the given name.
+	 * @param fieldName the name of the field
+	 * @return the field index, or {@code -1} if not accessible
+	 */
+	int getFieldIndex(String fieldName);
+
+	/**
+	 * Set the field with the given index on the given target object.
+	 * @param fieldIndex the index of the field
+	 * @param target the target object to set the field on
+	 * @param value the value to set
+	 */
+	void setField(int fieldIndex, Object target, @Nullable Object value);
+
+	/**
+	 * Return the index of the method with the given name and parameter types.
+	 * @param methodName the name of the method
+	 * @param parameterTypes the parameter types of the method
+	 * @return the method index, or {@code -1} if not accessible
+	 */
+	int getMethodIndex(String methodName, Class<?>[] parameterTypes);
+
+	/**
+	 * Invoke the method with the given index on the given target object.
+	 * @param methodIndex the index of the method
+	 * @param target the target object to invoke the method on
+	 * (or {@code null} for a static method)
+	 * @param args the method arguments to apply
+	 * @return the return value of the method, or {@code null} for a void method
+	 * @throws Throwable if thrown by the method
+	 */
+	@Nullable
+	Object invokeMethod(int methodIndex, @Nullable Object target, Object[] args) throws Throwable;
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.KotlinDetector;
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Static convenience methods for invoking constructors, setting fields and
+ * invoking methods through a {@link GeneratedBeanAccessor}, if one has been
+ * generated for the declaring class, falling back to reflection otherwise.
+ *
+ * <p>Each operation mirrors the semantics of its reflective counterpart: if the
+ * given arguments would not be accepted by reflection as-is (e.g. {@code null}
+ * for a primitive parameter), the operation is delegated to reflection as well.
+ *
+ * <p>Generated accessors can be ignored through the
+ * {@value #IGNORE_GENERATED_ACCESSORS_PROPERTY_NAME} system property.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see GeneratedBeanAccessor
+ */
+public abstract class GeneratedBeanAccessors {
+
+	/**
+	 * The suffix appended to the binary name of a class for the name of
+	 * its generated accessor class.
+	 */
+	public static final String ACCESSOR_CLASS_SUFFIX = "__BeanAccessor";
+
+	/**
+	 * System property that instructs Spring to ignore generated bean accessors,
+	 * i.e. to always use reflection: {@value}.
+	 * <p>The default is "false", using generated accessors where available.
+	 */
+	public static final String IGNORE_GENERATED_ACCESSORS_PROPERTY_NAME = "spring.generated-accessors.ignore";
+
+	private static final boolean shouldIgnoreGeneratedAccessors =
+			SpringProperties.getFlag(IGNORE_GENERATED_ACCESSORS_PROPERTY_NAME);
+
+	private static final Object NO_ACCESSOR = new Object();
+
+	private static final Log logger = LogFactory.getLog(GeneratedBeanAccessors.class);
+
+	/** Cache of generated accessors (or NO_ACCESSOR), keyed by class. */
+	private static final Map<Class<?>, Object> accessorCache = new ConcurrentReferenceHashMap<>(256);
+
+	/** Cache of resolved member access (or NO_ACCESSOR), keyed by member. */
+	private static final Map<Member, Object> memberAccessCache = new ConcurrentReferenceHashMap<>(256);
+
+
+	/**
+	 * Instantiate a class using the given constructor, through a generated
+	 * accessor if available.
+	 * @param ctor the constructor to instantiate
+	 * @param args the constructor arguments to apply
+	 * @return the new instance
+	 * @throws BeanInstantiationException if the bean cannot be instantiated
+	 * @see BeanUtils#instantiateClass(Constructor, Object...)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T instantiateClass(Constructor<T> ctor, Object... args) throws BeanInstantiationException {
+		MemberAccess access = getMemberAccess(ctor);
+		if (access != null && access.isApplicable(args)) {
+			try {
+				return (T) access.accessor.instantiate(access.index, args);
+			}
+			catch (Throwable ex) {
+				throw new BeanInstantiationException(ctor, "Constructor threw exception", ex);
+			}
+		}
+		return BeanUtils.instantiateClass(ctor, args);
+	}
+
+	/**
+	 * Set the given field on the given target object, through a generated
+	 * accessor if available.
+	 * @param field the field to set
+	 * @param target the target object to set the field on
+	 * @param value the value to set
+	 * @throws IllegalAccessException as thrown by {@link Field#set}
+	 */
+	public static void setField(Field field, Object target, @Nullable Object value) throws IllegalAccessException {
+		MemberAccess access = getMemberAccess(field);
+		if (access != null && access.isApplicable(target) &&
+				ClassUtils.isAssignableValue(field.getType(), value)) {
+			access.accessor.setField(access.index, target, value);
+			return;
+		}
+		field.set(target, value);
+	}
+
+	/**
+	 * Invoke the given method on the given target object, through a generated
+	 * accessor if available.
+	 * @param method the method to invoke
+	 * @param target the target object to invoke the method on
+	 * (or {@code null} for a static method)
+	 * @param args the method arguments to apply
+	 * @return the return value of the method
+	 * @throws IllegalAccessException as thrown by {@link Method#invoke}
+	 * @throws InvocationTargetException if thrown by the method
+	 */
+	@Nullable
+	public static Object invokeMethod(Method method, @Nullable Object target, Object... args)
+			throws IllegalAccessException, InvocationTargetException {
+
+		MemberAccess access = getMemberAccess(method);
+		if (access != null && access.isApplicable(target) && access.isApplicable(args)) {
+			try {
+				return access.accessor.invokeMethod(access.index, target, args);
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		return method.invoke(target, args);
+	}
+
+	/**
+	 * Clear the internal accessor caches.
+	 */
+	public static void clearCache() {
+		accessorCache.clear();
+		memberAccessCache.clear();
+	}
+
+
+	@Nullable
+	private static MemberAccess getMemberAccess(Member member) {
+		if (shouldIgnoreGeneratedAccessors) {
+			return null;
+		}
+		Object access = memberAccessCache.get(member);
+		if (access == null) {
+			access = resolveMemberAccess(member);
+			memberAccessCache.put(member, access);
+		}
+		return (access != NO_ACCESSOR ? (MemberAccess) access : null);
+	}
+
+	private static Object resolveMemberAccess(Member member) {
+		// Methods declared by a CGLIB subclass (e.g. of a configuration class) are
+		// overrides of user class methods: invoking those dispatches to the override.
+		Class<?> declaringClass = (member instanceof Method ?
+				ClassUtils.getUserClass(member.getDeclaringClass()) : member.getDeclaringClass());
+		GeneratedBeanAccessor accessor = getAccessor(declaringClass);
+		if (accessor == null) {
+			return NO_ACCESSOR;
+		}
+		int index;
+		Class<?>[] parameterTypes = null;
+		boolean isStatic = Modifier.isStatic(member.getModifiers());
+		if (member instanceof Constructor) {
+			parameterTypes = ((Constructor<?>) member).getParameterTypes();
+			index = accessor.getConstructorIndex(parameterTypes);
+			isStatic = true;
+		}
+		else if (member instanceof Field) {
+			index = accessor.getFieldIndex(member.getName());
+		}
+		else {
+			parameterTypes = ((Method) member).getParameterTypes();
+			index = accessor.getMethodIndex(member.getName(), parameterTypes);
+		}
+		if (index < 0) {
+			return NO_ACCESSOR;
+		}
+		return new MemberAccess(accessor, index, (isStatic ? null : declaringClass), parameterTypes);
+	}
+
+	@Nullable
+	private static GeneratedBeanAccessor getAccessor(Class<?> clazz) {
+		Object accessor = accessorCache.get(clazz);
+		if (accessor == null) {
+			accessor = loadAccessor(clazz);
+			accessorCache.put(clazz, accessor);
+		}
+		return (accessor != NO_ACCESSOR ? (GeneratedBeanAccessor) accessor : null);
+	}
+
+	private static Object loadAccessor(Class<?> clazz) {
+		ClassLoader classLoader = clazz.getClassLoader();
+		if (classLoader == null || clazz.isInterface() || clazz.isArray() || clazz.isPrimitive() ||
+				(KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isKotlinType(clazz))) {
+			return NO_ACCESSOR;
+		}
+		String accessorClassName = clazz.getName() + ACCESSOR_CLASS_SUFFIX;
+		Class<?> accessorClass;
+		try {
+			accessorClass = Class.forName(accessorClassName, false, classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return NO_ACCESSOR;
+		}
+		if (accessorClass.getClassLoader() != classLoader ||
+				!GeneratedBeanAccessor.class.isAssignableFrom(accessorClass)) {
+			// Not generated for this class: a different runtime package or not an accessor at all
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring class [" + accessorClassName + "]: not a GeneratedBeanAccessor for " + clazz);
+			}
+			return NO_ACCESSOR;
+		}
+		try {
+			Object accessor = ReflectionUtils.accessibleConstructor(accessorClass).newInstance();
+			if (logger.isTraceEnabled()) {
+				logger.trace("Using generated bean accessor [" + accessorClassName + "]");
+			}
+			return accessor;
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to instantiate generated bean accessor [" + accessorClassName + "]", ex);
+			}
+			return NO_ACCESSOR;
+		}
+	}
+
+
+	/**
+	 * Resolved access to a specific member through a generated accessor.
+	 */
+	private static final class MemberAccess {
+
+		final GeneratedBeanAccessor accessor;
+
+		final int index;
+
+		@Nullable
+		private final Class<?> targetType;
+
+		@Nullable
+		private final Class<?>[] parameterTypes;
+
+		MemberAccess(GeneratedBeanAccessor accessor, int index,
+				@Nullable Class<?> targetType, @Nullable Class<?>[] parameterTypes) {
+
+			this.accessor = accessor;
+			this.index = index;
+			this.targetType = targetType;
+			this.parameterTypes = parameterTypes;
+		}
+
+		boolean isApplicable(@Nullable Object target) {
+			return (this.targetType == null || this.targetType.isInstance(target));
+		}
+
+		boolean isApplicable(Object[] args) {
+			Class<?>[] parameterTypes = this.parameterTypes;
+			if (parameterTypes == null || parameterTypes.length != args.length) {
+				return false;
+			}
+			for (int i = 0; i < args.length; i++) {
+				if (!ClassUtils.isAssignableValue(parameterTypes[i], args[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+}
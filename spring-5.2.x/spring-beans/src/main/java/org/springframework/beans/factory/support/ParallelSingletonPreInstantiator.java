@@ -0,0 +1,204 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanCurrentlyInCreationException;
+import org.springframework.beans.factory.BeanFactoryUtils;
+
+/**
+ * Delegate for parallel pre-instantiation of singletons in a
+ * {@link DefaultListableBeanFactory}, driven by the dependency graph
+ * between the singletons to create.
+ *
+ * <p>Each singleton is submitted to the given executor as soon as all of
+ * its predicted dependencies have been created. Singletons that are part of
+ * (or depend on) a circular dependency, singletons whose creation ran into
+ * a concurrent creation of a shared dependency, and singletons that could
+ * not be submitted to the executor are created on the calling thread
+ * afterwards, in registration order.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see DefaultListableBeanFactory#setPreInstantiationExecutor
+ */
+final class ParallelSingletonPreInstantiator {
+
+	private static final Log logger = LogFactory.getLog(ParallelSingletonPreInstantiator.class);
+
+	private final DefaultListableBeanFactory beanFactory;
+
+	private final Executor executor;
+
+	private final Set<String> completedBeanNames = ConcurrentHashMap.newKeySet();
+
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+
+	ParallelSingletonPreInstantiator(DefaultListableBeanFactory beanFactory, Executor executor) {
+		this.beanFactory = beanFactory;
+		this.executor = executor;
+	}
+
+
+	/**
+	 * Pre-instantiate the given singletons, returning once all of them have been created.
+	 * @param beanNames the names of the non-lazy singleton bean definitions,
+	 * in registration order
+	 * @throws BeansException if any of the singletons could not be created
+	 */
+	void preInstantiate(List<String> beanNames) throws BeansException {
+		Map<String, Set<String>> dependencies = buildDependencyGraph(beanNames);
+		List<String> sortedBeanNames = sortTopologically(dependencies);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Pre-instantiating " + sortedBeanNames.size() + " of " + beanNames.size() +
+					" singletons in parallel in " + this.beanFactory);
+		}
+
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+		for (String beanName : sortedBeanNames) {
+			Set<String> beanDependencies = dependencies.get(beanName);
+			CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[beanDependencies.size()];
+			int i = 0;
+			for (String dependency : beanDependencies) {
+				dependencyFutures[i++] = futures.get(dependency);
+			}
+			futures.put(beanName, CompletableFuture.allOf(dependencyFutures).thenRunAsync(
+					() -> preInstantiateSingleton(beanName, classLoader), this.executor));
+		}
+		CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+				.handle((result, ex) -> null).join();
+
+		Throwable ex = this.failure.get();
+		if (ex instanceof RuntimeException) {
+			throw (RuntimeException) ex;
+		}
+		if (ex instanceof Error) {
+			throw (Error) ex;
+		}
+
+		// Serial creation of the remaining singletons, e.g. in case of circular dependencies
+		for (String beanName : beanNames) {
+			if (!this.completedBeanNames.contains(beanName)) {
+				if (logger.isTraceEnabled()) {
+					logger.trace("Pre-instantiating singleton '" + beanName + "' on the calling thread");
+				}
+				this.beanFactory.preInstantiateSingleton(beanName);
+			}
+		}
+	}
+
+	private void preInstantiateSingleton(String beanName, ClassLoader classLoader) {
+		if (this.failure.get() != null) {
+			return;
+		}
+		Thread currentThread = Thread.currentThread();
+		ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+		try {
+			currentThread.setContextClassLoader(classLoader);
+			this.beanFactory.preInstantiateSingleton(beanName);
+			this.completedBeanNames.add(beanName);
+		}
+		catch (BeansException ex) {
+			if (ex.contains(BeanCurrentlyInCreationException.class) || this.beanFactory.isCircularWaitFailure(ex)) {
+				// Conflict with a concurrent creation: retry on the calling thread.
+				if (logger.isDebugEnabled()) {
+					logger.debug("Deferring creation of singleton '" + beanName + "': " + ex);
+				}
+			}
+			else {
+				this.failure.compareAndSet(null, ex);
+			}
+		}
+		catch (Throwable ex) {
+			this.failure.compareAndSet(null, ex);
+		}
+		finally {
+			currentThread.setContextClassLoader(previousClassLoader);
+		}
+	}
+
+	/**
+	 * Determine the dependencies of each given singleton within the given singletons.
+	 */
+	private Map<String, Set<String>> buildDependencyGraph(List<String> beanNames) {
+		Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+		for (String beanName : beanNames) {
+			dependencies.put(beanName, new LinkedHashSet<>());
+		}
+		for (String beanName : beanNames) {
+			Set<String> beanDependencies = dependencies.get(beanName);
+			for (String dependency : this.beanFactory.predictDependencies(beanName)) {
+				String canonicalName = this.beanFactory.canonicalName(BeanFactoryUtils.transformedBeanName(dependency));
+				if (!canonicalName.equals(beanName) && dependencies.containsKey(canonicalName)) {
+					beanDependencies.add(canonicalName);
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Sort the given dependency graph, leaving out all singletons that are part
+	 * of a circular dependency or that depend on one.
+	 */
+	private List<String> sortTopologically(Map<String, Set<String>> dependencies) {
+		Map<String, Integer> pendingCounts = new HashMap<>();
+		Map<String, List<String>> dependents = new HashMap<>();
+		Deque<String> ready = new ArrayDeque<>();
+		dependencies.forEach((beanName, beanDependencies) -> {
+			pendingCounts.put(beanName, beanDependencies.size());
+			for (String dependency : beanDependencies) {
+				dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(beanName);
+			}
+			if (beanDependencies.isEmpty()) {
+				ready.add(beanName);
+			}
+		});
+		List<String> sorted = new ArrayList<>(dependencies.size());
+		while (!ready.isEmpty()) {
+			String beanName = ready.poll();
+			sorted.add(beanName);
+			for (String dependent : dependents.getOrDefault(beanName, Collections.emptyList())) {
+				if (pendingCounts.merge(dependent, -1, Integer::sum) == 0) {
+					ready.add(dependent);
+				}
+			}
+		}
+		return sorted;
+	}
+
+}
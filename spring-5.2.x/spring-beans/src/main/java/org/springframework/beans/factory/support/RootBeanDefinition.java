@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -470,6 +470,19 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 		}
 	}
 
+	/**
+	 * Compact this merged bean definition under its post-processing lock,
+	 * so that holders which {@link MergedBeanDefinitionPostProcessor}s are
+	 * populating at the same time do not get released.
+	 * @since 5.2.26
+	 */
+	@Override
+	void compact() {
+		synchronized (this.postProcessingLock) {
+			super.compact();
+		}
+	}
+
 
 	@Override
 	public RootBeanDefinition cloneBeanDefinition() {
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link DependencyDescriptor} variant with a pre-resolved target bean name,
+ * valid for a specific {@link AbstractBeanFactory#getRegistrationVersion()
+ * registration version} of the bean factory.
+ *
+ * <p>Used for caching resolved autowiring targets, e.g. of constructor
+ * arguments and {@code @Autowired} injection points. A shortcut for an outdated
+ * registration version needs to be re-resolved, since a different or an
+ * additional candidate bean may have been registered in the meantime.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see AbstractBeanFactory#getRegistrationVersion()
+ */
+@SuppressWarnings("serial")
+public class ShortcutDependencyDescriptor extends DependencyDescriptor {
+
+	private final String shortcut;
+
+	private final Class<?> requiredType;
+
+	private final int registrationVersion;
+
+
+	/**
+	 * Create a new shortcut for the given dependency.
+	 * @param original the descriptor of the dependency
+	 * @param shortcut the name of the bean that the dependency has been resolved to
+	 * @param requiredType the type that the bean has to match
+	 * @param registrationVersion the registration version of the bean factory
+	 * that the dependency has been resolved for
+	 */
+	public ShortcutDependencyDescriptor(DependencyDescriptor original, String shortcut,
+			Class<?> requiredType, int registrationVersion) {
+
+		super(original);
+		this.shortcut = shortcut;
+		this.requiredType = requiredType;
+		this.registrationVersion = registrationVersion;
+	}
+
+
+	/**
+	 * Return the name of the bean that the dependency has been resolved to.
+	 */
+	public String getShortcut() {
+		return this.shortcut;
+	}
+
+	/**
+	 * Return the type that the bean has to match.
+	 */
+	public Class<?> getRequiredType() {
+		return this.requiredType;
+	}
+
+	/**
+	 * Return whether this shortcut has been resolved for the given
+	 * registration version of the bean factory.
+	 * @see AbstractBeanFactory#getRegistrationVersion()
+	 */
+	public boolean isValidFor(int registrationVersion) {
+		return (this.registrationVersion == registrationVersion);
+	}
+
+	@Override
+	@Nullable
+	public Object resolveShortcut(BeanFactory beanFactory) {
+		Object bean = beanFactory.getBean(this.shortcut);
+		// Regular resolution for a null bean or an unexpected bean type
+		return (ClassUtils.isAssignableValue(this.requiredType, bean) ? bean : null);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,10 @@ package org.springframework.beans.factory;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
 import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
 import java.net.MalformedURLException;
 import java.security.AccessControlContext;
 import java.security.AccessController;
@@ -26,6 +29,7 @@ import java.security.Principal;
 import java.security.PrivilegedAction;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -37,6 +41,14 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -59,10 +71,12 @@ import org.springframework.beans.TypeMismatchException;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.AutowiredPropertyMarker;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.BeanExpressionContext;
 import org.springframework.beans.factory.config.BeanExpressionResolver;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessorAdapter;
 import org.springframework.beans.factory.config.PropertiesFactoryBean;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
@@ -74,8 +88,10 @@ import org.springframework.beans.factory.support.BeanDefinitionOverrideException
 import org.springframework.beans.factory.support.ChildBeanDefinition;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.ManagedList;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
 import org.springframework.beans.factory.support.PropertiesBeanDefinitionReader;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.beans.factory.support.SimpleAutowireCandidateResolver;
 import org.springframework.beans.factory.xml.ConstructorDependenciesBean;
 import org.springframework.beans.propertyeditors.CustomNumberEditor;
 import org.springframework.beans.testfixture.beans.DependenciesBean;
@@ -1271,6 +1287,35 @@ class DefaultListableBeanFactoryTests {
 		assertThat(ab.getResourceArray()).isNull();
 	}
 
+	@Test
+	void prototypeWithPreResolvedConstructorArgument() {
+		AtomicInteger candidateChecks = new AtomicInteger();
+		lbf.setAutowireCandidateResolver(new SimpleAutowireCandidateResolver() {
+			@Override
+			public boolean isAutowireCandidate(BeanDefinitionHolder bdHolder, DependencyDescriptor descriptor) {
+				candidateChecks.incrementAndGet();
+				return super.isAutowireCandidate(bdHolder, descriptor);
+			}
+		});
+		RootBeanDefinition rbd = new RootBeanDefinition(TestBeanRecipient.class, RootBeanDefinition.AUTOWIRE_CONSTRUCTOR, false);
+		rbd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("recipient", rbd);
+		lbf.registerBeanDefinition("testBean", new RootBeanDefinition(TestBean.class));
+
+		TestBean tb = lbf.getBean("testBean", TestBean.class);
+		assertThat(lbf.getBean("recipient", TestBeanRecipient.class).testBean).isSameAs(tb);
+		int checks = candidateChecks.get();
+		assertThat(lbf.getBean("recipient", TestBeanRecipient.class).testBean).isSameAs(tb);
+		assertThat(candidateChecks.get()).isEqualTo(checks);
+
+		RootBeanDefinition primary = new RootBeanDefinition(TestBean.class);
+		primary.setPrimary(true);
+		lbf.registerBeanDefinition("primaryTestBean", primary);
+		TestBean ptb = lbf.getBean("primaryTestBean", TestBean.class);
+		assertThat(lbf.getBean("recipient", TestBeanRecipient.class).testBean).isSameAs(ptb);
+		assertThat(lbf.getBean("recipient", TestBeanRecipient.class).testBean).isSameAs(ptb);
+	}
+
 	@Test
 	void expressionInStringArray() {
 		BeanExpressionResolver beanExpressionResolver = mock(BeanExpressionResolver.class);
@@ -1923,6 +1968,361 @@ class DefaultListableBeanFactoryTests {
 		assertThat(beanNames[0]).isEqualTo("&factoryBean");
 	}
 
+	@Test
+	void parallelPreInstantiation() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.getPropertyValues().add("spouse", new RuntimeBeanReference("spouse"));
+		lbf.registerBeanDefinition("test", bd);
+		lbf.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition dependent = new RootBeanDefinition(DerivedTestBean.class);
+		dependent.setDependsOn("test");
+		lbf.registerBeanDefinition("dependent", dependent);
+		RootBeanDefinition cycle1 = new RootBeanDefinition(TestBean.class);
+		cycle1.getPropertyValues().add("spouse", new RuntimeBeanReference("cycle2"));
+		lbf.registerBeanDefinition("cycle1", cycle1);
+		RootBeanDefinition cycle2 = new RootBeanDefinition(TestBean.class);
+		cycle2.getPropertyValues().add("spouse", new RuntimeBeanReference("cycle1"));
+		lbf.registerBeanDefinition("cycle2", cycle2);
+		RootBeanDefinition lazy = new RootBeanDefinition(TestBean.class);
+		lazy.setLazyInit(true);
+		lbf.registerBeanDefinition("lazy", lazy);
+		lbf.registerBeanDefinition("smart", new RootBeanDefinition(AllSingletonsInstantiatedCheck.class));
+
+		ForkJoinPool executor = new ForkJoinPool(4);
+		try {
+			lbf.setPreInstantiationExecutor(executor);
+			lbf.preInstantiateSingletons();
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat(lbf.containsSingleton("lazy")).isFalse();
+		assertThat(lbf.getBean("test", TestBean.class).getSpouse()).isSameAs(lbf.getBean("spouse"));
+		assertThat(lbf.getBean("cycle1", TestBean.class).getSpouse()).isSameAs(lbf.getBean("cycle2"));
+		assertThat(lbf.getBean("cycle2", TestBean.class).getSpouse()).isSameAs(lbf.getBean("cycle1"));
+		assertThat(lbf.getBean("smart", AllSingletonsInstantiatedCheck.class).instantiated)
+				.containsExactly("test", "spouse", "dependent", "cycle1", "cycle2", "smart");
+	}
+
+	@Test
+	void parallelPreInstantiationWithFailure() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition failing = new RootBeanDefinition(TestBean.class);
+		failing.setInitMethodName("nonExistingMethod");
+		lbf.registerBeanDefinition("failing", failing);
+
+		ForkJoinPool executor = new ForkJoinPool(4);
+		try {
+			lbf.setPreInstantiationExecutor(executor);
+			assertThatExceptionOfType(BeanCreationException.class).isThrownBy(
+					lbf::preInstantiateSingletons).satisfies(ex -> assertThat(ex.getBeanName()).isEqualTo("failing"));
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void lazyCircularReferenceObtainedConcurrently() throws Exception {
+		for (String beanName : new String[] {"a", "b"}) {
+			RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+			bd.getPropertyValues().add("spouse", new RuntimeBeanReference(beanName.equals("a") ? "b" : "a"));
+			bd.setLazyInit(true);
+			lbf.registerBeanDefinition(beanName, bd);
+		}
+		CountDownLatch bothInstantiated = new CountDownLatch(2);
+		lbf.addBeanPostProcessor(new InstantiationAwareBeanPostProcessorAdapter() {
+			@Override
+			public boolean postProcessAfterInstantiation(Object bean, String beanName) {
+				// Make both threads hold their creation lock before resolving the other bean
+				bothInstantiated.countDown();
+				try {
+					bothInstantiated.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return true;
+			}
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<TestBean> a = executor.submit(() -> lbf.getBean("a", TestBean.class));
+			Future<TestBean> b = executor.submit(() -> lbf.getBean("b", TestBean.class));
+			assertThat(a.get(10, TimeUnit.SECONDS).getSpouse()).isSameAs(b.get(10, TimeUnit.SECONDS));
+			assertThat(b.get().getSpouse()).isSameAs(a.get());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void getBeansOfTypeWithCircularWaitAcrossThreads() throws Exception {
+		CountDownLatch aInCreation = new CountDownLatch(1);
+		AtomicReference<Thread> creatingThread = new AtomicReference<>();
+		AtomicReference<Thread> waitingThread = new AtomicReference<>();
+		lbf.registerBeanDefinition("a", new RootBeanDefinition(TestBean.class, () -> {
+			if (Thread.currentThread() == creatingThread.get()) {
+				aInCreation.countDown();
+				// Look up "b" only once the other thread waits for "a" while holding "c",
+				// also on retries: that thread must not detect the circular wait itself
+				Thread thread;
+				while ((thread = waitingThread.get()) == null || !isWaitingForSingletonCreationLock(thread)) {
+					Thread.yield();
+				}
+			}
+			TestBean tb = new TestBean();
+			tb.setSomeMap(lbf.getBeansOfType(DerivedTestBean.class));
+			return tb;
+		}));
+		RootBeanDefinition b = new RootBeanDefinition(DerivedTestBean.class);
+		b.getPropertyValues().add("spouse", new RuntimeBeanReference("c"));
+		lbf.registerBeanDefinition("b", b);
+		RootBeanDefinition c = new RootBeanDefinition(TestBean.class, () -> {
+			waitingThread.set(Thread.currentThread());
+			try {
+				aInCreation.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return new TestBean();
+		});
+		c.getPropertyValues().add("spouse", new RuntimeBeanReference("a"));
+		lbf.registerBeanDefinition("c", c);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<TestBean> aFuture = executor.submit(() -> {
+				creatingThread.set(Thread.currentThread());
+				return lbf.getBean("a", TestBean.class);
+			});
+			Future<TestBean> cFuture = executor.submit(() -> lbf.getBean("c", TestBean.class));
+			// The lookup of "b" backs off and gets retried instead of skipping "b"
+			TestBean aBean = aFuture.get(10, TimeUnit.SECONDS);
+			TestBean cBean = cFuture.get(10, TimeUnit.SECONDS);
+			assertThat(aBean.getSomeMap()).hasSize(1);
+			assertThat(aBean.getSomeMap().get("b")).isSameAs(lbf.getBean("b"));
+			assertThat(lbf.getBean("b", TestBean.class).getSpouse()).isSameAs(cBean);
+			assertThat(cBean.getSpouse()).isSameAs(aBean);
+			assertThat(lbf.isSingletonCurrentlyInCreation("a")).isFalse();
+			assertThat(lbf.isSingletonCurrentlyInCreation("b")).isFalse();
+			assertThat(lbf.isSingletonCurrentlyInCreation("c")).isFalse();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static boolean isWaitingForSingletonCreationLock(Thread thread) {
+		// Consistent snapshot of state and stack, ignoring any other kind of wait
+		ThreadInfo info = ManagementFactory.getThreadMXBean().getThreadInfo(thread.getId(), Integer.MAX_VALUE);
+		return (info != null && info.getThreadState() == Thread.State.WAITING &&
+				Arrays.stream(info.getStackTrace()).anyMatch(element ->
+						element.getMethodName().equals("lockSingletonCreation")));
+	}
+
+	@Test
+	void currentlyInCreationWithinCreatingThreadOnly() throws Exception {
+		CountDownLatch inCreation = new CountDownLatch(1);
+		CountDownLatch checked = new CountDownLatch(1);
+		AtomicReference<Boolean> inCreationForCreatingThread = new AtomicReference<>();
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class, () -> {
+			inCreationForCreatingThread.set(lbf.isCurrentlyInCreation("test"));
+			inCreation.countDown();
+			try {
+				checked.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return new TestBean();
+		}));
+
+		ExecutorService executor = Executors.newFixedThreadPool(1);
+		try {
+			Future<TestBean> test = executor.submit(() -> lbf.getBean("test", TestBean.class));
+			assertThat(inCreation.await(10, TimeUnit.SECONDS)).isTrue();
+			// Callers like advisor retrieval need to wait for the bean instead of skipping it
+			assertThat(lbf.isSingletonCurrentlyInCreation("test")).isTrue();
+			assertThat(lbf.isCurrentlyInCreation("test")).isFalse();
+			checked.countDown();
+			assertThat(test.get(10, TimeUnit.SECONDS)).isSameAs(lbf.getBean("test"));
+			assertThat(inCreationForCreatingThread.get()).isTrue();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void getBeanNamesForTypeAgainstFrozenWithLateRegistrationAndRemoval() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		lbf.registerBeanDefinition("derived", new RootBeanDefinition(DerivedTestBean.class));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("test", "derived");
+
+		lbf.registerBeanDefinition("late", new RootBeanDefinition(DerivedTestBean.class));
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("test", "derived", "late");
+		assertThat(lbf.getBeanNamesForType(Object.class)).containsExactly("test", "nested", "derived", "late");
+
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(NestedTestBean.class));
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("derived", "late");
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).containsExactly("test", "nested");
+
+		lbf.removeBeanDefinition("derived");
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("late");
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClass(ITestBean.class))).containsExactly("late");
+	}
+
+	@Test
+	void getBeanNamesForTypeAgainstFrozenWithReplacedSingleton() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		lbf.addBeanPostProcessor(new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return Proxy.newProxyInstance(getClass().getClassLoader(),
+						new Class<?>[] {ITestBean.class, Runnable.class}, (proxy, method, args) ->
+								(method.getDeclaringClass().isInstance(bean) ? method.invoke(bean, args) : null));
+			}
+		});
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(TestBean.class, true, false)).containsExactly("test");
+		assertThat(lbf.getBeanNamesForType(Runnable.class, true, false)).isEmpty();
+
+		lbf.getBean("test");
+		assertThat(lbf.getBeanNamesForType(TestBean.class, true, false)).isEmpty();
+		assertThat(lbf.getBeanNamesForType(Runnable.class, true, false)).containsExactly("test");
+
+		lbf.destroySingleton("test");
+		assertThat(lbf.getBeanNamesForType(TestBean.class, true, false)).containsExactly("test");
+		assertThat(lbf.getBeanNamesForType(Runnable.class, true, false)).isEmpty();
+	}
+
+	@Test
+	void getBeanNamesForTypeAgainstFrozenWithTypePredictingPostProcessor() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("other", new RootBeanDefinition(TestBean.class));
+		lbf.addBeanPostProcessor(new InstantiationAwareBeanPostProcessorAdapter() {
+			@Override
+			public Class<?> predictBeanType(Class<?> beanClass, String beanName) {
+				return ("test".equals(beanName) ? NestedTestBean.class : null);
+			}
+		});
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).containsExactly("test");
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("other");
+	}
+
+	@Test
+	void getBeanNamesForTypeAgainstFrozenInRegistrationOrder() {
+		RootBeanDefinition factoryMethodDefinition = new RootBeanDefinition(TestBeanFactory.class);
+		factoryMethodDefinition.setFactoryMethodName("createTestBean");
+		lbf.registerBeanDefinition("first", new RootBeanDefinition(DerivedTestBean.class));
+		lbf.registerBeanDefinition("second", factoryMethodDefinition);
+		lbf.registerBeanDefinition("third", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("fourth", factoryMethodDefinition);
+		lbf.registerBeanDefinition("fifth", new RootBeanDefinition(NestedTestBean.class));
+		lbf.registerBeanDefinition("sixth", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(ITestBean.class))
+				.containsExactly("first", "second", "third", "fourth", "sixth");
+
+		lbf.getBean("sixth");
+		lbf.getBean("second");
+		lbf.addBeanPostProcessor(new InstantiationAwareBeanPostProcessorAdapter() {
+			@Override
+			public Class<?> predictBeanType(Class<?> beanClass, String beanName) {
+				return null;
+			}
+		});
+		assertThat(lbf.getBeanNamesForType(ITestBean.class))
+				.containsExactly("first", "second", "third", "fourth", "sixth");
+		assertThat(lbf.getBeanNamesForType(Object.class))
+				.containsExactly("first", "second", "third", "fourth", "fifth", "sixth");
+	}
+
+	@Test
+	void getBeanNamesForGenericTypeAgainstFrozen() {
+		lbf.registerBeanDefinition("stringCallable", new RootBeanDefinition(StringCallable.class));
+		lbf.registerBeanDefinition("integerCallable", new RootBeanDefinition(IntegerCallable.class));
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(Callable.class, String.class)))
+				.containsExactly("stringCallable");
+		assertThat(lbf.getBeanNamesForType(Callable.class)).containsExactly("stringCallable", "integerCallable");
+	}
+
+	@Test
+	void freezeConfigurationCompactsMergedBeanDefinitions() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.getPropertyValues().add("name", "juergen");
+		lbf.registerBeanDefinition("test", bd);
+		RootBeanDefinition mbd = (RootBeanDefinition) lbf.getMergedBeanDefinition("test");
+		ConstructorArgumentValues cargs = mbd.getConstructorArgumentValues();
+		MutablePropertyValues pvs = mbd.getPropertyValues();
+		RootBeanDefinition copy = mbd.cloneBeanDefinition();
+
+		lbf.freezeConfiguration();
+		assertThat(mbd.hasConstructorArgumentValues()).isFalse();
+		assertThat(mbd.getConstructorArgumentValues()).isNotSameAs(cargs);
+		assertThat(mbd.getPropertyValues()).isSameAs(pvs);
+		assertThat(mbd.getMethodOverrides().isEmpty()).isTrue();
+		assertThat(mbd.getQualifiers()).isEmpty();
+		assertThat(mbd).isEqualTo(copy);
+
+		lbf.preInstantiateSingletons();
+		assertThat(lbf.getBean("test", TestBean.class).getName()).isEqualTo("juergen");
+	}
+
+	@Test
+	void freezeConfigurationDoesNotCompactDuringMergedBeanDefinitionPostProcessing() throws Exception {
+		CountDownLatch postProcessing = new CountDownLatch(1);
+		CountDownLatch compacting = new CountDownLatch(1);
+		lbf.addBeanPostProcessor(new MergedBeanDefinitionPostProcessor() {
+			@Override
+			public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+				MutablePropertyValues pvs = beanDefinition.getPropertyValues();
+				postProcessing.countDown();
+				try {
+					compacting.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				pvs.add("name", "juergen");
+			}
+		});
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<TestBean> bean = executor.submit(() -> lbf.getBean("test", TestBean.class));
+			assertThat(postProcessing.await(10, TimeUnit.SECONDS)).isTrue();
+			AtomicReference<Thread> freezing = new AtomicReference<>();
+			Future<?> frozen = executor.submit(() -> {
+				freezing.set(Thread.currentThread());
+				lbf.freezeConfiguration();
+			});
+			// Compaction has to wait for the post-processor, unless it does not lock at all
+			long deadline = System.currentTimeMillis() + 10000;
+			while (!frozen.isDone() && (freezing.get() == null || freezing.get().getState() != Thread.State.BLOCKED) &&
+					System.currentTimeMillis() < deadline) {
+				Thread.sleep(1);
+			}
+			compacting.countDown();
+			frozen.get(10, TimeUnit.SECONDS);
+			assertThat(bean.get(10, TimeUnit.SECONDS).getName()).isEqualTo("juergen");
+			assertThat(lbf.getMergedBeanDefinition("test").getPropertyValues().contains("name")).isTrue();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	/**
 	 * Verifies that a dependency on a {@link FactoryBean} can <strong>not</strong>
 	 * be autowired <em>by name</em>, as &amp; is an illegal character in
@@ -2890,6 +3290,46 @@ class DefaultListableBeanFactoryTests {
 	}
 
 
+	static class AllSingletonsInstantiatedCheck implements SmartInitializingSingleton, BeanFactoryAware {
+
+		private DefaultListableBeanFactory beanFactory;
+
+		private final List<String> instantiated = new ArrayList<>();
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+			this.beanFactory = (DefaultListableBeanFactory) beanFactory;
+		}
+
+		@Override
+		public void afterSingletonsInstantiated() {
+			for (String beanName : this.beanFactory.getBeanDefinitionNames()) {
+				if (this.beanFactory.containsSingleton(beanName)) {
+					this.instantiated.add(beanName);
+				}
+			}
+		}
+	}
+
+
+	static class StringCallable implements Callable<String> {
+
+		@Override
+		public String call() {
+			return "";
+		}
+	}
+
+
+	static class IntegerCallable implements Callable<Integer> {
+
+		@Override
+		public Integer call() {
+			return 0;
+		}
+	}
+
+
 	static class A { }
 
 	static class B { }
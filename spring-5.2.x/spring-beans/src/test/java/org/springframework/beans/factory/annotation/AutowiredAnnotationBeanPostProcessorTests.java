@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -58,7 +59,9 @@ import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.UnsatisfiedDependencyException;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.TypedStringValue;
 import org.springframework.beans.factory.support.AutowireCandidateQualifier;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
@@ -134,6 +137,55 @@ public class AutowiredAnnotationBeanPostProcessorTests {
 		assertThat(bean.getTestBean2()).isSameAs(tb);
 	}
 
+	@Test
+	public void testResourceInjectionWithPrimaryBeanRegisteredLater() {
+		RootBeanDefinition bd = new RootBeanDefinition(ResourceInjectionBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bf.registerBeanDefinition("annotatedBean", bd);
+		TestBean tb = new TestBean();
+		bf.registerSingleton("testBean", tb);
+
+		ResourceInjectionBean bean = (ResourceInjectionBean) bf.getBean("annotatedBean");
+		assertThat(bean.getTestBean()).isSameAs(tb);
+		assertThat(bean.getTestBean2()).isSameAs(tb);
+
+		RootBeanDefinition primary = new RootBeanDefinition(TestBean.class);
+		primary.setPrimary(true);
+		bf.registerBeanDefinition("primaryTestBean", primary);
+		TestBean ptb = bf.getBean("primaryTestBean", TestBean.class);
+
+		bean = (ResourceInjectionBean) bf.getBean("annotatedBean");
+		assertThat(bean.getTestBean()).isSameAs(ptb);
+		assertThat(bean.getTestBean2()).isSameAs(ptb);
+	}
+
+	@Test
+	public void testMethodInjectionWithSameBeanForMultipleArguments() {
+		AtomicInteger candidateChecks = new AtomicInteger();
+		bf.setAutowireCandidateResolver(new QualifierAnnotationAutowireCandidateResolver() {
+			@Override
+			public boolean isAutowireCandidate(BeanDefinitionHolder bdHolder, DependencyDescriptor descriptor) {
+				candidateChecks.incrementAndGet();
+				return super.isAutowireCandidate(bdHolder, descriptor);
+			}
+		});
+		RootBeanDefinition bd = new RootBeanDefinition(DuplicateArgumentsInjectionBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bf.registerBeanDefinition("annotatedBean", bd);
+		bf.registerBeanDefinition("testBean", new RootBeanDefinition(TestBean.class));
+		TestBean tb = bf.getBean("testBean", TestBean.class);
+
+		DuplicateArgumentsInjectionBean bean = (DuplicateArgumentsInjectionBean) bf.getBean("annotatedBean");
+		assertThat(bean.testBean).isSameAs(tb);
+		assertThat(bean.testBean2).isSameAs(tb);
+		int checks = candidateChecks.get();
+
+		bean = (DuplicateArgumentsInjectionBean) bf.getBean("annotatedBean");
+		assertThat(bean.testBean).isSameAs(tb);
+		assertThat(bean.testBean2).isSameAs(tb);
+		assertThat(candidateChecks.get()).isEqualTo(checks);
+	}
+
 	@Test
 	public void testExtendedResourceInjection() {
 		RootBeanDefinition bd = new RootBeanDefinition(TypedExtendedResourceInjectionBean.class);
@@ -648,6 +700,17 @@ public class AutowiredAnnotationBeanPostProcessorTests {
 		assertThat(bean.getBeanFactory()).isSameAs(bf);
 	}
 
+	@Test
+	public void testConstructorResourceInjectionDependencyPrediction() {
+		List<DependencyDescriptor> descriptors =
+				bpp.predictDependencies(ConstructorResourceInjectionBean.class, "annotatedBean");
+		assertThat(descriptors).extracting(DependencyDescriptor::getDependencyType).containsExactly(
+				ITestBean.class, NestedTestBean.class, ConfigurableListableBeanFactory.class,
+				TestBean.class, ITestBean.class, TestBean.class);
+		assertThat(descriptors).extracting(DependencyDescriptor::isRequired).containsExactly(
+				true, true, true, false, false, false);
+	}
+
 	@Test
 	public void testConstructorResourceInjectionWithSingletonRemoval() {
 		RootBeanDefinition bd = new RootBeanDefinition(ConstructorResourceInjectionBean.class);
@@ -2510,6 +2573,20 @@ public class AutowiredAnnotationBeanPostProcessorTests {
 	}
 
 
+	public static class DuplicateArgumentsInjectionBean {
+
+		public TestBean testBean;
+
+		public TestBean testBean2;
+
+		@Autowired
+		public void setTestBeans(TestBean testBean, TestBean testBean2) {
+			this.testBean = testBean;
+			this.testBean2 = testBean2;
+		}
+	}
+
+
 	public static class OptionalResourceInjectionBean extends ResourceInjectionBean {
 
 		@Autowired(required = false)
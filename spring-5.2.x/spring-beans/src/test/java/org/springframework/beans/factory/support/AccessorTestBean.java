@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.testfixture.beans.TestBean;
+
+/**
+ * Bean with a {@link GeneratedBeanAccessor}: see {@link AccessorTestBean__BeanAccessor}.
+ *
+ * @author Jankin Wong
+ */
+class AccessorTestBean {
+
+	final List<String> accessedMembers = new ArrayList<>();
+
+	final String name;
+
+	@Autowired
+	TestBean testBean;
+
+	int count;
+
+	TestBean spouse;
+
+	int initCount;
+
+
+	AccessorTestBean() {
+		this("default");
+	}
+
+	AccessorTestBean(String name) {
+		this.name = name;
+	}
+
+
+	@Autowired
+	void setSpouse(TestBean spouse) {
+		this.spouse = spouse;
+	}
+
+	void init() {
+		this.initCount++;
+	}
+
+	void fail() throws IOException {
+		throw new IOException("expected");
+	}
+
+}
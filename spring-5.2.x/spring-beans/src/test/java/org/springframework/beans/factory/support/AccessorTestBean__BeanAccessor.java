@@ -0,0 +1,132 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.Arrays;
+
+import org.springframework.beans.testfixture.beans.TestBean;
+
+/**
+ * Accessor for {@link AccessorTestBean}, in the form generated by the
+ * candidate components indexer, recording each member access on the bean.
+ *
+ * @author Jankin Wong
+ */
+public final class AccessorTestBean__BeanAccessor implements GeneratedBeanAccessor {
+
+	private static final Class<?>[] CONSTRUCTOR_0 = {};
+
+	private static final Class<?>[] CONSTRUCTOR_1 = {String.class};
+
+	private static final Class<?>[] METHOD_0 = {TestBean.class};
+
+	private static final Class<?>[] METHOD_1 = {};
+
+	private static final Class<?>[] METHOD_2 = {};
+
+
+	@Override
+	public int getConstructorIndex(Class<?>[] parameterTypes) {
+		if (Arrays.equals(parameterTypes, CONSTRUCTOR_0)) {
+			return 0;
+		}
+		if (Arrays.equals(parameterTypes, CONSTRUCTOR_1)) {
+			return 1;
+		}
+		return -1;
+	}
+
+	@Override
+	public Object instantiate(int constructorIndex, Object[] args) {
+		AccessorTestBean bean;
+		switch (constructorIndex) {
+			case 0:
+				bean = new AccessorTestBean();
+				break;
+			case 1:
+				bean = new AccessorTestBean((String) args[0]);
+				break;
+			default:
+				throw new IllegalArgumentException("Invalid constructor index: " + constructorIndex);
+		}
+		bean.accessedMembers.add("<init>");
+		return bean;
+	}
+
+	@Override
+	public int getFieldIndex(String fieldName) {
+		if (fieldName.equals("testBean")) {
+			return 0;
+		}
+		if (fieldName.equals("count")) {
+			return 1;
+		}
+		return -1;
+	}
+
+	@Override
+	public void setField(int fieldIndex, Object target, Object value) {
+		AccessorTestBean bean = (AccessorTestBean) target;
+		switch (fieldIndex) {
+			case 0:
+				bean.testBean = (TestBean) value;
+				bean.accessedMembers.add("testBean");
+				return;
+			case 1:
+				bean.count = (int) value;
+				bean.accessedMembers.add("count");
+				return;
+			default:
+				throw new IllegalArgumentException("Invalid field index: " + fieldIndex);
+		}
+	}
+
+	@Override
+	public int getMethodIndex(String methodName, Class<?>[] parameterTypes) {
+		if (methodName.equals("setSpouse") && Arrays.equals(parameterTypes, METHOD_0)) {
+			return 0;
+		}
+		if (methodName.equals("init") && Arrays.equals(parameterTypes, METHOD_1)) {
+			return 1;
+		}
+		if (methodName.equals("fail") && Arrays.equals(parameterTypes, METHOD_2)) {
+			return 2;
+		}
+		return -1;
+	}
+
+	@Override
+	public Object invokeMethod(int methodIndex, Object target, Object[] args) throws Throwable {
+		AccessorTestBean bean = (AccessorTestBean) target;
+		switch (methodIndex) {
+			case 0:
+				bean.setSpouse((TestBean) args[0]);
+				bean.accessedMembers.add("setSpouse");
+				return null;
+			case 1:
+				bean.init();
+				bean.accessedMembers.add("init");
+				return null;
+			case 2:
+				bean.fail();
+				return null;
+			default:
+				throw new IllegalArgumentException("Invalid method index: " + methodIndex);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,17 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.BeansException;
@@ -24,6 +35,7 @@ import org.springframework.beans.testfixture.beans.DerivedTestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * @author Juergen Hoeller
@@ -101,4 +113,160 @@ public class DefaultSingletonBeanRegistryTests {
 		assertThat(beanRegistry.isDependent("c", "c")).isTrue();
 	}
 
+	@Test
+	public void testConcurrentCreationOfIndependentSingletons() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		CountDownLatch bothInCreation = new CountDownLatch(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> tb1 = executor.submit(() -> beanRegistry.getSingleton("tb1", () -> {
+				awaitInCreation(bothInCreation);
+				return new TestBean();
+			}));
+			Future<Object> tb2 = executor.submit(() -> beanRegistry.getSingleton("tb2", () -> {
+				awaitInCreation(bothInCreation);
+				return new TestBean();
+			}));
+			assertThat(tb1.get(10, TimeUnit.SECONDS)).isSameAs(beanRegistry.getSingleton("tb1"));
+			assertThat(tb2.get(10, TimeUnit.SECONDS)).isSameAs(beanRegistry.getSingleton("tb2"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrentCreationOfSameSingleton() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		AtomicInteger creationCount = new AtomicInteger();
+		CountDownLatch inCreation = new CountDownLatch(1);
+		CountDownLatch othersWaiting = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			results.add(executor.submit(() -> beanRegistry.getSingleton("tb", () -> {
+				creationCount.incrementAndGet();
+				inCreation.countDown();
+				await(othersWaiting);
+				return new TestBean();
+			})));
+			await(inCreation);
+			for (int i = 0; i < 3; i++) {
+				assertThat(beanRegistry.getSingleton("tb")).isNull();
+				results.add(executor.submit(() -> beanRegistry.getSingleton("tb", () -> {
+					creationCount.incrementAndGet();
+					return new TestBean();
+				})));
+			}
+			othersWaiting.countDown();
+			for (Future<Object> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(beanRegistry.getSingleton("tb"));
+			}
+			assertThat(creationCount.get()).isEqualTo(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testCircularReferenceAcrossThreads() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		CountDownLatch bothInCreation = new CountDownLatch(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> a = executor.submit(() -> beanRegistry.getSingleton("a", () -> {
+				awaitInCreation(bothInCreation);
+				return beanRegistry.getSingleton("b", TestBean::new);
+			}));
+			Future<Object> b = executor.submit(() -> beanRegistry.getSingleton("b", () -> {
+				awaitInCreation(bothInCreation);
+				return beanRegistry.getSingleton("a", TestBean::new);
+			}));
+			// One thread backs off and retries once the other one completed both singletons
+			assertThat(a.get(10, TimeUnit.SECONDS)).isSameAs(beanRegistry.getSingleton("a"));
+			assertThat(b.get(10, TimeUnit.SECONDS)).isSameAs(beanRegistry.getSingleton("b"));
+			assertThat(beanRegistry.getSingleton("a")).isSameAs(beanRegistry.getSingleton("b"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testRegisterSingletonDuringConcurrentCreation() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		CountDownLatch inCreation = new CountDownLatch(1);
+		AtomicReference<Thread> registeringThread = new AtomicReference<>();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> created = executor.submit(() -> beanRegistry.getSingleton("tb", () -> {
+				inCreation.countDown();
+				// Complete the creation only once the registration waits for it
+				Thread thread;
+				while ((thread = registeringThread.get()) == null || thread.getState() != Thread.State.WAITING) {
+					Thread.yield();
+				}
+				return new TestBean();
+			}));
+			await(inCreation);
+			Future<?> registered = executor.submit(() -> {
+				registeringThread.set(Thread.currentThread());
+				beanRegistry.registerSingleton("tb", new DerivedTestBean());
+			});
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> registered.get(10, TimeUnit.SECONDS))
+					.withCauseInstanceOf(IllegalStateException.class)
+					.withMessageContaining("already object");
+			assertThat(created.get(10, TimeUnit.SECONDS)).isSameAs(beanRegistry.getSingleton("tb"));
+			assertThat(beanRegistry.getSingleton("tb")).isInstanceOf(TestBean.class);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInCreationCheckExclusionWithinCurrentThreadOnly() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		CountDownLatch inCreation = new CountDownLatch(1);
+		CountDownLatch excluded = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(1);
+		try {
+			Future<Object> created = executor.submit(() -> beanRegistry.getSingleton("tb", () -> {
+				inCreation.countDown();
+				await(excluded);
+				return new TestBean();
+			}));
+			await(inCreation);
+			beanRegistry.setCurrentlyInCreation("tb", false);
+			assertThat(beanRegistry.isCurrentlyInCreation("tb")).isFalse();
+			excluded.countDown();
+			assertThat(created.get(10, TimeUnit.SECONDS)).isSameAs(beanRegistry.getSingleton("tb"));
+			// The creating thread is not affected by this thread's exclusion
+			assertThat(beanRegistry.isSingletonCurrentlyInCreation("tb")).isFalse();
+			beanRegistry.setCurrentlyInCreation("tb", true);
+			assertThat(beanRegistry.isSingletonCurrentlyInCreation("tb")).isFalse();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void awaitInCreation(CountDownLatch latch) {
+		latch.countDown();
+		await(latch);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Timed out waiting for concurrent singleton creation");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
 }
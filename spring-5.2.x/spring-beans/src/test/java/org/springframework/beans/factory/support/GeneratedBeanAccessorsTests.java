@@ -0,0 +1,120 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link GeneratedBeanAccessors}.
+ *
+ * @author Jankin Wong
+ */
+class GeneratedBeanAccessorsTests {
+
+	@Test
+	void instantiateClass() throws Exception {
+		AccessorTestBean bean = GeneratedBeanAccessors.instantiateClass(
+				AccessorTestBean.class.getDeclaredConstructor(String.class), "name");
+		assertThat(bean.name).isEqualTo("name");
+		assertThat(bean.accessedMembers).containsExactly("<init>");
+	}
+
+	@Test
+	void instantiateClassWithoutAccessor() throws Exception {
+		TestBean bean = GeneratedBeanAccessors.instantiateClass(
+				TestBean.class.getDeclaredConstructor(String.class), "name");
+		assertThat(bean.getName()).isEqualTo("name");
+	}
+
+	@Test
+	void setField() throws Exception {
+		AccessorTestBean bean = new AccessorTestBean();
+		TestBean testBean = new TestBean();
+		GeneratedBeanAccessors.setField(AccessorTestBean.class.getDeclaredField("testBean"), bean, testBean);
+		assertThat(bean.testBean).isSameAs(testBean);
+		assertThat(bean.accessedMembers).containsExactly("testBean");
+	}
+
+	@Test
+	void setFieldWithValueNotAcceptedByReflection() throws Exception {
+		AccessorTestBean bean = new AccessorTestBean();
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				GeneratedBeanAccessors.setField(AccessorTestBean.class.getDeclaredField("count"), bean, null));
+		assertThat(bean.accessedMembers).isEmpty();
+	}
+
+	@Test
+	void setFieldNotAccessible() throws Exception {
+		AccessorTestBean bean = new AccessorTestBean();
+		TestBean spouse = new TestBean();
+		Field field = AccessorTestBean.class.getDeclaredField("spouse");
+		ReflectionUtils.makeAccessible(field);
+		GeneratedBeanAccessors.setField(field, bean, spouse);
+		assertThat(bean.spouse).isSameAs(spouse);
+		assertThat(bean.accessedMembers).isEmpty();
+	}
+
+	@Test
+	void invokeMethod() throws Exception {
+		AccessorTestBean bean = new AccessorTestBean();
+		TestBean spouse = new TestBean();
+		GeneratedBeanAccessors.invokeMethod(
+				AccessorTestBean.class.getDeclaredMethod("setSpouse", TestBean.class), bean, spouse);
+		assertThat(bean.spouse).isSameAs(spouse);
+		assertThat(bean.accessedMembers).containsExactly("setSpouse");
+	}
+
+	@Test
+	void invokeMethodWithException() throws Exception {
+		assertThatExceptionOfType(InvocationTargetException.class).isThrownBy(() ->
+				GeneratedBeanAccessors.invokeMethod(AccessorTestBean.class.getDeclaredMethod("fail"), new AccessorTestBean()))
+				.withCauseInstanceOf(IOException.class);
+	}
+
+	@Test
+	void beanFactoryUsesGeneratedAccessor() {
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		AutowiredAnnotationBeanPostProcessor bpp = new AutowiredAnnotationBeanPostProcessor();
+		bpp.setBeanFactory(bf);
+		bf.addBeanPostProcessor(bpp);
+		RootBeanDefinition bd = new RootBeanDefinition(AccessorTestBean.class);
+		bd.getConstructorArgumentValues().addGenericArgumentValue("name");
+		bd.setInitMethodName("init");
+		bf.registerBeanDefinition("bean", bd);
+		bf.registerBeanDefinition("testBean", new RootBeanDefinition(TestBean.class));
+
+		AccessorTestBean bean = bf.getBean("bean", AccessorTestBean.class);
+		assertThat(bean.name).isEqualTo("name");
+		assertThat(bean.testBean).isSameAs(bf.getBean("testBean"));
+		assertThat(bean.spouse).isSameAs(bf.getBean("testBean"));
+		assertThat(bean.initCount).isEqualTo(1);
+		assertThat(bean.accessedMembers).containsExactlyInAnyOrder("<init>", "testBean", "setSpouse", "init");
+	}
+
+}
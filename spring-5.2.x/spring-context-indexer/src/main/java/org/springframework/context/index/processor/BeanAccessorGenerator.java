@@ -0,0 +1,371 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generate a bean accessor class for a component, providing direct access to
+ * its constructors as well as to its annotated fields and methods so that the
+ * bean factory does not need to use reflection for them.
+ *
+ * <p>The generated class implements
+ * {@code org.springframework.beans.factory.support.GeneratedBeanAccessor} and
+ * is named after the binary name of the component plus {@value #ACCESSOR_CLASS_SUFFIX}.
+ * Members that are not accessible from the package of the component (private
+ * members, or members involving types that are not visible) are left out:
+ * those keep being accessed via reflection at runtime.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ */
+class BeanAccessorGenerator {
+
+	static final String ACCESSOR_CLASS_SUFFIX = "__BeanAccessor";
+
+	private static final String ACCESSOR_INTERFACE = "org.springframework.beans.factory.support.GeneratedBeanAccessor";
+
+	private final ProcessingEnvironment env;
+
+	private final Elements elements;
+
+	private final Types types;
+
+
+	public BeanAccessorGenerator(ProcessingEnvironment env) {
+		this.env = env;
+		this.elements = env.getElementUtils();
+		this.types = env.getTypeUtils();
+	}
+
+
+	/**
+	 * Generate the accessor for the specified component type, if it has any
+	 * accessible members.
+	 * @return the binary name of the generated class, or {@code null} if none
+	 */
+	public String generate(TypeElement type) throws IOException {
+		if (type.getKind() != ElementKind.CLASS || isInnerClass(type) || !isAccessible(type, getPackageName(type))) {
+			return null;
+		}
+		String packageName = getPackageName(type);
+		List<ExecutableElement> constructors = new ArrayList<>();
+		if (!type.getModifiers().contains(Modifier.ABSTRACT)) {
+			for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+				if (isAccessible(constructor, packageName)) {
+					constructors.add(constructor);
+				}
+			}
+		}
+		List<VariableElement> fields = new ArrayList<>();
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (!field.getAnnotationMirrors().isEmpty() && !field.getModifiers().contains(Modifier.STATIC) &&
+					!field.getModifiers().contains(Modifier.FINAL) && isAccessible(field, packageName)) {
+				fields.add(field);
+			}
+		}
+		List<ExecutableElement> methods = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			if (!method.getAnnotationMirrors().isEmpty() && !method.getModifiers().contains(Modifier.ABSTRACT) &&
+					isAccessible(method, packageName)) {
+				methods.add(method);
+			}
+		}
+		if (constructors.isEmpty() && fields.isEmpty() && methods.isEmpty()) {
+			return null;
+		}
+
+		String binaryName = this.elements.getBinaryName(type).toString();
+		String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1) +
+				ACCESSOR_CLASS_SUFFIX;
+		String typeName = type.getQualifiedName().toString();
+		JavaFileObject sourceFile = this.env.getFiler().createSourceFile(binaryName + ACCESSOR_CLASS_SUFFIX, type);
+		try (Writer writer = sourceFile.openWriter()) {
+			writer.write(new SourceWriter(packageName, simpleName, typeName).write(constructors, fields, methods));
+		}
+		return binaryName + ACCESSOR_CLASS_SUFFIX;
+	}
+
+	private String getPackageName(Element element) {
+		return this.elements.getPackageOf(element).getQualifiedName().toString();
+	}
+
+	/**
+	 * Determine whether the given type, or a type it is nested in, is a non-static
+	 * member class that cannot be instantiated without an enclosing instance.
+	 */
+	private boolean isInnerClass(TypeElement type) {
+		Element current = type;
+		while (current.getEnclosingElement() instanceof TypeElement) {
+			if (!current.getModifiers().contains(Modifier.STATIC)) {
+				return true;
+			}
+			current = current.getEnclosingElement();
+		}
+		return false;
+	}
+
+	private boolean isAccessible(TypeElement type, String packageName) {
+		Element current = type;
+		while (current instanceof TypeElement) {
+			if (current.getModifiers().contains(Modifier.PRIVATE) ||
+					(!current.getModifiers().contains(Modifier.PUBLIC) && !getPackageName(current).equals(packageName))) {
+				return false;
+			}
+			current = current.getEnclosingElement();
+		}
+		return true;
+	}
+
+	private boolean isAccessible(VariableElement field, String packageName) {
+		return (!field.getModifiers().contains(Modifier.PRIVATE) && isAccessible(field.asType(), packageName));
+	}
+
+	private boolean isAccessible(ExecutableElement executable, String packageName) {
+		if (executable.getModifiers().contains(Modifier.PRIVATE)) {
+			return false;
+		}
+		for (VariableElement parameter : executable.getParameters()) {
+			if (!isAccessible(parameter.asType(), packageName)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isAccessible(TypeMirror type, String packageName) {
+		TypeMirror erasure = this.types.erasure(type);
+		if (erasure.getKind().isPrimitive()) {
+			return true;
+		}
+		if (erasure.getKind() == TypeKind.ARRAY) {
+			return isAccessible(((ArrayType) erasure).getComponentType(), packageName);
+		}
+		if (erasure.getKind() == TypeKind.DECLARED) {
+			return isAccessible((TypeElement) ((DeclaredType) erasure).asElement(), packageName);
+		}
+		return false;
+	}
+
+	/**
+	 * Return the source representation of the erasure of the given type.
+	 */
+	private String getErasedName(TypeMirror type) {
+		TypeMirror erasure = this.types.erasure(type);
+		if (erasure.getKind().isPrimitive()) {
+			return erasure.getKind().name().toLowerCase(Locale.ROOT);
+		}
+		if (erasure.getKind() == TypeKind.ARRAY) {
+			return getErasedName(((ArrayType) erasure).getComponentType()) + "[]";
+		}
+		return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+	}
+
+
+	/**
+	 * Writer for the source of a single accessor class.
+	 */
+	private class SourceWriter {
+
+		private final String packageName;
+
+		private final String simpleName;
+
+		private final String typeName;
+
+		private final StringBuilder source = new StringBuilder();
+
+		SourceWriter(String packageName, String simpleName, String typeName) {
+			this.packageName = packageName;
+			this.simpleName = simpleName;
+			this.typeName = typeName;
+		}
+
+		String write(List<ExecutableElement> constructors, List<VariableElement> fields,
+				List<ExecutableElement> methods) {
+
+			if (!this.packageName.isEmpty()) {
+				line(0, "package " + this.packageName + ";");
+				line(0, "");
+			}
+			line(0, "/**");
+			line(0, " * Bean accessor for {@link " + this.typeName + "}.");
+			line(0, " * <p>Generated by the Spring candidate components indexer: do not edit.");
+			line(0, " */");
+			line(0, "@SuppressWarnings({\"rawtypes\", \"unchecked\", \"deprecation\"})");
+			line(0, "public final class " + this.simpleName + " implements " + ACCESSOR_INTERFACE + " {");
+			line(0, "");
+			for (int i = 0; i < constructors.size(); i++) {
+				line(1, "private static final Class<?>[] CONSTRUCTOR_" + i + " = " +
+						parameterTypes(constructors.get(i)) + ";");
+				line(0, "");
+			}
+			for (int i = 0; i < methods.size(); i++) {
+				line(1, "private static final Class<?>[] METHOD_" + i + " = " + parameterTypes(methods.get(i)) + ";");
+				line(0, "");
+			}
+			if (!constructors.isEmpty() || !methods.isEmpty()) {
+				line(0, "");
+			}
+			writeConstructors(constructors);
+			writeFields(fields);
+			writeMethods(methods);
+			line(0, "");
+			line(0, "}");
+			return this.source.toString();
+		}
+
+		private void writeConstructors(List<ExecutableElement> constructors) {
+			line(1, "@Override");
+			line(1, "public int getConstructorIndex(Class<?>[] parameterTypes) {");
+			for (int i = 0; i < constructors.size(); i++) {
+				line(2, "if (java.util.Arrays.equals(parameterTypes, CONSTRUCTOR_" + i + ")) {");
+				line(3, "return " + i + ";");
+				line(2, "}");
+			}
+			line(2, "return -1;");
+			line(1, "}");
+			line(0, "");
+			line(1, "@Override");
+			line(1, "public Object instantiate(int constructorIndex, Object[] args) throws Throwable {");
+			line(2, "switch (constructorIndex) {");
+			for (int i = 0; i < constructors.size(); i++) {
+				line(3, "case " + i + ":");
+				line(4, "return new " + this.typeName + "(" + arguments(constructors.get(i)) + ");");
+			}
+			line(3, "default:");
+			line(4, "throw new IllegalArgumentException(\"Invalid constructor index: \" + constructorIndex);");
+			line(2, "}");
+			line(1, "}");
+		}
+
+		private void writeFields(List<VariableElement> fields) {
+			line(0, "");
+			line(1, "@Override");
+			line(1, "public int getFieldIndex(String fieldName) {");
+			for (int i = 0; i < fields.size(); i++) {
+				line(2, "if (fieldName.equals(\"" + fields.get(i).getSimpleName() + "\")) {");
+				line(3, "return " + i + ";");
+				line(2, "}");
+			}
+			line(2, "return -1;");
+			line(1, "}");
+			line(0, "");
+			line(1, "@Override");
+			line(1, "public void setField(int fieldIndex, Object target, Object value) {");
+			line(2, "switch (fieldIndex) {");
+			for (int i = 0; i < fields.size(); i++) {
+				VariableElement field = fields.get(i);
+				line(3, "case " + i + ":");
+				line(4, "((" + this.typeName + ") target)." + field.getSimpleName() + " = (" +
+						getErasedName(field.asType()) + ") value;");
+				line(4, "return;");
+			}
+			line(3, "default:");
+			line(4, "throw new IllegalArgumentException(\"Invalid field index: \" + fieldIndex);");
+			line(2, "}");
+			line(1, "}");
+		}
+
+		private void writeMethods(List<ExecutableElement> methods) {
+			line(0, "");
+			line(1, "@Override");
+			line(1, "public int getMethodIndex(String methodName, Class<?>[] parameterTypes) {");
+			for (int i = 0; i < methods.size(); i++) {
+				line(2, "if (methodName.equals(\"" + methods.get(i).getSimpleName() + "\") && " +
+						"java.util.Arrays.equals(parameterTypes, METHOD_" + i + ")) {");
+				line(3, "return " + i + ";");
+				line(2, "}");
+			}
+			line(2, "return -1;");
+			line(1, "}");
+			line(0, "");
+			line(1, "@Override");
+			line(1, "public Object invokeMethod(int methodIndex, Object target, Object[] args) throws Throwable {");
+			line(2, "switch (methodIndex) {");
+			for (int i = 0; i < methods.size(); i++) {
+				ExecutableElement method = methods.get(i);
+				String invocation = (method.getModifiers().contains(Modifier.STATIC) ? this.typeName :
+						"((" + this.typeName + ") target)") + "." + method.getSimpleName() + "(" + arguments(method) + ")";
+				line(3, "case " + i + ":");
+				if (method.getReturnType().getKind() == TypeKind.VOID) {
+					line(4, invocation + ";");
+					line(4, "return null;");
+				}
+				else {
+					line(4, "return " + invocation + ";");
+				}
+			}
+			line(3, "default:");
+			line(4, "throw new IllegalArgumentException(\"Invalid method index: \" + methodIndex);");
+			line(2, "}");
+			line(1, "}");
+		}
+
+		private String parameterTypes(ExecutableElement executable) {
+			StringBuilder result = new StringBuilder("{");
+			for (VariableElement parameter : executable.getParameters()) {
+				if (result.length() > 1) {
+					result.append(", ");
+				}
+				result.append(getErasedName(parameter.asType())).append(".class");
+			}
+			return result.append("}").toString();
+		}
+
+		private String arguments(ExecutableElement executable) {
+			StringBuilder result = new StringBuilder();
+			List<? extends VariableElement> parameters = executable.getParameters();
+			for (int i = 0; i < parameters.size(); i++) {
+				if (i > 0) {
+					result.append(", ");
+				}
+				result.append("(").append(getErasedName(parameters.get(i).asType())).append(") args[")
+						.append(i).append("]");
+			}
+			return result.toString();
+		}
+
+		private void line(int indent, String content) {
+			for (int i = 0; i < indent; i++) {
+				this.source.append('\t');
+			}
+			this.source.append(content).append('\n');
+		}
+	}
+
+}
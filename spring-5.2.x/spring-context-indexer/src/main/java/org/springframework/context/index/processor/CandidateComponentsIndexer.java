@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.context.index.processor;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.LinkedHashSet;
@@ -40,12 +41,26 @@ import javax.lang.model.element.TypeElement;
  * Annotation {@link Processor} that writes {@link CandidateComponentsMetadata}
  * file for spring components.
  *
+ * <p>If the {@value #GENERATE_ACCESSORS_OPTION} option is set to {@code true},
+ * a bean accessor class is generated for every component as well, allowing the
+ * bean factory to instantiate and inject it without reflection.
+ *
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @since 5.0
+ * @see BeanAccessorGenerator
  */
 public class CandidateComponentsIndexer implements Processor {
 
+	/**
+	 * Processor option that enables the generation of bean accessor classes.
+	 * @since 5.2.26
+	 */
+	public static final String GENERATE_ACCESSORS_OPTION = "spring.index.generateAccessors";
+
+	private static final Set<String> BEAN_STEREOTYPES = Collections.unmodifiableSet(new LinkedHashSet<>(
+			Arrays.asList("org.springframework.stereotype.Component", "javax.annotation.ManagedBean", "javax.inject.Named")));
+
 	private static final Set<ElementKind> TYPE_KINDS =
 			Collections.unmodifiableSet(EnumSet.of(ElementKind.CLASS, ElementKind.INTERFACE));
 
@@ -57,10 +72,12 @@ public class CandidateComponentsIndexer implements Processor {
 
 	private List<StereotypesProvider> stereotypesProviders;
 
+	private BeanAccessorGenerator beanAccessorGenerator;
+
 
 	@Override
 	public Set<String> getSupportedOptions() {
-		return Collections.emptySet();
+		return Collections.singleton(GENERATE_ACCESSORS_OPTION);
 	}
 
 	@Override
@@ -79,6 +96,9 @@ public class CandidateComponentsIndexer implements Processor {
 		this.typeHelper = new TypeHelper(env);
 		this.metadataStore = new MetadataStore(env);
 		this.metadataCollector = new MetadataCollector(env, this.metadataStore.readMetadata());
+		if (Boolean.parseBoolean(env.getOptions().get(GENERATE_ACCESSORS_OPTION))) {
+			this.beanAccessorGenerator = new BeanAccessorGenerator(env);
+		}
 	}
 
 	@Override
@@ -118,6 +138,19 @@ public class CandidateComponentsIndexer implements Processor {
 		this.stereotypesProviders.forEach(p -> stereotypes.addAll(p.getStereotypes(element)));
 		if (!stereotypes.isEmpty()) {
 			this.metadataCollector.add(new ItemMetadata(this.typeHelper.getType(element), stereotypes));
+			if (this.beanAccessorGenerator != null && element instanceof TypeElement &&
+					stereotypes.stream().anyMatch(BEAN_STEREOTYPES::contains)) {
+				generateBeanAccessor((TypeElement) element);
+			}
+		}
+	}
+
+	private void generateBeanAccessor(TypeElement element) {
+		try {
+			this.beanAccessorGenerator.generate(element);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to write bean accessor for " + element, ex);
 		}
 	}
 
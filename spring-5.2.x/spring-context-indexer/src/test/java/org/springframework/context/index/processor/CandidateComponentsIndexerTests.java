@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,23 @@ package org.springframework.context.index.processor;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.ManagedBean;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.inject.Named;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
 import javax.persistence.Converter;
 import javax.persistence.Embeddable;
 import javax.persistence.Entity;
@@ -33,8 +46,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.beans.factory.support.GeneratedBeanAccessor;
 import org.springframework.context.index.sample.AbstractController;
 import org.springframework.context.index.sample.MetaControllerIndexed;
+import org.springframework.context.index.sample.SampleAccessedComponent;
 import org.springframework.context.index.sample.SampleComponent;
 import org.springframework.context.index.sample.SampleController;
 import org.springframework.context.index.sample.SampleEmbedded;
@@ -218,6 +233,70 @@ class CandidateComponentsIndexerTests {
 		assertThat(metadata.getItems()).hasSize(0);
 	}
 
+	@Test
+	void beanAccessorIsNotGeneratedByDefault() {
+		compile(SampleAccessedComponent.class);
+		assertThat(new File(this.compiler.getOutputLocation(), SampleAccessedComponent.class.getName()
+				.replace('.', '/') + BeanAccessorGenerator.ACCESSOR_CLASS_SUFFIX + ".class")).doesNotExist();
+	}
+
+	@Test
+	void beanAccessorForComponent() throws Throwable {
+		GeneratedBeanAccessor accessor = compileBeanAccessor(SampleAccessedComponent.class);
+		assertThat(accessor.getConstructorIndex(new Class<?>[] {String.class, int.class})).isEqualTo(-1);
+		SampleAccessedComponent component = (SampleAccessedComponent) accessor.instantiate(
+				accessor.getConstructorIndex(new Class<?>[] {String.class}), new Object[] {"test"});
+		assertThat(component.getName()).isEqualTo("test");
+		component = (SampleAccessedComponent) accessor.instantiate(
+				accessor.getConstructorIndex(new Class<?>[0]), new Object[0]);
+		assertThat(component.getName()).isEqualTo("default");
+
+		SampleService service = new SampleService();
+		assertThat(accessor.getFieldIndex("privateService")).isEqualTo(-1);
+		accessor.setField(accessor.getFieldIndex("service"), component, service);
+		assertThat(component.getService()).isSameAs(service);
+
+		assertThat(accessor.getMethodIndex("getName", new Class<?>[0])).isEqualTo(-1);
+		accessor.invokeMethod(accessor.getMethodIndex("setServices", new Class<?>[] {List.class}),
+				component, new Object[] {Collections.singletonList(service)});
+		assertThat(component.getServices()).containsExactly(service);
+		Object result = accessor.invokeMethod(accessor.getMethodIndex("init", new Class<?>[0]), component, new Object[0]);
+		assertThat(result).isEqualTo(1);
+		assertThat(component.getInitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void beanAccessorForEmbeddedComponent() throws Throwable {
+		GeneratedBeanAccessor accessor = compileBeanAccessor(SampleEmbedded.class, SampleEmbedded.PublicCandidate.class);
+		assertThat(accessor.instantiate(accessor.getConstructorIndex(new Class<?>[0]), new Object[0]))
+				.isInstanceOf(SampleEmbedded.PublicCandidate.class);
+	}
+
+	@Test
+	void beanAccessorIsNotGeneratedForInnerClass() {
+		BeanAccessorProcessor processor = new BeanAccessorProcessor();
+		this.compiler.getTask(SampleNonStaticEmbedded.class).call(processor);
+		assertThat(processor.generated).containsOnlyKeys(SampleNonStaticEmbedded.class.getCanonicalName(),
+				SampleNonStaticEmbedded.InvalidCandidate.class.getCanonicalName());
+		assertThat(processor.generated.get(SampleNonStaticEmbedded.InvalidCandidate.class.getCanonicalName())).isNull();
+	}
+
+	private GeneratedBeanAccessor compileBeanAccessor(Class<?> type) throws Exception {
+		return compileBeanAccessor(type, type);
+	}
+
+	private GeneratedBeanAccessor compileBeanAccessor(Class<?> sourceType, Class<?> componentType) throws Exception {
+		CandidateComponentsIndexer processor = new CandidateComponentsIndexer();
+		this.compiler.getTask(Collections.singletonList(
+				"-A" + CandidateComponentsIndexer.GENERATE_ACCESSORS_OPTION + "=true"), sourceType).call(processor);
+		URL outputLocation = this.compiler.getOutputLocation().toURI().toURL();
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] {outputLocation}, getClass().getClassLoader())) {
+			Class<?> accessorClass = classLoader.loadClass(
+					componentType.getName() + BeanAccessorGenerator.ACCESSOR_CLASS_SUFFIX);
+			return (GeneratedBeanAccessor) accessorClass.getDeclaredConstructor().newInstance();
+		}
+	}
+
 	private void testComponent(Class<?>... classes) {
 		CandidateComponentsMetadata metadata = compile(classes);
 		for (Class<?> c : classes) {
@@ -260,4 +339,42 @@ class CandidateComponentsIndexerTests {
 		}
 	}
 
+
+	/**
+	 * Invokes the {@link BeanAccessorGenerator} for every type, including member
+	 * types that the indexer itself does not consider.
+	 */
+	@SupportedAnnotationTypes("*")
+	private static class BeanAccessorProcessor extends AbstractProcessor {
+
+		private final Map<String, String> generated = new HashMap<>();
+
+		@Override
+		public SourceVersion getSupportedSourceVersion() {
+			return SourceVersion.latest();
+		}
+
+		@Override
+		public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+			if (this.generated.isEmpty()) {
+				// Only the original sources, not the accessors generated for them
+				for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+					generate(type);
+					ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::generate);
+				}
+			}
+			return false;
+		}
+
+		private void generate(TypeElement type) {
+			try {
+				this.generated.put(type.getQualifiedName().toString(),
+						new BeanAccessorGenerator(this.processingEnv).generate(type));
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+
 }
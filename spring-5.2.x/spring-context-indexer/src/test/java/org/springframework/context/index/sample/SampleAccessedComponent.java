@@ -0,0 +1,87 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index.sample;
+
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Test candidate for a {@link Component} with a generated bean accessor.
+ *
+ * @author Jankin Wong
+ */
+@Component
+public class SampleAccessedComponent {
+
+	private final String name;
+
+	@Autowired
+	public SampleService service;
+
+	@Autowired
+	private SampleService privateService;
+
+	private List<SampleService> services;
+
+	private int initCount;
+
+
+	public SampleAccessedComponent() {
+		this("default");
+	}
+
+	public SampleAccessedComponent(String name) {
+		this.name = name;
+	}
+
+	private SampleAccessedComponent(String name, int initCount) {
+		this.name = name;
+		this.initCount = initCount;
+	}
+
+
+	@Autowired
+	public void setServices(List<SampleService> services) {
+		this.services = services;
+	}
+
+	@PostConstruct
+	public int init() {
+		return ++this.initCount;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public SampleService getService() {
+		return this.service;
+	}
+
+	public List<SampleService> getServices() {
+		return this.services;
+	}
+
+	public int getInitCount() {
+		return this.initCount;
+	}
+
+}
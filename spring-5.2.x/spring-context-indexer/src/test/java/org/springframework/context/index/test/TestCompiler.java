@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -72,9 +72,18 @@ public class TestCompiler {
 		return getTask(javaFileObjects);
 	}
 
+	public TestCompilationTask getTask(Iterable<String> options, Class<?>... types) {
+		String[] names = Arrays.stream(types).map(Class::getName).toArray(String[]::new);
+		return getTask(options, getJavaFileObjects(names));
+	}
+
 	private TestCompilationTask getTask(Iterable<? extends JavaFileObject> javaFileObjects) {
+		return getTask(null, javaFileObjects);
+	}
+
+	private TestCompilationTask getTask(Iterable<String> options, Iterable<? extends JavaFileObject> javaFileObjects) {
 		return new TestCompilationTask(
-				this.compiler.getTask(null, this.fileManager, null, null, null, javaFileObjects));
+				this.compiler.getTask(null, this.fileManager, null, options, null, javaFileObjects));
 	}
 
 	public File getOutputLocation() {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Benchmark for {@link AnnotationConfigApplicationContext#refresh()} with a
+ * {@code @Configuration} class and a varying number of autowired components.
+ *
+ * @author Jankin Wong
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnnotationConfigApplicationContextBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class RefreshState {
+
+		@Param({"10", "1000"})
+		public int componentCount;
+	}
+
+
+	@Benchmark
+	public Object refresh(RefreshState state) {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(BenchmarkConfig.class);
+		for (int i = 0; i < state.componentCount; i++) {
+			context.registerBean("component" + i, AutowiredComponent.class);
+		}
+		context.refresh();
+		Object bean = context.getBean(Service.class);
+		context.close();
+		return bean;
+	}
+
+
+	@Configuration
+	public static class BenchmarkConfig {
+
+		@Bean
+		public Repository repository() {
+			return new Repository();
+		}
+
+		@Bean
+		public Service service(Repository repository) {
+			return new Service(repository);
+		}
+	}
+
+
+	public static class Repository {
+	}
+
+
+	public static class Service {
+
+		private final Repository repository;
+
+		public Service(Repository repository) {
+			this.repository = repository;
+		}
+
+		public Repository getRepository() {
+			return this.repository;
+		}
+	}
+
+
+	public static class AutowiredComponent {
+
+		@Autowired
+		private Service service;
+
+		public Service getService() {
+			return this.service;
+		}
+	}
+
+}
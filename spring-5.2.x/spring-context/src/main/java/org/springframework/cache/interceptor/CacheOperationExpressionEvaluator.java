@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -101,17 +101,24 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 
 	@Nullable
 	public Object key(String keyExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
-		return getExpression(this.keyCache, methodKey, keyExpression).getValue(evalContext);
+		Expression expression = getExpression(this.keyCache, methodKey, keyExpression);
+		Object key = expression.getValue(evalContext);
+		compileIfNecessary(expression);
+		return key;
 	}
 
 	public boolean condition(String conditionExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
-		return (Boolean.TRUE.equals(getExpression(this.conditionCache, methodKey, conditionExpression).getValue(
-				evalContext, Boolean.class)));
+		Expression expression = getExpression(this.conditionCache, methodKey, conditionExpression);
+		boolean condition = Boolean.TRUE.equals(expression.getValue(evalContext, Boolean.class));
+		compileIfNecessary(expression);
+		return condition;
 	}
 
 	public boolean unless(String unlessExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
-		return (Boolean.TRUE.equals(getExpression(this.unlessCache, methodKey, unlessExpression).getValue(
-				evalContext, Boolean.class)));
+		Expression expression = getExpression(this.unlessCache, methodKey, unlessExpression);
+		boolean unless = Boolean.TRUE.equals(expression.getValue(evalContext, Boolean.class));
+		compileIfNecessary(expression);
+		return unless;
 	}
 
 	/**
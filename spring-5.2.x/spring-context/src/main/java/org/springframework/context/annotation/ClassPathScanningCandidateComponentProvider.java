@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,10 +20,12 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,6 +38,7 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.index.CandidateComponentsIndex;
 import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.EnvironmentCapable;
@@ -89,11 +92,26 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	static final String DEFAULT_RESOURCE_PATTERN = "**/*.class";
 
+	/**
+	 * System property that instructs Spring to read the classes found by a
+	 * class path scan in parallel: {@value}.
+	 * <p>The default is "false", reading one class after the other.
+	 * @since 5.2.26
+	 * @see #setParallelScanning
+	 */
+	public static final String PARALLEL_SCANNING_PROPERTY_NAME = "spring.scan.parallel";
+
+	/** Class files that never declare a component, skipped before reading them. */
+	private static final Set<String> NON_CANDIDATE_FILE_NAMES = new HashSet<>(
+			Arrays.asList("package-info.class", "module-info.class"));
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private String resourcePattern = DEFAULT_RESOURCE_PATTERN;
 
+	private boolean parallelScanning = SpringProperties.getFlag(PARALLEL_SCANNING_PROPERTY_NAME);
+
 	private final List<TypeFilter> includeFilters = new ArrayList<>();
 
 	private final List<TypeFilter> excludeFilters = new ArrayList<>();
@@ -113,6 +131,11 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Nullable
 	private CandidateComponentsIndex componentsIndex;
 
+	@Nullable
+	private ComponentScanSnapshot componentScanSnapshot;
+
+	private String componentScanSnapshotKey = "";
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -162,6 +185,21 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		this.resourcePattern = resourcePattern;
 	}
 
+	/**
+	 * Specify whether to read the classes found by a class path scan in parallel,
+	 * using the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>Filters and conditions are still applied one class after the other, in
+	 * the order of the scanned resources, so the resulting candidates are the same
+	 * as with sequential scanning. Default is "false", unless specified through the
+	 * {@value #PARALLEL_SCANNING_PROPERTY_NAME} property.
+	 * <p>The {@link #setMetadataReaderFactory MetadataReaderFactory} in use needs to
+	 * be thread-safe for this, as is the default {@link CachingMetadataReaderFactory}.
+	 * @since 5.2.26
+	 */
+	public void setParallelScanning(boolean parallelScanning) {
+		this.parallelScanning = parallelScanning;
+	}
+
 	/**
 	 * Add an include type filter to the <i>end</i> of the inclusion list.
 	 */
@@ -302,6 +340,20 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return this.metadataReaderFactory;
 	}
 
+	/**
+	 * Set the snapshot to take the candidate classes of a scan from, and to record
+	 * them in, unless the {@link CandidateComponentsIndex index} is used instead.
+	 * <p>The snapshot key has to identify the filters of this provider, since
+	 * recorded candidates are only subject to {@code @Conditional} evaluation.
+	 * @param snapshot the snapshot to use (or {@code null} for none)
+	 * @param key the key identifying the filter setup of this provider
+	 * @since 5.2.26
+	 */
+	void setComponentScanSnapshot(@Nullable ComponentScanSnapshot snapshot, String key) {
+		this.componentScanSnapshot = snapshot;
+		this.componentScanSnapshotKey = key;
+	}
+
 
 	/**
 	 * Scan the class path for candidate components.
@@ -312,8 +364,11 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		if (this.componentsIndex != null && indexSupportsIncludeFilters()) {
 			return addCandidateComponentsFromIndex(this.componentsIndex, basePackage);
 		}
+		else if (this.componentScanSnapshot != null) {
+			return addCandidateComponentsFromSnapshot(this.componentScanSnapshot, basePackage);
+		}
 		else {
-			return scanCandidateComponents(basePackage);
+			return scanCandidateComponents(basePackage, null);
 		}
 	}
 
@@ -371,7 +426,6 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	}
 
 	private Set<BeanDefinition> addCandidateComponentsFromIndex(CandidateComponentsIndex index, String basePackage) {
-		Set<BeanDefinition> candidates = new LinkedHashSet<>();
 		try {
 			Set<String> types = new HashSet<>();
 			for (TypeFilter filter : this.includeFilters) {
@@ -381,53 +435,103 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 				}
 				types.addAll(index.getCandidateTypes(basePackage, stereotype));
 			}
-			boolean traceEnabled = logger.isTraceEnabled();
-			boolean debugEnabled = logger.isDebugEnabled();
-			for (String type : types) {
-				MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(type);
-				if (isCandidateComponent(metadataReader)) {
-					ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
-					sbd.setSource(metadataReader.getResource());
-					if (isCandidateComponent(sbd)) {
-						if (debugEnabled) {
-							logger.debug("Using candidate component class from index: " + type);
-						}
-						candidates.add(sbd);
-					}
-					else {
-						if (debugEnabled) {
-							logger.debug("Ignored because not a concrete top-level class: " + type);
-						}
+			return addCandidateComponents(types, "index");
+		}
+		catch (IOException ex) {
+			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
+		}
+	}
+
+	private Set<BeanDefinition> addCandidateComponentsFromSnapshot(ComponentScanSnapshot snapshot, String basePackage) {
+		String key = this.componentScanSnapshotKey + '@' + resolveBasePackage(basePackage);
+		Set<String> types = snapshot.getCandidateTypes(key);
+		if (types == null) {
+			types = new LinkedHashSet<>();
+			Set<BeanDefinition> candidates = scanCandidateComponents(basePackage, types);
+			snapshot.putCandidateTypes(key, types);
+			return candidates;
+		}
+		try {
+			return addCandidateComponents(types, "snapshot");
+		}
+		catch (IOException ex) {
+			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
+		}
+	}
+
+	private Set<BeanDefinition> addCandidateComponents(Set<String> types, String source) throws IOException {
+		Set<BeanDefinition> candidates = new LinkedHashSet<>();
+		boolean traceEnabled = logger.isTraceEnabled();
+		boolean debugEnabled = logger.isDebugEnabled();
+		for (String type : types) {
+			MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(type);
+			if (isCandidateComponent(metadataReader)) {
+				ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
+				sbd.setSource(metadataReader.getResource());
+				if (isCandidateComponent(sbd)) {
+					if (debugEnabled) {
+						logger.debug("Using candidate component class from " + source + ": " + type);
 					}
+					candidates.add(sbd);
 				}
 				else {
-					if (traceEnabled) {
-						logger.trace("Ignored because matching an exclude filter: " + type);
+					if (debugEnabled) {
+						logger.debug("Ignored because not a concrete top-level class: " + type);
 					}
 				}
 			}
-		}
-		catch (IOException ex) {
-			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
+			else {
+				if (traceEnabled) {
+					logger.trace("Ignored because matching an exclude filter: " + type);
+				}
+			}
 		}
 		return candidates;
 	}
 
-	private Set<BeanDefinition> scanCandidateComponents(String basePackage) {
+	/**
+	 * Scan the class path for candidate components.
+	 * @param basePackage the package to check for annotated classes
+	 * @param typeMatches a Set to collect the names of all classes matching the
+	 * type filters into, irrespective of their conditions (may be {@code null})
+	 */
+	private Set<BeanDefinition> scanCandidateComponents(String basePackage, @Nullable Set<String> typeMatches) {
 		Set<BeanDefinition> candidates = new LinkedHashSet<>();
 		try {
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
+			Object[] readResults = (this.parallelScanning ? readMetadataInParallel(resources) : null);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
+			for (int i = 0; i < resources.length; i++) {
+				Resource resource = resources[i];
 				if (traceEnabled) {
 					logger.trace("Scanning " + resource);
 				}
 				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
-					if (isCandidateComponent(metadataReader)) {
+					MetadataReader metadataReader;
+					if (readResults != null) {
+						Object readResult = readResults[i];
+						if (readResult == null) {
+							if (traceEnabled) {
+								logger.trace("Ignored because never a candidate component: " + resource);
+							}
+							continue;
+						}
+						if (readResult instanceof Throwable) {
+							throw (Throwable) readResult;
+						}
+						metadataReader = (MetadataReader) readResult;
+					}
+					else {
+						metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					}
+					boolean candidate = isCandidateComponent(metadataReader);
+					if (typeMatches != null && (candidate || matchesTypeFilters(metadataReader))) {
+						typeMatches.add(metadataReader.getClassMetadata().getClassName());
+					}
+					if (candidate) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
 						if (isCandidateComponent(sbd)) {
@@ -466,6 +570,32 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	}
 
 
+	/**
+	 * Read the metadata of the given resources in parallel.
+	 * @param resources the resources to read
+	 * @return an array holding, at the index of each resource, its
+	 * {@link MetadataReader}, the {@link Throwable} raised when reading it,
+	 * or {@code null} if skipped by name
+	 */
+	private Object[] readMetadataInParallel(Resource[] resources) {
+		MetadataReaderFactory metadataReaderFactory = getMetadataReaderFactory();
+		Object[] readResults = new Object[resources.length];
+		IntStream.range(0, resources.length).parallel().forEach(i -> {
+			Resource resource = resources[i];
+			if (NON_CANDIDATE_FILE_NAMES.contains(resource.getFilename())) {
+				return;
+			}
+			try {
+				readResults[i] = metadataReaderFactory.getMetadataReader(resource);
+			}
+			catch (Throwable ex) {
+				readResults[i] = ex;
+			}
+		});
+		return readResults;
+	}
+
+
 	/**
 	 * Resolve the specified base package into a pattern specification for
 	 * the package search path.
@@ -498,6 +628,27 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return false;
 	}
 
+	/**
+	 * Determine whether the given class does not match any exclude filter
+	 * and does match at least one include filter, without evaluating its
+	 * {@code @Conditional} annotations.
+	 * @param metadataReader the ASM ClassReader for the class
+	 * @return whether the class matches the type filters
+	 */
+	private boolean matchesTypeFilters(MetadataReader metadataReader) throws IOException {
+		for (TypeFilter tf : this.excludeFilters) {
+			if (tf.match(metadataReader, getMetadataReaderFactory())) {
+				return false;
+			}
+		}
+		for (TypeFilter tf : this.includeFilters) {
+			if (tf.match(metadataReader, getMetadataReaderFactory())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Determine whether the given class is a candidate component based on any
 	 * {@code @Conditional} annotations.
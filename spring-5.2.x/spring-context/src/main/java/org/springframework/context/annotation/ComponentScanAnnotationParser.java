@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,7 @@ import org.springframework.core.type.filter.AspectJTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.RegexPatternTypeFilter;
 import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -62,6 +63,9 @@ class ComponentScanAnnotationParser {
 
 	private final BeanDefinitionRegistry registry;
 
+	@Nullable
+	private ComponentScanSnapshot snapshot;
+
 
 	public ComponentScanAnnotationParser(Environment environment, ResourceLoader resourceLoader,
 			BeanNameGenerator beanNameGenerator, BeanDefinitionRegistry registry) {
@@ -73,6 +77,15 @@ class ComponentScanAnnotationParser {
 	}
 
 
+	/**
+	 * Set the snapshot to take the candidate classes of each scan from, and to
+	 * record them in. Scans with custom type filters are always performed.
+	 * @since 5.2.26
+	 */
+	public void setSnapshot(@Nullable ComponentScanSnapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
 	public Set<BeanDefinitionHolder> parse(AnnotationAttributes componentScan, String declaringClass) {
 		ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(this.registry,
 				componentScan.getBoolean("useDefaultFilters"), this.environment, this.resourceLoader);
@@ -93,16 +106,23 @@ class ComponentScanAnnotationParser {
 
 		scanner.setResourcePattern(componentScan.getString("resourcePattern"));
 
+		// Custom filters may depend on more than the class path: never snapshot those.
+		boolean snapshotFilters = (this.snapshot != null);
 		for (AnnotationAttributes filter : componentScan.getAnnotationArray("includeFilters")) {
+			snapshotFilters &= (filter.getEnum("type") != FilterType.CUSTOM);
 			for (TypeFilter typeFilter : typeFiltersFor(filter)) {
 				scanner.addIncludeFilter(typeFilter);
 			}
 		}
 		for (AnnotationAttributes filter : componentScan.getAnnotationArray("excludeFilters")) {
+			snapshotFilters &= (filter.getEnum("type") != FilterType.CUSTOM);
 			for (TypeFilter typeFilter : typeFiltersFor(filter)) {
 				scanner.addExcludeFilter(typeFilter);
 			}
 		}
+		if (snapshotFilters) {
+			scanner.setComponentScanSnapshot(this.snapshot, declaringClass + componentScan);
+		}
 
 		boolean lazyInit = componentScan.getBoolean("lazyInit");
 		if (lazyInit) {
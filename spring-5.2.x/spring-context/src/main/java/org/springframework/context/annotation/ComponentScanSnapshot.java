@@ -0,0 +1,251 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * On-disk snapshot of the candidate component classes found by component scans,
+ * keyed by a digest of the class path so that an unchanged class path can skip
+ * reading every class in the scanned packages on subsequent starts.
+ *
+ * <p>Only the classes matching the type filters of a scan are recorded.
+ * {@link Conditional @Conditional} annotations are evaluated on every start,
+ * since their outcome depends on the environment rather than on the class path.
+ *
+ * <p>The class path digest covers the URLs of all {@link URLClassLoader URLClassLoaders}
+ * in the hierarchy of the given class loader as well as the {@code java.class.path},
+ * including size and last-modified timestamp of each jar file and of each file in
+ * a class path directory. A snapshot with a different digest is discarded as a whole.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see ConfigurationClassPostProcessor#setComponentScanSnapshotFile
+ */
+final class ComponentScanSnapshot {
+
+	private static final String CLASSPATH_DIGEST_KEY = "classpath.digest";
+
+	private static final String CANDIDATES_KEY_PREFIX = "candidates.";
+
+	private static final Log logger = LogFactory.getLog(ComponentScanSnapshot.class);
+
+	private final File file;
+
+	private final String classpathDigest;
+
+	private final Map<String, Set<String>> candidateTypes = new ConcurrentHashMap<>();
+
+	private volatile boolean modified;
+
+
+	private ComponentScanSnapshot(File file, String classpathDigest) {
+		this.file = file;
+		this.classpathDigest = classpathDigest;
+	}
+
+
+	/**
+	 * Return the candidate types recorded for the given scan key.
+	 * @param key the key of the scan, covering its base package and filters
+	 * @return the recorded candidate class names, or {@code null} if none recorded
+	 */
+	@Nullable
+	Set<String> getCandidateTypes(String key) {
+		return this.candidateTypes.get(key);
+	}
+
+	/**
+	 * Record the candidate types for the given scan key.
+	 * @param key the key of the scan, covering its base package and filters
+	 * @param types the candidate class names, in scan order
+	 */
+	void putCandidateTypes(String key, Set<String> types) {
+		this.candidateTypes.put(key, Collections.unmodifiableSet(new LinkedHashSet<>(types)));
+		this.modified = true;
+	}
+
+	/**
+	 * Write this snapshot to its file if any candidate types have been recorded
+	 * since it was loaded. Failures are logged rather than propagated since the
+	 * snapshot is an optimization only.
+	 */
+	void saveIfModified() {
+		if (!this.modified) {
+			return;
+		}
+		Properties properties = new Properties();
+		properties.setProperty(CLASSPATH_DIGEST_KEY, this.classpathDigest);
+		this.candidateTypes.forEach((key, types) ->
+				properties.setProperty(CANDIDATES_KEY_PREFIX + key, StringUtils.collectionToCommaDelimitedString(types)));
+		try {
+			Path target = this.file.toPath().toAbsolutePath();
+			Files.createDirectories(target.getParent());
+			Path tempFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+			try (OutputStream out = Files.newOutputStream(tempFile)) {
+				properties.store(out, "Component scan snapshot");
+			}
+			Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+			this.modified = false;
+			if (logger.isDebugEnabled()) {
+				logger.debug("Saved component scan snapshot to " + this.file);
+			}
+		}
+		catch (IOException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to save component scan snapshot to " + this.file, ex);
+			}
+		}
+	}
+
+
+	/**
+	 * Load the snapshot from the given file, discarding its content if it
+	 * does not exist, cannot be read or was taken for a different class path.
+	 * @param file the snapshot file
+	 * @param classLoader the class loader to compute the class path digest for
+	 * @return the snapshot (never {@code null})
+	 */
+	static ComponentScanSnapshot load(File file, @Nullable ClassLoader classLoader) {
+		ComponentScanSnapshot snapshot = new ComponentScanSnapshot(file, computeClasspathDigest(classLoader));
+		if (!file.isFile()) {
+			return snapshot;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			properties.load(in);
+		}
+		catch (IOException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Ignoring unreadable component scan snapshot " + file, ex);
+			}
+			return snapshot;
+		}
+		if (!snapshot.classpathDigest.equals(properties.getProperty(CLASSPATH_DIGEST_KEY))) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring component scan snapshot " + file + " taken for a different class path");
+			}
+			return snapshot;
+		}
+		for (String name : properties.stringPropertyNames()) {
+			if (name.startsWith(CANDIDATES_KEY_PREFIX)) {
+				snapshot.candidateTypes.put(name.substring(CANDIDATES_KEY_PREFIX.length()), Collections.unmodifiableSet(
+						StringUtils.commaDelimitedListToSet(properties.getProperty(name))));
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Loaded component scan snapshot " + file + " with " +
+					snapshot.candidateTypes.size() + " scans");
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Compute a digest of the class path visible to the given class loader.
+	 */
+	static String computeClasspathDigest(@Nullable ClassLoader classLoader) {
+		Set<String> entries = new LinkedHashSet<>();
+		for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+			if (current instanceof URLClassLoader) {
+				for (URL url : ((URLClassLoader) current).getURLs()) {
+					entries.add(url.toString());
+				}
+			}
+		}
+		String classPath = System.getProperty("java.class.path");
+		if (classPath != null) {
+			for (String path : StringUtils.tokenizeToStringArray(classPath, File.pathSeparator)) {
+				entries.add(new File(path).getAbsoluteFile().toURI().toString());
+			}
+		}
+
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("MD5");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("Could not find MessageDigest with algorithm \"MD5\"", ex);
+		}
+		for (String entry : entries) {
+			update(digest, entry);
+			try {
+				URL url = new URL(entry);
+				if (ResourceUtils.isJarURL(url)) {
+					url = ResourceUtils.extractArchiveURL(url);
+				}
+				if (ResourceUtils.isFileURL(url)) {
+					updateForFile(digest, ResourceUtils.getFile(url));
+				}
+			}
+			catch (IOException ex) {
+				// Not resolvable in the file system: the URL itself has to do.
+				update(digest, ex.toString());
+			}
+		}
+		return DigestUtils.md5DigestAsHex(digest.digest());
+	}
+
+	private static void updateForFile(MessageDigest digest, File file) throws IOException {
+		if (file.isDirectory()) {
+			List<Path> files;
+			try (Stream<Path> paths = Files.walk(file.toPath())) {
+				files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+			}
+			for (Path path : files) {
+				File current = path.toFile();
+				update(digest, current.getPath() + ':' + current.length() + ':' + current.lastModified());
+			}
+		}
+		else if (file.exists()) {
+			update(digest, file.length() + ":" + file.lastModified());
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+}
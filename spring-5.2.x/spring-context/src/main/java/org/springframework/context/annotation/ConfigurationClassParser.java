@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -167,6 +167,15 @@ class ConfigurationClassParser {
 	}
 
 
+	/**
+	 * Set the snapshot to use for the component scans of the parsed classes.
+	 * @since 5.2.26
+	 * @see ComponentScanAnnotationParser#setSnapshot
+	 */
+	public void setComponentScanSnapshot(@Nullable ComponentScanSnapshot snapshot) {
+		this.componentScanParser.setSnapshot(snapshot);
+	}
+
 	public void parse(Set<BeanDefinitionHolder> configCandidates) {
 		for (BeanDefinitionHolder holder : configCandidates) {
 			BeanDefinition bd = holder.getBeanDefinition();
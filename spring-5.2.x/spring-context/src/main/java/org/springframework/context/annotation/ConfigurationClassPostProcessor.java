@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.context.annotation;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -64,6 +65,7 @@ import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link BeanFactoryPostProcessor} used for bootstrapping processing of
@@ -99,6 +101,16 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	public static final AnnotationBeanNameGenerator IMPORT_BEAN_NAME_GENERATOR =
 			new FullyQualifiedAnnotationBeanNameGenerator();
 
+	/**
+	 * Property that points to a file for persisting the candidate classes found
+	 * by component scans across restarts with an unchanged class path: {@value}.
+	 * <p>Resolved against the {@link Environment}, i.e. typically specified as a
+	 * system property. An explicitly {@linkplain #setComponentScanSnapshotFile set}
+	 * snapshot file takes precedence.
+	 * @since 5.2.26
+	 */
+	public static final String COMPONENT_SCAN_SNAPSHOT_PROPERTY_NAME = "spring.context.component-scan-snapshot";
+
 	private static final String IMPORT_REGISTRY_BEAN_NAME =
 			ConfigurationClassPostProcessor.class.getName() + ".importRegistry";
 
@@ -136,6 +148,9 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	/* Using fully qualified class names as default bean names by default. */
 	private BeanNameGenerator importBeanNameGenerator = IMPORT_BEAN_NAME_GENERATOR;
 
+	@Nullable
+	private File componentScanSnapshotFile;
+
 
 	@Override
 	public int getOrder() {
@@ -194,6 +209,21 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		this.importBeanNameGenerator = beanNameGenerator;
 	}
 
+	/**
+	 * Set a file for persisting the candidate classes found by
+	 * {@link ComponentScan @ComponentScan} across restarts.
+	 * <p>The snapshot is keyed by a digest of the class path: as long as the class
+	 * path is unchanged, each scan only reads the classes it found before instead
+	 * of all classes in its base packages. {@code @Conditional} annotations are
+	 * evaluated on every start, and scans with custom type filters are always
+	 * performed in full. Default is none, unless specified through the
+	 * {@value #COMPONENT_SCAN_SNAPSHOT_PROPERTY_NAME} property.
+	 * @since 5.2.26
+	 */
+	public void setComponentScanSnapshotFile(@Nullable File componentScanSnapshotFile) {
+		this.componentScanSnapshotFile = componentScanSnapshotFile;
+	}
+
 	@Override
 	public void setEnvironment(Environment environment) {
 		Assert.notNull(environment, "Environment must not be null");
@@ -313,6 +343,8 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		ConfigurationClassParser parser = new ConfigurationClassParser(
 				this.metadataReaderFactory, this.problemReporter, this.environment,
 				this.resourceLoader, this.componentScanBeanNameGenerator, registry);
+		ComponentScanSnapshot snapshot = loadComponentScanSnapshot();
+		parser.setComponentScanSnapshot(snapshot);
 
 		Set<BeanDefinitionHolder> candidates = new LinkedHashSet<>(configCandidates);
 		Set<ConfigurationClass> alreadyParsed = new HashSet<>(configCandidates.size());
@@ -354,6 +386,10 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		}
 		while (!candidates.isEmpty());
 
+		if (snapshot != null) {
+			snapshot.saveIfModified();
+		}
+
 		// Register the ImportRegistry as a bean in order to support ImportAware @Configuration classes
 		if (sbr != null && !sbr.containsSingleton(IMPORT_REGISTRY_BEAN_NAME)) {
 			sbr.registerSingleton(IMPORT_REGISTRY_BEAN_NAME, parser.getImportRegistry());
@@ -366,6 +402,18 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		}
 	}
 
+	@Nullable
+	private ComponentScanSnapshot loadComponentScanSnapshot() {
+		File snapshotFile = this.componentScanSnapshotFile;
+		if (snapshotFile == null && this.environment != null) {
+			String location = this.environment.getProperty(COMPONENT_SCAN_SNAPSHOT_PROPERTY_NAME);
+			if (StringUtils.hasText(location)) {
+				snapshotFile = new File(location.trim());
+			}
+		}
+		return (snapshotFile != null ? ComponentScanSnapshot.load(snapshotFile, this.beanClassLoader) : null);
+	}
+
 	/**
 	 * Post-processes a BeanFactory in search of Configuration class BeanDefinitions;
 	 * any candidates are then enhanced by a {@link ConfigurationClassEnhancer}.
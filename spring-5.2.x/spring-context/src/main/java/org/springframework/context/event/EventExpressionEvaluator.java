@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,8 +56,10 @@ class EventExpressionEvaluator extends CachedExpressionEvaluator {
 			evaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
 		}
 
-		return (Boolean.TRUE.equals(getExpression(this.conditionCache, methodKey, conditionExpression).getValue(
-				evaluationContext, Boolean.class)));
+		Expression expression = getExpression(this.conditionCache, methodKey, conditionExpression);
+		boolean condition = Boolean.TRUE.equals(expression.getValue(evaluationContext, Boolean.class));
+		compileIfNecessary(expression);
+		return condition;
 	}
 
 }
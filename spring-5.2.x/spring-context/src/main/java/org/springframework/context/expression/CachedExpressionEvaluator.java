@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,14 @@ package org.springframework.context.expression;
 
 import java.util.Map;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -36,6 +41,8 @@ import org.springframework.util.ObjectUtils;
  */
 public abstract class CachedExpressionEvaluator {
 
+	protected final Log logger = LogFactory.getLog(getClass());
+
 	private final SpelExpressionParser parser;
 
 	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
@@ -92,6 +99,30 @@ public abstract class CachedExpressionEvaluator {
 		return expr;
 	}
 
+	/**
+	 * Compile the given expression right after its first evaluation, provided that
+	 * the parser has the SpEL compiler enabled, instead of waiting for the number of
+	 * interpreted evaluations which triggers compilation in {@link SpelCompilerMode#MIXED}
+	 * mode. The reason for an expression to remain interpreted is logged at debug level.
+	 * @param expression an expression obtained from {@link #getExpression}
+	 * which has just been evaluated
+	 * @since 5.2.26
+	 * @see SpelExpression#compileExpressionIfEnabled()
+	 */
+	protected void compileIfNecessary(Expression expression) {
+		if (expression instanceof SpelExpression) {
+			SpelExpression spelExpression = (SpelExpression) expression;
+			if (spelExpression.getCompilationFailureReason() == null &&
+					!spelExpression.compileExpressionIfEnabled() && logger.isDebugEnabled()) {
+				String reason = spelExpression.getCompilationFailureReason();
+				if (reason != null) {
+					logger.debug("SpEL expression \"" + spelExpression.getExpressionString() +
+							"\" remains interpreted: " + reason);
+				}
+			}
+		}
+	}
+
 	private ExpressionKey createKey(AnnotatedElementKey elementKey, String expression) {
 		return new ExpressionKey(elementKey, expression);
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -1472,6 +1472,51 @@ public abstract class AbstractAopProxyTests {
 		assertThat(car.getCalls()).isEqualTo(2);
 	}
 
+	@Test
+	public void testBeforeAndAfterReturningAdviceOnFrozenProxy() throws Throwable {
+		List<String> calls = new LinkedList<>();
+		TestBean target = new TestBean();
+		ProxyFactory pf = new ProxyFactory(target);
+		pf.addAdvice((MethodBeforeAdvice) (m, args, t) -> {
+			calls.add("before1 " + m.getName());
+			if (m.getName().equals("setAge")) {
+				args[0] = (Integer) args[0] + 1;
+			}
+		});
+		pf.addAdvice((AfterReturningAdvice) (returnValue, m, args, t) -> calls.add("afterReturning1 " + m.getName()));
+		pf.addAdvice((MethodBeforeAdvice) (m, args, t) -> calls.add("before2 " + m.getName()));
+		pf.addAdvice((AfterReturningAdvice) (returnValue, m, args, t) -> calls.add("afterReturning2 " + returnValue));
+		pf.setFrozen(true);
+		ITestBean proxied = (ITestBean) createProxy(pf);
+
+		proxied.setAge(20);
+		assertThat(target.getAge()).isEqualTo(21);
+		assertThat(calls).containsExactly("before1 setAge", "before2 setAge", "afterReturning2 null", "afterReturning1 setAge");
+		calls.clear();
+		assertThat(proxied.getAge()).isEqualTo(21);
+		assertThat(calls).containsExactly("before1 getAge", "before2 getAge", "afterReturning2 21", "afterReturning1 getAge");
+		calls.clear();
+		// Not invoked on exception
+		assertThatExceptionOfType(FileNotFoundException.class).isThrownBy(() ->
+				proxied.exceptional(new FileNotFoundException()));
+		assertThat(calls).containsExactly("before1 exceptional", "before2 exceptional");
+	}
+
+	@Test
+	public void testBeforeAdviceThrowsUndeclaredCheckedExceptionOnFrozenProxy() {
+		Exception unexpectedException = new Exception();
+		ProxyFactory pf = new ProxyFactory(new TestBean());
+		pf.addAdvice((MethodBeforeAdvice) (m, args, t) -> {
+			throw unexpectedException;
+		});
+		pf.setFrozen(true);
+		ITestBean proxied = (ITestBean) createProxy(pf);
+
+		assertThatExceptionOfType(UndeclaredThrowableException.class).isThrownBy(
+				proxied::getAge)
+			.satisfies(ex -> assertThat(ex.getUndeclaredThrowable()).isEqualTo(unexpectedException));
+	}
+
 
 	@Test
 	public void testThrowsAdvisorIsInvoked() throws Throwable {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -256,6 +256,41 @@ public class CglibProxyTests extends AbstractAopProxyTests implements Serializab
 		return (ITestBean) pf.getProxy();
 	}
 
+	@Test
+	public void testMultipleProxiesWithDifferentOptimizeFlag() {
+		ProxyFactory pf1 = new ProxyFactory(new TestBean());
+		pf1.setProxyTargetClass(true);
+		pf1.addAdvice(new NopInterceptor());
+		ProxyFactory pf2 = new ProxyFactory(new TestBean());
+		pf2.setProxyTargetClass(true);
+		pf2.setOptimize(true);
+		pf2.addAdvice(new NopInterceptor());
+
+		assertThat(pf2.getProxy().getClass()).as("Incorrect duplicate creation of proxy classes")
+				.isSameAs(pf1.getProxy().getClass());
+	}
+
+	@Test
+	public void testProxyClassStatistics() {
+		ProxyClassStatistics statistics = new ProxyClassStatistics();
+		StatisticsTestBean proxy1 = getProxyWithStatistics(statistics);
+		long generatedClassCount = statistics.getGeneratedClassCount();
+		assertThat(generatedClassCount).isGreaterThan(0);
+		assertThat(statistics.getGeneratedClassBytes()).isGreaterThan(0);
+
+		StatisticsTestBean proxy2 = getProxyWithStatistics(statistics);
+		assertThat(proxy2.getClass()).isSameAs(proxy1.getClass());
+		assertThat(statistics.getProxyCount()).isEqualTo(2);
+		assertThat(statistics.getGeneratedClassCount()).isEqualTo(generatedClassCount);
+	}
+
+	private StatisticsTestBean getProxyWithStatistics(ProxyClassStatistics statistics) {
+		ProxyFactory pf = new ProxyFactory(new StatisticsTestBean());
+		pf.setAopProxyFactory(new DefaultAopProxyFactory(statistics));
+		pf.addAdvice(new NopInterceptor());
+		return (StatisticsTestBean) pf.getProxy();
+	}
+
 	@Test
 	public void testWithNoArgConstructor() {
 		NoArgCtorTestBean target = new NoArgCtorTestBean("b", 1);
@@ -501,6 +536,14 @@ public class CglibProxyTests extends AbstractAopProxyTests implements Serializab
 	}
 
 
+	public static class StatisticsTestBean {
+
+		public String getName() {
+			return "statistics";
+		}
+	}
+
+
 	private static class PrivateCglibTestBean {
 
 		private String name;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.testfixture.interceptor.NopInterceptor;
 import org.springframework.beans.testfixture.beans.IOther;
 import org.springframework.beans.testfixture.beans.ITestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
@@ -117,6 +118,37 @@ public class JdkDynamicProxyTests extends AbstractAopProxyTests implements Seria
 		tb.getName();
 	}
 
+	@Test
+	public void testFrozenProxyAppliesAdviceAddedAfterUnfreezing() {
+		TestBean target = new TestBean();
+		target.setAge(21);
+		NopInterceptor nop1 = new NopInterceptor();
+		ProxyFactory pf = new ProxyFactory(target);
+		pf.addAdvice(nop1);
+		pf.setFrozen(true);
+		ITestBean proxied = (ITestBean) createProxy(pf);
+		assertThat(proxied.getAge()).isEqualTo(21);
+		assertThat(nop1.getCount()).isEqualTo(1);
+
+		pf.setFrozen(false);
+		NopInterceptor nop2 = new NopInterceptor();
+		pf.addAdvice(nop2);
+		assertThat(proxied.getAge()).isEqualTo(21);
+		assertThat(nop1.getCount()).isEqualTo(2);
+		assertThat(nop2.getCount()).isEqualTo(1);
+
+		// Frozen again, without an invocation in between
+		pf.setFrozen(false);
+		pf.removeAdvice(nop1);
+		NopInterceptor nop3 = new NopInterceptor();
+		pf.addAdvice(nop3);
+		pf.setFrozen(true);
+		assertThat(proxied.getAge()).isEqualTo(21);
+		assertThat(nop1.getCount()).isEqualTo(2);
+		assertThat(nop2.getCount()).isEqualTo(2);
+		assertThat(nop3.getCount()).isEqualTo(1);
+	}
+
 	@Test
 	public void testProxyNotWrappedIfIncompatible() {
 		FooBar bean = new FooBar();
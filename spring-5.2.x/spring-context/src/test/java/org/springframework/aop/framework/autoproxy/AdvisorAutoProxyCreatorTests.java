@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,12 @@
 package org.springframework.aop.framework.autoproxy;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 import test.mixin.Lockable;
@@ -25,6 +31,7 @@ import org.springframework.aop.Advisor;
 import org.springframework.aop.framework.Advised;
 import org.springframework.aop.framework.autoproxy.target.AbstractBeanFactoryBasedTargetSourceCreator;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
 import org.springframework.aop.target.AbstractBeanFactoryBasedTargetSource;
 import org.springframework.aop.target.CommonsPool2TargetSource;
 import org.springframework.aop.target.LazyInitTargetSource;
@@ -33,8 +40,11 @@ import org.springframework.aop.target.ThreadLocalTargetSource;
 import org.springframework.aop.testfixture.advice.CountingBeforeAdvice;
 import org.springframework.aop.testfixture.interceptor.NopInterceptor;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.CountingTestBean;
 import org.springframework.beans.testfixture.beans.ITestBean;
+import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -223,6 +233,41 @@ public class AdvisorAutoProxyCreatorTests {
 		assertThat(beforeAdvice.getCalls()).as("Incorrect number of calls to proxy").isEqualTo(2);
 	}
 
+	@Test
+	public void testWithAdvisorInCreationInAnotherThread() throws Exception {
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		DefaultAdvisorAutoProxyCreator autoProxyCreator = new DefaultAdvisorAutoProxyCreator();
+		autoProxyCreator.setBeanFactory(bf);
+		bf.addBeanPostProcessor(autoProxyCreator);
+		CountDownLatch advisorInCreation = new CountDownLatch(1);
+		AtomicReference<Thread> advisedThread = new AtomicReference<>();
+		bf.registerBeanDefinition("advisor", new RootBeanDefinition(DefaultPointcutAdvisor.class, () -> {
+			advisorInCreation.countDown();
+			// Complete the advisor only once the other thread waits for it
+			Thread thread;
+			while ((thread = advisedThread.get()) == null || thread.getState() != Thread.State.WAITING) {
+				Thread.yield();
+			}
+			return new DefaultPointcutAdvisor(new NopInterceptor());
+		}));
+		bf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> advisor = executor.submit(() -> bf.getBean("advisor"));
+			assertThat(advisorInCreation.await(10, TimeUnit.SECONDS)).isTrue();
+			Future<Object> test = executor.submit(() -> {
+				advisedThread.set(Thread.currentThread());
+				return bf.getBean("test");
+			});
+			assertThat(AopUtils.isAopProxy(test.get(10, TimeUnit.SECONDS))).isTrue();
+			assertThat(((Advised) test.get()).getAdvisors()).containsExactly((Advisor) advisor.get(10, TimeUnit.SECONDS));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 }
 
 
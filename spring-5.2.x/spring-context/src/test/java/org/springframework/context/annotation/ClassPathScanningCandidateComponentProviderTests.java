@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,10 @@ package org.springframework.context.annotation;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import example.gh24375.AnnotatedComponent;
 import example.profilescan.DevComponent;
@@ -89,6 +91,26 @@ public class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider);
 	}
 
+	@Test
+	public void defaultsWithParallelScan() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setParallelScanning(true);
+		testDefault(provider);
+	}
+
+	@Test
+	public void parallelScanRetainsScanOrder() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		List<String> sequential = getBeanClassNames(provider.findCandidateComponents(TEST_BASE_PACKAGE));
+		provider.setParallelScanning(true);
+		List<String> parallel = getBeanClassNames(provider.findCandidateComponents(TEST_BASE_PACKAGE));
+		assertThat(parallel).isEqualTo(sequential);
+	}
+
 	private void testDefault(ClassPathScanningCandidateComponentProvider provider) {
 		Set<BeanDefinition> candidates = provider.findCandidateComponents(TEST_BASE_PACKAGE);
 		assertThat(containsBeanClass(candidates, DefaultNamedComponent.class)).isTrue();
@@ -512,6 +534,10 @@ public class ClassPathScanningCandidateComponentProviderTests {
 		return false;
 	}
 
+	private List<String> getBeanClassNames(Set<BeanDefinition> candidates) {
+		return candidates.stream().map(BeanDefinition::getBeanClassName).collect(Collectors.toList());
+	}
+
 	private void assertBeanDefinitionType(Set<BeanDefinition> candidates) {
 		candidates.forEach(c ->
 			assertThat(c).isInstanceOf(ScannedGenericBeanDefinition.class)
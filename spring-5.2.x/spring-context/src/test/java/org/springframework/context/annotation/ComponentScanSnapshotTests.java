@@ -0,0 +1,191 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import example.profilescan.ProfileAnnotatedComponent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.componentscan.simple.ClassWithNestedComponents;
+import org.springframework.context.annotation.componentscan.simple.SimpleComponent;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ComponentScanSnapshot} and its use by
+ * {@link ConfigurationClassPostProcessor}.
+ *
+ * @author Jankin Wong
+ */
+public class ComponentScanSnapshotTests {
+
+	@TempDir
+	File tempDir;
+
+
+	@Test
+	void coldStartRecordsCandidates() throws Exception {
+		File file = new File(this.tempDir, "scan.properties");
+		try (AnnotationConfigApplicationContext ctx = refresh(file, SimpleScanConfig.class)) {
+			assertThat(ctx.containsBean("simpleComponent")).isTrue();
+		}
+		Properties snapshot = loadProperties(file);
+		assertThat(snapshot.getProperty("classpath.digest")).isNotEmpty();
+		List<String> candidates = candidateEntries(snapshot);
+		assertThat(candidates).hasSize(1);
+		assertThat(candidates.get(0)).contains(SimpleComponent.class.getName())
+				.contains(ClassWithNestedComponents.NestedComponent.class.getName());
+	}
+
+	@Test
+	void warmStartUsesRecordedCandidates() throws Exception {
+		File file = new File(this.tempDir, "scan.properties");
+		refresh(file, SimpleScanConfig.class).close();
+
+		// Drop a recorded candidate: a warm start must not see it anymore
+		Properties snapshot = loadProperties(file);
+		String key = snapshot.stringPropertyNames().stream()
+				.filter(name -> name.startsWith("candidates.")).findFirst().get();
+		snapshot.setProperty(key, SimpleComponent.class.getName());
+		storeProperties(snapshot, file);
+
+		try (AnnotationConfigApplicationContext ctx = refresh(file, SimpleScanConfig.class)) {
+			assertThat(ctx.containsBean("simpleComponent")).isTrue();
+			assertThat(ctx.getBeanNamesForType(ClassWithNestedComponents.NestedComponent.class)).isEmpty();
+		}
+	}
+
+	@Test
+	void warmStartWithDifferentClasspathRescans() throws Exception {
+		File file = new File(this.tempDir, "scan.properties");
+		refresh(file, SimpleScanConfig.class).close();
+
+		Properties snapshot = loadProperties(file);
+		for (String name : snapshot.stringPropertyNames()) {
+			if (name.startsWith("candidates.")) {
+				snapshot.setProperty(name, "");
+			}
+		}
+		snapshot.setProperty("classpath.digest", "outdated");
+		storeProperties(snapshot, file);
+
+		try (AnnotationConfigApplicationContext ctx = refresh(file, SimpleScanConfig.class)) {
+			assertThat(ctx.containsBean("simpleComponent")).isTrue();
+			assertThat(ctx.getBeanNamesForType(ClassWithNestedComponents.NestedComponent.class)).hasSize(1);
+		}
+		assertThat(loadProperties(file).getProperty("classpath.digest")).isNotEqualTo("outdated");
+	}
+
+	@Test
+	void warmStartEvaluatesConditions() throws Exception {
+		File file = new File(this.tempDir, "scan.properties");
+		try (AnnotationConfigApplicationContext ctx = refresh(file, ProfileScanConfig.class)) {
+			assertThat(ctx.containsBean(ProfileAnnotatedComponent.BEAN_NAME)).isFalse();
+		}
+		try (AnnotationConfigApplicationContext ctx = refresh(file, ProfileScanConfig.class,
+				ProfileAnnotatedComponent.PROFILE_NAME)) {
+			assertThat(ctx.containsBean(ProfileAnnotatedComponent.BEAN_NAME)).isTrue();
+		}
+	}
+
+	@Test
+	void customFilterScanIsNotRecorded() throws Exception {
+		File file = new File(this.tempDir, "scan.properties");
+		try (AnnotationConfigApplicationContext ctx = refresh(file, CustomFilterScanConfig.class)) {
+			assertThat(ctx.containsBean("simpleComponent")).isTrue();
+		}
+		assertThat(file).doesNotExist();
+	}
+
+	@Test
+	void classpathDigestIsStable() {
+		ClassLoader classLoader = getClass().getClassLoader();
+		assertThat(ComponentScanSnapshot.computeClasspathDigest(classLoader))
+				.isEqualTo(ComponentScanSnapshot.computeClasspathDigest(classLoader));
+	}
+
+
+	private static AnnotationConfigApplicationContext refresh(File file, Class<?> config, String... profiles) {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.getEnvironment().getPropertySources().addFirst(new MapPropertySource("snapshot", Collections.singletonMap(
+				ConfigurationClassPostProcessor.COMPONENT_SCAN_SNAPSHOT_PROPERTY_NAME, file.getAbsolutePath())));
+		ctx.getEnvironment().setActiveProfiles(profiles);
+		ctx.register(config);
+		ctx.refresh();
+		return ctx;
+	}
+
+	private static Properties loadProperties(File file) throws Exception {
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			properties.load(in);
+		}
+		return properties;
+	}
+
+	private static void storeProperties(Properties properties, File file) throws Exception {
+		try (OutputStream out = Files.newOutputStream(file.toPath())) {
+			properties.store(out, null);
+		}
+	}
+
+	private static List<String> candidateEntries(Properties properties) {
+		return properties.stringPropertyNames().stream().filter(name -> name.startsWith("candidates."))
+				.map(properties::getProperty).collect(Collectors.toList());
+	}
+
+
+	@Configuration
+	@ComponentScan("org.springframework.context.annotation.componentscan.simple")
+	static class SimpleScanConfig {
+	}
+
+
+	@Configuration
+	@ComponentScan("example.profilescan")
+	static class ProfileScanConfig {
+	}
+
+
+	@Configuration
+	@ComponentScan(basePackages = "org.springframework.context.annotation.componentscan.simple",
+			includeFilters = @Filter(type = FilterType.CUSTOM, classes = SimpleComponentFilter.class),
+			useDefaultFilters = false)
+	static class CustomFilterScanConfig {
+	}
+
+
+	static class SimpleComponentFilter extends AssignableTypeFilter {
+
+		SimpleComponentFilter() {
+			super(SimpleComponent.class);
+		}
+	}
+
+}
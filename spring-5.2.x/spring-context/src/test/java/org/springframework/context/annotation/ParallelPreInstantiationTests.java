@@ -0,0 +1,189 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.autoproxy.DefaultAdvisorAutoProxyCreator;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
+import org.springframework.aop.testfixture.interceptor.NopInterceptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.beans.testfixture.beans.ITestBean;
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for parallel pre-instantiation of singletons in combination with
+ * auto-proxying and inter-bean references between {@code @Bean} methods.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see DefaultListableBeanFactory#setPreInstantiationExecutor
+ */
+public class ParallelPreInstantiationTests {
+
+	private static final int REPETITIONS = 10;
+
+	private final ForkJoinPool executor = new ForkJoinPool(4);
+
+
+	@AfterEach
+	public void shutdownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	public void withAdvisorAutoProxyCreatorAndAdvisorBeans() {
+		for (int i = 0; i < REPETITIONS; i++) {
+			GenericApplicationContext ctx = new GenericApplicationContext();
+			ctx.getDefaultListableBeanFactory().setPreInstantiationExecutor(this.executor);
+			ctx.registerBeanDefinition("autoProxyCreator", new RootBeanDefinition(DefaultAdvisorAutoProxyCreator.class));
+			for (int j = 0; j < 8; j++) {
+				ctx.registerBeanDefinition("test" + j, new RootBeanDefinition(TestBean.class));
+			}
+			for (int j = 0; j < 4; j++) {
+				ctx.registerBean("advisor" + j, DefaultPointcutAdvisor.class, () -> {
+					pause();
+					return new DefaultPointcutAdvisor(new NopInterceptor());
+				});
+			}
+			ctx.refresh();
+
+			assertProxiedWithAllAdvisors(ctx);
+			ctx.close();
+		}
+	}
+
+	@Test
+	public void withConfigurationClassInterBeanReferences() {
+		for (int i = 0; i < REPETITIONS; i++) {
+			AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+			ctx.getDefaultListableBeanFactory().setPreInstantiationExecutor(this.executor);
+			ctx.register(InterBeanReferenceConfig.class);
+			ctx.refresh();
+
+			assertProxiedWithAllAdvisors(ctx);
+			ITestBean shared = ctx.getBean("shared", ITestBean.class);
+			for (String beanName : new String[] {"first", "second", "third", "fourth"}) {
+				assertThat(ctx.getBean(beanName, ITestBean.class).getSpouse()).isSameAs(shared);
+			}
+			assertThat(ctx.getBean("dependent", ITestBean.class).getSpouse()).isSameAs(ctx.getBean("first"));
+			ctx.close();
+		}
+	}
+
+	private static void assertProxiedWithAllAdvisors(GenericApplicationContext ctx) {
+		Advisor[] advisors = ctx.getBeansOfType(Advisor.class).values().toArray(new Advisor[0]);
+		assertThat(advisors).isNotEmpty();
+		for (String beanName : ctx.getBeanNamesForType(ITestBean.class)) {
+			Object bean = ctx.getBean(beanName);
+			assertThat(AopUtils.isAopProxy(bean)).as("proxied bean '%s'", beanName).isTrue();
+			assertThat(((Advised) bean).getAdvisors()).as("advisors of bean '%s'", beanName)
+					.containsExactlyInAnyOrder(advisors);
+		}
+		for (String beanName : ctx.getBeanDefinitionNames()) {
+			assertThat(ctx.getDefaultListableBeanFactory().isSingletonCurrentlyInCreation(beanName))
+					.as("bean '%s' in creation", beanName).isFalse();
+		}
+	}
+
+	private static void pause() {
+		try {
+			Thread.sleep(5);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	@Configuration
+	static class InterBeanReferenceConfig {
+
+		@Bean
+		public static DefaultAdvisorAutoProxyCreator autoProxyCreator() {
+			return new DefaultAdvisorAutoProxyCreator();
+		}
+
+		@Bean
+		public Advisor advisor() {
+			return spouseAdvisor();
+		}
+
+		@Bean
+		public Advisor otherAdvisor() {
+			return spouseAdvisor();
+		}
+
+		@Bean
+		public ITestBean shared() {
+			pause();
+			return new TestBean("shared");
+		}
+
+		@Bean
+		public ITestBean first() {
+			return withSpouse("first", shared());
+		}
+
+		@Bean
+		public ITestBean second() {
+			return withSpouse("second", shared());
+		}
+
+		@Bean
+		public ITestBean third() {
+			return withSpouse("third", shared());
+		}
+
+		@Bean
+		public ITestBean fourth() {
+			return withSpouse("fourth", shared());
+		}
+
+		@Bean
+		public ITestBean dependent() {
+			return withSpouse("dependent", first());
+		}
+
+		// Not applicable to the configuration class itself, which the advisors depend on
+		private static Advisor spouseAdvisor() {
+			pause();
+			NameMatchMethodPointcutAdvisor advisor = new NameMatchMethodPointcutAdvisor(new NopInterceptor());
+			advisor.setMappedName("getSpouse");
+			return advisor;
+		}
+
+		private static ITestBean withSpouse(String name, ITestBean spouse) {
+			TestBean tb = new TestBean(name);
+			tb.setSpouse(spouse);
+			return tb;
+		}
+	}
+
+}
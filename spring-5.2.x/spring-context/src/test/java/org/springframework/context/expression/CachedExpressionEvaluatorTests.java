@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,10 +23,15 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -66,6 +71,40 @@ public class CachedExpressionEvaluatorTests {
 		assertThat(expressionEvaluator.testCache.size()).as("Cached expression should be based on type").isEqualTo(2);
 	}
 
+	@Test
+	public void compileExpressionAfterFirstEvaluation() {
+		TestExpressionEvaluator expressionEvaluator = new TestExpressionEvaluator(SpelCompilerMode.IMMEDIATE);
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		Expression expression = expressionEvaluator.getTestExpression("length()", method, getClass());
+		assertThat(expression.getValue("abc")).isEqualTo(3);
+		expressionEvaluator.compileIfNecessary(expression);
+		assertThat(((SpelExpression) expression).getCompilationFailureReason()).isNull();
+		// Compiled for a String target already, rather than after the second evaluation
+		assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() ->
+				expression.getValue(new StringBuilder("ab")));
+	}
+
+	@Test
+	public void compileExpressionRecordsReasonForInterpretedExpression() {
+		TestExpressionEvaluator expressionEvaluator = new TestExpressionEvaluator(SpelCompilerMode.MIXED);
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		Expression expression = expressionEvaluator.getTestExpression("'abc' matches 'a.*'", method, getClass());
+		assertThat(expression.getValue()).isEqualTo(true);
+		expressionEvaluator.compileIfNecessary(expression);
+		assertThat(((SpelExpression) expression).getCompilationFailureReason())
+				.startsWith("OperatorMatches").endsWith("not supported by the compiler");
+	}
+
+	@Test
+	public void compileExpressionWithCompilerOff() {
+		TestExpressionEvaluator expressionEvaluator = new TestExpressionEvaluator(SpelCompilerMode.OFF);
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		Expression expression = expressionEvaluator.getTestExpression("length()", method, getClass());
+		assertThat(expression.getValue("abc")).isEqualTo(3);
+		expressionEvaluator.compileIfNecessary(expression);
+		assertThat(expression.getValue(new StringBuilder("ab"))).isEqualTo(2);
+	}
+
 	private void hasParsedExpression(String expression) {
 		verify(expressionEvaluator.getParser(), times(1)).parseExpression(expression);
 	}
@@ -78,6 +117,10 @@ public class CachedExpressionEvaluatorTests {
 			super(mockSpelExpressionParser());
 		}
 
+		public TestExpressionEvaluator(SpelCompilerMode compilerMode) {
+			super(new SpelExpressionParser(new SpelParserConfiguration(compilerMode, null)));
+		}
+
 		public Expression getTestExpression(String expression, Method method, Class<?> type) {
 			return getExpression(this.testCache, new AnnotatedElementKey(method, type), expression);
 		}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the {@link ResolvableType} operations that the bean container
+ * performs for every type-based lookup and generic autowiring candidate check.
+ *
+ * @author Jankin Wong
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResolvableTypeBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public Field field;
+
+		public ResolvableType stringRepository;
+
+		public ResolvableType repositoryOfString;
+
+		@Setup
+		public void setup() throws Exception {
+			this.field = Holder.class.getDeclaredField("repository");
+			this.stringRepository = ResolvableType.forClass(StringRepository.class);
+			this.repositoryOfString = ResolvableType.forField(this.field);
+		}
+	}
+
+
+	@Benchmark
+	public Object forClass() {
+		return ResolvableType.forClass(StringRepository.class);
+	}
+
+	@Benchmark
+	public Object forField(BenchmarkState state) {
+		return ResolvableType.forField(state.field);
+	}
+
+	@Benchmark
+	public Object forClassWithGenerics() {
+		return ResolvableType.forClassWithGenerics(Repository.class, String.class);
+	}
+
+	@Benchmark
+	public boolean isAssignableFromRawClass(BenchmarkState state) {
+		return state.repositoryOfString.isAssignableFrom(StringRepository.class);
+	}
+
+	@Benchmark
+	public boolean isAssignableFromGenericType(BenchmarkState state) {
+		return state.repositoryOfString.isAssignableFrom(state.stringRepository);
+	}
+
+
+	public interface Repository<T> {
+	}
+
+
+	public static class StringRepository implements Repository<String> {
+	}
+
+
+	public static class Holder {
+
+		public Repository<String> repository;
+
+		public List<String> names = new ArrayList<>();
+	}
+
+}
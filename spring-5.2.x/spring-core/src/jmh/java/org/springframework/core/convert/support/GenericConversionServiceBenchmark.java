@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.convert.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.core.convert.TypeDescriptor;
+
+/**
+ * Benchmarks for scalar conversions through {@link GenericConversionService},
+ * as performed for data binding, {@code @Value} resolution and SpEL.
+ *
+ * @author Jankin Wong
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GenericConversionServiceBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public DefaultConversionService conversionService;
+
+		public TypeDescriptor stringType;
+
+		public TypeDescriptor intFieldType;
+
+		@Setup
+		public void setup() throws Exception {
+			this.conversionService = new DefaultConversionService();
+			this.stringType = TypeDescriptor.valueOf(String.class);
+			this.intFieldType = new TypeDescriptor(Holder.class.getField("count"));
+		}
+	}
+
+
+	@Benchmark
+	public Object convertStringToInteger(BenchmarkState state) {
+		return state.conversionService.convert("42", Integer.class);
+	}
+
+	@Benchmark
+	public Object convertStringToPrimitiveLong(BenchmarkState state) {
+		return state.conversionService.convert("42", long.class);
+	}
+
+	@Benchmark
+	public Object convertStringToBoolean(BenchmarkState state) {
+		return state.conversionService.convert("true", Boolean.class);
+	}
+
+	@Benchmark
+	public Object convertStringToEnum(BenchmarkState state) {
+		return state.conversionService.convert("MILLISECONDS", TimeUnit.class);
+	}
+
+	@Benchmark
+	public Object convertIntegerToLong(BenchmarkState state) {
+		return state.conversionService.convert(42, Long.class);
+	}
+
+	@Benchmark
+	public Object convertStringToIntField(BenchmarkState state) {
+		return state.conversionService.convert("42", state.stringType, state.intFieldType);
+	}
+
+
+	public static class Holder {
+
+		public int count;
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * Benchmarks for read-mostly access to a {@link ConcurrentReferenceHashMap},
+ * as used for the metadata caches of the core container, compared to a
+ * {@link ConcurrentHashMap}.
+ *
+ * @author Jankin Wong
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class ConcurrentReferenceHashMapBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"concurrentHashMap", "soft", "weak", "hybrid"})
+		public String mapType;
+
+		// Needs to be a power of two
+		@Param({"1024"})
+		public int size;
+
+		public Map<Integer, Object> map;
+
+		public Integer[] keys;
+
+		@Setup
+		public void setup() {
+			switch (this.mapType) {
+				case "concurrentHashMap":
+					this.map = new ConcurrentHashMap<>(256);
+					break;
+				case "soft":
+					this.map = new ConcurrentReferenceHashMap<>(256);
+					break;
+				case "weak":
+					this.map = new ConcurrentReferenceHashMap<>(256, ReferenceType.WEAK);
+					break;
+				default:
+					this.map = new ConcurrentReferenceHashMap<>(256, 0.75f, 16, ReferenceType.SOFT, this.size);
+			}
+			this.keys = new Integer[this.size];
+			for (int i = 0; i < this.size; i++) {
+				this.keys[i] = i;
+				this.map.put(this.keys[i], new Object());
+			}
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		public int index;
+
+		public Integer nextKey(BenchmarkState state) {
+			this.index = (this.index + 1) & (state.keys.length - 1);
+			return state.keys[this.index];
+		}
+	}
+
+
+	@Benchmark
+	public Object readOnly(BenchmarkState state, ThreadState threadState) {
+		return state.map.get(threadState.nextKey(state));
+	}
+
+	@Benchmark
+	public Object readMostly(BenchmarkState state, ThreadState threadState) {
+		Integer key = threadState.nextKey(state);
+		if ((threadState.index & 31) == 0) {
+			return state.map.put(key, new Object());
+		}
+		return state.map.get(key);
+	}
+
+	@Benchmark
+	public Object computeIfAbsent(BenchmarkState state, ThreadState threadState) {
+		return state.map.computeIfAbsent(threadState.nextKey(state), key -> new Object());
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for matching request paths against a set of mapping patterns
+ * with {@link AntPathMatcher} and {@link CompiledAntPathMatcher}.
+ *
+ * @author Jankin Wong
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PathMatcherBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"ant", "compiled"})
+		public String matcher;
+
+		@Param({"100", "1000"})
+		public int patternCount;
+
+		public AntPathMatcher pathMatcher;
+
+		public List<String> patterns;
+
+		public String[] paths;
+
+		@Setup
+		public void setup() {
+			this.pathMatcher = ("compiled".equals(this.matcher) ? new CompiledAntPathMatcher() : new AntPathMatcher());
+			this.patterns = new ArrayList<>(this.patternCount);
+			for (int i = 0; i < this.patternCount; i++) {
+				switch (i % 4) {
+					case 0:
+						this.patterns.add("/api/resource" + i + "/items");
+						break;
+					case 1:
+						this.patterns.add("/api/resource" + i + "/items/*");
+						break;
+					case 2:
+						this.patterns.add("/api/resource" + i + "/**/*.json");
+						break;
+					default:
+						this.patterns.add("/api/resource" + i + "/{id}");
+				}
+			}
+			this.paths = new String[] {"/api/resource40/items", "/api/resource41/items/42",
+					"/api/resource42/a/b/c.json", "/api/resource43/42", "/static/css/site.css"};
+		}
+	}
+
+
+	@Benchmark
+	public void matchEachPattern(BenchmarkState state, Blackhole bh) {
+		for (String path : state.paths) {
+			for (String pattern : state.patterns) {
+				bh.consume(state.pathMatcher.match(pattern, path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchSinglePattern(BenchmarkState state, Blackhole bh) {
+		for (String path : state.paths) {
+			bh.consume(state.pathMatcher.match("/api/resource41/items/*", path));
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -94,6 +94,9 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	private static final ConcurrentReferenceHashMap<AssignabilityKey, Boolean> assignabilityCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -133,6 +136,13 @@ public class ResolvableType implements Serializable {
 	@Nullable
 	private volatile ResolvableType[] generics;
 
+	/**
+	 * The cached instance equal to this type, sharing its resolved supertype,
+	 * interfaces and generics, or {@code null} if none.
+	 */
+	@Nullable
+	private transient ResolvableType canonicalType;
+
 
 	/**
 	 * Private constructor used to create a new {@link ResolvableType} for cache key purposes,
@@ -260,7 +270,7 @@ public class ResolvableType implements Serializable {
 	 * @see #isAssignableFrom(ResolvableType)
 	 */
 	public boolean isAssignableFrom(Class<?> other) {
-		return isAssignableFrom(forClass(other), null);
+		return isAssignableFromCached(forClass(other));
 	}
 
 	/**
@@ -275,7 +285,27 @@ public class ResolvableType implements Serializable {
 	 * {@code ResolvableType}; {@code false} otherwise
 	 */
 	public boolean isAssignableFrom(ResolvableType other) {
-		return isAssignableFrom(other, null);
+		return isAssignableFromCached(other);
+	}
+
+	/**
+	 * Determine whether this type is assignable from the given type, reusing a
+	 * previous result for an equal pair of types. Only applies to generic types
+	 * since a plain {@code Class} check is not worth caching.
+	 */
+	private boolean isAssignableFromCached(ResolvableType other) {
+		Assert.notNull(other, "ResolvableType must not be null");
+		if (this.type instanceof Class || this == NONE || other == NONE ||
+				getClass() != ResolvableType.class || other.getClass() != ResolvableType.class) {
+			return isAssignableFrom(other, null);
+		}
+		AssignabilityKey key = new AssignabilityKey(this, other);
+		Boolean result = assignabilityCache.get(key);
+		if (result == null) {
+			result = isAssignableFrom(other, null);
+			assignabilityCache.put(key, result);
+		}
+		return result;
 	}
 
 	private boolean isAssignableFrom(ResolvableType other, @Nullable Map<Type, Type> matchedBefore) {
@@ -474,7 +504,8 @@ public class ResolvableType implements Serializable {
 			}
 			ResolvableType superType = this.superType;
 			if (superType == null) {
-				superType = forType(superclass, this);
+				superType = (this.canonicalType != null ? this.canonicalType.getSuperType() :
+						forType(superclass, this));
 				this.superType = superType;
 			}
 			return superType;
@@ -498,6 +529,10 @@ public class ResolvableType implements Serializable {
 			return EMPTY_TYPES_ARRAY;
 		}
 		ResolvableType[] interfaces = this.interfaces;
+		if (interfaces == null && this.canonicalType != null) {
+			interfaces = this.canonicalType.getInterfaces();
+			this.interfaces = interfaces;
+		}
 		if (interfaces == null) {
 			Type[] genericIfcs = resolved.getGenericInterfaces();
 			interfaces = new ResolvableType[genericIfcs.length];
@@ -707,7 +742,10 @@ public class ResolvableType implements Serializable {
 		}
 		ResolvableType[] generics = this.generics;
 		if (generics == null) {
-			if (this.type instanceof Class) {
+			if (this.canonicalType != null) {
+				generics = this.canonicalType.getGenerics();
+			}
+			else if (this.type instanceof Class) {
 				Type[] typeParams = ((Class<?>) this.type).getTypeParameters();
 				generics = new ResolvableType[typeParams.length];
 				for (int i = 0; i < generics.length; i++) {
@@ -1434,6 +1472,8 @@ public class ResolvableType implements Serializable {
 		cache.purgeUnreferencedEntries();
 
 		// Check the cache - we may have a ResolvableType which has been resolved before...
+		// The returned instance keeps its own source but shares the cached type's
+		// lazily resolved supertype, interfaces and generics.
 		ResolvableType resultType = new ResolvableType(type, typeProvider, variableResolver);
 		ResolvableType cachedType = cache.get(resultType);
 		if (cachedType == null) {
@@ -1441,15 +1481,18 @@ public class ResolvableType implements Serializable {
 			cache.put(cachedType, cachedType);
 		}
 		resultType.resolved = cachedType.resolved;
+		resultType.canonicalType = cachedType;
 		return resultType;
 	}
 
 	/**
-	 * Clear the internal {@code ResolvableType}/{@code SerializableTypeWrapper} cache.
+	 * Clear the internal {@code ResolvableType}/{@code SerializableTypeWrapper} cache,
+	 * including cached assignability results.
 	 * @since 4.2
 	 */
 	public static void clearCache() {
 		cache.clear();
+		assignabilityCache.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
@@ -1593,6 +1636,44 @@ public class ResolvableType implements Serializable {
 	}
 
 
+	/**
+	 * Key for a cached {@link #isAssignableFrom(ResolvableType)} result,
+	 * based on {@link ResolvableType#equals} for both types.
+	 */
+	private static final class AssignabilityKey {
+
+		private final ResolvableType target;
+
+		private final ResolvableType source;
+
+		private final int hash;
+
+		AssignabilityKey(ResolvableType target, ResolvableType source) {
+			this.target = target;
+			this.source = source;
+			this.hash = 31 * target.hashCode() + source.hashCode();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof AssignabilityKey)) {
+				return false;
+			}
+			AssignabilityKey otherKey = (AssignabilityKey) other;
+			return (this.hash == otherKey.hash && this.target.equals(otherKey.target) &&
+					this.source.equals(otherKey.source));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+
 	/**
 	 * Internal helper to handle bounds from {@link WildcardType WildcardTypes}.
 	 */
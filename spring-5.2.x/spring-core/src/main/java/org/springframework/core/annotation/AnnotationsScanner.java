@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,9 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.core.BridgeMethodResolver;
@@ -48,6 +50,8 @@ abstract class AnnotationsScanner {
 
 	private static final Method[] NO_METHODS = {};
 
+	private static final SearchStrategy[] SEARCH_STRATEGIES = SearchStrategy.values();
+
 
 	private static final Map<AnnotatedElement, Annotation[]> declaredAnnotationCache =
 			new ConcurrentReferenceHashMap<>(256);
@@ -55,6 +59,9 @@ abstract class AnnotationsScanner {
 	private static final Map<Class<?>, Method[]> baseTypeMethodsCache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	private static final Map<AnnotatedElement, ScannedHierarchy[]> hierarchyIndex =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	private AnnotationsScanner() {
 	}
@@ -74,10 +81,58 @@ abstract class AnnotationsScanner {
 	static <C, R> R scan(C context, AnnotatedElement source, SearchStrategy searchStrategy,
 			AnnotationsProcessor<C, R> processor) {
 
-		R result = process(context, source, searchStrategy, processor);
+		R result;
+		if (isIndexable(source, searchStrategy)) {
+			ScannedHierarchy scannedHierarchy = getScannedHierarchy(source, searchStrategy);
+			if (scannedHierarchy != null) {
+				result = scannedHierarchy.replay(context, processor);
+			}
+			else {
+				RecordingProcessor<C, R> recordingProcessor = new RecordingProcessor<>(processor);
+				result = process(context, source, searchStrategy, recordingProcessor);
+				if (result == null) {
+					// The processor did not exit early, so the entire hierarchy has been recorded
+					putScannedHierarchy(source, searchStrategy, recordingProcessor.getScannedHierarchy());
+				}
+			}
+		}
+		else {
+			result = process(context, source, searchStrategy, processor);
+		}
 		return processor.finish(result);
 	}
 
+	/**
+	 * Determine whether the hierarchy scan for the given element is worth indexing:
+	 * all scans on methods, and scans on classes beyond their declared annotations.
+	 */
+	private static boolean isIndexable(AnnotatedElement source, SearchStrategy searchStrategy) {
+		return ((source instanceof Class && searchStrategy != SearchStrategy.DIRECT) ||
+				source instanceof Method);
+	}
+
+	@Nullable
+	private static ScannedHierarchy getScannedHierarchy(AnnotatedElement source, SearchStrategy searchStrategy) {
+		ScannedHierarchy[] scannedHierarchies = hierarchyIndex.get(source);
+		return (scannedHierarchies != null ? scannedHierarchies[searchStrategy.ordinal()] : null);
+	}
+
+	private static void putScannedHierarchy(
+			AnnotatedElement source, SearchStrategy searchStrategy, ScannedHierarchy scannedHierarchy) {
+
+		ScannedHierarchy[] existing = hierarchyIndex.get(source);
+		ScannedHierarchy[] scannedHierarchies =
+				(existing != null ? existing.clone() : new ScannedHierarchy[SEARCH_STRATEGIES.length]);
+		scannedHierarchies[searchStrategy.ordinal()] = scannedHierarchy;
+		if (existing != null) {
+			// Concurrent updates for other search strategies may get lost: to be rescanned
+			hierarchyIndex.replace(source, existing, scannedHierarchies);
+		}
+		else {
+			hierarchyIndex.putIfAbsent(source, scannedHierarchies);
+		}
+	}
+
 	@Nullable
 	private static <C, R> R process(C context, AnnotatedElement source,
 			SearchStrategy searchStrategy, AnnotationsProcessor<C, R> processor) {
@@ -532,6 +587,96 @@ abstract class AnnotationsScanner {
 	static void clearCache() {
 		declaredAnnotationCache.clear();
 		baseTypeMethodsCache.clear();
+		hierarchyIndex.clear();
+	}
+
+
+	/**
+	 * The calls made to an {@link AnnotationsProcessor} for a complete scan of the
+	 * hierarchy of an element, allowing the scan to be replayed for any processor.
+	 * Only holds the declared annotations as found on each element in the hierarchy:
+	 * merging and synthesizing them remains up to the processor.
+	 */
+	private static final class ScannedHierarchy {
+
+		private final int[] aggregateIndexes;
+
+		private final Object[] sources;
+
+		/**
+		 * The annotations for each call to {@link AnnotationsProcessor#doWithAnnotations},
+		 * or {@code null} for a call to {@link AnnotationsProcessor#doWithAggregate}.
+		 */
+		private final Annotation[][] annotations;
+
+		ScannedHierarchy(int[] aggregateIndexes, Object[] sources, Annotation[][] annotations) {
+			this.aggregateIndexes = aggregateIndexes;
+			this.sources = sources;
+			this.annotations = annotations;
+		}
+
+		@Nullable
+		<C, R> R replay(C context, AnnotationsProcessor<C, R> processor) {
+			for (int i = 0; i < this.aggregateIndexes.length; i++) {
+				Annotation[] annotations = this.annotations[i];
+				R result = (annotations != null ?
+						processor.doWithAnnotations(context, this.aggregateIndexes[i], this.sources[i], annotations) :
+						processor.doWithAggregate(context, this.aggregateIndexes[i]));
+				if (result != null) {
+					return result;
+				}
+			}
+			return null;
+		}
+	}
+
+
+	/**
+	 * {@link AnnotationsProcessor} decorator that records the calls made to it
+	 * in order to build a {@link ScannedHierarchy}.
+	 */
+	private static final class RecordingProcessor<C, R> implements AnnotationsProcessor<C, R> {
+
+		private final AnnotationsProcessor<C, R> processor;
+
+		private final List<Integer> aggregateIndexes = new ArrayList<>();
+
+		private final List<Object> sources = new ArrayList<>();
+
+		private final List<Annotation[]> annotations = new ArrayList<>();
+
+		RecordingProcessor(AnnotationsProcessor<C, R> processor) {
+			this.processor = processor;
+		}
+
+		@Override
+		@Nullable
+		public R doWithAggregate(C context, int aggregateIndex) {
+			record(aggregateIndex, null, null);
+			return this.processor.doWithAggregate(context, aggregateIndex);
+		}
+
+		@Override
+		@Nullable
+		public R doWithAnnotations(C context, int aggregateIndex, @Nullable Object source, Annotation[] annotations) {
+			record(aggregateIndex, source, annotations);
+			return this.processor.doWithAnnotations(context, aggregateIndex, source, annotations);
+		}
+
+		private void record(int aggregateIndex, @Nullable Object source, @Nullable Annotation[] annotations) {
+			this.aggregateIndexes.add(aggregateIndex);
+			this.sources.add(source);
+			this.annotations.add(annotations);
+		}
+
+		ScannedHierarchy getScannedHierarchy() {
+			int[] aggregateIndexes = new int[this.aggregateIndexes.size()];
+			for (int i = 0; i < aggregateIndexes.length; i++) {
+				aggregateIndexes[i] = this.aggregateIndexes.get(i);
+			}
+			return new ScannedHierarchy(aggregateIndexes, this.sources.toArray(),
+					this.annotations.toArray(new Annotation[0][]));
+		}
 	}
 
 }
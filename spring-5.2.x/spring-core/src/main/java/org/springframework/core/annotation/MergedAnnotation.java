@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -482,7 +482,10 @@ public interface MergedAnnotation<A extends Annotation> {
 	 * Create a type-safe synthesized version of this merged annotation that can
 	 * be used directly in code.
 	 * <p>The result is synthesized using a JDK {@link Proxy} and as a result may
-	 * incur a computational cost when first invoked.
+	 * incur a computational cost when first invoked. Alternatively, the
+	 * {@code "spring.annotation.synthesis.mode"} property may be set to
+	 * {@code "generated"} in order to synthesize annotations using a generated
+	 * implementation class per annotation type, keeping attribute values in fields.
 	 * <p>If this merged annotation was created {@linkplain #from(Annotation) from}
 	 * an annotation instance, that annotation will be returned unmodified if it is
 	 * not <em>synthesizable</em>. An annotation is considered synthesizable if
@@ -504,7 +507,10 @@ public interface MergedAnnotation<A extends Annotation> {
 	 * Optionally create a type-safe synthesized version of this annotation based
 	 * on a condition predicate.
 	 * <p>The result is synthesized using a JDK {@link Proxy} and as a result may
-	 * incur a computational cost when first invoked.
+	 * incur a computational cost when first invoked. Alternatively, the
+	 * {@code "spring.annotation.synthesis.mode"} property may be set to
+	 * {@code "generated"} in order to synthesize annotations using a generated
+	 * implementation class per annotation type, keeping attribute values in fields.
 	 * <p>Consult the documentation for {@link #synthesize()} for an explanation
 	 * of what is considered synthesizable.
 	 * @param condition the test to determine if the annotation can be synthesized
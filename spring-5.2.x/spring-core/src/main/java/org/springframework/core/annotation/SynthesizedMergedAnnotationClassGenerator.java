@@ -0,0 +1,446 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.cglib.core.ReflectUtils;
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Generates a concrete implementation class per annotation type for annotations
+ * that Spring has <em>synthesized</em>, as an alternative to the JDK dynamic
+ * proxies created through {@link SynthesizedMergedAnnotationInvocationHandler}.
+ *
+ * <p>A generated class keeps each attribute value in a final field, so that an
+ * attribute access is a plain field read (cloning non-empty arrays, as the proxy
+ * does), and it implements {@code equals} and {@code hashCode} as specified by
+ * {@link Annotation} without reflection. The string representation matches the
+ * one of a synthesized proxy.
+ *
+ * <p>Class generation is used when the {@value #SYNTHESIS_MODE_PROPERTY_NAME}
+ * property is set to {@code "generated"}, either as a JVM system property or
+ * in a {@code spring.properties} file. Annotation types that cannot be
+ * implemented in their own package and class loader, as well as annotations
+ * with attribute values that cannot be resolved upfront, are still synthesized
+ * using a proxy.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @see SpringProperties
+ */
+final class SynthesizedMergedAnnotationClassGenerator implements Opcodes {
+
+	/**
+	 * System property that determines how Spring synthesizes annotations:
+	 * {@code "proxy"} (the default) or {@code "generated"}.
+	 */
+	static final String SYNTHESIS_MODE_PROPERTY_NAME = "spring.annotation.synthesis.mode";
+
+	/**
+	 * Whether annotations should be synthesized using generated classes.
+	 */
+	static final boolean ENABLED =
+			"generated".equalsIgnoreCase(SpringProperties.getProperty(SYNTHESIS_MODE_PROPERTY_NAME));
+
+	private static final String CLASS_NAME_SUFFIX = "$$SpringSynthesized";
+
+	private static final String TO_STRING_FIELD_NAME = "toStringFunction";
+
+	private static final String HASH_CODE_FIELD_NAME = "hashCode";
+
+	private static final Object NOT_GENERATABLE = new Object();
+
+	private static final Log logger = LogFactory.getLog(SynthesizedMergedAnnotationClassGenerator.class);
+
+	/**
+	 * Constructor of the generated class per annotation type, or {@link #NOT_GENERATABLE}.
+	 */
+	private static final Map<Class<?>, Object> constructorCache = new ConcurrentReferenceHashMap<>(64);
+
+
+	private SynthesizedMergedAnnotationClassGenerator() {
+	}
+
+
+	/**
+	 * Create a synthesized annotation for the given merged annotation, backed by
+	 * a generated class for the annotation type.
+	 * @param annotation the merged annotation to synthesize
+	 * @param type the annotation type
+	 * @return the synthesized annotation, or {@code null} if it cannot be backed
+	 * by a generated class and needs to be synthesized using a proxy instead
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static <A extends Annotation> A createSynthesized(MergedAnnotation<A> annotation, Class<A> type) {
+		Constructor<?> constructor = getConstructor(type);
+		if (constructor == null) {
+			return null;
+		}
+		AttributeMethods attributes = AttributeMethods.forAnnotationType(type);
+		Object[] values = new Object[attributes.size()];
+		try {
+			for (int i = 0; i < attributes.size(); i++) {
+				Method attribute = attributes.get(i);
+				Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(attribute.getReturnType());
+				values[i] = annotation.getValue(attribute.getName(), valueType).orElseThrow(
+						() -> new NoSuchElementException("No value found for attribute named '" +
+								attribute.getName() + "' in merged annotation " + type.getName()));
+			}
+		}
+		catch (RuntimeException ex) {
+			// Let the proxy report unresolvable attribute values when they are being accessed
+			return null;
+		}
+		try {
+			return (A) constructor.newInstance(new Object[] {values});
+		}
+		catch (Throwable ex) {
+			throw new IllegalStateException("Failed to instantiate " + constructor.getDeclaringClass(), ex);
+		}
+	}
+
+	@Nullable
+	private static Constructor<?> getConstructor(Class<? extends Annotation> type) {
+		Object constructor = constructorCache.get(type);
+		if (constructor == null) {
+			synchronized (constructorCache) {
+				constructor = constructorCache.get(type);
+				if (constructor == null) {
+					constructor = generateConstructor(type);
+					constructorCache.put(type, constructor);
+				}
+			}
+		}
+		return (constructor != NOT_GENERATABLE ? (Constructor<?>) constructor : null);
+	}
+
+	private static Object generateConstructor(Class<? extends Annotation> type) {
+		ClassLoader classLoader = type.getClassLoader();
+		if (classLoader == null || type.getName().startsWith("java.")) {
+			return NOT_GENERATABLE;
+		}
+		String className = type.getName() + CLASS_NAME_SUFFIX;
+		try {
+			Class<?> generatedClass;
+			try {
+				// Defined before, with its constructor evicted from our cache since
+				generatedClass = Class.forName(className, false, classLoader);
+			}
+			catch (ClassNotFoundException ex) {
+				boolean synthesizedAnnotation = SynthesizedMergedAnnotationInvocationHandler.isVisible(
+						classLoader, SynthesizedAnnotation.class);
+				byte[] bytes = generateClass(type, synthesizedAnnotation);
+				generatedClass = ReflectUtils.defineClass(
+						className, bytes, classLoader, ReflectUtils.getProtectionDomain(type), type);
+			}
+			// Initialize the class in order to detect any verification problems upfront
+			Class.forName(className, true, classLoader);
+			Field toStringField = generatedClass.getDeclaredField(TO_STRING_FIELD_NAME);
+			ReflectionUtils.makeAccessible(toStringField);
+			if (toStringField.get(null) == null) {
+				toStringField.set(null, (Function<Annotation, String>)
+						SynthesizedMergedAnnotationClassGenerator::annotationToString);
+			}
+			Constructor<?> constructor = generatedClass.getDeclaredConstructor(Object[].class);
+			ReflectionUtils.makeAccessible(constructor);
+			return constructor;
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to generate synthesized annotation class for " + type.getName() +
+						" - falling back to JDK proxies", ex);
+			}
+			return NOT_GENERATABLE;
+		}
+	}
+
+	/**
+	 * See {@link Annotation#toString()}, using the representation of a
+	 * synthesized proxy for the attribute values.
+	 */
+	private static String annotationToString(Annotation annotation) {
+		Class<? extends Annotation> type = annotation.annotationType();
+		AttributeMethods attributes = AttributeMethods.forAnnotationType(type);
+		StringBuilder builder = new StringBuilder("@").append(type.getName()).append("(");
+		for (int i = 0; i < attributes.size(); i++) {
+			Method attribute = attributes.get(i);
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(attribute.getName());
+			builder.append("=");
+			builder.append(SynthesizedMergedAnnotationInvocationHandler.toString(
+					ReflectionUtils.invokeMethod(attribute, annotation)));
+		}
+		builder.append(")");
+		return builder.toString();
+	}
+
+	static byte[] generateClass(Class<? extends Annotation> type, boolean synthesizedAnnotation) {
+		String internalName = Type.getInternalName(type) + CLASS_NAME_SUFFIX;
+		String typeName = Type.getInternalName(type);
+		String[] interfaces = (synthesizedAnnotation ?
+				new String[] {typeName, Type.getInternalName(SynthesizedAnnotation.class)} :
+				new String[] {typeName});
+		AttributeMethods attributes = AttributeMethods.forAnnotationType(type);
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(V1_6, ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalName, null, "java/lang/Object", interfaces);
+		cw.visitField(ACC_PRIVATE | ACC_STATIC, TO_STRING_FIELD_NAME,
+				"Ljava/util/function/Function;", null, null).visitEnd();
+		cw.visitField(ACC_PRIVATE, HASH_CODE_FIELD_NAME, "I", null, null).visitEnd();
+		for (int i = 0; i < attributes.size(); i++) {
+			Method attribute = attributes.get(i);
+			cw.visitField(ACC_PRIVATE | ACC_FINAL, attribute.getName(),
+					Type.getDescriptor(attribute.getReturnType()), null, null).visitEnd();
+		}
+
+		generateConstructor(cw, internalName, attributes);
+		for (int i = 0; i < attributes.size(); i++) {
+			generateAttributeMethod(cw, internalName, attributes.get(i));
+		}
+		generateAnnotationTypeMethod(cw, typeName);
+		generateEqualsMethod(cw, internalName, typeName, attributes);
+		generateHashCodeMethod(cw, internalName, attributes);
+		generateToStringMethod(cw, internalName);
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	private static void generateConstructor(ClassWriter cw, String internalName, AttributeMethods attributes) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+		for (int i = 0; i < attributes.size(); i++) {
+			Method attribute = attributes.get(i);
+			Type attributeType = Type.getType(attribute.getReturnType());
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitLdcInsn(i);
+			mv.visitInsn(AALOAD);
+			if (attributeType.getSort() <= Type.DOUBLE) {
+				Type boxedType = Type.getType(ClassUtils.resolvePrimitiveIfNecessary(attribute.getReturnType()));
+				mv.visitTypeInsn(CHECKCAST, boxedType.getInternalName());
+				mv.visitMethodInsn(INVOKEVIRTUAL, boxedType.getInternalName(),
+						attributeType.getClassName() + "Value", "()" + attributeType.getDescriptor(), false);
+			}
+			else {
+				mv.visitTypeInsn(CHECKCAST, attributeType.getInternalName());
+			}
+			mv.visitFieldInsn(PUTFIELD, internalName, attribute.getName(), attributeType.getDescriptor());
+		}
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void generateAttributeMethod(ClassWriter cw, String internalName, Method attribute) {
+		Type attributeType = Type.getType(attribute.getReturnType());
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, attribute.getName(),
+				"()" + attributeType.getDescriptor(), null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalName, attribute.getName(), attributeType.getDescriptor());
+		if (attributeType.getSort() == Type.ARRAY) {
+			// Clone non-empty arrays so that users cannot alter the contents of our values
+			Label returnLabel = new Label();
+			mv.visitInsn(DUP);
+			mv.visitInsn(ARRAYLENGTH);
+			mv.visitJumpInsn(IFEQ, returnLabel);
+			mv.visitMethodInsn(INVOKEVIRTUAL, attributeType.getDescriptor(), "clone", "()Ljava/lang/Object;", false);
+			mv.visitTypeInsn(CHECKCAST, attributeType.getDescriptor());
+			mv.visitLabel(returnLabel);
+		}
+		mv.visitInsn(attributeType.getOpcode(IRETURN));
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void generateAnnotationTypeMethod(ClassWriter cw, String typeName) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "annotationType", "()Ljava/lang/Class;", null, null);
+		mv.visitCode();
+		mv.visitLdcInsn(Type.getObjectType(typeName));
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * See {@link Annotation#equals(Object)} for a definition of the required algorithm.
+	 */
+	private static void generateEqualsMethod(
+			ClassWriter cw, String internalName, String typeName, AttributeMethods attributes) {
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "equals", "(Ljava/lang/Object;)Z", null, null);
+		mv.visitCode();
+		Label notSame = new Label();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitJumpInsn(IF_ACMPNE, notSame);
+		mv.visitInsn(ICONST_1);
+		mv.visitInsn(IRETURN);
+		mv.visitLabel(notSame);
+		Label notEqual = new Label();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(INSTANCEOF, typeName);
+		mv.visitJumpInsn(IFEQ, notEqual);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, typeName);
+		mv.visitVarInsn(ASTORE, 2);
+		for (int i = 0; i < attributes.size(); i++) {
+			Method attribute = attributes.get(i);
+			Type attributeType = Type.getType(attribute.getReturnType());
+			String descriptor = attributeType.getDescriptor();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitFieldInsn(GETFIELD, internalName, attribute.getName(), descriptor);
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitMethodInsn(INVOKEINTERFACE, typeName, attribute.getName(), "()" + descriptor, true);
+			switch (attributeType.getSort()) {
+				case Type.BOOLEAN:
+				case Type.CHAR:
+				case Type.BYTE:
+				case Type.SHORT:
+				case Type.INT:
+					mv.visitJumpInsn(IF_ICMPNE, notEqual);
+					break;
+				case Type.FLOAT:
+					// Float.equals semantics: compare the bits of both values
+					mv.visitVarInsn(FSTORE, 3);
+					mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "floatToIntBits", "(F)I", false);
+					mv.visitVarInsn(FLOAD, 3);
+					mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "floatToIntBits", "(F)I", false);
+					mv.visitJumpInsn(IF_ICMPNE, notEqual);
+					break;
+				case Type.LONG:
+					mv.visitInsn(LCMP);
+					mv.visitJumpInsn(IFNE, notEqual);
+					break;
+				case Type.DOUBLE:
+					// Double.equals semantics: compare the bits of both values
+					mv.visitVarInsn(DSTORE, 3);
+					mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "doubleToLongBits", "(D)J", false);
+					mv.visitVarInsn(DLOAD, 3);
+					mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "doubleToLongBits", "(D)J", false);
+					mv.visitInsn(LCMP);
+					mv.visitJumpInsn(IFNE, notEqual);
+					break;
+				case Type.ARRAY:
+					String arrayDescriptor = getArraysMethodParameterDescriptor(attributeType);
+					mv.visitMethodInsn(INVOKESTATIC, "java/util/Arrays", "equals",
+							"(" + arrayDescriptor + arrayDescriptor + ")Z", false);
+					mv.visitJumpInsn(IFEQ, notEqual);
+					break;
+				default:
+					mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "equals", "(Ljava/lang/Object;)Z", false);
+					mv.visitJumpInsn(IFEQ, notEqual);
+			}
+		}
+		mv.visitInsn(ICONST_1);
+		mv.visitInsn(IRETURN);
+		mv.visitLabel(notEqual);
+		mv.visitInsn(ICONST_0);
+		mv.visitInsn(IRETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * See {@link Annotation#hashCode()} for a definition of the required algorithm.
+	 */
+	private static void generateHashCodeMethod(ClassWriter cw, String internalName, AttributeMethods attributes) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "hashCode", "()I", null, null);
+		mv.visitCode();
+		Label returnLabel = new Label();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalName, HASH_CODE_FIELD_NAME, "I");
+		mv.visitInsn(DUP);
+		mv.visitJumpInsn(IFNE, returnLabel);
+		mv.visitInsn(POP);
+		mv.visitInsn(ICONST_0);
+		for (int i = 0; i < attributes.size(); i++) {
+			Method attribute = attributes.get(i);
+			Type attributeType = Type.getType(attribute.getReturnType());
+			String descriptor = attributeType.getDescriptor();
+			mv.visitLdcInsn(127 * attribute.getName().hashCode());
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitFieldInsn(GETFIELD, internalName, attribute.getName(), descriptor);
+			if (attributeType.getSort() == Type.ARRAY) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/util/Arrays", "hashCode",
+						"(" + getArraysMethodParameterDescriptor(attributeType) + ")I", false);
+			}
+			else if (attributeType.getSort() <= Type.DOUBLE) {
+				String boxedTypeName = Type.getInternalName(
+						ClassUtils.resolvePrimitiveIfNecessary(attribute.getReturnType()));
+				mv.visitMethodInsn(INVOKESTATIC, boxedTypeName, "hashCode", "(" + descriptor + ")I", false);
+			}
+			else {
+				mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "hashCode", "()I", false);
+			}
+			mv.visitInsn(IXOR);
+			mv.visitInsn(IADD);
+		}
+		mv.visitInsn(DUP);
+		mv.visitVarInsn(ISTORE, 1);
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ILOAD, 1);
+		mv.visitFieldInsn(PUTFIELD, internalName, HASH_CODE_FIELD_NAME, "I");
+		mv.visitLabel(returnLabel);
+		mv.visitInsn(IRETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void generateToStringMethod(ClassWriter cw, String internalName) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "toString", "()Ljava/lang/String;", null, null);
+		mv.visitCode();
+		mv.visitFieldInsn(GETSTATIC, internalName, TO_STRING_FIELD_NAME, "Ljava/util/function/Function;");
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/function/Function", "apply",
+				"(Ljava/lang/Object;)Ljava/lang/Object;", true);
+		mv.visitTypeInsn(CHECKCAST, "java/lang/String");
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static String getArraysMethodParameterDescriptor(Type arrayType) {
+		Type elementType = arrayType.getElementType();
+		return (elementType.getSort() <= Type.DOUBLE ? arrayType.getDescriptor() : "[Ljava/lang/Object;");
+	}
+
+}
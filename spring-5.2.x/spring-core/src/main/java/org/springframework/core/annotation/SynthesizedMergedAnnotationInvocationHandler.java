@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -194,7 +194,7 @@ final class SynthesizedMergedAnnotationInvocationHandler<A extends Annotation> i
 		return string;
 	}
 
-	private String toString(Object value) {
+	static String toString(Object value) {
 		if (value instanceof Class) {
 			return ((Class<?>) value).getName();
 		}
@@ -272,7 +272,7 @@ final class SynthesizedMergedAnnotationInvocationHandler<A extends Annotation> i
 	}
 
 
-	private static boolean isVisible(ClassLoader classLoader, Class<?> interfaceClass) {
+	static boolean isVisible(ClassLoader classLoader, Class<?> interfaceClass) {
 		if (classLoader == interfaceClass.getClassLoader()) {
 			return true;
 		}
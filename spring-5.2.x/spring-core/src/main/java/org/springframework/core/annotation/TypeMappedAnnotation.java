@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -332,6 +332,12 @@ final class TypeMappedAnnotation<A extends Annotation> extends AbstractMergedAnn
 		if (getType().isInstance(this.rootAttributes) && !isSynthesizable()) {
 			return (A) this.rootAttributes;
 		}
+		if (SynthesizedMergedAnnotationClassGenerator.ENABLED) {
+			A synthesized = SynthesizedMergedAnnotationClassGenerator.createSynthesized(this, getType());
+			if (synthesized != null) {
+				return synthesized;
+			}
+		}
 		return SynthesizedMergedAnnotationInvocationHandler.createProxy(this, getType());
 	}
 
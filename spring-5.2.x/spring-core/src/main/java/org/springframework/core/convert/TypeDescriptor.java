@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -265,6 +265,17 @@ public class TypeDescriptor implements Serializable {
 		return AnnotatedElementUtils.getMergedAnnotation(this.annotatedElement, annotationType);
 	}
 
+	/**
+	 * Determine if this type descriptor carries any annotations.
+	 * <p>In contrast to {@link #getAnnotations()}, this does not copy the
+	 * annotation array, allowing for cheap checks on hot code paths.
+	 * @return {@code true} if there is at least one annotation
+	 * @since 5.2.26
+	 */
+	public boolean isAnnotated() {
+		return !this.annotatedElement.isEmpty();
+	}
+
 	/**
 	 * Returns true if an object of this type descriptor can be assigned to the location
 	 * described by the given type descriptor.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -79,6 +79,10 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	/** Converters for plain source and target classes, keyed by source class and then by target class. */
+	private final Map<Class<?>, Map<Class<?>, ClassPairConverter>> classPairConverterCache =
+			new ConcurrentReferenceHashMap<>(64);
+
 
 	// ConverterRegistry implementation
 
@@ -133,8 +137,14 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Override
 	public boolean canConvert(@Nullable Class<?> sourceType, Class<?> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
-		return canConvert((sourceType != null ? TypeDescriptor.valueOf(sourceType) : null),
-				TypeDescriptor.valueOf(targetType));
+		if (sourceType == null) {
+			return true;
+		}
+		ClassPairConverter classPairConverter = getClassPairConverter(sourceType, targetType);
+		if (classPairConverter != null) {
+			return (classPairConverter.converter != null);
+		}
+		return canConvert(TypeDescriptor.valueOf(sourceType), TypeDescriptor.valueOf(targetType));
 	}
 
 	@Override
@@ -143,7 +153,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 		if (sourceType == null) {
 			return true;
 		}
-		GenericConverter converter = getConverter(sourceType, targetType);
+		GenericConverter converter = lookupConverter(sourceType, targetType);
 		return (converter != null);
 	}
 
@@ -163,7 +173,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 		if (sourceType == null) {
 			return true;
 		}
-		GenericConverter converter = getConverter(sourceType, targetType);
+		GenericConverter converter = lookupConverter(sourceType, targetType);
 		return (converter == NO_OP_CONVERTER);
 	}
 
@@ -172,7 +182,21 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Nullable
 	public <T> T convert(@Nullable Object source, Class<T> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
-		return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
+		if (source == null) {
+			return (T) convert(null, null, TypeDescriptor.valueOf(targetType));
+		}
+		ClassPairConverter classPairConverter = getClassPairConverter(source.getClass(), targetType);
+		if (classPairConverter == null) {
+			return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
+		}
+		TypeDescriptor sourceTypeToUse = classPairConverter.sourceType;
+		TypeDescriptor targetTypeToUse = classPairConverter.targetType;
+		GenericConverter converter = classPairConverter.converter;
+		if (converter != null) {
+			Object result = ConversionUtils.invokeConverter(converter, source, sourceTypeToUse, targetTypeToUse);
+			return (T) handleResult(sourceTypeToUse, targetTypeToUse, result);
+		}
+		return (T) handleConverterNotFound(source, sourceTypeToUse, targetTypeToUse);
 	}
 
 	@Override
@@ -187,7 +211,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 			throw new IllegalArgumentException("Source to convert from must be an instance of [" +
 					sourceType + "]; instead it was a [" + source.getClass().getName() + "]");
 		}
-		GenericConverter converter = getConverter(sourceType, targetType);
+		GenericConverter converter = lookupConverter(sourceType, targetType);
 		if (converter != null) {
 			Object result = ConversionUtils.invokeConverter(converter, source, sourceType, targetType);
 			return handleResult(sourceType, targetType, result);
@@ -244,6 +268,8 @@ public class GenericConversionService implements ConfigurableConversionService {
 	 * First queries this ConversionService's converter cache.
 	 * On a cache miss, then performs an exhaustive search for a matching converter.
 	 * If no converter matches, returns the default converter.
+	 * <p>Note that the outcome for unannotated source and target types without
+	 * element, key or value types is additionally cached by class.
 	 * @param sourceType the source type to convert from
 	 * @param targetType the target type to convert to
 	 * @return the generic converter that will perform the conversion,
@@ -303,8 +329,63 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return generics;
 	}
 
+	/**
+	 * Look up the converter for the given sourceType/targetType pair, by class
+	 * if neither type carries annotations or element, key or value types.
+	 */
+	@Nullable
+	private GenericConverter lookupConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		if (!sourceType.isAnnotated() && !targetType.isAnnotated()) {
+			ClassPairConverter classPairConverter = getClassPairConverter(sourceType.getType(), targetType.getType());
+			if (classPairConverter != null) {
+				return classPairConverter.converter;
+			}
+		}
+		return getConverter(sourceType, targetType);
+	}
+
+	/**
+	 * Obtain the converter for the given pair of classes from the class-keyed cache,
+	 * {@linkplain #getConverter(TypeDescriptor, TypeDescriptor) looking it up} on a cache miss.
+	 * @return the cache entry, or {@code null} if either class has element, key or value
+	 * types to consider, in which case conversion requires full type descriptors
+	 */
+	@Nullable
+	private ClassPairConverter getClassPairConverter(Class<?> sourceClass, Class<?> targetClass) {
+		Map<Class<?>, ClassPairConverter> convertersByTarget = this.classPairConverterCache.get(sourceClass);
+		ClassPairConverter classPairConverter = (convertersByTarget != null ? convertersByTarget.get(targetClass) : null);
+		return (classPairConverter != null ? classPairConverter : cacheClassPairConverter(sourceClass, targetClass));
+	}
+
+	@Nullable
+	private ClassPairConverter cacheClassPairConverter(Class<?> sourceClass, Class<?> targetClass) {
+		TypeDescriptor sourceType = TypeDescriptor.valueOf(sourceClass);
+		TypeDescriptor targetType = TypeDescriptor.valueOf(targetClass);
+		if (!isPlainType(sourceType) || !isPlainType(targetType)) {
+			return null;
+		}
+		Map<Class<?>, ClassPairConverter> convertersByTarget = this.classPairConverterCache.get(sourceClass);
+		if (convertersByTarget == null) {
+			convertersByTarget = new ConcurrentHashMap<>(8);
+			Map<Class<?>, ClassPairConverter> existing =
+					this.classPairConverterCache.putIfAbsent(sourceClass, convertersByTarget);
+			if (existing != null) {
+				convertersByTarget = existing;
+			}
+		}
+		ClassPairConverter classPairConverter =
+				new ClassPairConverter(sourceType, targetType, getConverter(sourceType, targetType));
+		convertersByTarget.put(targetClass, classPairConverter);
+		return classPairConverter;
+	}
+
+	private static boolean isPlainType(TypeDescriptor typeDescriptor) {
+		return (!typeDescriptor.isArray() && !typeDescriptor.isCollection() && !typeDescriptor.isMap());
+	}
+
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.classPairConverterCache.clear();
 	}
 
 	@Nullable
@@ -495,6 +576,27 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * Entry in the class-keyed converter cache, holding the type descriptors
+	 * for the source and target class along with the converter between them.
+	 */
+	private static final class ClassPairConverter {
+
+		final TypeDescriptor sourceType;
+
+		final TypeDescriptor targetType;
+
+		@Nullable
+		final GenericConverter converter;
+
+		ClassPairConverter(TypeDescriptor sourceType, TypeDescriptor targetType, @Nullable GenericConverter converter) {
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.converter = converter;
+		}
+	}
+
+
 	/**
 	 * Manages all converters registered with the service.
 	 */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -132,10 +132,13 @@ public class DefaultResourceLoader implements ResourceLoader {
 
 	/**
 	 * Clear all resource caches in this resource loader.
+	 * <p>The content of each cache gets cleared as well, releasing it even
+	 * where a cache {@code Map} is still referenced by one of its users.
 	 * @since 5.0
 	 * @see #getResourceCache
 	 */
 	public void clearResourceCaches() {
+		this.resourceCaches.values().forEach(Map::clear);
 		this.resourceCaches.clear();
 	}
 
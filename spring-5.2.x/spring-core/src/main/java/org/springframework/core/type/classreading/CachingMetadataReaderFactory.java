@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,8 @@
 package org.springframework.core.type.classreading;
 
 import java.io.IOException;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
@@ -31,6 +30,11 @@ import org.springframework.lang.Nullable;
  * caching a {@link MetadataReader} instance per Spring {@link Resource} handle
  * (i.e. per ".class" file).
  *
+ * <p>A local cache is bounded by number of entries as well as by the approximate
+ * weight of the cached metadata in bytes, evicting entries that have not been
+ * used recently. A shared cache is released by its {@link DefaultResourceLoader},
+ * e.g. once an application context has been refreshed.
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @since 2.5
@@ -40,9 +44,25 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	/** Default maximum number of entries for a local MetadataReader cache: 256. */
 	public static final int DEFAULT_CACHE_LIMIT = 256;
 
-	/** MetadataReader cache: either local or shared at the ResourceLoader level. */
+	/**
+	 * Default maximum approximate weight of a local MetadataReader cache: 4 MB.
+	 * @since 5.2.26
+	 */
+	public static final long DEFAULT_CACHE_WEIGHT_LIMIT = 4 * 1024 * 1024;
+
+	/** Shared MetadataReader cache at the ResourceLoader level, if any. */
 	@Nullable
-	private Map<Resource, MetadataReader> metadataReaderCache;
+	private Map<Resource, MetadataReader> sharedCache;
+
+	/** Local MetadataReader cache, if any. */
+	@Nullable
+	private MetadataReaderCache localCache;
+
+	private long cacheWeightLimit = DEFAULT_CACHE_WEIGHT_LIMIT;
+
+	private final LongAdder cacheHitCount = new LongAdder();
+
+	private final LongAdder cacheMissCount = new LongAdder();
 
 
 	/**
@@ -74,8 +94,7 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	public CachingMetadataReaderFactory(@Nullable ResourceLoader resourceLoader) {
 		super(resourceLoader);
 		if (resourceLoader instanceof DefaultResourceLoader) {
-			this.metadataReaderCache =
-					((DefaultResourceLoader) resourceLoader).getResourceCache(MetadataReader.class);
+			this.sharedCache = ((DefaultResourceLoader) resourceLoader).getResourceCache(MetadataReader.class);
 		}
 		else {
 			setCacheLimit(DEFAULT_CACHE_LIMIT);
@@ -91,13 +110,15 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	 */
 	public void setCacheLimit(int cacheLimit) {
 		if (cacheLimit <= 0) {
-			this.metadataReaderCache = null;
+			this.sharedCache = null;
+			this.localCache = null;
 		}
-		else if (this.metadataReaderCache instanceof LocalResourceCache) {
-			((LocalResourceCache) this.metadataReaderCache).setCacheLimit(cacheLimit);
+		else if (this.localCache != null) {
+			this.localCache.setSizeLimit(cacheLimit);
 		}
 		else {
-			this.metadataReaderCache = new LocalResourceCache(cacheLimit);
+			this.sharedCache = null;
+			this.localCache = new MetadataReaderCache(cacheLimit, this.cacheWeightLimit);
 		}
 	}
 
@@ -105,79 +126,118 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	 * Return the maximum number of entries for the MetadataReader cache.
 	 */
 	public int getCacheLimit() {
-		if (this.metadataReaderCache instanceof LocalResourceCache) {
-			return ((LocalResourceCache) this.metadataReaderCache).getCacheLimit();
+		if (this.localCache != null) {
+			return this.localCache.getSizeLimit();
 		}
 		else {
-			return (this.metadataReaderCache != null ? Integer.MAX_VALUE : 0);
+			return (this.sharedCache != null ? Integer.MAX_VALUE : 0);
 		}
 	}
 
+	/**
+	 * Specify the maximum approximate weight of a local MetadataReader cache
+	 * in bytes, as estimated from the class, annotation and method metadata
+	 * held by each cached {@link MetadataReader}.
+	 * <p>Default is 4 MB. Does not apply to a shared resource cache.
+	 * @since 5.2.26
+	 * @see #setCacheLimit
+	 */
+	public void setCacheWeightLimit(long cacheWeightLimit) {
+		this.cacheWeightLimit = cacheWeightLimit;
+		if (this.localCache != null) {
+			this.localCache.setWeightLimit(cacheWeightLimit);
+		}
+	}
+
+	/**
+	 * Return the maximum approximate weight of a local MetadataReader cache in bytes.
+	 * @since 5.2.26
+	 */
+	public long getCacheWeightLimit() {
+		return this.cacheWeightLimit;
+	}
+
+	/**
+	 * Return the number of MetadataReader requests served from the cache.
+	 * @since 5.2.26
+	 */
+	public long getCacheHitCount() {
+		return this.cacheHitCount.sum();
+	}
+
+	/**
+	 * Return the number of MetadataReader requests that required reading a class.
+	 * @since 5.2.26
+	 */
+	public long getCacheMissCount() {
+		return this.cacheMissCount.sum();
+	}
+
+	/**
+	 * Return the number of entries evicted from a local MetadataReader cache
+	 * because of its limits.
+	 * @since 5.2.26
+	 */
+	public long getCacheEvictionCount() {
+		MetadataReaderCache localCache = this.localCache;
+		return (localCache != null ? localCache.getEvictionCount() : 0);
+	}
+
+	/**
+	 * Return the approximate weight of the entries in a local MetadataReader cache in bytes.
+	 * @since 5.2.26
+	 * @see #setCacheWeightLimit
+	 */
+	public long getCacheWeight() {
+		MetadataReaderCache localCache = this.localCache;
+		return (localCache != null ? localCache.getWeight() : 0);
+	}
+
 
 	@Override
 	public MetadataReader getMetadataReader(Resource resource) throws IOException {
-		if (this.metadataReaderCache instanceof ConcurrentMap) {
-			// No synchronization necessary...
-			MetadataReader metadataReader = this.metadataReaderCache.get(resource);
+		Map<Resource, MetadataReader> sharedCache = this.sharedCache;
+		if (sharedCache != null) {
+			// No synchronization necessary: a concurrent map...
+			MetadataReader metadataReader = sharedCache.get(resource);
 			if (metadataReader == null) {
+				this.cacheMissCount.increment();
 				metadataReader = super.getMetadataReader(resource);
-				this.metadataReaderCache.put(resource, metadataReader);
+				sharedCache.put(resource, metadataReader);
+			}
+			else {
+				this.cacheHitCount.increment();
 			}
 			return metadataReader;
 		}
-		else if (this.metadataReaderCache != null) {
-			synchronized (this.metadataReaderCache) {
-				MetadataReader metadataReader = this.metadataReaderCache.get(resource);
-				if (metadataReader == null) {
-					metadataReader = super.getMetadataReader(resource);
-					this.metadataReaderCache.put(resource, metadataReader);
-				}
-				return metadataReader;
+		MetadataReaderCache localCache = this.localCache;
+		if (localCache != null) {
+			MetadataReader metadataReader = localCache.get(resource);
+			if (metadataReader == null) {
+				// Read the class without locking, allowing for concurrent reads of
+				// different resources: the first reader cached for a resource wins.
+				this.cacheMissCount.increment();
+				metadataReader = localCache.putIfAbsent(resource, super.getMetadataReader(resource));
 			}
+			else {
+				this.cacheHitCount.increment();
+			}
+			return metadataReader;
 		}
-		else {
-			return super.getMetadataReader(resource);
-		}
+		return super.getMetadataReader(resource);
 	}
 
 	/**
 	 * Clear the local MetadataReader cache, if any, removing all cached class metadata.
 	 */
 	public void clearCache() {
-		if (this.metadataReaderCache instanceof LocalResourceCache) {
-			synchronized (this.metadataReaderCache) {
-				this.metadataReaderCache.clear();
-			}
+		if (this.localCache != null) {
+			this.localCache.clear();
 		}
-		else if (this.metadataReaderCache != null) {
+		else if (this.sharedCache != null) {
 			// Shared resource cache -> reset to local cache.
 			setCacheLimit(DEFAULT_CACHE_LIMIT);
 		}
 	}
 
-
-	@SuppressWarnings("serial")
-	private static class LocalResourceCache extends LinkedHashMap<Resource, MetadataReader> {
-
-		private volatile int cacheLimit;
-
-		public LocalResourceCache(int cacheLimit) {
-			super(cacheLimit, 0.75f, true);
-			this.cacheLimit = cacheLimit;
-		}
-
-		public void setCacheLimit(int cacheLimit) {
-			this.cacheLimit = cacheLimit;
-		}
-
-		public int getCacheLimit() {
-			return this.cacheLimit;
-		}
-
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<Resource, MetadataReader> eldest) {
-			return size() > this.cacheLimit;
-		}
-	}
-
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.lang.Nullable;
+
+/**
+ * Concurrent local cache of {@link MetadataReader} instances for
+ * {@link CachingMetadataReaderFactory}, bounded by number of entries as
+ * well as by their approximate weight in bytes.
+ *
+ * <p>Lookups do not lock: they merely mark an entry as recently used. Once
+ * a limit is exceeded, entries are evicted in insertion order, with recently
+ * used entries getting a second chance (an approximation of LRU order).
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ */
+final class MetadataReaderCache {
+
+	private static final int ENTRY_WEIGHT = 512;
+
+	private static final int ANNOTATION_WEIGHT = 256;
+
+	private static final int METHOD_WEIGHT = 384;
+
+	private static final int STRING_WEIGHT = 40;
+
+
+	private final ConcurrentMap<Resource, Entry> entries = new ConcurrentHashMap<>(64);
+
+	private final Queue<Entry> evictionQueue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong weight = new AtomicLong();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private volatile int sizeLimit;
+
+	private volatile long weightLimit;
+
+
+	MetadataReaderCache(int sizeLimit, long weightLimit) {
+		this.sizeLimit = sizeLimit;
+		this.weightLimit = weightLimit;
+	}
+
+
+	void setSizeLimit(int sizeLimit) {
+		this.sizeLimit = sizeLimit;
+		evictIfNecessary();
+	}
+
+	int getSizeLimit() {
+		return this.sizeLimit;
+	}
+
+	void setWeightLimit(long weightLimit) {
+		this.weightLimit = weightLimit;
+		evictIfNecessary();
+	}
+
+	long getWeightLimit() {
+		return this.weightLimit;
+	}
+
+	/**
+	 * Return the cached reader for the given resource, marking it as recently used.
+	 */
+	@Nullable
+	MetadataReader get(Resource resource) {
+		Entry entry = this.entries.get(resource);
+		if (entry == null) {
+			return null;
+		}
+		entry.referenced = true;
+		return entry.metadataReader;
+	}
+
+	/**
+	 * Cache the given reader unless a reader is cached for its resource already.
+	 * @return the cached reader for the resource
+	 */
+	MetadataReader putIfAbsent(Resource resource, MetadataReader metadataReader) {
+		Entry entry = new Entry(resource, metadataReader, estimateWeight(metadataReader));
+		Entry existing = this.entries.putIfAbsent(resource, entry);
+		if (existing != null) {
+			existing.referenced = true;
+			return existing.metadataReader;
+		}
+		this.evictionQueue.add(entry);
+		this.weight.addAndGet(entry.weight);
+		evictIfNecessary();
+		return metadataReader;
+	}
+
+	void clear() {
+		synchronized (this.evictionQueue) {
+			for (Entry entry; (entry = this.evictionQueue.poll()) != null;) {
+				if (this.entries.remove(entry.resource, entry)) {
+					this.weight.addAndGet(-entry.weight);
+				}
+			}
+		}
+	}
+
+	int size() {
+		return this.entries.size();
+	}
+
+	long getWeight() {
+		return this.weight.get();
+	}
+
+	long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	private boolean isOverLimit() {
+		return (this.entries.size() > this.sizeLimit || this.weight.get() > this.weightLimit);
+	}
+
+	private void evictIfNecessary() {
+		if (!isOverLimit()) {
+			return;
+		}
+		synchronized (this.evictionQueue) {
+			// Bounded: entries may get marked as used again while cycling through the queue
+			for (int budget = 2 * this.entries.size() + 1; budget > 0 && isOverLimit(); budget--) {
+				Entry entry = this.evictionQueue.poll();
+				if (entry == null) {
+					break;
+				}
+				if (entry.referenced) {
+					// Recently used: second chance at the end of the queue
+					entry.referenced = false;
+					this.evictionQueue.add(entry);
+				}
+				else if (this.entries.remove(entry.resource, entry)) {
+					this.weight.addAndGet(-entry.weight);
+					this.evictionCount.increment();
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Estimate the retained size of the given reader in bytes, based on the
+	 * amount of class, annotation and method metadata it holds.
+	 */
+	static long estimateWeight(MetadataReader metadataReader) {
+		AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+		long weight = ENTRY_WEIGHT + weigh(metadata.getClassName()) + weigh(metadata.getSuperClassName());
+		for (String interfaceName : metadata.getInterfaceNames()) {
+			weight += weigh(interfaceName);
+		}
+		for (String memberClassName : metadata.getMemberClassNames()) {
+			weight += weigh(memberClassName);
+		}
+		weight += (long) metadata.getAnnotationTypes().size() * ANNOTATION_WEIGHT;
+		if (metadata instanceof SimpleAnnotationMetadata) {
+			weight += (long) ((SimpleAnnotationMetadata) metadata).getAnnotatedMethodCount() * METHOD_WEIGHT;
+		}
+		return weight;
+	}
+
+	private static long weigh(@Nullable String name) {
+		return (name != null ? STRING_WEIGHT + 2L * name.length() : 0);
+	}
+
+
+	private static final class Entry {
+
+		final Resource resource;
+
+		final MetadataReader metadataReader;
+
+		final long weight;
+
+		volatile boolean referenced;
+
+		Entry(Resource resource, MetadataReader metadataReader, long weight) {
+			this.resource = resource;
+			this.metadataReader = metadataReader;
+			this.weight = weight;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -156,4 +156,12 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 		return this.annotations;
 	}
 
+	/**
+	 * Return the number of annotated methods held by this metadata.
+	 * @see MetadataReaderCache#estimateWeight
+	 */
+	int getAnnotatedMethodCount() {
+		return this.annotatedMethods.length;
+	}
+
 }
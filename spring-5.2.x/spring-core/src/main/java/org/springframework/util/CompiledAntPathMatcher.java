@@ -0,0 +1,543 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link AntPathMatcher} variant that compiles each pattern once into a
+ * sequence of segment matchers and then matches paths in place, without
+ * tokenizing the path into substrings.
+ *
+ * <p>Literal segments are compared by index against the path, and segments
+ * that only contain {@code ?} and {@code *} wildcards are evaluated directly
+ * instead of through a regular expression. Only segments declaring URI
+ * template variables (e.g. {@code {id}} or {@code {id:\\d+}}) are delegated
+ * to an {@link AntPathStringMatcher}, exactly as in {@link AntPathMatcher}.
+ * Compiled patterns are held in a soft-referenced cache that does not turn
+ * itself off when many distinct patterns are encountered.
+ *
+ * <p>Matching semantics are identical to {@link AntPathMatcher}, so this class
+ * may be used as a drop-in replacement wherever a {@link PathMatcher} is
+ * configurable. When {@link #setTrimTokens trimming} is enabled or the
+ * {@link #setPathSeparator path separator} is not a single character, matching
+ * falls back to the {@link AntPathMatcher} algorithm.
+ *
+ * <p>{@link #getMatchingPatterns(Collection, String)} matches a single path
+ * against many patterns, locating the path segments only once.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ */
+public class CompiledAntPathMatcher extends AntPathMatcher {
+
+	private static final byte LITERAL = 0;
+
+	private static final byte WILDCARD = 1;
+
+	private static final byte DOUBLE_WILDCARD = 2;
+
+	private static final byte TEMPLATE = 3;
+
+
+	private String pathSeparator = DEFAULT_PATH_SEPARATOR;
+
+	private boolean caseSensitive = true;
+
+	private boolean trimTokens = false;
+
+	private boolean cachePatterns = true;
+
+	private final Map<String, CompiledPattern> compiledPatternCache = new ConcurrentReferenceHashMap<>(256);
+
+
+	/**
+	 * Create a new instance with the {@link #DEFAULT_PATH_SEPARATOR}.
+	 */
+	public CompiledAntPathMatcher() {
+		super();
+	}
+
+	/**
+	 * A convenient, alternative constructor to use with a custom path separator.
+	 * @param pathSeparator the path separator to use, must not be {@code null}.
+	 */
+	public CompiledAntPathMatcher(String pathSeparator) {
+		super(pathSeparator);
+		this.pathSeparator = pathSeparator;
+	}
+
+
+	@Override
+	public void setPathSeparator(@Nullable String pathSeparator) {
+		super.setPathSeparator(pathSeparator);
+		this.pathSeparator = (pathSeparator != null ? pathSeparator : DEFAULT_PATH_SEPARATOR);
+		this.compiledPatternCache.clear();
+	}
+
+	@Override
+	public void setCaseSensitive(boolean caseSensitive) {
+		super.setCaseSensitive(caseSensitive);
+		this.caseSensitive = caseSensitive;
+		this.compiledPatternCache.clear();
+	}
+
+	@Override
+	public void setTrimTokens(boolean trimTokens) {
+		super.setTrimTokens(trimTokens);
+		this.trimTokens = trimTokens;
+	}
+
+	/**
+	 * Specify whether to cache compiled patterns.
+	 * <p>Default is {@code true}. Compiled patterns are softly referenced, so
+	 * the cache does not need to be turned off for large or unbounded sets of
+	 * patterns. A value of {@code false} compiles patterns on every match.
+	 */
+	@Override
+	public void setCachePatterns(boolean cachePatterns) {
+		super.setCachePatterns(cachePatterns);
+		this.cachePatterns = cachePatterns;
+		if (!cachePatterns) {
+			this.compiledPatternCache.clear();
+		}
+	}
+
+
+	/**
+	 * Return the patterns from the given collection that match the given path,
+	 * in iteration order. Equivalent to calling {@link #match(String, String)}
+	 * for each pattern, but locates the segments of the path only once.
+	 * @param patterns the patterns to match against
+	 * @param path the path to test
+	 * @return the matching patterns (never {@code null})
+	 */
+	public List<String> getMatchingPatterns(Collection<String> patterns, String path) {
+		List<String> result = new ArrayList<>();
+		if (!isCompilable()) {
+			for (String pattern : patterns) {
+				if (super.doMatch(pattern, path, true, null)) {
+					result.add(pattern);
+				}
+			}
+			return result;
+		}
+		int[] pathBounds = null;
+		for (String pattern : patterns) {
+			CompiledPattern compiled = getCompiledPattern(pattern);
+			if (compiled.startsWithSeparator != startsWithSeparator(path)) {
+				continue;
+			}
+			if (pathBounds == null) {
+				pathBounds = locateSegments(path);
+			}
+			if (compiled.matches(path, pathBounds, true, null)) {
+				result.add(pattern);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	protected boolean doMatch(String pattern, @Nullable String path, boolean fullMatch,
+			@Nullable Map<String, String> uriTemplateVariables) {
+
+		if (!isCompilable()) {
+			return super.doMatch(pattern, path, fullMatch, uriTemplateVariables);
+		}
+		if (path == null) {
+			return false;
+		}
+		CompiledPattern compiled = getCompiledPattern(pattern);
+		if (compiled.startsWithSeparator != startsWithSeparator(path)) {
+			return false;
+		}
+		if (!compiled.hasDoubleWildcard) {
+			return compiled.matchesInSequence(path, fullMatch, uriTemplateVariables);
+		}
+		return compiled.matches(path, locateSegments(path), fullMatch, uriTemplateVariables);
+	}
+
+	private boolean isCompilable() {
+		return (!this.trimTokens && this.pathSeparator.length() == 1);
+	}
+
+	private boolean startsWithSeparator(String path) {
+		return (!path.isEmpty() && path.charAt(0) == this.pathSeparator.charAt(0));
+	}
+
+	private CompiledPattern getCompiledPattern(String pattern) {
+		if (!this.cachePatterns) {
+			return new CompiledPattern(pattern);
+		}
+		CompiledPattern compiled = this.compiledPatternCache.get(pattern);
+		if (compiled == null) {
+			compiled = new CompiledPattern(pattern);
+			this.compiledPatternCache.put(pattern, compiled);
+		}
+		return compiled;
+	}
+
+	/**
+	 * Locate the non-empty segments of the given path.
+	 * @return the start (inclusive) and end (exclusive) index of each
+	 * segment, as consecutive array elements
+	 */
+	private int[] locateSegments(String path) {
+		char separator = this.pathSeparator.charAt(0);
+		int length = path.length();
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			if (path.charAt(i) != separator && (i == 0 || path.charAt(i - 1) == separator)) {
+				count++;
+			}
+		}
+		int[] bounds = new int[count * 2];
+		int index = 0;
+		int start = -1;
+		for (int i = 0; i <= length; i++) {
+			boolean atSeparator = (i == length || path.charAt(i) == separator);
+			if (atSeparator && start != -1) {
+				bounds[index++] = start;
+				bounds[index++] = i;
+				start = -1;
+			}
+			else if (!atSeparator && start == -1) {
+				start = i;
+			}
+		}
+		return bounds;
+	}
+
+	private static boolean isLineTerminator(int c) {
+		return (c == '\n' || c == '\r' || c == 0x85 || c == 0x2028 || c == 0x2029);
+	}
+
+
+	/**
+	 * A pattern tokenized into segments, each classified by the way in which
+	 * it is matched against a path segment.
+	 */
+	private final class CompiledPattern {
+
+		private final String pattern;
+
+		private final String[] segments;
+
+		private final byte[] kinds;
+
+		private final AntPathStringMatcher[] templateMatchers;
+
+		private final boolean startsWithSeparator;
+
+		private final boolean endsWithSeparator;
+
+		private final boolean hasDoubleWildcard;
+
+		CompiledPattern(String pattern) {
+			this.pattern = pattern;
+			this.segments = StringUtils.tokenizeToStringArray(pattern, pathSeparator, false, true);
+			this.kinds = new byte[this.segments.length];
+			this.templateMatchers = new AntPathStringMatcher[this.segments.length];
+			boolean hasDoubleWildcard = false;
+			for (int i = 0; i < this.segments.length; i++) {
+				String segment = this.segments[i];
+				if ("**".equals(segment)) {
+					this.kinds[i] = DOUBLE_WILDCARD;
+					hasDoubleWildcard = true;
+				}
+				else if (segment.indexOf('{') != -1) {
+					this.kinds[i] = TEMPLATE;
+					this.templateMatchers[i] = getStringMatcher(segment);
+				}
+				else if (segment.indexOf('*') != -1 || segment.indexOf('?') != -1) {
+					this.kinds[i] = WILDCARD;
+				}
+				else {
+					this.kinds[i] = LITERAL;
+				}
+			}
+			this.startsWithSeparator = pattern.startsWith(pathSeparator);
+			this.endsWithSeparator = pattern.endsWith(pathSeparator);
+			this.hasDoubleWildcard = hasDoubleWildcard;
+		}
+
+		/**
+		 * Match a path against a pattern without {@code "**"} segments, walking
+		 * the pattern and path segments side by side.
+		 */
+		boolean matchesInSequence(String path, boolean fullMatch, @Nullable Map<String, String> variables) {
+			char separator = pathSeparator.charAt(0);
+			int length = path.length();
+			int pos = skipSeparators(path, 0, separator);
+			int index = 0;
+			while (index < this.segments.length && pos < length) {
+				int end = path.indexOf(separator, pos);
+				if (end == -1) {
+					end = length;
+				}
+				if (!matchSegment(index, path, pos, end, variables)) {
+					return false;
+				}
+				index++;
+				pos = skipSeparators(path, end, separator);
+			}
+			if (pos < length) {
+				// Path not exhausted, but pattern is.
+				return false;
+			}
+			if (index == this.segments.length) {
+				return (this.endsWithSeparator == path.endsWith(pathSeparator));
+			}
+			if (!fullMatch) {
+				return true;
+			}
+			return (index == this.segments.length - 1 && "*".equals(this.segments[index]) &&
+					path.endsWith(pathSeparator));
+		}
+
+		/**
+		 * Match a path against this pattern, following the algorithm of
+		 * {@link AntPathMatcher#doMatch} on pre-located path segments.
+		 */
+		boolean matches(String path, int[] pathBounds, boolean fullMatch, @Nullable Map<String, String> variables) {
+			int pattIdxStart = 0;
+			int pattIdxEnd = this.segments.length - 1;
+			int pathIdxStart = 0;
+			int pathIdxEnd = pathBounds.length / 2 - 1;
+
+			// Match all elements up to the first **
+			while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+				if (this.kinds[pattIdxStart] == DOUBLE_WILDCARD) {
+					break;
+				}
+				if (!matchSegment(pattIdxStart, path, pathBounds, pathIdxStart, variables)) {
+					return false;
+				}
+				pattIdxStart++;
+				pathIdxStart++;
+			}
+
+			if (pathIdxStart > pathIdxEnd) {
+				// Path is exhausted, only match if rest of pattern is * or **'s
+				if (pattIdxStart > pattIdxEnd) {
+					return (this.endsWithSeparator == path.endsWith(pathSeparator));
+				}
+				if (!fullMatch) {
+					return true;
+				}
+				if (pattIdxStart == pattIdxEnd && "*".equals(this.segments[pattIdxStart]) &&
+						path.endsWith(pathSeparator)) {
+					return true;
+				}
+				return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+			}
+			else if (pattIdxStart > pattIdxEnd) {
+				// String not exhausted, but pattern is. Failure.
+				return false;
+			}
+			else if (!fullMatch && this.kinds[pattIdxStart] == DOUBLE_WILDCARD) {
+				// Path start definitely matches due to "**" part in pattern.
+				return true;
+			}
+
+			// up to last '**'
+			while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+				if (this.kinds[pattIdxEnd] == DOUBLE_WILDCARD) {
+					break;
+				}
+				if (!matchSegment(pattIdxEnd, path, pathBounds, pathIdxEnd, variables)) {
+					return false;
+				}
+				pattIdxEnd--;
+				pathIdxEnd--;
+			}
+			if (pathIdxStart > pathIdxEnd) {
+				// String is exhausted
+				return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+			}
+
+			while (pattIdxStart != pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+				int patIdxTmp = -1;
+				for (int i = pattIdxStart + 1; i <= pattIdxEnd; i++) {
+					if (this.kinds[i] == DOUBLE_WILDCARD) {
+						patIdxTmp = i;
+						break;
+					}
+				}
+				if (patIdxTmp == pattIdxStart + 1) {
+					// '**/**' situation, so skip one
+					pattIdxStart++;
+					continue;
+				}
+				// Find the pattern between padIdxStart & padIdxTmp in str between
+				// strIdxStart & strIdxEnd
+				int patLength = (patIdxTmp - pattIdxStart - 1);
+				int strLength = (pathIdxEnd - pathIdxStart + 1);
+				int foundIdx = -1;
+
+				strLoop:
+				for (int i = 0; i <= strLength - patLength; i++) {
+					for (int j = 0; j < patLength; j++) {
+						if (!matchSegment(pattIdxStart + j + 1, path, pathBounds, pathIdxStart + i + j, variables)) {
+							continue strLoop;
+						}
+					}
+					foundIdx = pathIdxStart + i;
+					break;
+				}
+
+				if (foundIdx == -1) {
+					return false;
+				}
+
+				pattIdxStart = patIdxTmp;
+				pathIdxStart = foundIdx + patLength;
+			}
+
+			return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+		}
+
+		private boolean onlyDoubleWildcards(int from, int to) {
+			for (int i = from; i <= to; i++) {
+				if (this.kinds[i] != DOUBLE_WILDCARD) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private int skipSeparators(String path, int pos, char separator) {
+			while (pos < path.length() && path.charAt(pos) == separator) {
+				pos++;
+			}
+			return pos;
+		}
+
+		private boolean matchSegment(int index, String path, int[] pathBounds, int pathIndex,
+				@Nullable Map<String, String> variables) {
+
+			return matchSegment(index, path, pathBounds[pathIndex * 2], pathBounds[pathIndex * 2 + 1], variables);
+		}
+
+		private boolean matchSegment(int index, String path, int start, int end,
+				@Nullable Map<String, String> variables) {
+
+			String segment = this.segments[index];
+			switch (this.kinds[index]) {
+				case LITERAL:
+					return (end - start == segment.length() && regionMatches(segment, 0, path, start, end - start));
+				case WILDCARD:
+					return matchWildcards(segment, path, start, end);
+				case TEMPLATE:
+					return this.templateMatchers[index].matchStrings(path.substring(start, end), variables);
+				default:
+					// A "**" segment in a position where AntPathMatcher compares it as a regular pattern
+					return matchWildcards(segment, path, start, end);
+			}
+		}
+
+		/**
+		 * Evaluate a segment with {@code ?} and {@code *} wildcards the way the
+		 * equivalent regular expression would: wildcards match whole code points
+		 * except line terminators, and case-insensitive matching only folds
+		 * US-ASCII characters.
+		 */
+		private boolean matchWildcards(String segment, String path, int start, int end) {
+			int patternPos = 0;
+			int pathPos = start;
+			int starPatternPos = -1;
+			int starPathPos = -1;
+			while (pathPos < end) {
+				if (patternPos < segment.length()) {
+					char c = segment.charAt(patternPos);
+					if (c == '*') {
+						starPatternPos = ++patternPos;
+						starPathPos = pathPos;
+						continue;
+					}
+					if (c == '?') {
+						int codePoint = path.codePointAt(pathPos);
+						if (!isLineTerminator(codePoint)) {
+							patternPos++;
+							pathPos += Character.charCount(codePoint);
+							if (pathPos <= end) {
+								continue;
+							}
+						}
+					}
+					else if (charMatches(c, path.charAt(pathPos))) {
+						patternPos++;
+						pathPos++;
+						continue;
+					}
+				}
+				// Mismatch: let the last '*' consume one more code point, if possible
+				if (starPatternPos == -1) {
+					return false;
+				}
+				int codePoint = path.codePointAt(starPathPos);
+				if (isLineTerminator(codePoint)) {
+					return false;
+				}
+				starPathPos += Character.charCount(codePoint);
+				if (starPathPos > end) {
+					return false;
+				}
+				patternPos = starPatternPos;
+				pathPos = starPathPos;
+			}
+			while (patternPos < segment.length() && segment.charAt(patternPos) == '*') {
+				patternPos++;
+			}
+			return (patternPos == segment.length());
+		}
+
+		private boolean regionMatches(String segment, int offset, String path, int start, int length) {
+			if (caseSensitive) {
+				return segment.regionMatches(offset, path, start, length);
+			}
+			for (int i = 0; i < length; i++) {
+				if (!charMatches(segment.charAt(offset + i), path.charAt(start + i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean charMatches(char patternChar, char pathChar) {
+			if (patternChar == pathChar) {
+				return true;
+			}
+			if (caseSensitive || patternChar > 127 || pathChar > 127) {
+				return false;
+			}
+			return (Character.toLowerCase(patternChar) == Character.toLowerCase(pathChar));
+		}
+
+		@Override
+		public String toString() {
+			return this.pattern;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,8 +28,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
@@ -52,7 +54,13 @@ import org.springframework.lang.Nullable;
  * entries.
  *
  * <p>If not explicitly specified, this implementation will use
- * {@linkplain SoftReference soft entry references}.
+ * {@linkplain SoftReference soft entry references}. A {@code strongCapacity} can be
+ * specified in order to hold a bounded number of entries with strong references,
+ * using the configured reference type only for entries beyond that capacity.
+ *
+ * <p>Read operations do not block: garbage collected entries are purged in batches
+ * by the next write to the affected segment (or by {@link #purgeUnreferencedEntries()}),
+ * and only the affected hash chains are rebuilt.
  *
  * @author Phillip Webb
  * @author Juergen Hoeller
@@ -95,6 +103,11 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 	 */
 	private final int shift;
 
+	/**
+	 * The maximum number of entries to hold with strong references.
+	 */
+	private final int strongCapacity;
+
 	/**
 	 * Late binding entry set.
 	 */
@@ -167,24 +180,49 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 	 * write to the map
 	 * @param referenceType the reference type used for entries (soft or weak)
 	 */
-	@SuppressWarnings("unchecked")
 	public ConcurrentReferenceHashMap(
 			int initialCapacity, float loadFactor, int concurrencyLevel, ReferenceType referenceType) {
 
+		this(initialCapacity, loadFactor, concurrencyLevel, referenceType, 0);
+	}
+
+	/**
+	 * Create a new {@code ConcurrentReferenceHashMap} instance that holds up to
+	 * {@code strongCapacity} entries with strong references, so that they are never
+	 * garbage collected, and any further entries with references of the given type.
+	 * <p>Entries are held strongly in the order they are added, with the capacity
+	 * being divided evenly between segments. Removing a strongly held entry makes
+	 * room for a subsequently added entry.
+	 * @param initialCapacity the initial capacity of the map
+	 * @param loadFactor the load factor. When the average number of references per
+	 * table exceeds this value, resize will be attempted.
+	 * @param concurrencyLevel the expected number of threads that will concurrently
+	 * write to the map
+	 * @param referenceType the reference type used for entries beyond the strong capacity
+	 * @param strongCapacity the maximum number of entries to hold with strong references
+	 * @since 5.2.26
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentReferenceHashMap(int initialCapacity, float loadFactor, int concurrencyLevel,
+			ReferenceType referenceType, int strongCapacity) {
+
 		Assert.isTrue(initialCapacity >= 0, "Initial capacity must not be negative");
 		Assert.isTrue(loadFactor > 0f, "Load factor must be positive");
 		Assert.isTrue(concurrencyLevel > 0, "Concurrency level must be positive");
 		Assert.notNull(referenceType, "Reference type must not be null");
+		Assert.isTrue(strongCapacity >= 0, "Strong capacity must not be negative");
 		this.loadFactor = loadFactor;
 		this.shift = calculateShift(concurrencyLevel, MAXIMUM_CONCURRENCY_LEVEL);
 		int size = 1 << this.shift;
 		this.referenceType = referenceType;
+		this.strongCapacity = strongCapacity;
 		int roundedUpSegmentCapacity = (int) ((initialCapacity + size - 1L) / size);
 		int initialSize = 1 << calculateShift(roundedUpSegmentCapacity, MAXIMUM_SEGMENT_SIZE);
 		Segment[] segments = (Segment[]) Array.newInstance(Segment.class, size);
 		int resizeThreshold = (int) (initialSize * getLoadFactor());
+		int segmentStrongCapacity = (int) ((strongCapacity + size - 1L) / size);
 		for (int i = 0; i < segments.length; i++) {
-			segments[i] = new Segment(initialSize, resizeThreshold);
+			segments[i] = new Segment(initialSize, resizeThreshold, segmentStrongCapacity);
 		}
 		this.segments = segments;
 	}
@@ -194,6 +232,14 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 		return this.loadFactor;
 	}
 
+	/**
+	 * Return the maximum number of entries to hold with strong references.
+	 * @since 5.2.26
+	 */
+	protected final int getStrongCapacity() {
+		return this.strongCapacity;
+	}
+
 	protected final int getSegmentsSize() {
 		return this.segments.length;
 	}
@@ -232,7 +278,7 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 	@Override
 	@Nullable
 	public V get(@Nullable Object key) {
-		Reference<K, V> ref = getReference(key, Restructure.WHEN_NECESSARY);
+		Reference<K, V> ref = getReference(key, Restructure.NEVER);
 		Entry<K, V> entry = (ref != null ? ref.get() : null);
 		return (entry != null ? entry.getValue() : null);
 	}
@@ -240,14 +286,14 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 	@Override
 	@Nullable
 	public V getOrDefault(@Nullable Object key, @Nullable V defaultValue) {
-		Reference<K, V> ref = getReference(key, Restructure.WHEN_NECESSARY);
+		Reference<K, V> ref = getReference(key, Restructure.NEVER);
 		Entry<K, V> entry = (ref != null ? ref.get() : null);
 		return (entry != null ? entry.getValue() : defaultValue);
 	}
 
 	@Override
 	public boolean containsKey(@Nullable Object key) {
-		Reference<K, V> ref = getReference(key, Restructure.WHEN_NECESSARY);
+		Reference<K, V> ref = getReference(key, Restructure.NEVER);
 		Entry<K, V> entry = (ref != null ? ref.get() : null);
 		return (entry != null && ObjectUtils.nullSafeEquals(entry.getKey(), key));
 	}
@@ -482,11 +528,42 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 		 */
 		private int resizeThreshold;
 
+		/**
+		 * The maximum number of strong references in this segment.
+		 */
+		private final int strongCapacity;
+
+		/**
+		 * The current number of strong references in this segment.
+		 * Only accessed while holding the lock.
+		 */
+		private int strongCount;
+
+		/**
+		 * Strong references that have been released and need to be purged,
+		 * or {@code null} if this segment does not hold strong references.
+		 */
+		@Nullable
+		private final Queue<Reference<K, V>> releasedStrongReferences;
+
 		public Segment(int initialSize, int resizeThreshold) {
+			this(initialSize, resizeThreshold, 0);
+		}
+
+		/**
+		 * Create a new segment.
+		 * @param initialSize the initial size of the references array
+		 * @param resizeThreshold the initial resize threshold
+		 * @param strongCapacity the maximum number of strong references
+		 * @since 5.2.26
+		 */
+		public Segment(int initialSize, int resizeThreshold, int strongCapacity) {
 			this.referenceManager = createReferenceManager();
 			this.initialSize = initialSize;
 			this.references = createReferenceArray(initialSize);
 			this.resizeThreshold = resizeThreshold;
+			this.strongCapacity = strongCapacity;
+			this.releasedStrongReferences = (strongCapacity > 0 ? new ConcurrentLinkedQueue<>() : null);
 		}
 
 		@Nullable
@@ -530,7 +607,7 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 				Entries<V> entries = value -> {
 					@SuppressWarnings("unchecked")
 					Entry<K, V> newEntry = new Entry<>((K) key, value);
-					Reference<K, V> newReference = Segment.this.referenceManager.createReference(newEntry, hash, head);
+					Reference<K, V> newReference = createReference(newEntry, hash, head);
 					Segment.this.references[index] = newReference;
 					Segment.this.count.incrementAndGet();
 				};
@@ -555,6 +632,10 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 			try {
 				this.references = createReferenceArray(this.initialSize);
 				this.resizeThreshold = (int) (this.references.length * getLoadFactor());
+				this.strongCount = 0;
+				if (this.releasedStrongReferences != null) {
+					this.releasedStrongReferences.clear();
+				}
 				this.count.set(0);
 			}
 			finally {
@@ -571,70 +652,105 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 		protected final void restructureIfNecessary(boolean allowResize) {
 			int currCount = this.count.get();
 			boolean needsResize = allowResize && (currCount > 0 && currCount >= this.resizeThreshold);
-			Reference<K, V> ref = this.referenceManager.pollForPurge();
+			Reference<K, V> ref = pollForPurge();
 			if (ref != null || (needsResize)) {
 				restructure(allowResize, ref);
 			}
 		}
 
 		private void restructure(boolean allowResize, @Nullable Reference<K, V> ref) {
-			boolean needsResize;
 			lock();
 			try {
-				int countAfterRestructure = this.count.get();
 				Set<Reference<K, V>> toPurge = Collections.emptySet();
 				if (ref != null) {
 					toPurge = new HashSet<>();
 					while (ref != null) {
 						toPurge.add(ref);
-						ref = this.referenceManager.pollForPurge();
+						ref = pollForPurge();
 					}
 				}
-				countAfterRestructure -= toPurge.size();
+				int countAfterRestructure = this.count.get() - toPurge.size();
 
 				// Recalculate taking into account count inside lock and items that
 				// will be purged
-				needsResize = (countAfterRestructure > 0 && countAfterRestructure >= this.resizeThreshold);
-				boolean resizing = false;
+				boolean needsResize = (countAfterRestructure > 0 && countAfterRestructure >= this.resizeThreshold);
 				int restructureSize = this.references.length;
 				if (allowResize && needsResize && restructureSize < MAXIMUM_SEGMENT_SIZE) {
-					restructureSize <<= 1;
-					resizing = true;
+					resize(restructureSize << 1, toPurge);
 				}
-
-				// Either create a new table or reuse the existing one
-				Reference<K, V>[] restructured =
-						(resizing ? createReferenceArray(restructureSize) : this.references);
-
-				// Restructure
-				for (int i = 0; i < this.references.length; i++) {
-					ref = this.references[i];
-					if (!resizing) {
-						restructured[i] = null;
+				else if (!toPurge.isEmpty()) {
+					// Only rebuild the chains that contain purged references
+					int purged = 0;
+					for (Reference<K, V> purgeRef : toPurge) {
+						purged += purgeFromChain(getIndex(purgeRef.getHash(), this.references), toPurge);
 					}
-					while (ref != null) {
-						if (!toPurge.contains(ref)) {
-							Entry<K, V> entry = ref.get();
-							if (entry != null) {
-								int index = getIndex(ref.getHash(), restructured);
-								restructured[index] = this.referenceManager.createReference(
-										entry, ref.getHash(), restructured[index]);
-							}
+					this.count.addAndGet(-purged);
+				}
+			}
+			finally {
+				unlock();
+			}
+		}
+
+		private void resize(int restructureSize, Set<Reference<K, V>> toPurge) {
+			Reference<K, V>[] restructured = createReferenceArray(restructureSize);
+			int restructuredCount = 0;
+			int restructuredStrongCount = 0;
+			for (Reference<K, V> head : this.references) {
+				for (Reference<K, V> ref = head; ref != null; ref = ref.getNext()) {
+					Entry<K, V> entry = (toPurge.contains(ref) ? null : ref.get());
+					if (entry != null) {
+						int index = getIndex(ref.getHash(), restructured);
+						restructured[index] = recreateReference(ref, entry, restructured[index]);
+						restructuredCount++;
+						if (ref instanceof StrongEntryReference) {
+							restructuredStrongCount++;
 						}
-						ref = ref.getNext();
 					}
 				}
+			}
+
+			// Replace volatile members
+			this.references = restructured;
+			this.resizeThreshold = (int) (this.references.length * getLoadFactor());
+			this.strongCount = restructuredStrongCount;
+			this.count.set(restructuredCount);
+		}
 
-				// Replace volatile members
-				if (resizing) {
-					this.references = restructured;
-					this.resizeThreshold = (int) (this.references.length * getLoadFactor());
+		/**
+		 * Remove the references to purge from the chain at the given index, along with
+		 * any references that have been garbage collected in the meantime. References
+		 * after the last removed one are kept as they are.
+		 * @return the number of removed references
+		 */
+		private int purgeFromChain(int index, Set<Reference<K, V>> toPurge) {
+			Reference<K, V> head = this.references[index];
+			Reference<K, V> lastPurged = null;
+			for (Reference<K, V> ref = head; ref != null; ref = ref.getNext()) {
+				if (toPurge.contains(ref) || ref.get() == null) {
+					lastPurged = ref;
 				}
-				this.count.set(Math.max(countAfterRestructure, 0));
 			}
-			finally {
-				unlock();
+			if (lastPurged == null) {
+				return 0;
 			}
+			Reference<K, V> tail = lastPurged.getNext();
+			int purged = 0;
+			Reference<K, V> restructured = tail;
+			for (Reference<K, V> ref = head; ref != tail; ref = ref.getNext()) {
+				Entry<K, V> entry = (toPurge.contains(ref) ? null : ref.get());
+				if (entry != null) {
+					restructured = recreateReference(ref, entry, restructured);
+				}
+				else {
+					purged++;
+					if (ref instanceof StrongEntryReference) {
+						this.strongCount--;
+					}
+				}
+			}
+			this.references[index] = restructured;
+			return purged;
 		}
 
 		@Nullable
@@ -660,6 +776,34 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 			return new Reference[size];
 		}
 
+		private Reference<K, V> createReference(Entry<K, V> entry, int hash, @Nullable Reference<K, V> next) {
+			if (this.strongCount < this.strongCapacity && this.releasedStrongReferences != null) {
+				this.strongCount++;
+				return new StrongEntryReference<>(entry, hash, next, this.releasedStrongReferences);
+			}
+			return this.referenceManager.createReference(entry, hash, next);
+		}
+
+		private Reference<K, V> recreateReference(
+				Reference<K, V> ref, Entry<K, V> entry, @Nullable Reference<K, V> next) {
+
+			if (ref instanceof StrongEntryReference && this.releasedStrongReferences != null) {
+				return new StrongEntryReference<>(entry, ref.getHash(), next, this.releasedStrongReferences);
+			}
+			return this.referenceManager.createReference(entry, ref.getHash(), next);
+		}
+
+		@Nullable
+		private Reference<K, V> pollForPurge() {
+			if (this.releasedStrongReferences != null) {
+				Reference<K, V> ref = this.releasedStrongReferences.poll();
+				if (ref != null) {
+					return ref;
+				}
+			}
+			return this.referenceManager.pollForPurge();
+		}
+
 		private int getIndex(int hash, Reference<K, V>[] references) {
 			return (hash & (references.length - 1));
 		}
@@ -1054,6 +1198,56 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 	}
 
 
+	/**
+	 * Internal {@link Reference} implementation that holds its entry strongly,
+	 * used for entries within the {@link #getStrongCapacity() strong capacity}.
+	 */
+	private static final class StrongEntryReference<K, V> implements Reference<K, V> {
+
+		@Nullable
+		private Entry<K, V> entry;
+
+		private final int hash;
+
+		@Nullable
+		private final Reference<K, V> nextReference;
+
+		private final Queue<Reference<K, V>> releasedReferences;
+
+		public StrongEntryReference(Entry<K, V> entry, int hash, @Nullable Reference<K, V> next,
+				Queue<Reference<K, V>> releasedReferences) {
+
+			this.entry = entry;
+			this.hash = hash;
+			this.nextReference = next;
+			this.releasedReferences = releasedReferences;
+		}
+
+		@Override
+		@Nullable
+		public Entry<K, V> get() {
+			return this.entry;
+		}
+
+		@Override
+		public int getHash() {
+			return this.hash;
+		}
+
+		@Override
+		@Nullable
+		public Reference<K, V> getNext() {
+			return this.nextReference;
+		}
+
+		@Override
+		public void release() {
+			this.entry = null;
+			this.releasedReferences.add(this);
+		}
+	}
+
+
 	/**
 	 * Internal {@link Reference} implementation for {@link WeakReference WeakReferences}.
 	 */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -250,8 +250,17 @@ public abstract class StringUtils {
 		}
 
 		int len = str.length();
-		StringBuilder sb = new StringBuilder(str.length());
-		for (int i = 0; i < len; i++) {
+		int start = 0;
+		while (start < len && !Character.isWhitespace(str.charAt(start))) {
+			start++;
+		}
+		if (start == len) {
+			// No whitespace at all: avoid copying the String
+			return str;
+		}
+		StringBuilder sb = new StringBuilder(len - 1);
+		sb.append(str, 0, start);
+		for (int i = start + 1; i < len; i++) {
 			char c = str.charAt(i);
 			if (!Character.isWhitespace(c)) {
 				sb.append(c);
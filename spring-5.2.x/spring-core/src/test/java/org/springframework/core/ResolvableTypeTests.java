@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -199,6 +199,20 @@ class ResolvableTypeTests {
 		assertThat(type2.hashCode()).isEqualTo(type.hashCode());
 	}
 
+	@Test
+	void forFieldSharesResolvedStructureWithEqualType() throws Exception {
+		Field field = Fields.class.getDeclaredField("privateField");
+		Field field2 = Fields.class.getDeclaredField("otherPrivateField");
+		ResolvableType type = ResolvableType.forField(field);
+		ResolvableType type2 = ResolvableType.forField(field2);
+
+		assertThat(type2).isNotSameAs(type);
+		assertThat(type.getSource()).isSameAs(field);
+		assertThat(type2.getSource()).isSameAs(field2);
+		assertThat(type2.getGenerics()).isSameAs(type.getGenerics());
+		assertThat(type2.getInterfaces()).isSameAs(type.getInterfaces());
+	}
+
 	@Test
 	void forFieldMustNotBeNull() throws Exception {
 		assertThatIllegalArgumentException().isThrownBy(() ->
@@ -1159,6 +1173,27 @@ class ResolvableTypeTests {
 		assertThatResolvableType(complex4).isNotAssignableFrom(complex3);
 	}
 
+	@Test
+	void isAssignableFromWithCachedResult() throws Exception {
+		ResolvableType listAnon = ResolvableType.forField(AssignmentBase.class.getField("listAnon"));
+		ResolvableType charSequenceList = ResolvableType.forField(Fields.class.getField("charSequenceList"));
+
+		for (int i = 0; i < 2; i++) {
+			ResolvableType stringList = ResolvableType.forField(Fields.class.getField("stringList"));
+			assertThat(listAnon.isAssignableFrom(stringList)).isTrue();
+			assertThat(charSequenceList.isAssignableFrom(stringList)).isFalse();
+			assertThat(listAnon.isAssignableFrom(List.class)).isTrue();
+			assertThat(listAnon.isAssignableFrom(Set.class)).isFalse();
+		}
+
+		// Equal to forClass(List.class) but without generics, so not assignable
+		assertThat(listAnon.isAssignableFrom(ResolvableType.forRawClass(List.class))).isFalse();
+
+		ResolvableType.clearCache();
+		assertThat(listAnon.isAssignableFrom(List.class)).isTrue();
+		assertThat(listAnon.isAssignableFrom(ResolvableType.forRawClass(List.class))).isFalse();
+	}
+
 	@Test
 	void hashCodeAndEquals() throws Exception {
 		ResolvableType forClass = ResolvableType.forClass(List.class);
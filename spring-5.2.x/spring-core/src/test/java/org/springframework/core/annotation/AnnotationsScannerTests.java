@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -500,6 +500,37 @@ class AnnotationsScannerTests {
 		assertThat(result).isEqualTo("OK");
 	}
 
+	@Test
+	void scanWhenRepeatedReplaysHierarchy() {
+		Method source = methodFrom(WithHierarchy.class);
+		AnnotationsScanner.clearCache();
+		List<String> expected = Arrays.asList(
+				"0:TestAnnotation1", "1:TestAnnotation5", "1:TestInheritedAnnotation5",
+				"2:TestAnnotation6", "3:TestAnnotation2", "3:TestInheritedAnnotation2",
+				"4:TestAnnotation3", "5:TestAnnotation4");
+		assertThat(scan(source, SearchStrategy.TYPE_HIERARCHY)).containsExactlyElementsOf(expected);
+		assertThat(scan(source, SearchStrategy.TYPE_HIERARCHY)).containsExactlyElementsOf(expected);
+		assertThat(scan(source, SearchStrategy.SUPERCLASS)).containsExactly(
+				"0:TestAnnotation1", "1:TestAnnotation2", "1:TestInheritedAnnotation2",
+				"2:TestAnnotation3");
+		AnnotationsScanner.clearCache();
+		assertThat(scan(source, SearchStrategy.TYPE_HIERARCHY)).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void scanWhenRepeatedAndProcessorReturnsFromDoWithAnnotationsExitsEarly() {
+		assertThat(scan(WithHierarchy.class, SearchStrategy.TYPE_HIERARCHY)).hasSize(9);
+		List<Integer> indexes = new ArrayList<>();
+		String result = AnnotationsScanner.scan(this, WithHierarchy.class,
+				SearchStrategy.TYPE_HIERARCHY,
+				(context, aggregateIndex, source, annotations) -> {
+					indexes.add(aggregateIndex);
+					return (aggregateIndex == 2 ? "" : null);
+				});
+		assertThat(result).isEmpty();
+		assertThat(indexes).containsExactly(0, 1, 2);
+	}
+
 
 	private Method methodFrom(Class<?> type) {
 		return ReflectionUtils.findMethod(type, "method");
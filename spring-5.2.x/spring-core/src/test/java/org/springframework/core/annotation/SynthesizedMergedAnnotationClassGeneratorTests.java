@@ -0,0 +1,199 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SynthesizedMergedAnnotationClassGenerator}.
+ *
+ * @author Jankin Wong
+ */
+class SynthesizedMergedAnnotationClassGeneratorTests {
+
+	@Test
+	void createSynthesizedWithAllAttributeTypes() {
+		AllTypes annotation = WithAllTypes.class.getAnnotation(AllTypes.class);
+		AllTypes synthesized = createSynthesized(annotation);
+
+		assertThat(Proxy.isProxyClass(synthesized.getClass())).isFalse();
+		assertThat(synthesized).isInstanceOf(SynthesizedAnnotation.class);
+		assertThat(synthesized.annotationType()).isEqualTo(AllTypes.class);
+		assertThat(synthesized.booleanValue()).isTrue();
+		assertThat(synthesized.byteValue()).isEqualTo((byte) 1);
+		assertThat(synthesized.charValue()).isEqualTo('c');
+		assertThat(synthesized.shortValue()).isEqualTo((short) 2);
+		assertThat(synthesized.intValue()).isEqualTo(3);
+		assertThat(synthesized.longValue()).isEqualTo(4L);
+		assertThat(synthesized.floatValue()).isEqualTo(5.0f);
+		assertThat(synthesized.doubleValue()).isEqualTo(6.0d);
+		assertThat(synthesized.stringValue()).isEqualTo("seven");
+		assertThat(synthesized.classValue()).isEqualTo(StringBuilder.class);
+		assertThat(synthesized.enumValue()).isEqualTo(TimeUnit.SECONDS);
+		assertThat(synthesized.annotationValue().value()).isEqualTo("nested");
+		assertThat(synthesized.intArray()).containsExactly(1, 2);
+		assertThat(synthesized.stringArray()).containsExactly("a", "b");
+		assertThat(synthesized.classArray()).isEmpty();
+		assertThat(synthesized.annotationArray()).extracting(Nested::value).containsExactly("first", "second");
+	}
+
+	@Test
+	void createSynthesizedWithAttributeAliases() {
+		Aliased annotation = WithAliasedValue.class.getAnnotation(Aliased.class);
+		Aliased synthesized = createSynthesized(annotation);
+
+		assertThat(synthesized.value()).isEqualTo("name");
+		assertThat(synthesized.name()).isEqualTo("name");
+		assertThat(synthesized).isEqualTo(MergedAnnotation.from(annotation).synthesize());
+	}
+
+	@Test
+	void createSynthesizedClonesArrays() {
+		AllTypes synthesized = createSynthesized(WithAllTypes.class.getAnnotation(AllTypes.class));
+		synthesized.intArray()[0] = 42;
+		synthesized.stringArray()[0] = "x";
+
+		assertThat(synthesized.intArray()).containsExactly(1, 2);
+		assertThat(synthesized.stringArray()).containsExactly("a", "b");
+	}
+
+	@Test
+	void equalsHashCodeAndToStringMatchSynthesizedProxy() {
+		AllTypes annotation = WithAllTypes.class.getAnnotation(AllTypes.class);
+		AllTypes synthesized = createSynthesized(annotation);
+		AllTypes proxy = SynthesizedMergedAnnotationInvocationHandler.createProxy(
+				MergedAnnotation.from(annotation), AllTypes.class);
+
+		assertThat(synthesized).isEqualTo(synthesized);
+		assertThat(synthesized).isEqualTo(annotation);
+		assertThat(annotation).isEqualTo(synthesized);
+		assertThat(synthesized).isEqualTo(proxy);
+		assertThat(proxy).isEqualTo(synthesized);
+		assertThat(synthesized).isEqualTo(createSynthesized(annotation));
+		assertThat(synthesized.hashCode()).isEqualTo(annotation.hashCode());
+		assertThat(synthesized.hashCode()).isEqualTo(proxy.hashCode());
+		assertThat(synthesized.toString()).isEqualTo(proxy.toString());
+	}
+
+	@Test
+	void equalsWhenAttributeValuesDiffer() {
+		AllTypes synthesized = createSynthesized(WithAllTypes.class.getAnnotation(AllTypes.class));
+		AllTypes other = createSynthesized(WithOtherTypes.class.getAnnotation(AllTypes.class));
+
+		assertThat(synthesized).isNotEqualTo(other);
+		assertThat(synthesized).isNotEqualTo(WithAliasedValue.class.getAnnotation(Aliased.class));
+		assertThat(synthesized).isNotEqualTo(null);
+	}
+
+	@Test
+	void createSynthesizedUsesSingleClassPerAnnotationType() {
+		AllTypes synthesized = createSynthesized(WithAllTypes.class.getAnnotation(AllTypes.class));
+		AllTypes other = createSynthesized(WithOtherTypes.class.getAnnotation(AllTypes.class));
+
+		assertThat(synthesized.getClass()).isSameAs(other.getClass());
+	}
+
+
+	private static <A extends Annotation> A createSynthesized(A annotation) {
+		@SuppressWarnings("unchecked")
+		Class<A> type = (Class<A>) annotation.annotationType();
+		A synthesized = SynthesizedMergedAnnotationClassGenerator.createSynthesized(
+				MergedAnnotation.from(annotation), type);
+		assertThat(synthesized).isNotNull();
+		return synthesized;
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Nested {
+
+		String value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface AllTypes {
+
+		boolean booleanValue();
+
+		byte byteValue();
+
+		char charValue();
+
+		short shortValue();
+
+		int intValue();
+
+		long longValue();
+
+		float floatValue();
+
+		double doubleValue();
+
+		String stringValue();
+
+		Class<?> classValue();
+
+		TimeUnit enumValue();
+
+		Nested annotationValue();
+
+		int[] intArray();
+
+		String[] stringArray();
+
+		Class<?>[] classArray() default {};
+
+		Nested[] annotationArray();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Aliased {
+
+		@AliasFor("name")
+		String value() default "";
+
+		@AliasFor("value")
+		String name() default "";
+	}
+
+	@AllTypes(booleanValue = true, byteValue = 1, charValue = 'c', shortValue = 2, intValue = 3, longValue = 4L,
+			floatValue = 5.0f, doubleValue = 6.0d, stringValue = "seven", classValue = StringBuilder.class,
+			enumValue = TimeUnit.SECONDS, annotationValue = @Nested("nested"), intArray = {1, 2},
+			stringArray = {"a", "b"}, annotationArray = {@Nested("first"), @Nested("second")})
+	static class WithAllTypes {
+	}
+
+	@AllTypes(booleanValue = true, byteValue = 1, charValue = 'c', shortValue = 2, intValue = 3, longValue = 4L,
+			floatValue = 5.0f, doubleValue = 6.5d, stringValue = "seven", classValue = StringBuilder.class,
+			enumValue = TimeUnit.SECONDS, annotationValue = @Nested("nested"), intArray = {1, 2},
+			stringArray = {"a", "b"}, annotationArray = {@Nested("first"), @Nested("second")})
+	static class WithOtherTypes {
+	}
+
+	@Aliased(name = "name")
+	static class WithAliasedValue {
+	}
+
+}
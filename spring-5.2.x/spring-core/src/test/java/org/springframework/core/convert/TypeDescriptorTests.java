@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -268,6 +268,15 @@ class TypeDescriptorTests {
 		assertThat(typeDescriptor.getObjectType()).isEqualTo(Integer.class);
 	}
 
+	@Test
+	void annotated() throws Exception {
+		assertThat(TypeDescriptor.valueOf(String.class).isAnnotated()).isFalse();
+		assertThat(new TypeDescriptor(getClass().getField("fieldScalar")).isAnnotated()).isFalse();
+		assertThat(new TypeDescriptor(getClass().getField("fieldAnnotated")).isAnnotated()).isTrue();
+		assertThat(new TypeDescriptor(new MethodParameter(
+				getClass().getMethod("testAnnotatedMethod", String.class), 0)).isAnnotated()).isTrue();
+	}
+
 	@Test
 	void fieldList() throws Exception {
 		TypeDescriptor typeDescriptor = new TypeDescriptor(TypeDescriptorTests.class.getDeclaredField("listOfString"));
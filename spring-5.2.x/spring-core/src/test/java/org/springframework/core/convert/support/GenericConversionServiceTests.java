@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -482,6 +482,30 @@ class GenericConversionServiceTests {
 		assertThat(converter.getMatchAttempts() > 0).isTrue();
 	}
 
+	@Test
+	void converterLookupCachedByClass() {
+		MyConditionalConverter converter = new MyConditionalConverter();
+		conversionService.addConverter(new ColorConverter());
+		conversionService.addConverter(converter);
+		assertThat(conversionService.convert("#000000", Color.class)).isEqualTo(Color.BLACK);
+		int matchAttempts = converter.getMatchAttempts();
+		assertThat(conversionService.convert("#FFFFFF", Color.class)).isEqualTo(Color.WHITE);
+		assertThat(conversionService.canConvert(String.class, Color.class)).isTrue();
+		assertThat(conversionService.convert("#000000", TypeDescriptor.valueOf(String.class),
+				TypeDescriptor.valueOf(Color.class))).isEqualTo(Color.BLACK);
+		assertThat(converter.getMatchAttempts()).isEqualTo(matchAttempts);
+	}
+
+	@Test
+	void converterLookupCacheInvalidatedOnRegistration() {
+		assertThat(conversionService.canConvert(String.class, Color.class)).isFalse();
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() ->
+				conversionService.convert("#000000", Color.class));
+		conversionService.addConverter(new ColorConverter());
+		assertThat(conversionService.canConvert(String.class, Color.class)).isTrue();
+		assertThat(conversionService.convert("#000000", Color.class)).isEqualTo(Color.BLACK);
+	}
+
 	@Test
 	void conditionalConverterFactory() {
 		MyConditionalConverterFactory converter = new MyConditionalConverterFactory();
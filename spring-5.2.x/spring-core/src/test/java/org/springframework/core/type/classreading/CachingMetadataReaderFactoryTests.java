@@ -0,0 +1,131 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CachingMetadataReaderFactory}.
+ *
+ * @author Jankin Wong
+ */
+class CachingMetadataReaderFactoryTests {
+
+	private final CachingMetadataReaderFactory factory = new CachingMetadataReaderFactory(getClass().getClassLoader());
+
+
+	@Test
+	void cachesMetadataReaders() throws Exception {
+		MetadataReader reader = this.factory.getMetadataReader(String.class.getName());
+		assertThat(this.factory.getMetadataReader(String.class.getName())).isSameAs(reader);
+		assertThat(this.factory.getCacheMissCount()).isEqualTo(1);
+		assertThat(this.factory.getCacheHitCount()).isEqualTo(1);
+		assertThat(this.factory.getCacheWeight()).isEqualTo(MetadataReaderCache.estimateWeight(reader));
+	}
+
+	@Test
+	void evictsBeyondCacheLimit() throws Exception {
+		this.factory.setCacheLimit(2);
+		MetadataReader reader = this.factory.getMetadataReader(String.class.getName());
+		this.factory.getMetadataReader(Integer.class.getName());
+		this.factory.getMetadataReader(String.class.getName());
+		this.factory.getMetadataReader(Long.class.getName());
+		assertThat(this.factory.getCacheEvictionCount()).isEqualTo(1);
+		// Recently used: still cached
+		assertThat(this.factory.getMetadataReader(String.class.getName())).isSameAs(reader);
+		assertThat(this.factory.getCacheMissCount()).isEqualTo(3);
+	}
+
+	@Test
+	void evictsBeyondCacheWeightLimit() throws Exception {
+		MetadataReader reader = this.factory.getMetadataReader(String.class.getName());
+		long weight = this.factory.getCacheWeight();
+		this.factory.setCacheWeightLimit(weight);
+		assertThat(this.factory.getCacheEvictionCount()).isEqualTo(0);
+
+		this.factory.getMetadataReader(String.class.getName());
+		this.factory.getMetadataReader(Integer.class.getName());
+		assertThat(this.factory.getCacheEvictionCount()).isGreaterThan(0);
+		assertThat(this.factory.getCacheWeight()).isLessThanOrEqualTo(weight);
+		assertThat(this.factory.getMetadataReader(String.class.getName())).isSameAs(reader);
+	}
+
+	@Test
+	void weightReflectsMetadata() throws Exception {
+		long plain = MetadataReaderCache.estimateWeight(this.factory.getMetadataReader(Object.class.getName()));
+		long annotated = MetadataReaderCache.estimateWeight(
+				this.factory.getMetadataReader(AnnotatedComponent.class.getName()));
+		assertThat(annotated).isGreaterThan(plain);
+	}
+
+	@Test
+	void clearCacheReleasesMetadata() throws Exception {
+		MetadataReader reader = this.factory.getMetadataReader(String.class.getName());
+		this.factory.clearCache();
+		assertThat(this.factory.getCacheWeight()).isEqualTo(0);
+		assertThat(this.factory.getMetadataReader(String.class.getName())).isNotSameAs(reader);
+	}
+
+	@Test
+	void concurrentReadsShareCachedReader() {
+		List<MetadataReader> readers = IntStream.range(0, 64).parallel().mapToObj(i -> {
+			try {
+				return this.factory.getMetadataReader(String.class.getName());
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		}).collect(Collectors.toList());
+		assertThat(readers).allMatch(reader -> reader == readers.get(0));
+		assertThat(this.factory.getCacheHitCount() + this.factory.getCacheMissCount()).isEqualTo(64);
+	}
+
+	@Test
+	void sharedCacheReleasedByResourceLoader() throws Exception {
+		DefaultResourceLoader resourceLoader = new DefaultResourceLoader(getClass().getClassLoader());
+		CachingMetadataReaderFactory factory = new CachingMetadataReaderFactory(resourceLoader);
+		factory.getMetadataReader(String.class.getName());
+		Map<Resource, MetadataReader> cache = resourceLoader.getResourceCache(MetadataReader.class);
+		assertThat(cache).hasSize(1);
+		assertThat(factory.getCacheLimit()).isEqualTo(Integer.MAX_VALUE);
+
+		resourceLoader.clearResourceCaches();
+		assertThat(cache).isEmpty();
+	}
+
+
+	@Deprecated
+	@SuppressWarnings("serial")
+	static class AnnotatedComponent implements Serializable {
+
+		@Deprecated
+		public void deprecated() {
+		}
+	}
+
+}
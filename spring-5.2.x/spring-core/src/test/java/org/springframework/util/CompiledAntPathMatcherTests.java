@@ -0,0 +1,197 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link CompiledAntPathMatcher}, verifying that it matches
+ * exactly like {@link AntPathMatcher}.
+ *
+ * @author Jankin Wong
+ */
+class CompiledAntPathMatcherTests {
+
+	private static final List<String> PATTERNS = Arrays.asList(
+			"", "/", "//", "*", "/*", "**", "/**", "/**/", "/**/**", "*/", "test", "/test", "test/", "/test/",
+			"t?st", "??st", "tes?", "?es?", "tes??", "t??t", "*.*", "*.jpg", "/*.jpg", "test*", "test/*",
+			"*test*", "*test*/*", "a*b*c", "*a*a", "/x/x/**/bla", "/x/x/*/bla", "/*/bla/**", "/*bla/test",
+			"/bla/**/bla", "/**/bla", "/bla/**/**/bla", "/bla*bla/test", "/bla/**/*.jpg", "/x/**/*/y",
+			"/**/*bla", "/*/*", "/*/**", "/**/*", "/*bla*/**/bla/**", "/*bla*/**/bla/*", "/*bla*/**/bla/**/*",
+			"/test/{t}", "/{a}/{b}", "/{a}.{b}", "/{a}/**", "/**/{b}", "/hotels/{hotel:\\d+}",
+			"/{file:[a-z]+}.{ext}", "/x{y}", "/{x", "/x}", "/te{st", "/test/**/foo/*/bar", "/a/**/b/**/c",
+			"https://example.org", "/TEST", "/tEsT/*", "/*.HTML", "/t?st");
+
+	private static final List<String> PATHS = Arrays.asList(
+			"", "/", "//", "///", "test", "/test", "test/", "/test/", "//test//", "tst", "tsst", "test.jpg",
+			"/test.jpg", "tes", "testt", "test/test", "/test/test", "test/t", "aaa", "abc", "aXbYc", "abxc",
+			"/x/x/bla", "/x/x/a/bla", "/x/x/a/b/bla", "/x/y/bla", "/a/bla", "/a/bla/b", "/XXXbla/test",
+			"/bla/bla", "/bla/x/bla", "/bla/x/y/bla", "/bla/x/y/bla/", "/blabla/test", "/bla/x/y.jpg",
+			"/x/a/y", "/x/y", "/bla", "/xbla", "/a/b", "/a/b/c", "/a/b/c/d", "/abla/x/bla/y/z",
+			"/XXXblaXXXX/testing/testing/bla/testing/testing/", "/hotels/1", "/hotels/abc", "/test/1",
+			"/foo.bar", "/foo.bar.baz", "/xy", "/x", "/{x", "/x}", "/te{st", "/test/a/foo/b/bar",
+			"/test/a/b/foo/c/bar", "/a/x/b/y/c", "/a/b/b/c", "https://example.org", "/TEST", "/Test/x",
+			"/INDEX.html", "/t\u00e9st", "/t\nst", "/t\uD83D\uDE00st", "/\u00c9");
+
+	private final AntPathMatcher reference = new AntPathMatcher();
+
+	private final CompiledAntPathMatcher pathMatcher = new CompiledAntPathMatcher();
+
+
+	@Test
+	void matchSameAsAntPathMatcher() {
+		assertSameAsAntPathMatcher();
+	}
+
+	@Test
+	void matchSameAsAntPathMatcherWhenCaseInsensitive() {
+		this.reference.setCaseSensitive(false);
+		this.pathMatcher.setCaseSensitive(false);
+		assertSameAsAntPathMatcher();
+	}
+
+	@Test
+	void matchSameAsAntPathMatcherWithCustomPathSeparator() {
+		this.reference.setPathSeparator(".");
+		this.pathMatcher.setPathSeparator(".");
+		List<String> patterns = Arrays.asList("a.b", ".a.b", "a.*", "a.**", "**.c", "a.*.c", "*.b.*", "a.{x}");
+		List<String> paths = Arrays.asList("a.b", ".a.b", "a.b.", "a.b.c", "a..b", "a/b", "b.c", "a");
+		for (String pattern : patterns) {
+			for (String path : paths) {
+				assertThat(this.pathMatcher.match(pattern, path)).as(pattern + " / " + path)
+						.isEqualTo(this.reference.match(pattern, path));
+			}
+		}
+	}
+
+	@Test
+	void matchSameAsAntPathMatcherWhenNotCompilable() {
+		this.reference.setTrimTokens(true);
+		this.pathMatcher.setTrimTokens(true);
+		assertSameAsAntPathMatcher();
+
+		this.reference.setTrimTokens(false);
+		this.reference.setPathSeparator("::");
+		this.pathMatcher.setTrimTokens(false);
+		this.pathMatcher.setPathSeparator("::");
+		for (String path : Arrays.asList("a::b", "a:b", "a::b::x::c", "b::a")) {
+			for (String pattern : Arrays.asList("a::*", "a::**::c", "*:a")) {
+				assertThat(this.pathMatcher.match(pattern, path)).as(pattern + " / " + path)
+						.isEqualTo(this.reference.match(pattern, path));
+			}
+		}
+		assertThat(this.pathMatcher.match("a::**::c", "a::b::x::c")).isTrue();
+	}
+
+	@Test
+	void matchWithoutPatternCache() {
+		this.pathMatcher.setCachePatterns(false);
+		assertSameAsAntPathMatcher();
+	}
+
+	@Test
+	void extractUriTemplateVariables() {
+		assertThat(this.pathMatcher.extractUriTemplateVariables("/hotels/{hotel}", "/hotels/1"))
+				.isEqualTo(Collections.singletonMap("hotel", "1"));
+		assertThat(this.pathMatcher.extractUriTemplateVariables("/h?tels/{hotel}", "/hotels/1"))
+				.isEqualTo(Collections.singletonMap("hotel", "1"));
+
+		Map<String, String> expected = new LinkedHashMap<>();
+		expected.put("hotel", "1");
+		expected.put("booking", "2");
+		assertThat(this.pathMatcher.extractUriTemplateVariables("/hotels/{hotel}/bookings/{booking}",
+				"/hotels/1/bookings/2")).isEqualTo(expected);
+		assertThat(this.pathMatcher.extractUriTemplateVariables("/**/hotels/**/{hotel}/{booking}",
+				"/foo/hotels/bar/1/2")).isEqualTo(expected);
+
+		expected = new LinkedHashMap<>();
+		expected.put("symbolicName", "com.example");
+		expected.put("version", "1.0.0");
+		assertThat(this.pathMatcher.extractUriTemplateVariables(
+				"{symbolicName:[\\w\\.]+}-{version:[\\w\\.]+}.jar", "com.example-1.0.0.jar")).isEqualTo(expected);
+
+		assertThatIllegalStateException().isThrownBy(() ->
+				this.pathMatcher.extractUriTemplateVariables("/hotels/{hotel:\\d+}", "/hotels/abc"));
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				this.pathMatcher.extractUriTemplateVariables("/web/{id:foo(bar)?}", "/web/foobar"));
+	}
+
+	@Test
+	void extractUriTemplateVariablesSameAsAntPathMatcher() {
+		for (String pattern : PATTERNS) {
+			for (String path : PATHS) {
+				if (this.reference.match(pattern, path)) {
+					assertThat(this.pathMatcher.extractUriTemplateVariables(pattern, path)).as(pattern + " / " + path)
+							.isEqualTo(this.reference.extractUriTemplateVariables(pattern, path));
+				}
+			}
+		}
+	}
+
+	@Test
+	void getMatchingPatterns() {
+		for (String path : PATHS) {
+			List<String> expected = new ArrayList<>();
+			for (String pattern : PATTERNS) {
+				if (this.reference.match(pattern, path)) {
+					expected.add(pattern);
+				}
+			}
+			assertThat(this.pathMatcher.getMatchingPatterns(PATTERNS, path)).as(path).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void getMatchingPatternsWhenNotCompilable() {
+		this.pathMatcher.setTrimTokens(true);
+		assertThat(this.pathMatcher.getMatchingPatterns(Arrays.asList("/a/*", "/ b /c", "/c"), "/ a /b"))
+				.containsExactly("/a/*");
+	}
+
+	@Test
+	void combineAndPatternComparatorInherited() {
+		assertThat(this.pathMatcher.combine("/hotels/*", "booking")).isEqualTo("/hotels/booking");
+		assertThat(this.pathMatcher.extractPathWithinPattern("/docs/**", "/docs/cvs/commit")).isEqualTo("cvs/commit");
+		List<String> patterns = new ArrayList<>(Arrays.asList("/hotels/*", "/hotels/{hotel}", "/hotels/new"));
+		patterns.sort(this.pathMatcher.getPatternComparator("/hotels/new"));
+		assertThat(patterns).containsExactly("/hotels/new", "/hotels/{hotel}", "/hotels/*");
+	}
+
+
+	private void assertSameAsAntPathMatcher() {
+		for (String pattern : PATTERNS) {
+			for (String path : PATHS) {
+				assertThat(this.pathMatcher.match(pattern, path)).as("match " + pattern + " / " + path)
+						.isEqualTo(this.reference.match(pattern, path));
+				assertThat(this.pathMatcher.matchStart(pattern, path)).as("matchStart " + pattern + " / " + path)
+						.isEqualTo(this.reference.matchStart(pattern, path));
+			}
+		}
+	}
+
+}
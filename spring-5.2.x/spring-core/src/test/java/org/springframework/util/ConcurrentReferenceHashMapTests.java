@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.util;
 
+import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ConcurrentReferenceHashMap.Entry;
 import org.springframework.util.ConcurrentReferenceHashMap.Reference;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.ConcurrentReferenceHashMap.Restructure;
 import org.springframework.util.comparator.ComparableComparator;
 import org.springframework.util.comparator.NullSafeComparator;
@@ -252,6 +254,74 @@ class ConcurrentReferenceHashMapTests {
 		assertThat(this.map.get(5)).isEqualTo("5");
 	}
 
+	@Test
+	void shouldOnlyRestructurePurgedChainsOnPut() {
+		this.map = new TestWeakConcurrentCache<>(16, 0.75f, 1);
+		for (int i = 1; i <= 5; i++) {
+			this.map.put(i, String.valueOf(i));
+		}
+		MockReference<Integer, String> reference = this.map.getMockReference(2, Restructure.NEVER);
+		this.map.getMockReference(1, Restructure.NEVER).queueForPurge();
+		this.map.put(3, "3");
+		assertThat(this.map.getReference(1, Restructure.NEVER)).isNull();
+		assertThat(this.map.getMockReference(2, Restructure.NEVER)).isSameAs(reference);
+		assertThat(this.map.size()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldDeferPurgeOnGetToNextWrite() {
+		this.map = new TestWeakConcurrentCache<>(1, 0.75f, 1);
+		for (int i = 1; i <= 5; i++) {
+			this.map.put(i, String.valueOf(i));
+		}
+		this.map.getMockReference(1, Restructure.NEVER).queueForPurge();
+		assertThat(this.map.get(2)).isEqualTo("2");
+		assertThat(this.map.getOrDefault(3, "x")).isEqualTo("3");
+		assertThat(this.map.containsKey(4)).isTrue();
+		assertThat(this.map.getReference(1, Restructure.NEVER)).isNotNull();
+		this.map.put(6, "6");
+		assertThat(this.map.getReference(1, Restructure.NEVER)).isNull();
+		assertThat(this.map.size()).isEqualTo(5);
+	}
+
+	@Test
+	void shouldHoldEntriesStronglyUpToStrongCapacity() {
+		ConcurrentReferenceHashMap<Integer, String> map =
+				new ConcurrentReferenceHashMap<>(1, 0.75f, 1, ReferenceType.SOFT, 2);
+		map.put(1, "1");
+		map.put(2, "2");
+		map.put(3, "3");
+		assertThat(map.getReference(1, Restructure.NEVER)).isNotInstanceOf(SoftReference.class);
+		assertThat(map.getReference(2, Restructure.NEVER)).isNotInstanceOf(SoftReference.class);
+		assertThat(map.getReference(3, Restructure.NEVER)).isInstanceOf(SoftReference.class);
+
+		assertThat(map.remove(1)).isEqualTo("1");
+		map.put(4, "4");
+		assertThat(map.getReference(4, Restructure.NEVER)).isNotInstanceOf(SoftReference.class);
+
+		for (int i = 5; i <= 20; i++) {
+			map.put(i, String.valueOf(i));
+		}
+		assertThat(map.getSegment(0).getSize()).isGreaterThan(1);
+		assertThat(map.getReference(2, Restructure.NEVER)).isNotInstanceOf(SoftReference.class);
+		assertThat(map.getReference(4, Restructure.NEVER)).isNotInstanceOf(SoftReference.class);
+		assertThat(map.getReference(5, Restructure.NEVER)).isInstanceOf(SoftReference.class);
+		assertThat(map.size()).isEqualTo(19);
+		assertThat(map.get(1)).isNull();
+		assertThat(map.get(2)).isEqualTo("2");
+
+		map.clear();
+		map.put(1, "1");
+		assertThat(map.getReference(1, Restructure.NEVER)).isNotInstanceOf(SoftReference.class);
+	}
+
+	@Test
+	void shouldNeedNonNegativeStrongCapacity() {
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				new ConcurrentReferenceHashMap<Integer, String>(1, 0.75f, 1, ReferenceType.SOFT, -1))
+			.withMessageContaining("Strong capacity must not be negative");
+	}
+
 	@Test
 	void shouldPutIfAbsent() {
 		assertThat(this.map.putIfAbsent(123, "123")).isNull();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -93,6 +93,8 @@ class StringUtilsTests {
 		assertThat(StringUtils.trimAllWhitespace(" a ")).isEqualTo("a");
 		assertThat(StringUtils.trimAllWhitespace(" a b ")).isEqualTo("ab");
 		assertThat(StringUtils.trimAllWhitespace(" a b  c ")).isEqualTo("abc");
+		String abc = "abc";
+		assertThat(StringUtils.trimAllWhitespace(abc)).isSameAs(abc);
 	}
 
 	@Test
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -85,9 +85,17 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the arguments passed to the generated getValue method).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * Local variables holding the active context objects of enclosing projections
+	 * and selections, innermost first. Empty while the active context object is the
+	 * target passed to the generated getValue method.
+	 */
+	private final Deque<Integer> activeContextVariables = new ArrayDeque<>();
 
 
 	/**
@@ -105,11 +113,35 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * Push the byte code to load the target (i.e. what was passed as the first argument
-	 * to CompiledExpression.getValue(target, context))
+	 * to CompiledExpression.getValue(target, context)), or the active context object
+	 * when generating code for the elements of a projection or selection.
 	 * @param mv the visitor into which the load instruction should be inserted
+	 * @see #enterActiveContext(int)
 	 */
 	public void loadTarget(MethodVisitor mv) {
-		mv.visitVarInsn(ALOAD, 1);
+		Integer activeContextVariable = this.activeContextVariables.peek();
+		mv.visitVarInsn(ALOAD, (activeContextVariable != null ? activeContextVariable : 1));
+	}
+
+	/**
+	 * Make the object held in the given local variable the active context object,
+	 * to be loaded by {@link #loadTarget} until {@link #exitActiveContext()} is called.
+	 * Used for the elements of a projection or selection.
+	 * @param variableId the local variable holding the active context object
+	 * @since 5.2.26
+	 * @see #nextFreeVariableId()
+	 */
+	public void enterActiveContext(int variableId) {
+		this.activeContextVariables.push(variableId);
+	}
+
+	/**
+	 * Revert to the previous active context object.
+	 * @since 5.2.26
+	 * @see #enterActiveContext(int)
+	 */
+	public void exitActiveContext() {
+		this.activeContextVariables.pop();
 	}
 
 	/**
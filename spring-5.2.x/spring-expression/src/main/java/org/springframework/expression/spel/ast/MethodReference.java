@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
@@ -54,6 +55,16 @@ import org.springframework.util.ObjectUtils;
  */
 public class MethodReference extends SpelNodeImpl {
 
+	/**
+	 * Maximum number of receiver and argument type combinations for which this node
+	 * caches an executor before it is considered megamorphic and falls back to a
+	 * single cached executor.
+	 */
+	private static final int INLINE_CACHE_LIMIT = 4;
+
+	private static final CachedMethodExecutor[] MEGAMORPHIC = new CachedMethodExecutor[0];
+
+
 	private final String name;
 
 	private final boolean nullSafe;
@@ -64,6 +75,9 @@ public class MethodReference extends SpelNodeImpl {
 	@Nullable
 	private volatile CachedMethodExecutor cachedExecutor;
 
+	@Nullable
+	private volatile CachedMethodExecutor[] inlineCachedExecutors;
+
 
 	public MethodReference(boolean nullSafe, String methodName, int startPos, int endPos, SpelNodeImpl... arguments) {
 		super(startPos, endPos, arguments);
@@ -100,16 +114,15 @@ public class MethodReference extends SpelNodeImpl {
 	private TypedValue getValueInternal(EvaluationContext evaluationContext,
 			@Nullable Object value, @Nullable TypeDescriptor targetType, Object[] arguments) {
 
-		List<TypeDescriptor> argumentTypes = getArgumentTypes(arguments);
 		if (value == null) {
-			throwIfNotNullSafe(argumentTypes);
+			throwIfNotNullSafe(getArgumentTypes(arguments));
 			return TypedValue.NULL;
 		}
 
-		MethodExecutor executorToUse = getCachedExecutor(evaluationContext, value, targetType, argumentTypes);
-		if (executorToUse != null) {
+		CachedMethodExecutor inlineCached = getCachedExecutor(evaluationContext, value, targetType, arguments);
+		if (inlineCached != null) {
 			try {
-				return executorToUse.execute(evaluationContext, value, arguments);
+				return inlineCached.get().execute(evaluationContext, value, arguments);
 			}
 			catch (AccessException ex) {
 				// Two reasons this can occur:
@@ -127,14 +140,21 @@ public class MethodReference extends SpelNodeImpl {
 
 				// At this point we know it wasn't a user problem so worth a retry if a
 				// better candidate can be found.
-				this.cachedExecutor = null;
+				evictCachedExecutor(inlineCached);
 			}
 		}
 
 		// either there was no accessor or it no longer existed
-		executorToUse = findAccessorForMethod(argumentTypes, value, evaluationContext);
-		this.cachedExecutor = new CachedMethodExecutor(
-				executorToUse, (value instanceof Class ? (Class<?>) value : null), targetType, argumentTypes);
+		List<TypeDescriptor> argumentTypes = getArgumentTypes(arguments);
+		MethodExecutor executorToUse = findAccessorForMethod(argumentTypes, value, evaluationContext);
+		CachedMethodExecutor executorToCache = new CachedMethodExecutor(
+				executorToUse, (value instanceof Class ? (Class<?>) value : null), targetType, arguments);
+		if (isExecutorCachingApplicable(evaluationContext)) {
+			cacheExecutor(executorToCache);
+		}
+		else {
+			this.cachedExecutor = executorToCache;
+		}
 		try {
 			return executorToUse.execute(evaluationContext, value, arguments);
 		}
@@ -178,24 +198,81 @@ public class MethodReference extends SpelNodeImpl {
 		return Collections.unmodifiableList(descriptors);
 	}
 
+	/**
+	 * Look up an executor cached by this node for the given receiver and arguments:
+	 * from the inline cache of up to {@link #INLINE_CACHE_LIMIT} receiver and argument
+	 * types, or from the single cached executor once this node has become megamorphic.
+	 */
 	@Nullable
-	private MethodExecutor getCachedExecutor(EvaluationContext evaluationContext, Object value,
-			@Nullable TypeDescriptor target, List<TypeDescriptor> argumentTypes) {
+	private CachedMethodExecutor getCachedExecutor(EvaluationContext evaluationContext, Object value,
+			@Nullable TypeDescriptor target, Object[] arguments) {
 
-		List<MethodResolver> methodResolvers = evaluationContext.getMethodResolvers();
-		if (methodResolvers.size() != 1 || !(methodResolvers.get(0) instanceof ReflectiveMethodResolver)) {
-			// Not a default ReflectiveMethodResolver - don't know whether caching is valid
+		if (!isExecutorCachingApplicable(evaluationContext)) {
+			return null;
+		}
+
+		CachedMethodExecutor[] cachedExecutors = this.inlineCachedExecutors;
+		if (cachedExecutors != null && cachedExecutors != MEGAMORPHIC) {
+			for (CachedMethodExecutor executorToCheck : cachedExecutors) {
+				if (executorToCheck.isSuitable(value, target, arguments)) {
+					if (this.cachedExecutor != executorToCheck) {
+						this.cachedExecutor = executorToCheck;
+					}
+					return executorToCheck;
+				}
+			}
 			return null;
 		}
 
 		CachedMethodExecutor executorToCheck = this.cachedExecutor;
-		if (executorToCheck != null && executorToCheck.isSuitable(value, target, argumentTypes)) {
-			return executorToCheck.get();
+		if (executorToCheck != null && executorToCheck.isSuitable(value, target, arguments)) {
+			return executorToCheck;
 		}
 		this.cachedExecutor = null;
 		return null;
 	}
 
+	private boolean isExecutorCachingApplicable(EvaluationContext evaluationContext) {
+		// Only for a default ReflectiveMethodResolver - don't know whether caching is valid otherwise
+		List<MethodResolver> methodResolvers = evaluationContext.getMethodResolvers();
+		return (methodResolvers.size() == 1 && methodResolvers.get(0) instanceof ReflectiveMethodResolver);
+	}
+
+	private void cacheExecutor(CachedMethodExecutor executor) {
+		this.cachedExecutor = executor;
+		CachedMethodExecutor[] cachedExecutors = this.inlineCachedExecutors;
+		if (cachedExecutors == MEGAMORPHIC) {
+			return;
+		}
+		if (cachedExecutors == null) {
+			this.inlineCachedExecutors = new CachedMethodExecutor[] {executor};
+		}
+		else if (cachedExecutors.length < INLINE_CACHE_LIMIT) {
+			CachedMethodExecutor[] newExecutors = Arrays.copyOf(cachedExecutors, cachedExecutors.length + 1);
+			newExecutors[cachedExecutors.length] = executor;
+			this.inlineCachedExecutors = newExecutors;
+		}
+		else {
+			this.inlineCachedExecutors = MEGAMORPHIC;
+		}
+	}
+
+	private void evictCachedExecutor(CachedMethodExecutor staleExecutor) {
+		this.cachedExecutor = null;
+		CachedMethodExecutor[] cachedExecutors = this.inlineCachedExecutors;
+		if (cachedExecutors == null || cachedExecutors == MEGAMORPHIC) {
+			return;
+		}
+		List<CachedMethodExecutor> newExecutors = new ArrayList<>(cachedExecutors.length);
+		for (CachedMethodExecutor executor : cachedExecutors) {
+			if (executor != staleExecutor) {
+				newExecutors.add(executor);
+			}
+		}
+		this.inlineCachedExecutors = (!newExecutors.isEmpty() ?
+				newExecutors.toArray(new CachedMethodExecutor[0]) : null);
+	}
+
 	private MethodExecutor findAccessorForMethod(List<TypeDescriptor> argumentTypes, Object targetObject,
 			EvaluationContext evaluationContext) throws SpelEvaluationException {
 
@@ -412,20 +489,39 @@ public class MethodReference extends SpelNodeImpl {
 		@Nullable
 		private final TypeDescriptor target;
 
-		private final List<TypeDescriptor> argumentTypes;
+		private final Class<?>[] argumentClasses;
 
 		public CachedMethodExecutor(MethodExecutor methodExecutor, @Nullable Class<?> staticClass,
-				@Nullable TypeDescriptor target, List<TypeDescriptor> argumentTypes) {
+				@Nullable TypeDescriptor target, Object[] arguments) {
 
 			this.methodExecutor = methodExecutor;
 			this.staticClass = staticClass;
 			this.target = target;
-			this.argumentTypes = argumentTypes;
+			this.argumentClasses = new Class<?>[arguments.length];
+			for (int i = 0; i < arguments.length; i++) {
+				this.argumentClasses[i] = (arguments[i] != null ? arguments[i].getClass() : null);
+			}
 		}
 
-		public boolean isSuitable(Object value, @Nullable TypeDescriptor target, List<TypeDescriptor> argumentTypes) {
-			return ((this.staticClass == null || this.staticClass == value) &&
-					ObjectUtils.nullSafeEquals(this.target, target) && this.argumentTypes.equals(argumentTypes));
+		/**
+		 * Determine whether this executor has been resolved for the given receiver and
+		 * arguments. Comparing the argument classes is equivalent to comparing the
+		 * {@link TypeDescriptor#forObject argument type descriptors} but does not
+		 * require creating those for every invocation.
+		 */
+		public boolean isSuitable(Object value, @Nullable TypeDescriptor target, Object[] arguments) {
+			if ((this.staticClass != null && this.staticClass != value) ||
+					!ObjectUtils.nullSafeEquals(this.target, target) ||
+					this.argumentClasses.length != arguments.length) {
+				return false;
+			}
+			for (int i = 0; i < arguments.length; i++) {
+				Object argument = arguments[i];
+				if (this.argumentClasses[i] != (argument != null ? argument.getClass() : null)) {
+					return false;
+				}
+			}
+			return true;
 		}
 
 		public boolean hasProxyTarget() {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -71,6 +74,8 @@ public class Projection extends SpelNodeImpl {
 		// and value, and they can be referenced in the operation
 		// eg. {'a':'y','b':'n'}.![value=='y'?key:null]" == ['a', null]
 		if (operand instanceof Map) {
+			// Not compilable: the operation may refer to 'key' and 'value' of the entries
+			this.exitTypeDescriptor = null;
 			Map<?, ?> mapData = (Map<?, ?>) operand;
 			List<Object> result = new ArrayList<>();
 			for (Map.Entry<?, ?> entry : mapData.entrySet()) {
@@ -88,6 +93,8 @@ public class Projection extends SpelNodeImpl {
 		}
 
 		if (operand instanceof Iterable || operandIsArray) {
+			// Only compilable for Iterable operands, array results depend on the element values
+			this.exitTypeDescriptor = (operandIsArray ? null : "Ljava/util/List");
 			Iterable<?> data = (operand instanceof Iterable ?
 					(Iterable<?>) operand : Arrays.asList(ObjectUtils.toObjectArray(operand)));
 
@@ -137,6 +144,74 @@ public class Projection extends SpelNodeImpl {
 		return "![" + getChild(0).toStringAST() + "]";
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return (this.exitTypeDescriptor != null && this.children[0].isCompilable());
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		if (cf.lastDescriptor() == null) {
+			// Stack is empty, project the active context object
+			cf.loadTarget(mv);
+		}
+
+		Label endOfProjection = new Label();
+		if (this.nullSafe) {
+			Label continueLabel = new Label();
+			mv.visitInsn(DUP);
+			mv.visitJumpInsn(IFNONNULL, continueLabel);
+			mv.visitTypeInsn(CHECKCAST, "java/util/List");
+			mv.visitJumpInsn(GOTO, endOfProjection);
+			mv.visitLabel(continueLabel);
+		}
+
+		int iterator = cf.nextFreeVariableId();
+		int element = cf.nextFreeVariableId();
+		int result = cf.nextFreeVariableId();
+		mv.visitTypeInsn(CHECKCAST, "java/lang/Iterable");
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/lang/Iterable", "iterator", "()Ljava/util/Iterator;", true);
+		mv.visitVarInsn(ASTORE, iterator);
+		mv.visitTypeInsn(NEW, "java/util/ArrayList");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		mv.visitVarInsn(ASTORE, result);
+
+		Label nextElement = new Label();
+		Label endOfElements = new Label();
+		mv.visitLabel(nextElement);
+		mv.visitVarInsn(ALOAD, iterator);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, endOfElements);
+		mv.visitVarInsn(ALOAD, iterator);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ASTORE, element);
+		mv.visitVarInsn(ALOAD, result);
+
+		// Evaluate the operation with the element as active context object
+		cf.enterCompilationScope();
+		cf.enterActiveContext(element);
+		this.children[0].generateCode(mv, cf);
+		String descriptor = cf.lastDescriptor();
+		if ("V".equals(descriptor)) {
+			mv.visitInsn(ACONST_NULL);
+		}
+		else {
+			CodeFlow.insertBoxIfNecessary(mv, descriptor);
+		}
+		cf.exitActiveContext();
+		cf.exitCompilationScope();
+
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+		mv.visitInsn(POP);
+		mv.visitJumpInsn(GOTO, nextElement);
+		mv.visitLabel(endOfElements);
+		mv.visitVarInsn(ALOAD, result);
+
+		mv.visitLabel(endOfProjection);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 	private Class<?> determineCommonType(@Nullable Class<?> oldType, Class<?> newType) {
 		if (oldType == null) {
 			return newType;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,7 @@ import org.springframework.expression.spel.CompilablePropertyAccessor;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.support.DataBindingPropertyAccessor;
 import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -52,6 +53,15 @@ import org.springframework.util.ReflectionUtils;
  */
 public class PropertyOrFieldReference extends SpelNodeImpl {
 
+	/**
+	 * Maximum number of target types for which this node caches a read accessor
+	 * before it is considered megamorphic and falls back to a single cached accessor.
+	 */
+	private static final int INLINE_CACHE_LIMIT = 4;
+
+	private static final InlineCachedAccessor[] MEGAMORPHIC = new InlineCachedAccessor[0];
+
+
 	private final boolean nullSafe;
 
 	private final String name;
@@ -65,6 +75,9 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 	@Nullable
 	private volatile PropertyAccessor cachedWriteAccessor;
 
+	@Nullable
+	private volatile InlineCachedAccessor[] inlineCachedReadAccessors;
+
 
 	public PropertyOrFieldReference(boolean nullSafe, String propertyOrFieldName, int startPos, int endPos) {
 		super(startPos, endPos);
@@ -180,8 +193,28 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 			return TypedValue.NULL;
 		}
 
+		InlineCachedAccessor inlineCached = getInlineCachedReadAccessor(targetObject, evalContext);
 		PropertyAccessor accessorToUse = this.cachedReadAccessor;
-		if (accessorToUse != null) {
+		if (inlineCached != null) {
+			try {
+				TypedValue result = inlineCached.accessor.read(evalContext, targetObject, name);
+				if (accessorToUse != inlineCached.accessor) {
+					this.cachedReadAccessor = inlineCached.accessor;
+				}
+				return result;
+			}
+			catch (Exception ex) {
+				if (!isResolutionFailure(ex)) {
+					// Thrown by the property itself: do not invoke it a second time
+					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_DURING_PROPERTY_READ, name, ex.getMessage());
+				}
+				// Gone stale or the property is not available for this particular
+				// target object - let's see whether another accessor can read it...
+				evictInlineCachedReadAccessor(inlineCached);
+				this.cachedReadAccessor = null;
+			}
+		}
+		else if (accessorToUse != null) {
 			if (evalContext.getPropertyAccessors().contains(accessorToUse)) {
 				try {
 					return accessorToUse.read(evalContext, contextObject.getValue(), name);
@@ -202,12 +235,14 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 		try {
 			for (PropertyAccessor accessor : accessorsToTry) {
 				if (accessor.canRead(evalContext, contextObject.getValue(), name)) {
+					PropertyAccessor resolvedAccessor = accessor;
 					if (accessor instanceof ReflectivePropertyAccessor) {
-						accessor = ((ReflectivePropertyAccessor) accessor).createOptimalAccessor(
+						resolvedAccessor = ((ReflectivePropertyAccessor) accessor).createOptimalAccessor(
 								evalContext, contextObject.getValue(), name);
 					}
-					this.cachedReadAccessor = accessor;
-					return accessor.read(evalContext, contextObject.getValue(), name);
+					this.cachedReadAccessor = resolvedAccessor;
+					inlineCacheReadAccessor(targetObject, accessor, resolvedAccessor);
+					return resolvedAccessor.read(evalContext, contextObject.getValue(), name);
 				}
 			}
 		}
@@ -224,6 +259,77 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 		}
 	}
 
+	/**
+	 * Look up the read accessor cached by this node for the type of the given target,
+	 * provided that the accessor it was resolved from is still in use.
+	 * @return the cached accessor, or {@code null} if none (or for static access)
+	 */
+	@Nullable
+	private InlineCachedAccessor getInlineCachedReadAccessor(
+			@Nullable Object targetObject, EvaluationContext evalContext) {
+
+		InlineCachedAccessor[] cachedAccessors = this.inlineCachedReadAccessors;
+		if (cachedAccessors == null || targetObject == null || targetObject instanceof Class) {
+			return null;
+		}
+		Class<?> targetType = targetObject.getClass();
+		for (InlineCachedAccessor cachedAccessor : cachedAccessors) {
+			if (cachedAccessor.targetType == targetType) {
+				return (cachedAccessor.isApplicable(evalContext.getPropertyAccessors()) ? cachedAccessor : null);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Determine whether the given exception from a cached read accessor indicates
+	 * that the accessor cannot read the property from the target, as opposed to
+	 * an exception thrown by the getter method that the accessor invoked.
+	 */
+	private static boolean isResolutionFailure(Exception ex) {
+		return (ex instanceof AccessException && !(ex.getCause() instanceof InvocationTargetException));
+	}
+
+	private void inlineCacheReadAccessor(
+			@Nullable Object targetObject, PropertyAccessor resolvedFrom, PropertyAccessor accessor) {
+
+		InlineCachedAccessor[] cachedAccessors = this.inlineCachedReadAccessors;
+		if (cachedAccessors == MEGAMORPHIC || targetObject == null || targetObject instanceof Class) {
+			return;
+		}
+		Class<?> targetType = targetObject.getClass();
+		List<InlineCachedAccessor> newAccessors = new ArrayList<>(INLINE_CACHE_LIMIT);
+		if (cachedAccessors != null) {
+			for (InlineCachedAccessor cachedAccessor : cachedAccessors) {
+				if (cachedAccessor.targetType != targetType) {
+					newAccessors.add(cachedAccessor);
+				}
+			}
+		}
+		if (newAccessors.size() < INLINE_CACHE_LIMIT) {
+			newAccessors.add(new InlineCachedAccessor(targetType, resolvedFrom, accessor));
+			this.inlineCachedReadAccessors = newAccessors.toArray(new InlineCachedAccessor[0]);
+		}
+		else {
+			this.inlineCachedReadAccessors = MEGAMORPHIC;
+		}
+	}
+
+	private void evictInlineCachedReadAccessor(InlineCachedAccessor staleAccessor) {
+		InlineCachedAccessor[] cachedAccessors = this.inlineCachedReadAccessors;
+		if (cachedAccessors == null || cachedAccessors == MEGAMORPHIC) {
+			return;
+		}
+		List<InlineCachedAccessor> newAccessors = new ArrayList<>(cachedAccessors.length);
+		for (InlineCachedAccessor cachedAccessor : cachedAccessors) {
+			if (cachedAccessor != staleAccessor) {
+				newAccessors.add(cachedAccessor);
+			}
+		}
+		this.inlineCachedReadAccessors = (!newAccessors.isEmpty() ?
+				newAccessors.toArray(new InlineCachedAccessor[0]) : null);
+	}
+
 	private void writeProperty(
 			TypedValue contextObject, EvaluationContext evalContext, String name, @Nullable Object newValue)
 			throws EvaluationException {
@@ -428,4 +534,67 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 		}
 	}
 
+
+
+	/**
+	 * A read accessor cached by a {@code PropertyOrFieldReference} for a specific target type,
+	 * along with the accessor from the evaluation context that it has been resolved from.
+	 */
+	private static class InlineCachedAccessor {
+
+		final Class<?> targetType;
+
+		final PropertyAccessor resolvedFrom;
+
+		final PropertyAccessor accessor;
+
+		private final boolean sharable;
+
+		InlineCachedAccessor(Class<?> targetType, PropertyAccessor resolvedFrom, PropertyAccessor accessor) {
+			this.targetType = targetType;
+			this.resolvedFrom = resolvedFrom;
+			this.accessor = accessor;
+			this.sharable = (accessor != resolvedFrom &&
+					(resolvedFrom.getClass() == ReflectivePropertyAccessor.class ||
+							resolvedFrom.getClass() == DataBindingPropertyAccessor.class));
+		}
+
+		/**
+		 * Determine whether this cached accessor may be used with the given property accessors,
+		 * i.e. whether the accessor that they would try first for the target type is the one
+		 * that this accessor has been resolved from, in the same order as
+		 * {@code getPropertyAccessorsToTry}.
+		 * <p>Optimal accessors created by a plain {@link ReflectivePropertyAccessor} or
+		 * {@link DataBindingPropertyAccessor} do not depend on that particular instance, so
+		 * they remain applicable for evaluation contexts with a fresh instance of the same type.
+		 */
+		boolean isApplicable(List<PropertyAccessor> propertyAccessors) {
+			PropertyAccessor firstGeneralAccessor = null;
+			for (PropertyAccessor propertyAccessor : propertyAccessors) {
+				Class<?>[] targets = propertyAccessor.getSpecificTargetClasses();
+				if (targets == null) {
+					if (firstGeneralAccessor == null) {
+						firstGeneralAccessor = propertyAccessor;
+					}
+				}
+				else {
+					for (Class<?> clazz : targets) {
+						if (clazz == this.targetType) {
+							return isResolvedFrom(propertyAccessor);
+						}
+						else if (firstGeneralAccessor == null && clazz.isAssignableFrom(this.targetType)) {
+							firstGeneralAccessor = propertyAccessor;
+						}
+					}
+				}
+			}
+			return (firstGeneralAccessor != null && isResolvedFrom(firstGeneralAccessor));
+		}
+
+		private boolean isResolvedFrom(PropertyAccessor propertyAccessor) {
+			return (this.resolvedFrom.equals(propertyAccessor) ||
+					(this.sharable && propertyAccessor.getClass() == this.resolvedFrom.getClass()));
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,9 +23,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -88,6 +91,8 @@ public class Selection extends SpelNodeImpl {
 		SpelNodeImpl selectionCriteria = this.children[0];
 
 		if (operand instanceof Map) {
+			// Not compilable: selecting from a Map builds a new Map
+			this.exitTypeDescriptor = null;
 			Map<?, ?> mapdata = (Map<?, ?>) operand;
 			// TODO don't lose generic info for the new map
 			Map<Object, Object> result = new HashMap<>();
@@ -135,6 +140,9 @@ public class Selection extends SpelNodeImpl {
 		}
 
 		if (operand instanceof Iterable || ObjectUtils.isArray(operand)) {
+			// Only compilable for Iterable operands, selecting from an array builds a new array
+			this.exitTypeDescriptor = (!(operand instanceof Iterable) ? null :
+					(this.variant == ALL ? "Ljava/util/List" : "Ljava/lang/Object"));
 			Iterable<?> data = (operand instanceof Iterable ?
 					(Iterable<?>) operand : Arrays.asList(ObjectUtils.toObjectArray(operand)));
 
@@ -208,6 +216,90 @@ public class Selection extends SpelNodeImpl {
 		return prefix() + getChild(0).toStringAST() + "]";
 	}
 
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl selectionCriteria = this.children[0];
+		return (this.exitTypeDescriptor != null && selectionCriteria.isCompilable() &&
+				CodeFlow.isBooleanCompatible(selectionCriteria.exitTypeDescriptor));
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		if (cf.lastDescriptor() == null) {
+			// Stack is empty, select from the active context object
+			cf.loadTarget(mv);
+		}
+
+		Label endOfSelection = new Label();
+		if (this.nullSafe) {
+			Label continueLabel = new Label();
+			mv.visitInsn(DUP);
+			mv.visitJumpInsn(IFNONNULL, continueLabel);
+			if (this.variant == ALL) {
+				mv.visitTypeInsn(CHECKCAST, "java/util/List");
+			}
+			mv.visitJumpInsn(GOTO, endOfSelection);
+			mv.visitLabel(continueLabel);
+		}
+
+		int iterator = cf.nextFreeVariableId();
+		int element = cf.nextFreeVariableId();
+		int result = cf.nextFreeVariableId();
+		mv.visitTypeInsn(CHECKCAST, "java/lang/Iterable");
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/lang/Iterable", "iterator", "()Ljava/util/Iterator;", true);
+		mv.visitVarInsn(ASTORE, iterator);
+		if (this.variant == ALL) {
+			mv.visitTypeInsn(NEW, "java/util/ArrayList");
+			mv.visitInsn(DUP);
+			mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		}
+		else {
+			mv.visitInsn(ACONST_NULL);
+		}
+		mv.visitVarInsn(ASTORE, result);
+
+		Label nextElement = new Label();
+		Label endOfElements = new Label();
+		mv.visitLabel(nextElement);
+		mv.visitVarInsn(ALOAD, iterator);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, endOfElements);
+		mv.visitVarInsn(ALOAD, iterator);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ASTORE, element);
+
+		// Evaluate the selection criteria with the element as active context object
+		cf.enterCompilationScope();
+		cf.enterActiveContext(element);
+		this.children[0].generateCode(mv, cf);
+		cf.unboxBooleanIfNecessary(mv);
+		cf.exitActiveContext();
+		cf.exitCompilationScope();
+		mv.visitJumpInsn(IFEQ, nextElement);
+
+		if (this.variant == ALL) {
+			mv.visitVarInsn(ALOAD, result);
+			mv.visitVarInsn(ALOAD, element);
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+			mv.visitInsn(POP);
+			mv.visitJumpInsn(GOTO, nextElement);
+		}
+		else if (this.variant == FIRST) {
+			mv.visitVarInsn(ALOAD, element);
+			mv.visitJumpInsn(GOTO, endOfSelection);
+		}
+		else {
+			mv.visitVarInsn(ALOAD, element);
+			mv.visitVarInsn(ASTORE, result);
+			mv.visitJumpInsn(GOTO, nextElement);
+		}
+		mv.visitLabel(endOfElements);
+		mv.visitVarInsn(ALOAD, result);
+
+		mv.visitLabel(endOfSelection);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 	private String prefix() {
 		switch (this.variant) {
 			case ALL:   return "?[";
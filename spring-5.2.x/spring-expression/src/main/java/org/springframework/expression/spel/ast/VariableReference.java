@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,7 +56,9 @@ public class VariableReference extends SpelNodeImpl {
 	@Override
 	public ValueRef getValueRef(ExpressionState state) throws SpelEvaluationException {
 		if (this.name.equals(THIS)) {
-			return new ValueRef.TypedValueHolderValueRef(state.getActiveContextObject(), this);
+			TypedValue result = state.getActiveContextObject();
+			this.exitTypeDescriptor = CodeFlow.toDescriptorFromObject(result.getValue());
+			return new ValueRef.TypedValueHolderValueRef(result, this);
 		}
 		if (this.name.equals(ROOT)) {
 			return new ValueRef.TypedValueHolderValueRef(state.getRootContextObject(), this);
@@ -69,7 +71,9 @@ public class VariableReference extends SpelNodeImpl {
 	@Override
 	public TypedValue getValueInternal(ExpressionState state) throws SpelEvaluationException {
 		if (this.name.equals(THIS)) {
-			return state.getActiveContextObject();
+			TypedValue result = state.getActiveContextObject();
+			this.exitTypeDescriptor = CodeFlow.toDescriptorFromObject(result.getValue());
+			return result;
 		}
 		if (this.name.equals(ROOT)) {
 			TypedValue result = state.getRootContextObject();
@@ -119,6 +123,13 @@ public class VariableReference extends SpelNodeImpl {
 		if (this.name.equals(ROOT)) {
 			mv.visitVarInsn(ALOAD,1);
 		}
+		else if (this.name.equals(THIS)) {
+			if (cf.lastDescriptor() == null) {
+				cf.loadTarget(mv);
+			}
+			// else: within a compound expression, the active context object
+			// is the result of the preceding node which is already on the stack
+		}
 		else {
 			mv.visitVarInsn(ALOAD, 2);
 			mv.visitLdcInsn(this.name);
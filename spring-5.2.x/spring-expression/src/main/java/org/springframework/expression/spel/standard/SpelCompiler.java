@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -30,6 +31,7 @@ import org.springframework.asm.Opcodes;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.CompiledExpression;
+import org.springframework.expression.spel.SpelNode;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.ast.SpelNodeImpl;
 import org.springframework.lang.Nullable;
@@ -100,12 +102,29 @@ public final class SpelCompiler implements Opcodes {
 	 */
 	@Nullable
 	public CompiledExpression compile(SpelNodeImpl expression) {
+		return compile(expression, null);
+	}
+
+	/**
+	 * Attempt compilation of the supplied expression, reporting the reason
+	 * if compilation is not possible.
+	 * @param expression the expression to compile
+	 * @param failureReasonCallback callback for the reason why the expression
+	 * could not be compiled (may be {@code null})
+	 * @return an instance of the class implementing the compiled expression,
+	 * or {@code null} if compilation is not possible
+	 * @since 5.2.26
+	 * @see #getNonCompilableReason(SpelNodeImpl)
+	 */
+	@Nullable
+	CompiledExpression compile(SpelNodeImpl expression, @Nullable Consumer<String> failureReasonCallback) {
+		String failureReason;
 		if (expression.isCompilable()) {
 			if (logger.isDebugEnabled()) {
 				logger.debug("SpEL: compiling " + expression.toStringAST());
 			}
-			Class<? extends CompiledExpression> clazz = createExpressionClass(expression);
-			if (clazz != null) {
+			try {
+				Class<? extends CompiledExpression> clazz = createExpressionClass(expression);
 				try {
 					return ReflectionUtils.accessibleConstructor(clazz).newInstance();
 				}
@@ -113,10 +132,19 @@ public final class SpelCompiler implements Opcodes {
 					throw new IllegalStateException("Failed to instantiate CompiledExpression", ex);
 				}
 			}
+			catch (CodeGenerationOptOutException ex) {
+				failureReason = ex.getMessage();
+			}
+		}
+		else {
+			failureReason = getNonCompilableReason(expression);
 		}
 
 		if (logger.isDebugEnabled()) {
-			logger.debug("SpEL: unable to compile " + expression.toStringAST());
+			logger.debug("SpEL: unable to compile " + expression.toStringAST() + " - " + failureReason);
+		}
+		if (failureReasonCallback != null) {
+			failureReasonCallback.accept(failureReason);
 		}
 		return null;
 	}
@@ -129,10 +157,10 @@ public final class SpelCompiler implements Opcodes {
 	 * Generate the class that encapsulates the compiled expression and define it.
 	 * The generated class will be a subtype of CompiledExpression.
 	 * @param expressionToCompile the expression to be compiled
-	 * @return the expression call, or {@code null} if the decision was to opt out of
+	 * @return the expression call
+	 * @throws CodeGenerationOptOutException if the decision was to opt out of
 	 * compilation during code generation
 	 */
-	@Nullable
 	private Class<? extends CompiledExpression> createExpressionClass(SpelNodeImpl expressionToCompile) {
 		// Create class outline 'spel/ExNNN extends org.springframework.expression.spel.CompiledExpression'
 		String className = "spel/Ex" + getNextSuffix();
@@ -162,11 +190,8 @@ public final class SpelCompiler implements Opcodes {
 			expressionToCompile.generateCode(mv, cf);
 		}
 		catch (IllegalStateException ex) {
-			if (logger.isDebugEnabled()) {
-				logger.debug(expressionToCompile.getClass().getSimpleName() +
-						".generateCode opted out of compilation: " + ex.getMessage());
-			}
-			return null;
+			throw new CodeGenerationOptOutException(expressionToCompile.getClass().getSimpleName() +
+					".generateCode opted out of compilation: " + ex.getMessage());
 		}
 
 		CodeFlow.insertBoxIfNecessary(mv, cf.lastDescriptor());
@@ -205,6 +230,33 @@ public final class SpelCompiler implements Opcodes {
 	}
 
 
+	/**
+	 * Determine the reason why the given expression AST is not compilable,
+	 * pointing at the innermost node that prevents compilation.
+	 * @param expression the root node of the expression AST
+	 * @return a description of the reason, for diagnostic purposes
+	 * @since 5.2.26
+	 */
+	public static String getNonCompilableReason(SpelNodeImpl expression) {
+		String reason;
+		if (ReflectionUtils.findMethod(expression.getClass(), "isCompilable").getDeclaringClass() == SpelNodeImpl.class) {
+			reason = "not supported by the compiler";
+		}
+		else {
+			for (int i = 0; i < expression.getChildCount(); i++) {
+				SpelNode child = expression.getChild(i);
+				if (child instanceof SpelNodeImpl && !((SpelNodeImpl) child).isCompilable()) {
+					return getNonCompilableReason((SpelNodeImpl) child);
+				}
+			}
+			reason = (expression.getExitDescriptor() == null ?
+					"no type information from a previous evaluation" :
+					"not compilable for the types encountered in previous evaluations");
+		}
+		return expression.getClass().getSimpleName() + " '" + expression.toStringAST() +
+				"' at position " + expression.getStartPosition() + ": " + reason;
+	}
+
 	/**
 	 * Factory method for compiler instances. The returned SpelCompiler will
 	 * attach a class loader as the child of the given class loader and this
@@ -273,6 +325,18 @@ public final class SpelCompiler implements Opcodes {
 	}
 
 
+	/**
+	 * Signals that a node opted out of compilation while generating code for it.
+	 */
+	@SuppressWarnings("serial")
+	private static class CodeGenerationOptOutException extends RuntimeException {
+
+		public CodeGenerationOptOutException(String message) {
+			super(message);
+		}
+	}
+
+
 	/**
 	 * An ASM ClassWriter extension bound to the SpelCompiler's ClassLoader.
 	 */
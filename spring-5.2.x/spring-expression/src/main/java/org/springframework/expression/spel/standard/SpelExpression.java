@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -77,6 +77,10 @@ public class SpelExpression implements Expression {
 	// give up trying to compile it when it just doesn't seem to be possible.
 	private final AtomicInteger failedAttempts = new AtomicInteger(0);
 
+	// The reason why the most recent compilation attempt failed, if any
+	@Nullable
+	private volatile String compilationFailureReason;
+
 
 	/**
 	 * Construct an expression, only used by the parser.
@@ -523,10 +527,11 @@ public class SpelExpression implements Expression {
 				return true;
 			}
 			SpelCompiler compiler = SpelCompiler.getCompiler(this.configuration.getCompilerClassLoader());
-			compiledAst = compiler.compile(this.ast);
+			compiledAst = compiler.compile(this.ast, reason -> this.compilationFailureReason = reason);
 			if (compiledAst != null) {
 				// Successfully compiled
 				this.compiledAst = compiledAst;
+				this.compilationFailureReason = null;
 				return true;
 			}
 			else {
@@ -537,6 +542,31 @@ public class SpelExpression implements Expression {
 		}
 	}
 
+	/**
+	 * Compile the expression right away if the compiler is enabled for it, rather
+	 * than waiting for the number of interpreted evaluations which triggers compilation
+	 * in {@link SpelCompilerMode#MIXED} mode. Compilation will only succeed once the
+	 * expression has been evaluated, determining the types involved.
+	 * @return whether this expression has been successfully compiled
+	 * @since 5.2.26
+	 * @see #getCompilationFailureReason()
+	 */
+	public boolean compileExpressionIfEnabled() {
+		return (this.configuration.getCompilerMode() != SpelCompilerMode.OFF && compileExpression());
+	}
+
+	/**
+	 * Return the reason why the most recent attempt to compile this expression failed,
+	 * e.g. the node which is not compilable, for diagnostic purposes.
+	 * @return the failure reason, or {@code null} if the expression has been compiled
+	 * or no compilation has been attempted
+	 * @since 5.2.26
+	 */
+	@Nullable
+	public String getCompilationFailureReason() {
+		return this.compilationFailureReason;
+	}
+
 	/**
 	 * Cause an expression to revert to being interpreted if it has been using a compiled
 	 * form. It also resets the compilation attempt failure count (an expression is normally no
@@ -546,6 +576,7 @@ public class SpelExpression implements Expression {
 		this.compiledAst = null;
 		this.interpretedCount.set(0);
 		this.failedAttempts.set(0);
+		this.compilationFailureReason = null;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,15 @@
 
 package org.springframework.expression.spel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeMap;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.expression.Expression;
@@ -58,7 +67,20 @@ public class CachedMethodExecutorTests {
 		assertMethodExecution(expression, new RootObject(), "int: 42");
 	}
 
-	private void assertMethodExecution(Expression expression, Object var, String expected) {
+	@Test
+	public void testCachedExecutionForPolymorphicTargets() {
+		Expression expression = this.parser.parseExpression("#var.isEmpty()");
+		List<Object> targets = Arrays.asList("", new ArrayList<>(Collections.singleton(1)), new HashMap<>(),
+				new HashSet<>(Collections.singleton(1)), new LinkedList<>(), new TreeMap<>(Collections.singletonMap(1, 1)));
+
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < targets.size(); j++) {
+				assertMethodExecution(expression, targets.get(j), j % 2 == 0);
+			}
+		}
+	}
+
+	private void assertMethodExecution(Expression expression, Object var, Object expected) {
 		this.context.setVariable("var", var);
 		assertThat(expression.getValue(this.context)).isEqualTo(expected);
 	}
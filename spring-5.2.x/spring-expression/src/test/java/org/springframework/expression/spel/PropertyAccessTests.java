@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,14 @@
 package org.springframework.expression.spel;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +37,7 @@ import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.expression.spel.testresources.Inventor;
@@ -265,6 +271,64 @@ public class PropertyAccessTests extends AbstractExpressionTests {
 			.satisfies(ex -> assertThat(ex.getMessageCode()).isEqualTo(SpelMessage.ARRAY_INDEX_OUT_OF_BOUNDS));
 	}
 
+	@Test
+	void propertyAccessWithPolymorphicTargets() {
+		Expression expr = parser.parseExpression("empty");
+		List<Object> targets = Arrays.asList("", new ArrayList<>(Collections.singleton(1)), new HashMap<>(),
+				new HashSet<>(Collections.singleton(1)), new LinkedList<>(), new TreeMap<>(Collections.singletonMap(1, 1)));
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < targets.size(); j++) {
+				assertThat(expr.getValue(targets.get(j))).isEqualTo(j % 2 == 0);
+			}
+			assertThatExceptionOfType(SpelEvaluationException.class)
+					.isThrownBy(() -> expr.getValue(42))
+					.satisfies(ex -> assertThat(ex.getMessageCode()).isEqualTo(SpelMessage.PROPERTY_OR_FIELD_NOT_READABLE));
+		}
+	}
+
+	@Test
+	void propertyAccessWithCachedAccessorAcrossEvaluationContexts() {
+		Expression expr = parser.parseExpression("class");
+		Person target = new Person("p1");
+		assertThat(expr.getValue(new StandardEvaluationContext(), target)).isEqualTo(Person.class);
+		assertThat(expr.getValue(new StandardEvaluationContext(), target)).isEqualTo(Person.class);
+		EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+		assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() -> expr.getValue(context, target));
+
+		Expression nameExpr = parser.parseExpression("name");
+		assertThat(nameExpr.getValue(SimpleEvaluationContext.forReadOnlyDataBinding().build(), target)).isEqualTo("p1");
+		assertThat(nameExpr.getValue(SimpleEvaluationContext.forReadOnlyDataBinding().build(), target)).isEqualTo("p1");
+		assertThat(nameExpr.getValue(new StandardEvaluationContext(), target)).isEqualTo("p1");
+	}
+
+	@Test
+	void propertyAccessWithCachedAccessorAndHigherPriorityAccessorInOtherContext() {
+		Expression expr = parser.parseExpression("name");
+		Person target = new Person("p1");
+		assertThat(expr.getValue(new StandardEvaluationContext(), target)).isEqualTo("p1");
+
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.addPropertyAccessor(new ConfigurablePropertyAccessor(Collections.singletonMap("name", "p2")));
+		assertThat(expr.getValue(context, target)).isEqualTo("p2");
+
+		context = new StandardEvaluationContext();
+		context.setPropertyAccessors(Arrays.asList(new ReflectivePropertyAccessor(),
+				new ConfigurablePropertyAccessor(Collections.singletonMap("name", "p3"))));
+		assertThat(expr.getValue(context, target)).isEqualTo("p1");
+	}
+
+	@Test
+	void propertyAccessWithCachedAccessorAndFailingGetter() {
+		Expression expr = parser.parseExpression("value");
+		FailingGetterBean target = new FailingGetterBean();
+		for (int i = 1; i <= 3; i++) {
+			assertThatExceptionOfType(SpelEvaluationException.class)
+					.isThrownBy(() -> expr.getValue(new StandardEvaluationContext(), target))
+					.satisfies(ex -> assertThat(ex.getMessageCode()).isEqualTo(SpelMessage.EXCEPTION_DURING_PROPERTY_READ));
+			assertThat(target.invocationCount).isEqualTo(i);
+		}
+	}
+
 
 	// This can resolve the property 'flibbles' on any String (very useful...)
 	private static class StringyPropertyAccessor implements PropertyAccessor {
@@ -316,6 +380,17 @@ public class PropertyAccessTests extends AbstractExpressionTests {
 	}
 
 
+	private static class FailingGetterBean {
+
+		int invocationCount;
+
+		public Object getValue() {
+			this.invocationCount++;
+			throw new IllegalStateException("No value");
+		}
+	}
+
+
 	private static class ConfigurablePropertyAccessor implements PropertyAccessor {
 
 		private final Map<String, Object> values;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -106,6 +107,8 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 	 * FunctionReference
 	 * InlineList
 	 * OpModulus
+	 * Projection (on Iterable operands)
+	 * Selection (on Iterable operands)
 	 *
 	 * Not yet compiled (some may never need to be):
 	 * Assign
@@ -116,9 +119,7 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 	 * OpMatches
 	 * OpPower
 	 * OpInc
-	 * Projection
 	 * QualifiedId
-	 * Selection
 	 */
 
 
@@ -922,6 +923,148 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		return buf.toString();
 	}
 
+	@Test
+	public void variableReference_this() throws Exception {
+		Expression expression = parser.parseExpression("#this.length()");
+		assertThat(expression.getValue("hello")).isEqualTo(5);
+		assertCanCompile(expression);
+		assertThat(expression.getValue("hi")).isEqualTo(2);
+	}
+
+	@Test
+	public void variableReference_thisWithinCompoundExpression() throws Exception {
+		RecordHolder holder = new RecordHolder();
+		expression = parser.parseExpression("expression.#this");
+		assertThat(expression.getValue(holder)).isSameAs(holder.expression);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isSameAs(holder.expression);
+
+		expression = parser.parseExpression("expression.#this.someLong");
+		assertThat(expression.getValue(holder)).isEqualTo(3L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(3L);
+
+		expression = parser.parseExpression("expression.someLong.#this + 1");
+		assertThat(expression.getValue(holder)).isEqualTo(4L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(4L);
+	}
+
+	@Test
+	public void variableReference_thisWithinProjectionAndSelection() throws Exception {
+		ListHolder holder = new ListHolder();
+		expression = parser.parseExpression("list.![#this]");
+		assertThat(expression.getValue(holder)).isEqualTo(Arrays.asList("a", "bb", "ccc"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(Arrays.asList("a", "bb", "ccc"));
+
+		expression = parser.parseExpression("list.?[#this.length() > 1].![#this.length()]");
+		assertThat(expression.getValue(holder)).isEqualTo(Arrays.asList(2, 3));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(Arrays.asList(2, 3));
+
+		expression = parser.parseExpression("list.![concat('!').#this.length()]");
+		assertThat(expression.getValue(holder)).isEqualTo(Arrays.asList(2, 3, 4));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(Arrays.asList(2, 3, 4));
+	}
+
+	@Test
+	public void projection() throws Exception {
+		List<String> list = Arrays.asList("a", "bb", "ccc");
+		expression = parser.parseExpression("![length()]");
+		assertThat(expression.getValue(list)).isEqualTo(Arrays.asList(1, 2, 3));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(list)).isEqualTo(Arrays.asList(1, 2, 3));
+		assertThat(expression.getValue(Arrays.asList("dddd"))).isEqualTo(Collections.singletonList(4));
+
+		expression = parser.parseExpression("![#this.length() > 1 ? #this : null]");
+		assertThat(expression.getValue(list)).isEqualTo(Arrays.asList(null, "bb", "ccc"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(list)).isEqualTo(Arrays.asList(null, "bb", "ccc"));
+
+		// Nested projection, with operands from the active context object
+		List<List<String>> lists = Arrays.asList(list, Collections.singletonList("dddd"));
+		expression = parser.parseExpression("![![length() + #this.length()]]");
+		assertThat(expression.getValue(lists)).isEqualTo(
+				Arrays.asList(Arrays.asList(2, 4, 6), Collections.singletonList(8)));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(lists)).isEqualTo(
+				Arrays.asList(Arrays.asList(2, 4, 6), Collections.singletonList(8)));
+
+		// Null-safe projection
+		expression = parser.parseExpression("#list?.![length()]");
+		context.setVariable("list", list);
+		assertThat(expression.getValue(context)).isEqualTo(Arrays.asList(1, 2, 3));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo(Arrays.asList(1, 2, 3));
+		context.setVariable("list", null);
+		assertThat(expression.getValue(context)).isNull();
+
+		// Projection of an array is only interpreted
+		expression = parser.parseExpression("![length()]");
+		assertThat(expression.getValue(new String[] {"a", "bb"})).isEqualTo(new Integer[] {1, 2});
+		assertCantCompile(expression);
+		assertThat(((SpelExpression) expression).getCompilationFailureReason()).startsWith("Projection");
+	}
+
+	@Test
+	public void selection() throws Exception {
+		List<String> list = Arrays.asList("a", "bb", "ccc");
+		expression = parser.parseExpression("?[length() > 1]");
+		assertThat(expression.getValue(list)).isEqualTo(Arrays.asList("bb", "ccc"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(list)).isEqualTo(Arrays.asList("bb", "ccc"));
+		assertThat(expression.getValue(Collections.singletonList("d"))).isEqualTo(Collections.emptyList());
+
+		expression = parser.parseExpression("^[length() > 1]");
+		assertThat(expression.getValue(list)).isEqualTo("bb");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(list)).isEqualTo("bb");
+		assertThat(expression.getValue(Collections.singletonList("d"))).isNull();
+
+		expression = parser.parseExpression("$[length() > 1].toUpperCase()");
+		assertThat(expression.getValue(list)).isEqualTo("CCC");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(list)).isEqualTo("CCC");
+
+		expression = parser.parseExpression("?[#this.startsWith('b')].![#this + '!']");
+		assertThat(expression.getValue(list)).isEqualTo(Collections.singletonList("bb!"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(list)).isEqualTo(Collections.singletonList("bb!"));
+
+		// Null-safe selection
+		expression = parser.parseExpression("#list?.?[length() > 2]");
+		context.setVariable("list", list);
+		assertThat(expression.getValue(context)).isEqualTo(Collections.singletonList("ccc"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo(Collections.singletonList("ccc"));
+		context.setVariable("list", null);
+		assertThat(expression.getValue(context)).isNull();
+
+		// Selection criteria not evaluated yet for an empty list
+		expression = parser.parseExpression("?[length() > 1]");
+		assertThat(expression.getValue(Collections.emptyList())).isEqualTo(Collections.emptyList());
+		assertCantCompile(expression);
+		assertThat(((SpelExpression) expression).getCompilationFailureReason())
+				.startsWith("MethodReference 'length()'").contains("no type information");
+	}
+
+	@Test
+	public void compilationFailureReason() throws Exception {
+		SpelExpression expression = (SpelExpression) parser.parseExpression("#x = 1");
+		assertThat(expression.getCompilationFailureReason()).isNull();
+		expression.getValue(context);
+		assertCantCompile(expression);
+		assertThat(expression.getCompilationFailureReason()).isEqualTo(
+				"Assign '#x=1' at position 3: not supported by the compiler");
+
+		expression = (SpelExpression) parser.parseExpression("'abc'.length() + 1");
+		expression.getValue();
+		assertCanCompile(expression);
+		assertThat(expression.getCompilationFailureReason()).isNull();
+	}
+
 	@Test
 	public void compiledExpressionShouldWorkWhenUsingCustomFunctionWithVarargs() throws Exception {
 		StandardEvaluationContext context = null;
@@ -6201,6 +6344,12 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 	}
 
 
+	public static class ListHolder {
+
+		public List<String> list = Arrays.asList("a", "bb", "ccc");
+	}
+
+
 	public class Reg {
 
 		private Integer _value,_value2;
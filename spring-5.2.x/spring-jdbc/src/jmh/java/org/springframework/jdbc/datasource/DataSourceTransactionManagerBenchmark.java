@@ -0,0 +1,111 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.datasource;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Benchmarks for short transactions through a {@link DataSourceTransactionManager}
+ * against an in-memory H2 database, measuring the overhead of transaction begin,
+ * commit and synchronization handling per thread.
+ *
+ * @author Jankin Wong
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DataSourceTransactionManagerBenchmark {
+
+	@State(Scope.Thread)
+	public static class BenchmarkState {
+
+		public SingleConnectionDataSource dataSource;
+
+		public DataSourceTransactionManager transactionManager;
+
+		public TransactionDefinition definition;
+
+		public TransactionDefinition readOnlyDefinition;
+
+		public TransactionSynchronization synchronization = new TransactionSynchronization() {
+		};
+
+		@Setup
+		public void setup() {
+			this.dataSource = new SingleConnectionDataSource(
+					"jdbc:h2:mem:DataSourceTransactionManagerBenchmark;DB_CLOSE_DELAY=-1", "sa", "", true);
+			this.transactionManager = new DataSourceTransactionManager(this.dataSource);
+			this.definition = new DefaultTransactionDefinition();
+			DefaultTransactionDefinition readOnlyDefinition = new DefaultTransactionDefinition();
+			readOnlyDefinition.setName("readOnly");
+			readOnlyDefinition.setReadOnly(true);
+			readOnlyDefinition.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+			this.readOnlyDefinition = readOnlyDefinition;
+		}
+
+		@TearDown
+		public void tearDown() {
+			this.dataSource.destroy();
+		}
+	}
+
+
+	@Benchmark
+	public TransactionStatus beginCommit(BenchmarkState state) {
+		TransactionStatus status = state.transactionManager.getTransaction(state.definition);
+		state.transactionManager.commit(status);
+		return status;
+	}
+
+	@Benchmark
+	public TransactionStatus beginCommitReadOnly(BenchmarkState state) {
+		TransactionStatus status = state.transactionManager.getTransaction(state.readOnlyDefinition);
+		state.transactionManager.commit(status);
+		return status;
+	}
+
+	@Benchmark
+	public TransactionStatus beginCommitWithSynchronization(BenchmarkState state) {
+		TransactionStatus status = state.transactionManager.getTransaction(state.definition);
+		TransactionSynchronizationManager.registerSynchronization(state.synchronization);
+		state.transactionManager.commit(status);
+		return status;
+	}
+
+	@Benchmark
+	public TransactionStatus beginCommitWithResourceLookup(BenchmarkState state) {
+		TransactionStatus status = state.transactionManager.getTransaction(state.definition);
+		DataSourceUtils.releaseConnection(DataSourceUtils.getConnection(state.dataSource), state.dataSource);
+		state.transactionManager.commit(status);
+		return status;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,6 @@ import java.util.List;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
 import org.springframework.messaging.handler.annotation.support.MessageHandlerMethodFactory;
@@ -57,8 +56,6 @@ public class JmsListenerEndpointRegistrar implements BeanFactoryAware, Initializ
 
 	private boolean startImmediately;
 
-	private Object mutex = this.endpointDescriptors;
-
 
 	/**
 	 * Set the {@link JmsListenerEndpointRegistry} instance to use.
@@ -124,9 +121,6 @@ public class JmsListenerEndpointRegistrar implements BeanFactoryAware, Initializ
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
-		if (beanFactory instanceof ConfigurableBeanFactory) {
-			this.mutex = ((ConfigurableBeanFactory) beanFactory).getSingletonMutex();
-		}
 	}
 
 
@@ -137,7 +131,19 @@ public class JmsListenerEndpointRegistrar implements BeanFactoryAware, Initializ
 
 	protected void registerAllEndpoints() {
 		Assert.state(this.endpointRegistry != null, "No JmsListenerEndpointRegistry set");
-		synchronized (this.mutex) {
+		boolean defaultContainerFactoryRequired = false;
+		synchronized (this.endpointDescriptors) {
+			for (JmsListenerEndpointDescriptor descriptor : this.endpointDescriptors) {
+				if (descriptor.containerFactory == null) {
+					defaultContainerFactoryRequired = true;
+					break;
+				}
+			}
+		}
+		if (defaultContainerFactoryRequired) {
+			resolveDefaultContainerFactoryIfNecessary();
+		}
+		synchronized (this.endpointDescriptors) {
 			for (JmsListenerEndpointDescriptor descriptor : this.endpointDescriptors) {
 				this.endpointRegistry.registerListenerContainer(
 						descriptor.endpoint, resolveContainerFactory(descriptor));
@@ -146,6 +152,25 @@ public class JmsListenerEndpointRegistrar implements BeanFactoryAware, Initializ
 		}
 	}
 
+	/**
+	 * Obtain the default container factory by bean name, if necessary, before
+	 * synchronizing on the endpoint descriptors: the bean factory may have to
+	 * wait for singleton creation in other threads, which in turn might
+	 * register endpoints with this registrar.
+	 */
+	private void resolveDefaultContainerFactoryIfNecessary() {
+		if (this.containerFactory == null && this.containerFactoryBeanName != null) {
+			Assert.state(this.beanFactory != null, "BeanFactory must be set to obtain container factory by bean name");
+			JmsListenerContainerFactory<?> containerFactory = this.beanFactory.getBean(
+					this.containerFactoryBeanName, JmsListenerContainerFactory.class);
+			synchronized (this.endpointDescriptors) {
+				if (this.containerFactory == null) {
+					this.containerFactory = containerFactory;
+				}
+			}
+		}
+	}
+
 	private JmsListenerContainerFactory<?> resolveContainerFactory(JmsListenerEndpointDescriptor descriptor) {
 		if (descriptor.containerFactory != null) {
 			return descriptor.containerFactory;
@@ -180,7 +205,10 @@ public class JmsListenerEndpointRegistrar implements BeanFactoryAware, Initializ
 		// Factory may be null, we defer the resolution right before actually creating the container
 		JmsListenerEndpointDescriptor descriptor = new JmsListenerEndpointDescriptor(endpoint, factory);
 
-		synchronized (this.mutex) {
+		if (factory == null && this.startImmediately) {
+			resolveDefaultContainerFactoryIfNecessary();
+		}
+		synchronized (this.endpointDescriptors) {
 			if (this.startImmediately) {  // register and start immediately
 				Assert.state(this.endpointRegistry != null, "No JmsListenerEndpointRegistry set");
 				this.endpointRegistry.registerListenerContainer(descriptor.endpoint,
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.core.KotlinDetector;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -50,6 +51,7 @@ import org.springframework.transaction.support.CallbackPreferringPlatformTransac
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -179,6 +181,11 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	private final ConcurrentMap<Method, ReactiveTransactionSupport> transactionSupportCache =
 			new ConcurrentReferenceHashMap<>(1024);
 
+	private final ConcurrentMap<MethodClassKey, TransactionBinding> transactionBindingCache =
+			new ConcurrentReferenceHashMap<>(1024);
+
+	private final boolean transactionManagerCacheable;
+
 
 	protected TransactionAspectSupport() {
 		if (reactiveStreamsPresent) {
@@ -187,6 +194,10 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		else {
 			this.reactiveAdapterRegistry = null;
 		}
+		// Custom transaction manager lookups may route per invocation...
+		this.transactionManagerCacheable =
+				(isDeclaredByTransactionAspectSupport("determineTransactionManager", TransactionAttribute.class) &&
+				isDeclaredByTransactionAspectSupport("getTransactionManager"));
 	}
 
 
@@ -197,6 +208,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	public void setTransactionManagerBeanName(@Nullable String transactionManagerBeanName) {
 		this.transactionManagerBeanName = transactionManagerBeanName;
+		this.transactionBindingCache.clear();
 	}
 
 	/**
@@ -218,6 +230,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	public void setTransactionManager(@Nullable TransactionManager transactionManager) {
 		this.transactionManager = transactionManager;
+		this.transactionBindingCache.clear();
 	}
 
 	/**
@@ -246,6 +259,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		NameMatchTransactionAttributeSource tas = new NameMatchTransactionAttributeSource();
 		tas.setProperties(transactionAttributes);
 		this.transactionAttributeSource = tas;
+		this.transactionBindingCache.clear();
 	}
 
 	/**
@@ -258,6 +272,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	public void setTransactionAttributeSources(TransactionAttributeSource... transactionAttributeSources) {
 		this.transactionAttributeSource = new CompositeTransactionAttributeSource(transactionAttributeSources);
+		this.transactionBindingCache.clear();
 	}
 
 	/**
@@ -271,6 +286,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	public void setTransactionAttributeSource(@Nullable TransactionAttributeSource transactionAttributeSource) {
 		this.transactionAttributeSource = transactionAttributeSource;
+		this.transactionBindingCache.clear();
 	}
 
 	/**
@@ -287,6 +303,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	@Override
 	public void setBeanFactory(@Nullable BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
+		this.transactionBindingCache.clear();
 	}
 
 	/**
@@ -331,9 +348,9 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 			final InvocationCallback invocation) throws Throwable {
 
 		// If the transaction attribute is null, the method is non-transactional.
-		TransactionAttributeSource tas = getTransactionAttributeSource();
-		final TransactionAttribute txAttr = (tas != null ? tas.getTransactionAttribute(method, targetClass) : null);
-		final TransactionManager tm = determineTransactionManager(txAttr);
+		TransactionBinding binding = getTransactionBinding(method, targetClass);
+		final TransactionAttribute txAttr = binding.transactionAttribute;
+		final TransactionManager tm = binding.transactionManager;
 
 		if (this.reactiveAdapterRegistry != null && tm instanceof ReactiveTransactionManager) {
 			ReactiveTransactionSupport txSupport = this.transactionSupportCache.computeIfAbsent(method, key -> {
@@ -354,7 +371,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 
 		PlatformTransactionManager ptm = asPlatformTransactionManager(tm);
-		final String joinpointIdentification = methodIdentification(method, targetClass, txAttr);
+		final String joinpointIdentification = binding.joinpointIdentification;
 
 		if (txAttr == null || !(ptm instanceof CallbackPreferringPlatformTransactionManager)) {
 			// Standard transaction demarcation with getTransaction and commit/rollback calls.
@@ -449,11 +466,42 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 	}
 
+	/**
+	 * Resolve the transaction attribute, transaction manager and joinpoint
+	 * identification for the given method, reusing the result of a previous
+	 * invocation of the same method on the same target class where possible.
+	 * <p>Results are only reused for an {@link AbstractFallbackTransactionAttributeSource}
+	 * which caches its attributes anyway, and transaction managers only if
+	 * {@link #determineTransactionManager} is not overridden.
+	 */
+	private TransactionBinding getTransactionBinding(Method method, @Nullable Class<?> targetClass) {
+		TransactionAttributeSource tas = getTransactionAttributeSource();
+		MethodClassKey cacheKey = new MethodClassKey(method, targetClass);
+		TransactionBinding cached = this.transactionBindingCache.get(cacheKey);
+		if (cached != null && cached.attributeSource == tas) {
+			return cached;
+		}
+		TransactionAttribute txAttr = (tas != null ? tas.getTransactionAttribute(method, targetClass) : null);
+		TransactionManager tm = determineTransactionManager(txAttr);
+		TransactionBinding binding =
+				new TransactionBinding(tas, txAttr, tm, methodIdentification(method, targetClass, txAttr));
+		if (this.transactionManagerCacheable && (tas == null || tas instanceof AbstractFallbackTransactionAttributeSource)) {
+			this.transactionBindingCache.put(cacheKey, binding);
+		}
+		return binding;
+	}
+
+	private boolean isDeclaredByTransactionAspectSupport(String methodName, Class<?>... paramTypes) {
+		Method method = ReflectionUtils.findMethod(getClass(), methodName, paramTypes);
+		return (method != null && method.getDeclaringClass() == TransactionAspectSupport.class);
+	}
+
 	/**
 	 * Clear the transaction manager cache.
 	 */
 	protected void clearTransactionManagerCache() {
 		this.transactionManagerCache.clear();
+		this.transactionBindingCache.clear();
 		this.beanFactory = null;
 	}
 
@@ -691,6 +739,35 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	}
 
 
+	/**
+	 * Transaction attribute, transaction manager and joinpoint identification
+	 * resolved for a method invoked on a specific target class.
+	 */
+	private static final class TransactionBinding {
+
+		@Nullable
+		private final TransactionAttributeSource attributeSource;
+
+		@Nullable
+		private final TransactionAttribute transactionAttribute;
+
+		@Nullable
+		private final TransactionManager transactionManager;
+
+		private final String joinpointIdentification;
+
+		private TransactionBinding(@Nullable TransactionAttributeSource attributeSource,
+				@Nullable TransactionAttribute transactionAttribute, @Nullable TransactionManager transactionManager,
+				String joinpointIdentification) {
+
+			this.attributeSource = attributeSource;
+			this.transactionAttribute = transactionAttribute;
+			this.transactionManager = transactionManager;
+			this.joinpointIdentification = joinpointIdentification;
+		}
+	}
+
+
 	/**
 	 * Opaque object used to hold transaction information. Subclasses
 	 * must pass it back to methods on this class, but not see its internals.
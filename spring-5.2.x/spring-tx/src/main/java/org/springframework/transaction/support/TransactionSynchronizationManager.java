@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -64,6 +64,10 @@ import org.springframework.util.Assert;
  * within a JTA transaction, e.g. a JDBC Connection or a Hibernate Session for
  * any given DataSource or SessionFactory, respectively.
  *
+ * <p>All state of the current thread is kept in a single thread-bound holder,
+ * which is released as soon as no resources, synchronizations or transaction
+ * characteristics are left.
+ *
  * @author Juergen Hoeller
  * @since 02.06.2003
  * @see #isSynchronizationActive
@@ -78,23 +82,8 @@ public abstract class TransactionSynchronizationManager {
 
 	private static final Log logger = LogFactory.getLog(TransactionSynchronizationManager.class);
 
-	private static final ThreadLocal<Map<Object, Object>> resources =
-			new NamedThreadLocal<>("Transactional resources");
-
-	private static final ThreadLocal<Set<TransactionSynchronization>> synchronizations =
-			new NamedThreadLocal<>("Transaction synchronizations");
-
-	private static final ThreadLocal<String> currentTransactionName =
-			new NamedThreadLocal<>("Current transaction name");
-
-	private static final ThreadLocal<Boolean> currentTransactionReadOnly =
-			new NamedThreadLocal<>("Current transaction read-only status");
-
-	private static final ThreadLocal<Integer> currentTransactionIsolationLevel =
-			new NamedThreadLocal<>("Current transaction isolation level");
-
-	private static final ThreadLocal<Boolean> actualTransactionActive =
-			new NamedThreadLocal<>("Actual transaction active");
+	private static final ThreadLocal<SynchronizationState> synchronizationState =
+			new NamedThreadLocal<>("Transaction synchronization state");
 
 
 	//-------------------------------------------------------------------------
@@ -111,8 +100,9 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #hasResource
 	 */
 	public static Map<Object, Object> getResourceMap() {
-		Map<Object, Object> map = resources.get();
-		return (map != null ? Collections.unmodifiableMap(map) : Collections.emptyMap());
+		SynchronizationState state = synchronizationState.get();
+		return (state != null && !state.resources.isEmpty() ?
+				Collections.unmodifiableMap(state.resources) : Collections.emptyMap());
 	}
 
 	/**
@@ -150,18 +140,16 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	private static Object doGetResource(Object actualKey) {
-		Map<Object, Object> map = resources.get();
-		if (map == null) {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null || state.resources.isEmpty()) {
 			return null;
 		}
-		Object value = map.get(actualKey);
+		Object value = state.resources.get(actualKey);
 		// Transparently remove ResourceHolder that was marked as void...
 		if (value instanceof ResourceHolder && ((ResourceHolder) value).isVoid()) {
-			map.remove(actualKey);
+			state.resources.remove(actualKey);
 			// Remove entire ThreadLocal if empty...
-			if (map.isEmpty()) {
-				resources.remove();
-			}
+			removeStateIfEmpty(state);
 			value = null;
 		}
 		return value;
@@ -177,13 +165,7 @@ public abstract class TransactionSynchronizationManager {
 	public static void bindResource(Object key, Object value) throws IllegalStateException {
 		Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
 		Assert.notNull(value, "Value must not be null");
-		Map<Object, Object> map = resources.get();
-		// set ThreadLocal Map if none found
-		if (map == null) {
-			map = new HashMap<>();
-			resources.set(map);
-		}
-		Object oldValue = map.put(actualKey, value);
+		Object oldValue = obtainState().resources.put(actualKey, value);
 		// Transparently suppress a ResourceHolder that was marked as void...
 		if (oldValue instanceof ResourceHolder && ((ResourceHolder) oldValue).isVoid()) {
 			oldValue = null;
@@ -231,15 +213,13 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	private static Object doUnbindResource(Object actualKey) {
-		Map<Object, Object> map = resources.get();
-		if (map == null) {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null || state.resources.isEmpty()) {
 			return null;
 		}
-		Object value = map.remove(actualKey);
+		Object value = state.resources.remove(actualKey);
 		// Remove entire ThreadLocal if empty...
-		if (map.isEmpty()) {
-			resources.remove();
-		}
+		removeStateIfEmpty(state);
 		// Transparently suppress a ResourceHolder that was marked as void...
 		if (value instanceof ResourceHolder && ((ResourceHolder) value).isVoid()) {
 			value = null;
@@ -262,7 +242,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #registerSynchronization
 	 */
 	public static boolean isSynchronizationActive() {
-		return (synchronizations.get() != null);
+		SynchronizationState state = synchronizationState.get();
+		return (state != null && state.synchronizationActive);
 	}
 
 	/**
@@ -271,11 +252,12 @@ public abstract class TransactionSynchronizationManager {
 	 * @throws IllegalStateException if synchronization is already active
 	 */
 	public static void initSynchronization() throws IllegalStateException {
-		if (isSynchronizationActive()) {
+		SynchronizationState state = obtainState();
+		if (state.synchronizationActive) {
 			throw new IllegalStateException("Cannot activate transaction synchronization - already active");
 		}
 		logger.trace("Initializing transaction synchronization");
-		synchronizations.set(new LinkedHashSet<>());
+		state.synchronizationActive = true;
 	}
 
 	/**
@@ -292,11 +274,11 @@ public abstract class TransactionSynchronizationManager {
 			throws IllegalStateException {
 
 		Assert.notNull(synchronization, "TransactionSynchronization must not be null");
-		Set<TransactionSynchronization> synchs = synchronizations.get();
-		if (synchs == null) {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null || !state.synchronizationActive) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
-		synchs.add(synchronization);
+		state.synchronizations.add(synchronization);
 	}
 
 	/**
@@ -307,16 +289,20 @@ public abstract class TransactionSynchronizationManager {
 	 * @see TransactionSynchronization
 	 */
 	public static List<TransactionSynchronization> getSynchronizations() throws IllegalStateException {
-		Set<TransactionSynchronization> synchs = synchronizations.get();
-		if (synchs == null) {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null || !state.synchronizationActive) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
+		Set<TransactionSynchronization> synchs = state.synchronizations;
 		// Return unmodifiable snapshot, to avoid ConcurrentModificationExceptions
 		// while iterating and invoking synchronization callbacks that in turn
 		// might register further synchronizations.
 		if (synchs.isEmpty()) {
 			return Collections.emptyList();
 		}
+		else if (synchs.size() == 1) {
+			return Collections.singletonList(synchs.iterator().next());
+		}
 		else {
 			// Sort lazily here, not in registerSynchronization.
 			List<TransactionSynchronization> sortedSynchs = new ArrayList<>(synchs);
@@ -331,11 +317,13 @@ public abstract class TransactionSynchronizationManager {
 	 * @throws IllegalStateException if synchronization is not active
 	 */
 	public static void clearSynchronization() throws IllegalStateException {
-		if (!isSynchronizationActive()) {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null || !state.synchronizationActive) {
 			throw new IllegalStateException("Cannot deactivate transaction synchronization - not active");
 		}
 		logger.trace("Clearing transaction synchronization");
-		synchronizations.remove();
+		state.clearSynchronization();
+		removeStateIfEmpty(state);
 	}
 
 
@@ -350,7 +338,11 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getName()
 	 */
 	public static void setCurrentTransactionName(@Nullable String name) {
-		currentTransactionName.set(name);
+		SynchronizationState state = (name != null ? obtainState() : synchronizationState.get());
+		if (state != null) {
+			state.currentTransactionName = name;
+			removeStateIfEmpty(state);
+		}
 	}
 
 	/**
@@ -361,7 +353,8 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	public static String getCurrentTransactionName() {
-		return currentTransactionName.get();
+		SynchronizationState state = synchronizationState.get();
+		return (state != null ? state.currentTransactionName : null);
 	}
 
 	/**
@@ -372,7 +365,11 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#isReadOnly()
 	 */
 	public static void setCurrentTransactionReadOnly(boolean readOnly) {
-		currentTransactionReadOnly.set(readOnly ? Boolean.TRUE : null);
+		SynchronizationState state = (readOnly ? obtainState() : synchronizationState.get());
+		if (state != null) {
+			state.currentTransactionReadOnly = readOnly;
+			removeStateIfEmpty(state);
+		}
 	}
 
 	/**
@@ -388,7 +385,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see TransactionSynchronization#beforeCommit(boolean)
 	 */
 	public static boolean isCurrentTransactionReadOnly() {
-		return (currentTransactionReadOnly.get() != null);
+		SynchronizationState state = synchronizationState.get();
+		return (state != null && state.currentTransactionReadOnly);
 	}
 
 	/**
@@ -408,7 +406,11 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getIsolationLevel()
 	 */
 	public static void setCurrentTransactionIsolationLevel(@Nullable Integer isolationLevel) {
-		currentTransactionIsolationLevel.set(isolationLevel);
+		SynchronizationState state = (isolationLevel != null ? obtainState() : synchronizationState.get());
+		if (state != null) {
+			state.currentTransactionIsolationLevel = isolationLevel;
+			removeStateIfEmpty(state);
+		}
 	}
 
 	/**
@@ -430,7 +432,8 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	public static Integer getCurrentTransactionIsolationLevel() {
-		return currentTransactionIsolationLevel.get();
+		SynchronizationState state = synchronizationState.get();
+		return (state != null ? state.currentTransactionIsolationLevel : null);
 	}
 
 	/**
@@ -440,7 +443,11 @@ public abstract class TransactionSynchronizationManager {
 	 * with an actual transaction; {@code false} to reset that marker
 	 */
 	public static void setActualTransactionActive(boolean active) {
-		actualTransactionActive.set(active ? Boolean.TRUE : null);
+		SynchronizationState state = (active ? obtainState() : synchronizationState.get());
+		if (state != null) {
+			state.actualTransactionActive = active;
+			removeStateIfEmpty(state);
+		}
 	}
 
 	/**
@@ -455,7 +462,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #isSynchronizationActive()
 	 */
 	public static boolean isActualTransactionActive() {
-		return (actualTransactionActive.get() != null);
+		SynchronizationState state = synchronizationState.get();
+		return (state != null && state.actualTransactionActive);
 	}
 
 
@@ -469,11 +477,76 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #setActualTransactionActive
 	 */
 	public static void clear() {
-		synchronizations.remove();
-		currentTransactionName.remove();
-		currentTransactionReadOnly.remove();
-		currentTransactionIsolationLevel.remove();
-		actualTransactionActive.remove();
+		SynchronizationState state = synchronizationState.get();
+		if (state != null) {
+			state.clearSynchronization();
+			state.currentTransactionName = null;
+			state.currentTransactionReadOnly = false;
+			state.currentTransactionIsolationLevel = null;
+			state.actualTransactionActive = false;
+			removeStateIfEmpty(state);
+		}
+	}
+
+
+	/**
+	 * Return the state holder for the current thread, binding a new one if none found.
+	 */
+	private static SynchronizationState obtainState() {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null) {
+			state = new SynchronizationState();
+			synchronizationState.set(state);
+		}
+		return state;
+	}
+
+	/**
+	 * Remove the given state holder from the current thread if it does not
+	 * hold any resources, synchronizations or transaction characteristics.
+	 */
+	private static void removeStateIfEmpty(SynchronizationState state) {
+		if (state.isEmpty()) {
+			synchronizationState.remove();
+		}
+	}
+
+
+	/**
+	 * Holder for the transaction synchronization state of a thread.
+	 * The synchronization set keeps registration order and ignores
+	 * duplicate registrations. The holder gets removed from the thread
+	 * as soon as it is empty, e.g. when a transaction gets suspended
+	 * or completes, so its state is not reused across transactions.
+	 */
+	private static final class SynchronizationState {
+
+		final Map<Object, Object> resources = new HashMap<>(4);
+
+		final Set<TransactionSynchronization> synchronizations = new LinkedHashSet<>(8);
+
+		boolean synchronizationActive;
+
+		@Nullable
+		String currentTransactionName;
+
+		boolean currentTransactionReadOnly;
+
+		@Nullable
+		Integer currentTransactionIsolationLevel;
+
+		boolean actualTransactionActive;
+
+		void clearSynchronization() {
+			this.synchronizationActive = false;
+			this.synchronizations.clear();
+		}
+
+		boolean isEmpty() {
+			return (this.resources.isEmpty() && !this.synchronizationActive &&
+					this.currentTransactionName == null && !this.currentTransactionReadOnly &&
+					this.currentTransactionIsolationLevel == null && !this.actualTransactionActive);
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,9 @@
 package org.springframework.transaction.interceptor;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,11 +33,15 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.TransactionManager;
 import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -262,6 +268,87 @@ public class TransactionInterceptorTests extends AbstractTransactionAspectTests
 		verify(beanFactory, times(1)).getBean(TransactionManager.class);
 	}
 
+	@Test
+	public void transactionBindingResolvedOncePerMethod() throws Exception {
+		Method method = TransactionalBean.class.getMethod("doSomething");
+		TransactionAttributeSource tas = spy(new AnnotationTransactionAttributeSource());
+		PlatformTransactionManager ptm = mock(PlatformTransactionManager.class);
+		TransactionStatus status = mock(TransactionStatus.class);
+		given(ptm.getTransaction(any())).willReturn(status);
+		TransactionInterceptor ti = new TransactionInterceptor();
+		ti.setTransactionManager(ptm);
+		ti.setTransactionAttributeSource(tas);
+
+		ProxyFactory pf = new ProxyFactory(new TransactionalBean());
+		pf.addAdvice(ti);
+		TransactionalBean proxy = (TransactionalBean) pf.getProxy();
+		proxy.doSomething();
+		proxy.doSomething();
+		verify(tas, times(1)).getTransactionAttribute(method, TransactionalBean.class);
+		verify(ptm, times(2)).commit(status);
+
+		// Changing the configuration must not reuse the previous resolution
+		PlatformTransactionManager ptm2 = mock(PlatformTransactionManager.class);
+		TransactionStatus status2 = mock(TransactionStatus.class);
+		given(ptm2.getTransaction(any())).willReturn(status2);
+		ti.setTransactionManager(ptm2);
+		proxy.doSomething();
+		verify(tas, times(2)).getTransactionAttribute(method, TransactionalBean.class);
+		verify(ptm2).commit(status2);
+		verify(ptm, times(2)).commit(status);
+	}
+
+	@Test
+	public void transactionBindingResolvedOncePerTargetClass() throws Exception {
+		Method method = TransactionalService.class.getMethod("doSomething");
+		TransactionAttributeSource tas = spy(new AnnotationTransactionAttributeSource());
+		PlatformTransactionManager ptm = mock(PlatformTransactionManager.class);
+		TransactionStatus status = mock(TransactionStatus.class);
+		given(ptm.getTransaction(any())).willReturn(status);
+		TransactionInterceptor ti = new TransactionInterceptor();
+		ti.setTransactionManager(ptm);
+		ti.setTransactionAttributeSource(tas);
+
+		ProxyFactory pf1 = new ProxyFactory(new TransactionalServiceImpl());
+		pf1.addAdvice(ti);
+		TransactionalService proxy1 = (TransactionalService) pf1.getProxy();
+		ProxyFactory pf2 = new ProxyFactory(new OtherTransactionalServiceImpl());
+		pf2.addAdvice(ti);
+		TransactionalService proxy2 = (TransactionalService) pf2.getProxy();
+
+		// Alternating target classes for the same interface method must not evict each other
+		proxy1.doSomething();
+		proxy2.doSomething();
+		proxy1.doSomething();
+		proxy2.doSomething();
+		verify(tas, times(1)).getTransactionAttribute(method, TransactionalServiceImpl.class);
+		verify(tas, times(1)).getTransactionAttribute(method, OtherTransactionalServiceImpl.class);
+		verify(ptm, times(4)).commit(status);
+	}
+
+	@Test
+	@SuppressWarnings("serial")
+	public void transactionBindingWithCustomTransactionManagerLookup() {
+		AtomicInteger lookups = new AtomicInteger();
+		PlatformTransactionManager ptm = mock(PlatformTransactionManager.class);
+		TransactionInterceptor ti = new TransactionInterceptor() {
+			@Override
+			protected TransactionManager determineTransactionManager(@Nullable TransactionAttribute txAttr) {
+				lookups.incrementAndGet();
+				return ptm;
+			}
+		};
+		ti.setTransactionAttributeSource(new AnnotationTransactionAttributeSource());
+
+		ProxyFactory pf = new ProxyFactory(new TransactionalBean());
+		pf.addAdvice(ti);
+		TransactionalBean proxy = (TransactionalBean) pf.getProxy();
+		proxy.doSomething();
+		proxy.doSomething();
+		assertThat(lookups.get()).isEqualTo(2);
+		verify(ptm, times(2)).getTransaction(any());
+	}
+
 
 	private TransactionInterceptor createTransactionInterceptor(BeanFactory beanFactory,
 			String transactionManagerName, PlatformTransactionManager transactionManager) {
@@ -306,6 +393,38 @@ public class TransactionInterceptorTests extends AbstractTransactionAspectTests
 	}
 
 
+	@Transactional
+	public static class TransactionalBean {
+
+		public void doSomething() {
+		}
+	}
+
+
+	public interface TransactionalService {
+
+		void doSomething();
+	}
+
+
+	@Transactional
+	public static class TransactionalServiceImpl implements TransactionalService {
+
+		@Override
+		public void doSomething() {
+		}
+	}
+
+
+	@Transactional
+	public static class OtherTransactionalServiceImpl implements TransactionalService {
+
+		@Override
+		public void doSomething() {
+		}
+	}
+
+
 	/**
 	 * We won't use this: we just want to know it's serializable.
 	 */
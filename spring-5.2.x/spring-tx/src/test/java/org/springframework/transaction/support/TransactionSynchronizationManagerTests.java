@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.Ordered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link TransactionSynchronizationManager}.
+ *
+ * @author Jankin Wong
+ */
+class TransactionSynchronizationManagerTests {
+
+	@AfterEach
+	void verifyStateCleared() {
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel()).isNull();
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+	}
+
+
+	@Test
+	void registerSynchronization() {
+		OrderedSynchronization second = new OrderedSynchronization(2);
+		OrderedSynchronization first = new OrderedSynchronization(1);
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.registerSynchronization(second);
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).containsExactly(second);
+
+		TransactionSynchronizationManager.registerSynchronization(first);
+		TransactionSynchronizationManager.registerSynchronization(second);
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).containsExactly(first, second);
+
+		TransactionSynchronizationManager.clearSynchronization();
+		assertThatIllegalStateException().isThrownBy(TransactionSynchronizationManager::getSynchronizations);
+		assertThatIllegalStateException().isThrownBy(() ->
+				TransactionSynchronizationManager.registerSynchronization(first));
+
+		TransactionSynchronizationManager.initSynchronization();
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void initSynchronizationWhenAlreadyActive() {
+		TransactionSynchronizationManager.initSynchronization();
+		assertThatIllegalStateException().isThrownBy(TransactionSynchronizationManager::initSynchronization);
+		TransactionSynchronizationManager.clearSynchronization();
+		assertThatIllegalStateException().isThrownBy(TransactionSynchronizationManager::clearSynchronization);
+	}
+
+	@Test
+	void clearKeepsBoundResources() {
+		Object key = new Object();
+		TransactionSynchronizationManager.bindResource(key, "value");
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setCurrentTransactionName("tx");
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(Connection.TRANSACTION_SERIALIZABLE);
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("tx");
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel())
+				.isEqualTo(Connection.TRANSACTION_SERIALIZABLE);
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+
+		TransactionSynchronizationManager.clear();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+		assertThat(TransactionSynchronizationManager.getResource(key)).isEqualTo("value");
+		assertThat(TransactionSynchronizationManager.unbindResource(key)).isEqualTo("value");
+		assertThat(TransactionSynchronizationManager.hasResource(key)).isFalse();
+	}
+
+	@Test
+	void bindResourceTwice() {
+		Object key = new Object();
+		TransactionSynchronizationManager.bindResource(key, "value");
+		assertThatIllegalStateException().isThrownBy(() ->
+				TransactionSynchronizationManager.bindResource(key, "other"));
+		TransactionSynchronizationManager.unbindResource(key);
+		assertThat(TransactionSynchronizationManager.unbindResourceIfPossible(key)).isNull();
+		assertThatIllegalStateException().isThrownBy(() -> TransactionSynchronizationManager.unbindResource(key));
+	}
+
+	@Test
+	void voidResourceHolderIsRemoved() {
+		Object key = new Object();
+		ResourceHolderSupport holder = new ResourceHolderSupport() {};
+		TransactionSynchronizationManager.bindResource(key, holder);
+		assertThat(TransactionSynchronizationManager.getResource(key)).isSameAs(holder);
+
+		holder.unbound();
+		assertThat(TransactionSynchronizationManager.getResource(key)).isNull();
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+	}
+
+
+	private static class OrderedSynchronization implements TransactionSynchronization, Ordered {
+
+		private final int order;
+
+		OrderedSynchronization(int order) {
+			this.order = order;
+		}
+
+		@Override
+		public int getOrder() {
+			return this.order;
+		}
+	}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.method;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
+
+/**
+ * A prefix tree over literal path segments, used by handler method mappings
+ * to narrow down the mappings to check for a request path.
+ *
+ * <p>Each value is registered under the literal path segments that all of
+ * its URL patterns start with, e.g. {@code ["api", "users"]} for the pattern
+ * {@code "/api/users/{id}"}. A lookup returns the values registered at every
+ * node along the segments of the request path, i.e. all values that may
+ * match, while values under other prefixes are skipped. Values without a
+ * literal prefix are registered at the root and always returned.
+ *
+ * <p>Segments are compared with {@link String#equals}, so this is only
+ * accurate for case-sensitive pattern matching with {@code "/"} as separator.
+ *
+ * <p>This class is not thread-safe; callers are expected to guard
+ * modifications and lookups, e.g. with a read-write lock.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ * @param <T> the type of value to index, e.g. a request mapping
+ */
+public class PathPrefixIndex<T> {
+
+	private final Node<T> root = new Node<>();
+
+	private int size;
+
+
+	/**
+	 * Register a value under the given literal path segments.
+	 * @param prefix the literal leading path segments, possibly empty
+	 * @param value the value to register
+	 */
+	public void add(List<String> prefix, T value) {
+		Node<T> node = this.root;
+		for (String segment : prefix) {
+			node = node.getOrCreateChild(segment);
+		}
+		node.values.add(value);
+		this.size++;
+	}
+
+	/**
+	 * Remove a value previously {@link #add registered} under the given
+	 * literal path segments.
+	 * @param prefix the literal path segments the value was registered with
+	 * @param value the value to remove
+	 * @return whether the value was found and removed
+	 */
+	public boolean remove(List<String> prefix, T value) {
+		List<Node<T>> path = new ArrayList<>(prefix.size() + 1);
+		Node<T> node = this.root;
+		path.add(node);
+		for (String segment : prefix) {
+			node = node.getChild(segment);
+			if (node == null) {
+				return false;
+			}
+			path.add(node);
+		}
+		if (!node.values.remove(value)) {
+			return false;
+		}
+		this.size--;
+		for (int i = prefix.size(); i > 0 && path.get(i).isEmpty(); i--) {
+			path.get(i - 1).removeChild(prefix.get(i - 1));
+		}
+		return true;
+	}
+
+	/**
+	 * Return the values that may match the given path, i.e. those registered
+	 * at the root and under each sequence of leading segments of the path.
+	 * @param path a {@code "/"} separated path, e.g. a lookup path
+	 * @return the candidate values, in order of increasing prefix length
+	 */
+	public List<T> getCandidates(String path) {
+		List<T> result = new ArrayList<>(this.root.values);
+		Node<T> node = this.root;
+		int length = path.length();
+		int start = 0;
+		while (node.children != null && start < length) {
+			// Walk the segment, computing its String hash code without a substring
+			int end = start;
+			int hash = 0;
+			char ch;
+			while (end < length && (ch = path.charAt(end)) != '/') {
+				hash = 31 * hash + ch;
+				end++;
+			}
+			if (end > start) {
+				node = node.getChild(path, start, end, hash);
+				if (node == null) {
+					break;
+				}
+				result.addAll(node.values);
+			}
+			start = end + 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Variant of {@link #getCandidates(String)} for a parsed path, comparing
+	 * the {@link PathContainer.PathSegment#valueToMatch() decoded} segment
+	 * values without path parameters.
+	 * @param path the parsed path, e.g. a path within the application
+	 * @return the candidate values, in order of increasing prefix length
+	 */
+	public List<T> getCandidates(PathContainer path) {
+		List<T> result = new ArrayList<>(this.root.values);
+		Node<T> node = this.root;
+		for (PathContainer.Element element : path.elements()) {
+			if (node.children == null) {
+				break;
+			}
+			if (element instanceof PathContainer.PathSegment) {
+				String value = ((PathContainer.PathSegment) element).valueToMatch();
+				if (value.isEmpty()) {
+					continue;
+				}
+				node = node.getChild(value);
+				if (node == null) {
+					break;
+				}
+				result.addAll(node.values);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Return the number of registered values.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+
+	private static final class Node<T> {
+
+		private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+		private final String segment;
+
+		private final int hash;
+
+		private final List<T> values = new ArrayList<>(1);
+
+		/**
+		 * Child nodes sorted by the hash of their segment, so that a segment
+		 * can be looked up within a path without extracting it first.
+		 */
+		@Nullable
+		private Node<T>[] children;
+
+		Node() {
+			this("");
+		}
+
+		Node(String segment) {
+			this.segment = segment;
+			this.hash = segment.hashCode();
+		}
+
+		@Nullable
+		Node<T> getChild(String segment) {
+			return getChild(segment, 0, segment.length(), segment.hashCode());
+		}
+
+		/**
+		 * Return the child for the segment between the given indexes of the path.
+		 * @param path the path containing the segment
+		 * @param start the index of the first character of the segment
+		 * @param end the index after the last character of the segment
+		 * @param hash the {@link String#hashCode() hash code} of the segment
+		 */
+		@Nullable
+		Node<T> getChild(String path, int start, int end, int hash) {
+			Node<T>[] children = this.children;
+			if (children == null) {
+				return null;
+			}
+			int length = end - start;
+			for (int i = indexOfHash(children, hash); i < children.length && children[i].hash == hash; i++) {
+				Node<T> child = children[i];
+				if (child.segment.length() == length && path.regionMatches(start, child.segment, 0, length)) {
+					return child;
+				}
+			}
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		Node<T> getOrCreateChild(String segment) {
+			Node<T> child = getChild(segment);
+			if (child == null) {
+				child = new Node<>(segment);
+				Node<T>[] children = (this.children != null ? this.children : (Node<T>[]) NO_CHILDREN);
+				int index = indexOfHash(children, child.hash);
+				Node<T>[] newChildren = (Node<T>[]) new Node<?>[children.length + 1];
+				System.arraycopy(children, 0, newChildren, 0, index);
+				newChildren[index] = child;
+				System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+				this.children = newChildren;
+			}
+			return child;
+		}
+
+		@SuppressWarnings("unchecked")
+		void removeChild(String segment) {
+			Node<T> child = getChild(segment);
+			Node<T>[] children = this.children;
+			if (child == null || children == null) {
+				return;
+			}
+			if (children.length == 1) {
+				this.children = null;
+				return;
+			}
+			int index = indexOfHash(children, child.hash);
+			while (children[index] != child) {
+				index++;
+			}
+			Node<T>[] newChildren = (Node<T>[]) new Node<?>[children.length - 1];
+			System.arraycopy(children, 0, newChildren, 0, index);
+			System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+			this.children = newChildren;
+		}
+
+		boolean isEmpty() {
+			return (this.values.isEmpty() && this.children == null);
+		}
+
+		/**
+		 * Return the index of the first child with a hash not less than the given one.
+		 */
+		private static int indexOfHash(Node<?>[] children, int hash) {
+			int low = 0;
+			int high = children.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (children[mid].hash < hash) {
+					low = mid + 1;
+				}
+				else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+
+}
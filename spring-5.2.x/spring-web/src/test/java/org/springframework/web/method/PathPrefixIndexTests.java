@@ -0,0 +1,107 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.method;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.server.PathContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PathPrefixIndex}.
+ *
+ * @author Jankin Wong
+ */
+class PathPrefixIndexTests {
+
+	private final PathPrefixIndex<String> index = new PathPrefixIndex<>();
+
+
+	@BeforeEach
+	void setup() {
+		this.index.add(Collections.emptyList(), "/**");
+		this.index.add(Collections.singletonList("api"), "/api/{name}");
+		this.index.add(Arrays.asList("api", "users"), "/api/users/{id}");
+		this.index.add(Arrays.asList("api", "orders"), "/api/orders/{id}");
+		this.index.add(Arrays.asList("api", "orders"), "/api/orders/*/items");
+	}
+
+
+	@Test
+	void getCandidates() {
+		assertThat(this.index.size()).isEqualTo(5);
+		assertThat(this.index.getCandidates("/api/users/42"))
+				.containsExactly("/**", "/api/{name}", "/api/users/{id}");
+		assertThat(this.index.getCandidates("/api/orders/42/items"))
+				.containsExactly("/**", "/api/{name}", "/api/orders/{id}", "/api/orders/*/items");
+		assertThat(this.index.getCandidates("/other/users")).containsExactly("/**");
+		assertThat(this.index.getCandidates("")).containsExactly("/**");
+	}
+
+	@Test
+	void getCandidatesIgnoresEmptySegments() {
+		assertThat(this.index.getCandidates("//api//users/"))
+				.containsExactly("/**", "/api/{name}", "/api/users/{id}");
+	}
+
+	@Test
+	void getCandidatesIsCaseSensitive() {
+		assertThat(this.index.getCandidates("/API/users/42")).containsExactly("/**");
+	}
+
+	@Test
+	void getCandidatesWithCollidingSegmentHashCodes() {
+		// "Aa" and "BB" have the same hash code
+		this.index.add(Arrays.asList("api", "Aa"), "/api/Aa/*");
+		this.index.add(Arrays.asList("api", "BB"), "/api/BB/*");
+		this.index.add(Arrays.asList("api", "B"), "/api/B/*");
+		assertThat(this.index.getCandidates("/api/BB/1")).containsExactly("/**", "/api/{name}", "/api/BB/*");
+		assertThat(this.index.getCandidates("/api/Aa/1")).containsExactly("/**", "/api/{name}", "/api/Aa/*");
+		assertThat(this.index.getCandidates("/api/B")).containsExactly("/**", "/api/{name}", "/api/B/*");
+
+		assertThat(this.index.remove(Arrays.asList("api", "Aa"), "/api/Aa/*")).isTrue();
+		assertThat(this.index.getCandidates("/api/Aa/1")).containsExactly("/**", "/api/{name}");
+		assertThat(this.index.getCandidates("/api/BB/1")).containsExactly("/**", "/api/{name}", "/api/BB/*");
+	}
+
+	@Test
+	void getCandidatesForPathContainer() {
+		assertThat(this.index.getCandidates(PathContainer.parsePath("/api/users;v=1/42")))
+				.containsExactly("/**", "/api/{name}", "/api/users/{id}");
+		assertThat(this.index.getCandidates(PathContainer.parsePath("/api/order%73/42")))
+				.containsExactly("/**", "/api/{name}", "/api/orders/{id}", "/api/orders/*/items");
+		assertThat(this.index.getCandidates(PathContainer.parsePath("/other"))).containsExactly("/**");
+	}
+
+	@Test
+	void remove() {
+		assertThat(this.index.remove(Arrays.asList("api", "users"), "/api/users/{id}")).isTrue();
+		assertThat(this.index.remove(Arrays.asList("api", "users"), "/api/users/{id}")).isFalse();
+		assertThat(this.index.remove(Arrays.asList("api", "other"), "/api/orders/{id}")).isFalse();
+		assertThat(this.index.size()).isEqualTo(4);
+		assertThat(this.index.getCandidates("/api/users/42")).containsExactly("/**", "/api/{name}");
+
+		this.index.add(Arrays.asList("api", "users"), "/api/users");
+		assertThat(this.index.getCandidates("/api/users")).containsExactly("/**", "/api/{name}", "/api/users");
+	}
+
+}
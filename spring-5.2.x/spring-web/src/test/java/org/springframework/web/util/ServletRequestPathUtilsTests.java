@@ -0,0 +1,119 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.server.RequestPath;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link ServletRequestPathUtils}.
+ *
+ * @author Jankin Wong
+ */
+class ServletRequestPathUtilsTests {
+
+	@Test
+	void parseAndCache() {
+		testParseAndCache("/app/servlet/a/b/c", "/app", "/servlet", "/app/servlet", "/a/b/c");
+		testParseAndCache("/app/servlet/a/b/c", "/app", "", "/app", "/servlet/a/b/c");
+		testParseAndCache("/app/a/b/c", "/app", "/a/b/c", "/app", "/a/b/c");
+		testParseAndCache("/a/b/c", "", "/a/b/c", "", "/a/b/c");
+		testParseAndCache("/app", "/app", "", "/app", "");
+	}
+
+	@Test
+	void parseAndCacheEncodedServletPath() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/my%20servlet/a");
+		request.setContextPath("/app");
+		request.setServletPath("/my servlet");
+		request.setPathInfo("/a");
+
+		RequestPath requestPath = ServletRequestPathUtils.parseAndCache(request);
+		assertThat(requestPath.contextPath().value()).isEqualTo("/app/my%20servlet");
+		assertThat(requestPath.pathWithinApplication().value()).isEqualTo("/a");
+	}
+
+	@Test
+	void parseAndCacheWithDefaultServletMapping() {
+		MockHttpServletRequest request = createRequest("/app/a/b", "/app", "/a/b");
+		request.setPathInfo(null);
+
+		RequestPath requestPath = ServletRequestPathUtils.parseAndCache(request);
+		assertThat(requestPath.contextPath().value()).isEqualTo("/app");
+		assertThat(requestPath.pathWithinApplication().value()).isEqualTo("/a/b");
+	}
+
+	@Test
+	void parseAndCacheForInclude() {
+		MockHttpServletRequest request = createRequest("/app/servlet/a", "/app", "/servlet");
+		request.setAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE, "/app/include/b");
+		request.setAttribute(WebUtils.INCLUDE_CONTEXT_PATH_ATTRIBUTE, "/app");
+		request.setAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE, "/include/b");
+
+		RequestPath requestPath = ServletRequestPathUtils.parseAndCache(request);
+		assertThat(requestPath.value()).isEqualTo("/app/include/b");
+		assertThat(requestPath.pathWithinApplication().value()).isEqualTo("/include/b");
+	}
+
+	@Test
+	void getSetAndClearParsedRequestPath() {
+		MockHttpServletRequest request = createRequest("/app/a", "/app", "");
+		assertThat(ServletRequestPathUtils.hasParsedRequestPath(request)).isFalse();
+		assertThatIllegalArgumentException().isThrownBy(() -> ServletRequestPathUtils.getParsedRequestPath(request));
+
+		RequestPath requestPath = ServletRequestPathUtils.parseAndCache(request);
+		assertThat(ServletRequestPathUtils.hasParsedRequestPath(request)).isTrue();
+		assertThat(ServletRequestPathUtils.getParsedRequestPath(request)).isSameAs(requestPath);
+
+		ServletRequestPathUtils.setParsedRequestPath(null, request);
+		assertThat(ServletRequestPathUtils.hasParsedRequestPath(request)).isFalse();
+
+		ServletRequestPathUtils.setParsedRequestPath(requestPath, request);
+		assertThat(ServletRequestPathUtils.getParsedRequestPath(request)).isSameAs(requestPath);
+
+		ServletRequestPathUtils.clearParsedRequestPath(request);
+		assertThat(ServletRequestPathUtils.hasParsedRequestPath(request)).isFalse();
+	}
+
+
+	private void testParseAndCache(String requestUri, String contextPath, String servletPath,
+			String expectedContextPath, String expectedPathWithinApplication) {
+
+		MockHttpServletRequest request = createRequest(requestUri, contextPath, servletPath);
+		RequestPath requestPath = ServletRequestPathUtils.parseAndCache(request);
+
+		assertThat(requestPath.value()).isEqualTo(requestUri);
+		assertThat(requestPath.contextPath().value()).isEqualTo(expectedContextPath);
+		assertThat(requestPath.pathWithinApplication().value()).isEqualTo(expectedPathWithinApplication);
+		assertThat(ServletRequestPathUtils.getParsedRequestPath(request)).isSameAs(requestPath);
+	}
+
+	private static MockHttpServletRequest createRequest(String requestUri, String contextPath, String servletPath) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+		request.setContextPath(contextPath);
+		request.setServletPath(servletPath);
+		String pathInfo = requestUri.substring(contextPath.length() + servletPath.length());
+		request.setPathInfo(pathInfo.isEmpty() ? null : pathInfo);
+		return request;
+	}
+
+}
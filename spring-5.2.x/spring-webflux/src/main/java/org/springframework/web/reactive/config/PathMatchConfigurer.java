@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,9 @@ public class PathMatchConfigurer {
 	@Nullable
 	private Boolean caseSensitiveMatch;
 
+	@Nullable
+	private Boolean pathPrefixIndex;
+
 	@Nullable
 	private Map<String, Predicate<Class<?>>> pathPrefixes;
 
@@ -62,6 +65,19 @@ public class PathMatchConfigurer {
 		return this;
 	}
 
+	/**
+	 * Whether to look up {@code @RequestMapping} methods through an index of
+	 * the literal leading path segments of their patterns, rather than
+	 * checking all methods for every request.
+	 * <p>The default value is {@code false}.
+	 * @since 5.2.26
+	 * @see org.springframework.web.reactive.result.method.AbstractHandlerMethodMapping#setUsePathPrefixIndex
+	 */
+	public PathMatchConfigurer setUsePathPrefixIndex(Boolean pathPrefixIndex) {
+		this.pathPrefixIndex = pathPrefixIndex;
+		return this;
+	}
+
 	/**
 	 * Configure a path prefix to apply to matching controller methods.
 	 * <p>Prefixes are used to enrich the mappings of every {@code @RequestMapping}
@@ -92,6 +108,11 @@ public class PathMatchConfigurer {
 		return this.caseSensitiveMatch;
 	}
 
+	@Nullable
+	protected Boolean isUsePathPrefixIndex() {
+		return this.pathPrefixIndex;
+	}
+
 	@Nullable
 	protected Map<String, Predicate<Class<?>>> getPathPrefixes() {
 		return this.pathPrefixes;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,16 +37,20 @@ import reactor.core.publisher.Mono;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.RequestPath;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.PathPrefixIndex;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.handler.AbstractHandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -76,6 +80,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	private static final String SCOPED_TARGET_NAME_PREFIX = "scopedTarget.";
 
+	/**
+	 * Name of the exchange attribute that holds the number of mappings that
+	 * were checked to look up the handler method for the current request.
+	 * <p>Only exposed if the {@link #setUsePathPrefixIndex path prefix index}
+	 * is used, as a per-request measure of the lookup cost.
+	 * @since 5.2.26
+	 */
+	public static final String LOOKUP_CANDIDATE_COUNT_ATTRIBUTE =
+			AbstractHandlerMethodMapping.class.getName() + ".lookupCandidateCount";
+
 	/**
 	 * HandlerMethod to return on a pre-flight request match when the request
 	 * mappings are more nuanced than the access control headers.
@@ -96,9 +110,35 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	private final MappingRegistry mappingRegistry = new MappingRegistry();
 
+	private boolean usePathPrefixIndex = false;
+
 
 	// TODO: handlerMethodMappingNamingStrategy
 
+	/**
+	 * Whether to narrow down the mappings to check for a request through an
+	 * index of the literal leading path segments of their URL patterns, e.g.
+	 * {@code "/api/users"} for {@code "/api/users/{id}"}, rather than checking
+	 * all mappings.
+	 * <p>The index is not used if the {@link #getPathPatternParser() parser}
+	 * is configured for case-insensitive matching.
+	 * <p>The default is "false".
+	 * @since 5.2.26
+	 * @see #getMappingPathPrefix
+	 * @see #LOOKUP_CANDIDATE_COUNT_ATTRIBUTE
+	 */
+	public void setUsePathPrefixIndex(boolean usePathPrefixIndex) {
+		this.usePathPrefixIndex = usePathPrefixIndex;
+	}
+
+	/**
+	 * Whether to use the {@link #setUsePathPrefixIndex path prefix index}.
+	 * @since 5.2.26
+	 */
+	public boolean usePathPrefixIndex() {
+		return this.usePathPrefixIndex;
+	}
+
 	/**
 	 * Return a (read-only) map with all mappings and HandlerMethod's.
 	 */
@@ -311,7 +351,15 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	@Nullable
 	protected HandlerMethod lookupHandlerMethod(ServerWebExchange exchange) throws Exception {
 		List<Match> matches = new ArrayList<>();
-		addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, exchange);
+		Collection<T> candidates = getCandidateMappings(exchange);
+		addMatchingMappings(candidates, matches, exchange);
+		if (this.usePathPrefixIndex) {
+			exchange.getAttributes().put(LOOKUP_CANDIDATE_COUNT_ATTRIBUTE, candidates.size());
+			if (logger.isTraceEnabled()) {
+				logger.trace(exchange.getLogPrefix() + "Checked " + candidates.size() + " of " +
+						this.mappingRegistry.getMappings().size() + " mappings");
+			}
+		}
 
 		if (!matches.isEmpty()) {
 			Comparator<Match> comparator = new MatchComparator(getMappingComparator(exchange));
@@ -341,6 +389,14 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		}
 	}
 
+	private Collection<T> getCandidateMappings(ServerWebExchange exchange) {
+		if (this.usePathPrefixIndex && getPathPatternParser().isCaseSensitive()) {
+			PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+			return this.mappingRegistry.getMappingsByPathPrefix(path);
+		}
+		return this.mappingRegistry.getMappings().keySet();
+	}
+
 	private void addMatchingMappings(Collection<T> mappings, List<Match> matches, ServerWebExchange exchange) {
 		for (T mapping : mappings) {
 			T match = getMatchingMapping(mapping, exchange);
@@ -412,6 +468,57 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	@Nullable
 	protected abstract T getMappingForMethod(Method method, Class<?> handlerType);
 
+	/**
+	 * Return the URL path patterns of the given mapping, if any.
+	 * <p>The default implementation returns an empty set, in which case the
+	 * mapping is checked for every request.
+	 * @param mapping the mapping to get the patterns for
+	 * @since 5.2.26
+	 * @see #getMappingPathPrefix
+	 */
+	protected Set<PathPattern> getMappingPathPatterns(T mapping) {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Return the literal leading path segments shared by all URL path patterns
+	 * of the given mapping, under which the mapping is registered in the
+	 * {@link #setUsePathPrefixIndex path prefix index}.
+	 * <p>The default implementation is based on {@link #getMappingPathPatterns}
+	 * and stops at the first segment with pattern syntax.
+	 * @param mapping the mapping to get the path prefix for
+	 * @return the literal path segments, or an empty list if the mapping
+	 * should be checked for any request path
+	 * @since 5.2.26
+	 */
+	protected List<String> getMappingPathPrefix(T mapping) {
+		List<String> result = null;
+		for (PathPattern pattern : getMappingPathPatterns(mapping)) {
+			String[] segments = StringUtils.tokenizeToStringArray(pattern.getPatternString(), "/", false, true);
+			int max = (result != null ? Math.min(segments.length, result.size()) : segments.length);
+			int count = 0;
+			while (count < max && isLiteralSegment(segments[count]) &&
+					(result == null || result.get(count).equals(segments[count]))) {
+				count++;
+			}
+			result = (result != null ? result.subList(0, count) : Arrays.asList(segments).subList(0, count));
+			if (result.isEmpty()) {
+				break;
+			}
+		}
+		return (result != null ? new ArrayList<>(result) : Collections.emptyList());
+	}
+
+	private static boolean isLiteralSegment(String segment) {
+		for (int i = 0; i < segment.length(); i++) {
+			char c = segment.charAt(i);
+			if (c == '{' || c == '*' || c == '?') {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -443,6 +550,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Map<T, HandlerMethod> mappingLookup = new LinkedHashMap<>();
 
+		private final PathPrefixIndex<T> pathPrefixIndex = new PathPrefixIndex<>();
+
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
@@ -455,6 +564,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.mappingLookup;
 		}
 
+		/**
+		 * Return the mappings with a path prefix that matches the given path.
+		 * Not thread-safe.
+		 * @since 5.2.26
+		 * @see #acquireReadLock()
+		 */
+		public List<T> getMappingsByPathPrefix(PathContainer path) {
+			return this.pathPrefixIndex.getCandidates(path);
+		}
+
 		/**
 		 * Return CORS configuration. Thread-safe for concurrent use.
 		 */
@@ -485,12 +604,15 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				validateMethodMapping(handlerMethod, mapping);
 				this.mappingLookup.put(mapping, handlerMethod);
 
+				List<String> pathPrefix = getMappingPathPrefix(mapping);
+				this.pathPrefixIndex.add(pathPrefix, mapping);
+
 				CorsConfiguration corsConfig = initCorsConfiguration(handler, method, mapping);
 				if (corsConfig != null) {
 					this.corsLookup.put(handlerMethod, corsConfig);
 				}
 
-				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod));
+				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod, pathPrefix));
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -517,6 +639,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				}
 
 				this.mappingLookup.remove(definition.getMapping());
+				this.pathPrefixIndex.remove(definition.getPathPrefix(), definition.getMapping());
 				this.corsLookup.remove(definition.getHandlerMethod());
 			}
 			finally {
@@ -532,11 +655,14 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final HandlerMethod handlerMethod;
 
-		public MappingRegistration(T mapping, HandlerMethod handlerMethod) {
+		private final List<String> pathPrefix;
+
+		public MappingRegistration(T mapping, HandlerMethod handlerMethod, List<String> pathPrefix) {
 			Assert.notNull(mapping, "Mapping must not be null");
 			Assert.notNull(handlerMethod, "HandlerMethod must not be null");
 			this.mapping = mapping;
 			this.handlerMethod = handlerMethod;
+			this.pathPrefix = pathPrefix;
 		}
 
 		public T getMapping() {
@@ -547,6 +673,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.handlerMethod;
 		}
 
+		public List<String> getPathPrefix() {
+			return this.pathPrefix;
+		}
+
 	}
 
 
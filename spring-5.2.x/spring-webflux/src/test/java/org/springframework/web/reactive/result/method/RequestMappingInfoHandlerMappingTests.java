@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -133,6 +133,27 @@ public class RequestMappingInfoHandlerMappingTests {
 		assertThat(hm.getMethod()).isEqualTo(expected);
 	}
 
+	@Test
+	public void getHandlerWithPathPrefixIndex() {
+		this.handlerMapping.setUsePathPrefixIndex(true);
+
+		Method expected = on(TestController.class).annot(getMapping("/foo").params()).resolveMethod();
+		ServerWebExchange exchange = MockServerWebExchange.from(get("/foo"));
+		HandlerMethod hm = (HandlerMethod) this.handlerMapping.getHandler(exchange).block();
+
+		assertThat(hm.getMethod()).isEqualTo(expected);
+		assertThat((Integer) exchange.getAttribute(RequestMappingInfoHandlerMapping.LOOKUP_CANDIDATE_COUNT_ATTRIBUTE))
+				.isEqualTo(4);
+
+		expected = on(TestController.class).annot(requestMapping("/ba*").method(GET, HEAD)).resolveMethod();
+		exchange = MockServerWebExchange.from(get("/bar"));
+		hm = (HandlerMethod) this.handlerMapping.getHandler(exchange).block();
+
+		assertThat(hm.getMethod()).isEqualTo(expected);
+		assertThat((Integer) exchange.getAttribute(RequestMappingInfoHandlerMapping.LOOKUP_CANDIDATE_COUNT_ATTRIBUTE))
+				.isEqualTo(2);
+	}
+
 	@Test
 	public void getHandlerRequestMethodNotAllowed() {
 		ServerWebExchange exchange = MockServerWebExchange.from(post("/bar"));
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -147,4 +147,19 @@ public interface HandlerMapping {
 	@Nullable
 	HandlerExecutionChain getHandler(HttpServletRequest request) throws Exception;
 
+	/**
+	 * Whether this {@code HandlerMapping} instance has been enabled to use parsed
+	 * {@link org.springframework.web.util.pattern.PathPattern}s in which case
+	 * the {@link org.springframework.web.servlet.DispatcherServlet} automatically
+	 * {@link org.springframework.web.util.ServletRequestPathUtils#parseAndCache parses}
+	 * the {@code RequestPath} to make it available for
+	 * {@link org.springframework.web.util.ServletRequestPathUtils#getParsedRequestPath
+	 * access} in {@code HandlerMapping}s, {@code HandlerInterceptor}s, and
+	 * other components.
+	 * @since 5.2.26
+	 */
+	default boolean usesPathPatterns() {
+		return false;
+	}
+
 }
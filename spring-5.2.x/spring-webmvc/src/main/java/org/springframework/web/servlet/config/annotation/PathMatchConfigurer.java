@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.PathMatcher;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Helps with configuring HandlerMappings path matching options such as trailing
@@ -58,6 +59,12 @@ public class PathMatchConfigurer {
 	@Nullable
 	private PathMatcher pathMatcher;
 
+	@Nullable
+	private PathPatternParser patternParser;
+
+	@Nullable
+	private Boolean pathPrefixIndex;
+
 	@Nullable
 	private Map<String, Predicate<Class<?>>> pathPrefixes;
 
@@ -128,6 +135,35 @@ public class PathMatchConfigurer {
 		return this;
 	}
 
+	/**
+	 * Enable use of parsed {@link org.springframework.web.util.pattern.PathPattern}s
+	 * for {@code @RequestMapping} methods, as an alternative to String pattern
+	 * matching with the {@link #setPathMatcher PathMatcher}. The request path
+	 * is then parsed once per request by the {@code DispatcherServlet}.
+	 * <p>When set, the {@link #setUrlPathHelper UrlPathHelper}, trailing slash
+	 * and suffix pattern options do not apply to {@code @RequestMapping} methods.
+	 * <p>By default this is not set.
+	 * @param patternParser the parser to pre-parse patterns with
+	 * @since 5.2.26
+	 */
+	public PathMatchConfigurer setPatternParser(PathPatternParser patternParser) {
+		this.patternParser = patternParser;
+		return this;
+	}
+
+	/**
+	 * Whether to look up {@code @RequestMapping} methods through an index of
+	 * the literal leading path segments of their patterns, rather than
+	 * checking all methods when there is no direct path match.
+	 * <p>By default this is set to {@code false}.
+	 * @since 5.2.26
+	 * @see org.springframework.web.servlet.handler.AbstractHandlerMethodMapping#setUsePathPrefixIndex
+	 */
+	public PathMatchConfigurer setUsePathPrefixIndex(Boolean pathPrefixIndex) {
+		this.pathPrefixIndex = pathPrefixIndex;
+		return this;
+	}
+
 	/**
 	 * Configure a path prefix to apply to matching controller methods.
 	 * <p>Prefixes are used to enrich the mappings of every {@code @RequestMapping}
@@ -187,6 +223,25 @@ public class PathMatchConfigurer {
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Return the {@link PathPatternParser} to use, if configured.
+	 * @since 5.2.26
+	 */
+	@Nullable
+	public PathPatternParser getPatternParser() {
+		return this.patternParser;
+	}
+
+	/**
+	 * Whether to use an index of path prefixes for {@code @RequestMapping}
+	 * methods, if configured.
+	 * @since 5.2.26
+	 */
+	@Nullable
+	public Boolean isUsePathPrefixIndex() {
+		return this.pathPrefixIndex;
+	}
+
 	@Nullable
 	protected Map<String, Predicate<Class<?>>> getPathPrefixes() {
 		return this.pathPrefixes;
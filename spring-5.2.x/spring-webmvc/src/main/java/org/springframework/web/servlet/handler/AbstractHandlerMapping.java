@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,7 +48,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.servlet.HandlerExecutionChain;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Abstract base class for {@link org.springframework.web.servlet.HandlerMapping}
@@ -80,6 +82,9 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 
 	private PathMatcher pathMatcher = new AntPathMatcher();
 
+	@Nullable
+	private PathPatternParser patternParser;
+
 	private final List<Object> interceptors = new ArrayList<>();
 
 	private final List<HandlerInterceptor> adaptedInterceptors = new ArrayList<>();
@@ -188,6 +193,45 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Enable use of pre-parsed {@link org.springframework.web.util.pattern.PathPattern}s
+	 * as an alternative to String pattern matching with {@link PathMatcher}.
+	 * The request path is then parsed once per request, see
+	 * {@link ServletRequestPathUtils#parseAndCache}, and matched against the
+	 * patterns; the decoded lookup path from the {@link #setUrlPathHelper
+	 * UrlPathHelper} is still exposed under {@link #LOOKUP_PATH}.
+	 * <p>This is supported by handler mappings that match with
+	 * {@link org.springframework.web.servlet.mvc.method.RequestMappingInfo
+	 * RequestMappingInfo}; mapped interceptors and CORS configurations
+	 * continue to match with the {@link #setPathMatcher PathMatcher}.
+	 * <p>By default this is not set.
+	 * @param patternParser the parser to use
+	 * @since 5.2.26
+	 */
+	public void setPatternParser(@Nullable PathPatternParser patternParser) {
+		this.patternParser = patternParser;
+	}
+
+	/**
+	 * Return the {@link #setPatternParser configured} {@code PathPatternParser},
+	 * or {@code null} if String pattern matching is used.
+	 * @since 5.2.26
+	 */
+	@Nullable
+	public PathPatternParser getPatternParser() {
+		return this.patternParser;
+	}
+
+	/**
+	 * Return "true" if this {@code HandlerMapping} has been
+	 * {@link #setPatternParser enabled} to use parsed {@code PathPattern}s.
+	 * @since 5.2.26
+	 */
+	@Override
+	public boolean usesPathPatterns() {
+		return (getPatternParser() != null);
+	}
+
 	/**
 	 * Set the interceptors to apply for all handlers mapped by this handler mapping.
 	 * <p>Supported interceptor types are HandlerInterceptor, WebRequestInterceptor, and MappedInterceptor.
@@ -444,6 +488,27 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 	@Nullable
 	protected abstract Object getHandlerInternal(HttpServletRequest request) throws Exception;
 
+	/**
+	 * Initialize the path to use for request mapping, i.e. the decoded lookup
+	 * path resolved by the {@link UrlPathHelper}, which is also what is exposed
+	 * under {@link #LOOKUP_PATH} to interceptors, CORS configurations and other
+	 * components that match against a String path.
+	 * <p>When parsed patterns are {@link #usesPathPatterns() enabled}, this also
+	 * makes sure the {@link ServletRequestPathUtils#parseAndCache parsed} request
+	 * path is available in its own request attribute, parsing it here if the
+	 * {@code DispatcherServlet} has not done so already. Parsed patterns are
+	 * matched against that still encoded {@code RequestPath}.
+	 * @param request the current request
+	 * @return the lookup path
+	 * @since 5.2.26
+	 */
+	protected String initLookupPath(HttpServletRequest request) {
+		if (usesPathPatterns() && !ServletRequestPathUtils.hasParsedRequestPath(request)) {
+			ServletRequestPathUtils.parseAndCache(request);
+		}
+		return getUrlPathHelper().getLookupPathForRequest(request);
+	}
+
 	/**
 	 * Build a {@link HandlerExecutionChain} for the given handler, including
 	 * applicable interceptors.
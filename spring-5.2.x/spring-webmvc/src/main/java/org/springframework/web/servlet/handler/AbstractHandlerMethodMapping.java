@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,15 +43,21 @@ import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.PathPrefixIndex;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -82,6 +88,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	private static final String SCOPED_TARGET_NAME_PREFIX = "scopedTarget.";
 
+	/**
+	 * Name of the request attribute that holds the number of mappings that
+	 * were checked to look up the handler method for the current request.
+	 * <p>Only exposed if the {@link #setUsePathPrefixIndex path prefix index}
+	 * is used, as a per-request measure of the lookup cost.
+	 * @since 5.2.26
+	 */
+	public static final String LOOKUP_CANDIDATE_COUNT_ATTRIBUTE =
+			AbstractHandlerMethodMapping.class.getName() + ".lookupCandidateCount";
+
 	private static final HandlerMethod PREFLIGHT_AMBIGUOUS_MATCH =
 			new HandlerMethod(new EmptyHandler(), ClassUtils.getMethod(EmptyHandler.class, "handle"));
 
@@ -97,6 +113,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	private boolean detectHandlerMethodsInAncestorContexts = false;
 
+	private boolean usePathPrefixIndex = false;
+
+	private boolean caseSensitivePathMatcher = true;
+
 	@Nullable
 	private HandlerMethodMappingNamingStrategy<T> namingStrategy;
 
@@ -116,6 +136,38 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		this.detectHandlerMethodsInAncestorContexts = detectHandlerMethodsInAncestorContexts;
 	}
 
+	/**
+	 * Whether to narrow down the mappings to check for a request through an
+	 * index of the literal leading path segments of their URL patterns, e.g.
+	 * {@code "/api/users"} for {@code "/api/users/{id}"}, rather than checking
+	 * all mappings when there is no direct path match.
+	 * <p>This assumes case-sensitive pattern matching with {@code "/"} as
+	 * separator, as with the default {@link org.springframework.util.AntPathMatcher}
+	 * and {@link org.springframework.web.util.pattern.PathPatternParser}. With
+	 * case-insensitive matching, all mappings are checked as without the index.
+	 * <p>The default is "false".
+	 * @since 5.2.26
+	 * @see #getMappingPathPrefix
+	 * @see #LOOKUP_CANDIDATE_COUNT_ATTRIBUTE
+	 */
+	public void setUsePathPrefixIndex(boolean usePathPrefixIndex) {
+		this.usePathPrefixIndex = usePathPrefixIndex;
+	}
+
+	/**
+	 * Whether to use the {@link #setUsePathPrefixIndex path prefix index}.
+	 * @since 5.2.26
+	 */
+	public boolean usePathPrefixIndex() {
+		return this.usePathPrefixIndex;
+	}
+
+	@Override
+	public void setPathMatcher(PathMatcher pathMatcher) {
+		super.setPathMatcher(pathMatcher);
+		updateCaseSensitivePathMatcher();
+	}
+
 	/**
 	 * Configure the naming strategy to use for assigning a default name to every
 	 * mapped handler method.
@@ -361,7 +413,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	@Override
 	@Nullable
 	protected HandlerMethod getHandlerInternal(HttpServletRequest request) throws Exception {
-		String lookupPath = getUrlPathHelper().getLookupPathForRequest(request);
+		String lookupPath = initLookupPath(request);
 		request.setAttribute(LOOKUP_PATH, lookupPath);
 		this.mappingRegistry.acquireReadLock();
 		try {
@@ -385,13 +437,24 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	@Nullable
 	protected HandlerMethod lookupHandlerMethod(String lookupPath, HttpServletRequest request) throws Exception {
 		List<Match> matches = new ArrayList<>();
+		int candidateCount = 0;
 		List<T> directPathMatches = this.mappingRegistry.getMappingsByUrl(lookupPath);
 		if (directPathMatches != null) {
 			addMatchingMappings(directPathMatches, matches, request);
+			candidateCount = directPathMatches.size();
 		}
 		if (matches.isEmpty()) {
-			// No choice but to go through all mappings...
-			addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, request);
+			// Go through all mappings, or those with a matching path prefix
+			Collection<T> candidates = getCandidateMappings(lookupPath, request);
+			addMatchingMappings(candidates, matches, request);
+			candidateCount += candidates.size();
+		}
+		if (this.usePathPrefixIndex) {
+			request.setAttribute(LOOKUP_CANDIDATE_COUNT_ATTRIBUTE, candidateCount);
+			if (logger.isTraceEnabled()) {
+				logger.trace("Checked " + candidateCount + " of " +
+						this.mappingRegistry.getMappings().size() + " mappings for \"" + lookupPath + "\"");
+			}
 		}
 
 		if (!matches.isEmpty()) {
@@ -424,6 +487,31 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		}
 	}
 
+	private Collection<T> getCandidateMappings(String lookupPath, HttpServletRequest request) {
+		if (!this.usePathPrefixIndex) {
+			return this.mappingRegistry.getMappings().keySet();
+		}
+		else if (usesPathPatterns()) {
+			if (!getPatternParser().isCaseSensitive()) {
+				return this.mappingRegistry.getMappings().keySet();
+			}
+			// Parsed patterns match against the decoded path segments
+			RequestPath path = ServletRequestPathUtils.getParsedRequestPath(request);
+			return this.mappingRegistry.getMappingsByPathPrefix(path.pathWithinApplication());
+		}
+		else if (!this.caseSensitivePathMatcher) {
+			return this.mappingRegistry.getMappings().keySet();
+		}
+		else {
+			return this.mappingRegistry.getMappingsByPathPrefix(lookupPath);
+		}
+	}
+
+	private void updateCaseSensitivePathMatcher() {
+		// e.g. AntPathMatcher#setCaseSensitive(false), which the path prefix index can't handle
+		this.caseSensitivePathMatcher = !getPathMatcher().match("/a", "/A");
+	}
+
 	private void addMatchingMappings(Collection<T> mappings, List<Match> matches, HttpServletRequest request) {
 		for (T mapping : mappings) {
 			T match = getMatchingMapping(mapping, request);
@@ -505,6 +593,46 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	protected abstract Set<String> getMappingPathPatterns(T mapping);
 
+	/**
+	 * Return the literal leading path segments shared by all URL paths of the
+	 * given mapping, under which the mapping is registered in the
+	 * {@link #setUsePathPrefixIndex path prefix index}.
+	 * <p>The default implementation is based on {@link #getMappingPathPatterns}
+	 * and stops at the first segment that is a pattern according to the
+	 * {@link #getPathMatcher() PathMatcher}. The last segment of a pattern is
+	 * never included unless {@link #usesPathPatterns() parsed patterns} are
+	 * used, since it may be matched with a suffix pattern.
+	 * @param mapping the mapping to get the path prefix for
+	 * @return the literal path segments, or an empty list if the mapping
+	 * should be checked for any request path
+	 * @since 5.2.26
+	 */
+	protected List<String> getMappingPathPrefix(T mapping) {
+		List<String> result = null;
+		for (String pattern : getMappingPathPatterns(mapping)) {
+			String[] segments = StringUtils.tokenizeToStringArray(pattern, "/", false, true);
+			int max = (usesPathPatterns() ? segments.length : segments.length - 1);
+			if (result != null) {
+				max = Math.min(max, result.size());
+			}
+			int count = 0;
+			while (count < max && isLiteralSegment(segments[count]) &&
+					(result == null || result.get(count).equals(segments[count]))) {
+				count++;
+			}
+			result = (result != null ? result.subList(0, count) : Arrays.asList(segments).subList(0, count));
+			if (result.isEmpty()) {
+				break;
+			}
+		}
+		return (result != null ? new ArrayList<>(result) : Collections.emptyList());
+	}
+
+	private boolean isLiteralSegment(String segment) {
+		// A URI variable may contain "/" in its regex, splitting it across segments
+		return (!getPathMatcher().isPattern(segment) && segment.indexOf('{') == -1);
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -537,6 +665,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> urlLookup = new LinkedMultiValueMap<>();
 
+		private final PathPrefixIndex<T> pathPrefixIndex = new PathPrefixIndex<>();
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
@@ -560,6 +690,26 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.urlLookup.get(urlPath);
 		}
 
+		/**
+		 * Return the mappings with a path prefix that matches the given lookup
+		 * path. Not thread-safe.
+		 * @since 5.2.26
+		 * @see #acquireReadLock()
+		 */
+		public List<T> getMappingsByPathPrefix(String lookupPath) {
+			return this.pathPrefixIndex.getCandidates(lookupPath);
+		}
+
+		/**
+		 * Return the mappings with a path prefix that matches the given parsed
+		 * path. Not thread-safe.
+		 * @since 5.2.26
+		 * @see #acquireReadLock()
+		 */
+		public List<T> getMappingsByPathPrefix(PathContainer path) {
+			return this.pathPrefixIndex.getCandidates(path);
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -609,6 +759,11 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.urlLookup.add(url, mapping);
 				}
 
+				List<String> pathPrefix = getMappingPathPrefix(mapping);
+				this.pathPrefixIndex.add(pathPrefix, mapping);
+				// The PathMatcher may have been reconfigured since it was set
+				updateCaseSensitivePathMatcher();
+
 				String name = null;
 				if (getNamingStrategy() != null) {
 					name = getNamingStrategy().getName(handlerMethod, mapping);
@@ -620,7 +775,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.corsLookup.put(handlerMethod, corsConfig);
 				}
 
-				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod, directUrls, name));
+				this.registry.put(mapping,
+						new MappingRegistration<>(mapping, handlerMethod, directUrls, pathPrefix, name));
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -686,6 +842,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				this.pathPrefixIndex.remove(definition.getPathPrefix(), definition.getMapping());
+
 				removeMappingName(definition);
 
 				this.corsLookup.remove(definition.getHandlerMethod());
@@ -728,17 +886,20 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final List<String> directUrls;
 
+		private final List<String> pathPrefix;
+
 		@Nullable
 		private final String mappingName;
 
-		public MappingRegistration(T mapping, HandlerMethod handlerMethod,
-				@Nullable List<String> directUrls, @Nullable String mappingName) {
+		public MappingRegistration(T mapping, HandlerMethod handlerMethod, @Nullable List<String> directUrls,
+				List<String> pathPrefix, @Nullable String mappingName) {
 
 			Assert.notNull(mapping, "Mapping must not be null");
 			Assert.notNull(handlerMethod, "HandlerMethod must not be null");
 			this.mapping = mapping;
 			this.handlerMethod = handlerMethod;
 			this.directUrls = (directUrls != null ? directUrls : Collections.emptyList());
+			this.pathPrefix = pathPrefix;
 			this.mappingName = mappingName;
 		}
 
@@ -754,6 +915,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.directUrls;
 		}
 
+		public List<String> getPathPrefix() {
+			return this.pathPrefix;
+		}
+
 		@Nullable
 		public String getMappingName() {
 			return this.mappingName;
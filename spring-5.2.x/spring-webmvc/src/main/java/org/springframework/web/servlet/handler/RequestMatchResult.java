@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,11 @@ package org.springframework.web.servlet.handler;
 
 import java.util.Map;
 
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.PathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
 
 /**
  * Container for the result from request pattern matching via
@@ -31,12 +34,21 @@ import org.springframework.util.PathMatcher;
  */
 public class RequestMatchResult {
 
+	@Nullable
 	private final String matchingPattern;
 
+	@Nullable
 	private final String lookupPath;
 
+	@Nullable
 	private final PathMatcher pathMatcher;
 
+	@Nullable
+	private final PathPattern pathPattern;
+
+	@Nullable
+	private final PathContainer lookupPathContainer;
+
 
 	/**
 	 * Create an instance with a matching pattern.
@@ -52,15 +64,40 @@ public class RequestMatchResult {
 		this.matchingPattern = matchingPattern;
 		this.lookupPath = lookupPath;
 		this.pathMatcher = pathMatcher;
+		this.pathPattern = null;
+		this.lookupPathContainer = null;
+	}
+
+	/**
+	 * Create an instance with a matching, parsed {@link PathPattern}.
+	 * @param pathPattern the matching pattern
+	 * @param lookupPath the parsed, still encoded path within the application
+	 * @since 5.2.26
+	 */
+	public RequestMatchResult(PathPattern pathPattern, PathContainer lookupPath) {
+		Assert.notNull(pathPattern, "'pathPattern' is required");
+		Assert.notNull(lookupPath, "'lookupPath' is required");
+		this.matchingPattern = null;
+		this.lookupPath = null;
+		this.pathMatcher = null;
+		this.pathPattern = pathPattern;
+		this.lookupPathContainer = lookupPath;
 	}
 
 
 	/**
 	 * Extract URI template variables from the matching pattern as defined in
-	 * {@link PathMatcher#extractUriTemplateVariables}.
+	 * {@link PathMatcher#extractUriTemplateVariables}, or with
+	 * {@link PathPattern#matchAndExtract} for a parsed pattern.
 	 * @return a map with URI template variables
 	 */
+	@SuppressWarnings("ConstantConditions")
 	public Map<String, String> extractUriTemplateVariables() {
+		if (this.pathPattern != null) {
+			PathPattern.PathMatchInfo info = this.pathPattern.matchAndExtract(this.lookupPathContainer);
+			Assert.state(info != null, () -> "Expected " + this.pathPattern + " to match " + this.lookupPathContainer);
+			return info.getUriVariables();
+		}
 		return this.pathMatcher.extractUriTemplateVariables(this.matchingPattern, this.lookupPath);
 	}
 
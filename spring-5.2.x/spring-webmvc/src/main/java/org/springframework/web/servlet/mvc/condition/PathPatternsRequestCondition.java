@@ -0,0 +1,233 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.mvc.condition;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * A logical disjunction (' || ') request condition that matches a request
+ * against a set of URL path patterns.
+ *
+ * <p>In contrast to {@link PatternsRequestCondition}, this condition uses
+ * parsed {@link PathPattern}s and matches them against the
+ * {@link ServletRequestPathUtils#parseAndCache parsed and cached} request
+ * path, rather than against a String lookup path with a {@code PathMatcher}.
+ *
+ * @author Jankin Wong
+ * @since 5.2.26
+ */
+public final class PathPatternsRequestCondition extends AbstractRequestCondition<PathPatternsRequestCondition> {
+
+	private static final SortedSet<PathPattern> EMPTY_PATH_PATTERN =
+			new TreeSet<>(Collections.singleton(PathPatternParser.defaultInstance.parse("")));
+
+	private static final Set<String> EMPTY_PATH = Collections.singleton("");
+
+
+	private final SortedSet<PathPattern> patterns;
+
+
+	/**
+	 * Default constructor resulting in an {@code ""} (empty path) mapping.
+	 */
+	public PathPatternsRequestCondition() {
+		this(EMPTY_PATH_PATTERN);
+	}
+
+	/**
+	 * Constructor with patterns to use.
+	 * @param parser the parser to parse the patterns with
+	 * @param patterns 0 or more URL patterns; if 0 the condition will match to
+	 * every request.
+	 */
+	public PathPatternsRequestCondition(PathPatternParser parser, String... patterns) {
+		this(parse(parser, patterns));
+	}
+
+	private PathPatternsRequestCondition(SortedSet<PathPattern> patterns) {
+		this.patterns = patterns;
+	}
+
+	private static SortedSet<PathPattern> parse(PathPatternParser parser, String... patterns) {
+		if (ObjectUtils.isEmpty(patterns) ||
+				(patterns.length == 1 && !StringUtils.hasText(patterns[0]))) {
+			return EMPTY_PATH_PATTERN;
+		}
+		SortedSet<PathPattern> result = new TreeSet<>();
+		for (String path : patterns) {
+			if (StringUtils.hasText(path)) {
+				path = parser.initFullPathPattern(path);
+			}
+			result.add(parser.parse(path));
+		}
+		return result;
+	}
+
+
+	/**
+	 * Return the patterns in this condition, sorted by specificity.
+	 */
+	public Set<PathPattern> getPatterns() {
+		return this.patterns;
+	}
+
+	@Override
+	protected Collection<PathPattern> getContent() {
+		return this.patterns;
+	}
+
+	@Override
+	protected String getToStringInfix() {
+		return " || ";
+	}
+
+	/**
+	 * Return the {@link PathPattern#getPatternString() pattern strings}, in
+	 * the same order as the patterns.
+	 */
+	public Set<String> getPatternValues() {
+		if (isEmptyPathPattern()) {
+			return EMPTY_PATH;
+		}
+		Set<String> result = new LinkedHashSet<>(this.patterns.size());
+		for (PathPattern pattern : this.patterns) {
+			result.add(pattern.getPatternString());
+		}
+		return result;
+	}
+
+	/**
+	 * Whether the condition is the "" (empty path) mapping.
+	 */
+	public boolean isEmptyPathMapping() {
+		return isEmptyPathPattern();
+	}
+
+	private boolean isEmptyPathPattern() {
+		return this.patterns == EMPTY_PATH_PATTERN;
+	}
+
+	/**
+	 * Returns a new instance with URL patterns from the current instance ("this") and
+	 * the "other" instance as follows:
+	 * <ul>
+	 * <li>If there are patterns in both instances, combine the patterns in "this" with
+	 * the patterns in "other" using {@link PathPattern#combine(PathPattern)}.
+	 * <li>If only one instance has patterns, use them.
+	 * <li>If neither instance has patterns, use an empty String (i.e. "").
+	 * </ul>
+	 */
+	@Override
+	public PathPatternsRequestCondition combine(PathPatternsRequestCondition other) {
+		if (isEmptyPathPattern() && other.isEmptyPathPattern()) {
+			return this;
+		}
+		else if (other.isEmptyPathPattern()) {
+			return this;
+		}
+		else if (isEmptyPathPattern()) {
+			return other;
+		}
+		else {
+			SortedSet<PathPattern> combined = new TreeSet<>();
+			for (PathPattern pattern1 : this.patterns) {
+				for (PathPattern pattern2 : other.patterns) {
+					combined.add(pattern1.combine(pattern2));
+				}
+			}
+			return new PathPatternsRequestCondition(combined);
+		}
+	}
+
+	/**
+	 * Checks if any of the patterns match the given request and returns an instance
+	 * that is guaranteed to contain matching patterns, sorted.
+	 * @param request the current request
+	 * @return the same instance if all patterns match; or a new condition
+	 * with sorted matching patterns; or {@code null} if no patterns match.
+	 */
+	@Override
+	@Nullable
+	public PathPatternsRequestCondition getMatchingCondition(HttpServletRequest request) {
+		PathContainer path = ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication();
+		SortedSet<PathPattern> matches = getMatchingPatterns(path);
+		return (matches != null ? (matches == this.patterns ? this : new PathPatternsRequestCondition(matches)) : null);
+	}
+
+	@Nullable
+	private SortedSet<PathPattern> getMatchingPatterns(PathContainer path) {
+		if (this.patterns.size() == 1) {
+			return (this.patterns.first().matches(path) ? this.patterns : null);
+		}
+		TreeSet<PathPattern> result = null;
+		for (PathPattern pattern : this.patterns) {
+			if (pattern.matches(path)) {
+				result = (result != null ? result : new TreeSet<>());
+				result.add(pattern);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Compare the two conditions based on the URL patterns they contain.
+	 * Patterns are compared one at a time, from top to bottom. If all compared
+	 * patterns match equally, but one instance has more patterns, it is
+	 * considered a closer match.
+	 * <p>It is assumed that both instances have been obtained via
+	 * {@link #getMatchingCondition(HttpServletRequest)} to ensure they
+	 * contain only patterns that match the request and are sorted with
+	 * the best matches on top.
+	 */
+	@Override
+	public int compareTo(PathPatternsRequestCondition other, HttpServletRequest request) {
+		Iterator<PathPattern> iterator = this.patterns.iterator();
+		Iterator<PathPattern> iteratorOther = other.getPatterns().iterator();
+		while (iterator.hasNext() && iteratorOther.hasNext()) {
+			int result = PathPattern.SPECIFICITY_COMPARATOR.compare(iterator.next(), iteratorOther.next());
+			if (result != 0) {
+				return result;
+			}
+		}
+		if (iterator.hasNext()) {
+			return -1;
+		}
+		else if (iteratorOther.hasNext()) {
+			return 1;
+		}
+		else {
+			return 0;
+		}
+	}
+
+}
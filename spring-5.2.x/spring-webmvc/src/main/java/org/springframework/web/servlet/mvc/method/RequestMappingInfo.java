@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.servlet.mvc.condition.ConsumesRequestCondition;
 import org.springframework.web.servlet.mvc.condition.HeadersRequestCondition;
 import org.springframework.web.servlet.mvc.condition.ParamsRequestCondition;
+import org.springframework.web.servlet.mvc.condition.PathPatternsRequestCondition;
 import org.springframework.web.servlet.mvc.condition.PatternsRequestCondition;
 import org.springframework.web.servlet.mvc.condition.ProducesRequestCondition;
 import org.springframework.web.servlet.mvc.condition.RequestCondition;
@@ -38,11 +39,13 @@ import org.springframework.web.servlet.mvc.condition.RequestConditionHolder;
 import org.springframework.web.servlet.mvc.condition.RequestMethodsRequestCondition;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Request mapping information. Encapsulates the following request mapping conditions:
  * <ol>
- * <li>{@link PatternsRequestCondition}
+ * <li>{@link PatternsRequestCondition}, or {@link PathPatternsRequestCondition}
+ * when {@link BuilderConfiguration#setPatternParser parsed patterns} are used
  * <li>{@link RequestMethodsRequestCondition}
  * <li>{@link ParamsRequestCondition}
  * <li>{@link HeadersRequestCondition}
@@ -77,6 +80,9 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 
 	private final PatternsRequestCondition patternsCondition;
 
+	@Nullable
+	private final PathPatternsRequestCondition pathPatternsCondition;
+
 	private final RequestMethodsRequestCondition methodsCondition;
 
 	private final ParamsRequestCondition paramsCondition;
@@ -97,8 +103,22 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 			@Nullable HeadersRequestCondition headers, @Nullable ConsumesRequestCondition consumes,
 			@Nullable ProducesRequestCondition produces, @Nullable RequestCondition<?> custom) {
 
+		this(name, patterns, null, methods, params, headers, consumes, produces, custom);
+	}
+
+	/**
+	 * Private constructor with parsed path patterns, in which case the
+	 * {@code patterns} hold the same patterns as Strings.
+	 */
+	private RequestMappingInfo(@Nullable String name, @Nullable PatternsRequestCondition patterns,
+			@Nullable PathPatternsRequestCondition pathPatterns,
+			@Nullable RequestMethodsRequestCondition methods, @Nullable ParamsRequestCondition params,
+			@Nullable HeadersRequestCondition headers, @Nullable ConsumesRequestCondition consumes,
+			@Nullable ProducesRequestCondition produces, @Nullable RequestCondition<?> custom) {
+
 		this.name = (StringUtils.hasText(name) ? name : null);
 		this.patternsCondition = (patterns != null ? patterns : EMPTY_PATTERNS);
+		this.pathPatternsCondition = pathPatterns;
 		this.methodsCondition = (methods != null ? methods : EMPTY_REQUEST_METHODS);
 		this.paramsCondition = (params != null ? params : EMPTY_PARAMS);
 		this.headersCondition = (headers != null ? headers : EMPTY_HEADERS);
@@ -107,7 +127,7 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 		this.customConditionHolder = (custom != null ? new RequestConditionHolder(custom) : EMPTY_CUSTOM);
 
 		this.hashCode = calculateHashCode(
-				this.patternsCondition, this.methodsCondition, this.paramsCondition, this.headersCondition,
+				getActivePatternsCondition(), this.methodsCondition, this.paramsCondition, this.headersCondition,
 				this.consumesCondition, this.producesCondition, this.customConditionHolder);
 	}
 
@@ -126,8 +146,9 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 	 * Re-create a RequestMappingInfo with the given custom request condition.
 	 */
 	public RequestMappingInfo(RequestMappingInfo info, @Nullable RequestCondition<?> customRequestCondition) {
-		this(info.name, info.patternsCondition, info.methodsCondition, info.paramsCondition, info.headersCondition,
-				info.consumesCondition, info.producesCondition, customRequestCondition);
+		this(info.name, info.patternsCondition, info.pathPatternsCondition, info.methodsCondition,
+				info.paramsCondition, info.headersCondition, info.consumesCondition, info.producesCondition,
+				customRequestCondition);
 	}
 
 	/**
@@ -141,11 +162,34 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 	/**
 	 * Return the URL patterns of this {@link RequestMappingInfo};
 	 * or instance with 0 patterns (never {@code null}).
+	 * <p>When {@link #getPathPatternsCondition() parsed patterns} are in use,
+	 * this condition exposes the same patterns as Strings but is not used
+	 * for matching.
 	 */
 	public PatternsRequestCondition getPatternsCondition() {
 		return this.patternsCondition;
 	}
 
+	/**
+	 * Return the parsed URL patterns of this {@link RequestMappingInfo}, if
+	 * it was built with a {@link BuilderConfiguration#setPatternParser
+	 * PathPatternParser}, or {@code null} otherwise.
+	 * @since 5.2.26
+	 */
+	@Nullable
+	public PathPatternsRequestCondition getPathPatternsCondition() {
+		return this.pathPatternsCondition;
+	}
+
+	/**
+	 * Return the patterns condition used for matching, i.e. either
+	 * {@link #getPathPatternsCondition()} or {@link #getPatternsCondition()}.
+	 * @since 5.2.26
+	 */
+	public RequestCondition<?> getActivePatternsCondition() {
+		return (this.pathPatternsCondition != null ? this.pathPatternsCondition : this.patternsCondition);
+	}
+
 	/**
 	 * Return the HTTP request methods of this {@link RequestMappingInfo};
 	 * or instance with 0 request methods (never {@code null}).
@@ -203,7 +247,11 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 	@Override
 	public RequestMappingInfo combine(RequestMappingInfo other) {
 		String name = combineNames(other);
-		PatternsRequestCondition patterns = this.patternsCondition.combine(other.patternsCondition);
+		PathPatternsRequestCondition pathPatterns =
+				(this.pathPatternsCondition != null && other.pathPatternsCondition != null ?
+						this.pathPatternsCondition.combine(other.pathPatternsCondition) : null);
+		PatternsRequestCondition patterns = (pathPatterns != null ? toPatternsCondition(pathPatterns) :
+				this.patternsCondition.combine(other.patternsCondition));
 		RequestMethodsRequestCondition methods = this.methodsCondition.combine(other.methodsCondition);
 		ParamsRequestCondition params = this.paramsCondition.combine(other.paramsCondition);
 		HeadersRequestCondition headers = this.headersCondition.combine(other.headersCondition);
@@ -211,10 +259,18 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 		ProducesRequestCondition produces = this.producesCondition.combine(other.producesCondition);
 		RequestConditionHolder custom = this.customConditionHolder.combine(other.customConditionHolder);
 
-		return new RequestMappingInfo(name, patterns,
+		return new RequestMappingInfo(name, patterns, pathPatterns,
 				methods, params, headers, consumes, produces, custom.getCondition());
 	}
 
+	private static PatternsRequestCondition toPatternsCondition(PathPatternsRequestCondition pathPatterns) {
+		if (pathPatterns.isEmptyPathMapping()) {
+			return EMPTY_PATTERNS;
+		}
+		return new PatternsRequestCondition(
+				StringUtils.toStringArray(pathPatterns.getPatternValues()), null, null, false);
+	}
+
 	@Nullable
 	private String combineNames(RequestMappingInfo other) {
 		if (this.name != null && other.name != null) {
@@ -259,16 +315,28 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 		if (produces == null) {
 			return null;
 		}
-		PatternsRequestCondition patterns = this.patternsCondition.getMatchingCondition(request);
-		if (patterns == null) {
-			return null;
+		PathPatternsRequestCondition pathPatterns = null;
+		PatternsRequestCondition patterns;
+		if (this.pathPatternsCondition != null) {
+			pathPatterns = this.pathPatternsCondition.getMatchingCondition(request);
+			if (pathPatterns == null) {
+				return null;
+			}
+			patterns = (pathPatterns == this.pathPatternsCondition ?
+					this.patternsCondition : toPatternsCondition(pathPatterns));
+		}
+		else {
+			patterns = this.patternsCondition.getMatchingCondition(request);
+			if (patterns == null) {
+				return null;
+			}
 		}
 		RequestConditionHolder custom = this.customConditionHolder.getMatchingCondition(request);
 		if (custom == null) {
 			return null;
 		}
 
-		return new RequestMappingInfo(this.name, patterns,
+		return new RequestMappingInfo(this.name, patterns, pathPatterns,
 				methods, params, headers, consumes, produces, custom.getCondition());
 	}
 
@@ -288,7 +356,12 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 				return result;
 			}
 		}
-		result = this.patternsCondition.compareTo(other.getPatternsCondition(), request);
+		if (this.pathPatternsCondition != null && other.pathPatternsCondition != null) {
+			result = this.pathPatternsCondition.compareTo(other.pathPatternsCondition, request);
+		}
+		else {
+			result = this.patternsCondition.compareTo(other.getPatternsCondition(), request);
+		}
 		if (result != 0) {
 			return result;
 		}
@@ -329,7 +402,7 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 			return false;
 		}
 		RequestMappingInfo otherInfo = (RequestMappingInfo) other;
-		return (this.patternsCondition.equals(otherInfo.patternsCondition) &&
+		return (getActivePatternsCondition().equals(otherInfo.getActivePatternsCondition()) &&
 				this.methodsCondition.equals(otherInfo.methodsCondition) &&
 				this.paramsCondition.equals(otherInfo.paramsCondition) &&
 				this.headersCondition.equals(otherInfo.headersCondition) &&
@@ -344,7 +417,7 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 	}
 
 	private static int calculateHashCode(
-			PatternsRequestCondition patterns, RequestMethodsRequestCondition methods,
+			RequestCondition<?> patterns, RequestMethodsRequestCondition methods,
 			ParamsRequestCondition params, HeadersRequestCondition headers,
 			ConsumesRequestCondition consumes, ProducesRequestCondition produces,
 			RequestConditionHolder custom) {
@@ -547,15 +620,25 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 		@SuppressWarnings("deprecation")
 		public RequestMappingInfo build() {
 
-			PatternsRequestCondition patternsCondition = ObjectUtils.isEmpty(this.paths) ? null :
-					new PatternsRequestCondition(
-							this.paths, this.options.getUrlPathHelper(), this.options.getPathMatcher(),
-							this.options.useSuffixPatternMatch(), this.options.useTrailingSlashMatch(),
-							this.options.getFileExtensions());
+			PathPatternsRequestCondition pathPatternsCondition = null;
+			PatternsRequestCondition patternsCondition;
+			PathPatternParser parser = this.options.getPatternParser();
+			if (parser != null) {
+				pathPatternsCondition = (ObjectUtils.isEmpty(this.paths) ?
+						new PathPatternsRequestCondition() : new PathPatternsRequestCondition(parser, this.paths));
+				patternsCondition = toPatternsCondition(pathPatternsCondition);
+			}
+			else {
+				patternsCondition = ObjectUtils.isEmpty(this.paths) ? null :
+						new PatternsRequestCondition(
+								this.paths, this.options.getUrlPathHelper(), this.options.getPathMatcher(),
+								this.options.useSuffixPatternMatch(), this.options.useTrailingSlashMatch(),
+								this.options.getFileExtensions());
+			}
 
 			ContentNegotiationManager manager = this.options.getContentNegotiationManager();
 
-			return new RequestMappingInfo(this.mappingName, patternsCondition,
+			return new RequestMappingInfo(this.mappingName, patternsCondition, pathPatternsCondition,
 					ObjectUtils.isEmpty(this.methods) ?
 							null : new RequestMethodsRequestCondition(this.methods),
 					ObjectUtils.isEmpty(this.params) ?
@@ -586,6 +669,9 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 		@Nullable
 		private PathMatcher pathMatcher;
 
+		@Nullable
+		private PathPatternParser patternParser;
+
 		private boolean trailingSlashMatch = true;
 
 		private boolean suffixPatternMatch = true;
@@ -628,6 +714,30 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 			return this.pathMatcher;
 		}
 
+		/**
+		 * Enable use of parsed {@link org.springframework.web.util.pattern.PathPattern}s
+		 * through a {@link PathPatternsRequestCondition}, instead of String pattern
+		 * matching with a {@link PathMatcher}.
+		 * <p>When set, the {@link #setUrlPathHelper UrlPathHelper},
+		 * {@link #setPathMatcher PathMatcher}, trailing slash and suffix pattern
+		 * options do not apply; trailing slash matching is controlled through
+		 * {@link PathPatternParser#setMatchOptionalTrailingSeparator} instead.
+		 * <p>By default this is not set.
+		 * @since 5.2.26
+		 */
+		public void setPatternParser(@Nullable PathPatternParser patternParser) {
+			this.patternParser = patternParser;
+		}
+
+		/**
+		 * Return the {@link PathPatternParser} to use for parsed patterns, if any.
+		 * @since 5.2.26
+		 */
+		@Nullable
+		public PathPatternParser getPatternParser() {
+			return this.patternParser;
+		}
+
 		/**
 		 * Set whether to apply trailing slash matching in PatternsRequestCondition.
 		 * <p>By default this is set to 'true'.
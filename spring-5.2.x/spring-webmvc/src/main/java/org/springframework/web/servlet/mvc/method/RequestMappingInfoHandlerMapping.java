@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,7 +33,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -46,8 +48,12 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.handler.AbstractHandlerMethodMapping;
 import org.springframework.web.servlet.mvc.condition.NameValueExpression;
+import org.springframework.web.servlet.mvc.condition.PathPatternsRequestCondition;
+import org.springframework.web.servlet.mvc.condition.PatternsRequestCondition;
 import org.springframework.web.servlet.mvc.condition.ProducesRequestCondition;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.WebUtils;
+import org.springframework.web.util.pattern.PathPattern;
 
 /**
  * Abstract base class for classes for which {@link RequestMappingInfo} defines
@@ -126,10 +132,35 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 	protected void handleMatch(RequestMappingInfo info, String lookupPath, HttpServletRequest request) {
 		super.handleMatch(info, lookupPath, request);
 
+		PathPatternsRequestCondition pathPatterns = info.getPathPatternsCondition();
+		if (pathPatterns != null) {
+			handleMatch(pathPatterns.getPatterns().iterator().next(), request);
+		}
+		else {
+			handleMatch(info.getPatternsCondition(), lookupPath, request);
+		}
+
+		if (!info.getProducesCondition().getProducibleMediaTypes().isEmpty()) {
+			Set<MediaType> mediaTypes = info.getProducesCondition().getProducibleMediaTypes();
+			request.setAttribute(PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, mediaTypes);
+		}
+	}
+
+	private void handleMatch(PathPattern bestPattern, HttpServletRequest request) {
+		PathContainer path = ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication();
+		PathPattern.PathMatchInfo result = bestPattern.matchAndExtract(path);
+		Assert.notNull(result, () ->
+				"Expected bestPattern: " + bestPattern + " to match lookupPath " + path.value());
+		request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, bestPattern.getPatternString());
+		request.setAttribute(HandlerMapping.MATRIX_VARIABLES_ATTRIBUTE, result.getMatrixVariables());
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, result.getUriVariables());
+	}
+
+	private void handleMatch(PatternsRequestCondition condition, String lookupPath, HttpServletRequest request) {
 		String bestPattern;
 		Map<String, String> uriVariables;
 
-		Set<String> patterns = info.getPatternsCondition().getPatterns();
+		Set<String> patterns = condition.getPatterns();
 		if (patterns.isEmpty()) {
 			bestPattern = lookupPath;
 			uriVariables = Collections.emptyMap();
@@ -148,11 +179,6 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 
 		Map<String, String> decodedUriVariables = getUrlPathHelper().decodePathVariables(request, uriVariables);
 		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, decodedUriVariables);
-
-		if (!info.getProducesCondition().getProducibleMediaTypes().isEmpty()) {
-			Set<MediaType> mediaTypes = info.getProducesCondition().getProducibleMediaTypes();
-			request.setAttribute(PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, mediaTypes);
-		}
 	}
 
 	private boolean isMatrixVariableContentAvailable() {
@@ -252,7 +278,7 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 
 		public PartialMatchHelper(Set<RequestMappingInfo> infos, HttpServletRequest request) {
 			for (RequestMappingInfo info : infos) {
-				if (info.getPatternsCondition().getMatchingCondition(request) != null) {
+				if (info.getActivePatternsCondition().getMatchingCondition(request) != null) {
 					this.partialMatches.add(new PartialMatch(info, request));
 				}
 			}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.mvc.condition;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PathPatternsRequestCondition}.
+ *
+ * @author Jankin Wong
+ */
+public class PathPatternsRequestConditionTests {
+
+	private static final PathPatternParser parser = new PathPatternParser();
+
+
+	@Test
+	public void prependSlash() {
+		assertThat(createCondition("foo").getPatternValues()).containsExactly("/foo");
+	}
+
+	@Test
+	public void prependNonEmptyPatternsOnly() {
+		PathPatternsRequestCondition condition = createCondition("");
+		assertThat(condition.isEmptyPathMapping()).isTrue();
+		assertThat(condition.getPatternValues()).containsExactly("");
+	}
+
+	@Test
+	public void combineEmptySets() {
+		PathPatternsRequestCondition c1 = new PathPatternsRequestCondition();
+		PathPatternsRequestCondition c2 = new PathPatternsRequestCondition();
+		PathPatternsRequestCondition c3 = c1.combine(c2);
+
+		assertThat(c3).isSameAs(c1);
+		assertThat(c1.getPatterns()).isSameAs(c2.getPatterns());
+		assertThat(c3.getPatternValues()).containsExactly("");
+	}
+
+	@Test
+	public void combineOnePatternWithEmptySet() {
+		PathPatternsRequestCondition c1 = createCondition("/type1", "/type2");
+		PathPatternsRequestCondition c2 = new PathPatternsRequestCondition();
+
+		assertThat(c1.combine(c2)).isEqualTo(createCondition("/type1", "/type2"));
+
+		c1 = new PathPatternsRequestCondition();
+		c2 = createCondition("/method1", "/method2");
+
+		assertThat(c1.combine(c2)).isEqualTo(createCondition("/method1", "/method2"));
+	}
+
+	@Test
+	public void combineMultiplePatterns() {
+		PathPatternsRequestCondition c1 = createCondition("/t1", "/t2");
+		PathPatternsRequestCondition c2 = createCondition("/m1", "/m2");
+
+		assertThat(c1.combine(c2)).isEqualTo(createCondition("/t1/m1", "/t1/m2", "/t2/m1", "/t2/m2"));
+	}
+
+	@Test
+	public void matchDirectPath() {
+		PathPatternsRequestCondition condition = createCondition("/foo");
+		PathPatternsRequestCondition match = condition.getMatchingCondition(createRequest("/foo"));
+
+		assertThat(match).isSameAs(condition);
+	}
+
+	@Test
+	public void matchPattern() {
+		PathPatternsRequestCondition condition = createCondition("/foo/*");
+		PathPatternsRequestCondition match = condition.getMatchingCondition(createRequest("/foo/bar"));
+
+		assertThat(match).isNotNull();
+	}
+
+	@Test
+	public void matchSortPatterns() {
+		PathPatternsRequestCondition condition = createCondition("/**", "/foo/bar", "/foo/*");
+		PathPatternsRequestCondition match = condition.getMatchingCondition(createRequest("/foo/bar"));
+
+		assertThat(match).isNotNull();
+		assertThat(match.getPatternValues()).containsExactly("/foo/bar", "/foo/*", "/**");
+	}
+
+	@Test
+	public void matchSubsetOfPatterns() {
+		PathPatternsRequestCondition condition = createCondition("/foo/*", "/bar/*");
+		PathPatternsRequestCondition match = condition.getMatchingCondition(createRequest("/bar/baz"));
+
+		assertThat(match).isNotNull();
+		assertThat(match.getPatternValues()).containsExactly("/bar/*");
+	}
+
+	@Test
+	public void matchTrailingSlash() {
+		MockHttpServletRequest request = createRequest("/foo/");
+
+		PathPatternsRequestCondition condition = createCondition("/foo");
+		assertThat(condition.getMatchingCondition(request)).isNotNull();
+
+		PathPatternParser strictParser = new PathPatternParser();
+		strictParser.setMatchOptionalTrailingSeparator(false);
+		condition = new PathPatternsRequestCondition(strictParser, "/foo");
+		assertThat(condition.getMatchingCondition(request)).isNull();
+	}
+
+	@Test
+	public void matchWithinApplicationPath() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/foo/bar");
+		request.setContextPath("/app");
+		ServletRequestPathUtils.parseAndCache(request);
+
+		assertThat(createCondition("/foo/bar").getMatchingCondition(request)).isNotNull();
+		assertThat(createCondition("/app/foo/bar").getMatchingCondition(request)).isNull();
+	}
+
+	@Test
+	public void noMatch() {
+		PathPatternsRequestCondition condition = createCondition("/foo/bar");
+		PathPatternsRequestCondition match = condition.getMatchingCondition(createRequest("/foo/bar/baz"));
+
+		assertThat(match).isNull();
+	}
+
+	@Test
+	public void compareToConsistentWithEquals() {
+		HttpServletRequest request = createRequest("/foo/bar");
+		PathPatternsRequestCondition c1 = createCondition("/foo/*");
+		PathPatternsRequestCondition c2 = createCondition("/foo/*");
+
+		assertThat(c1.compareTo(c2, request)).isEqualTo(0);
+	}
+
+	@Test
+	public void compareToMoreSpecificFirst() {
+		HttpServletRequest request = createRequest("/foo/bar");
+		PathPatternsRequestCondition c1 = createCondition("/foo/bar");
+		PathPatternsRequestCondition c2 = createCondition("/foo/{name}");
+		PathPatternsRequestCondition c3 = createCondition("/foo/**");
+
+		assertThat(c1.compareTo(c2, request)).isLessThan(0);
+		assertThat(c2.compareTo(c3, request)).isLessThan(0);
+		assertThat(c3.compareTo(c1, request)).isGreaterThan(0);
+	}
+
+	@Test
+	public void compareNumberOfMatchingPatterns() {
+		HttpServletRequest request = createRequest("/foo");
+		PathPatternsRequestCondition c1 = createCondition("/foo", "/bar").getMatchingCondition(request);
+		PathPatternsRequestCondition c2 = createCondition("/foo", "/f*").getMatchingCondition(request);
+
+		assertThat(c1).isNotNull();
+		assertThat(c2).isNotNull();
+		assertThat(c1.compareTo(c2, request)).isGreaterThan(0);
+	}
+
+
+	private static PathPatternsRequestCondition createCondition(String... patterns) {
+		return new PathPatternsRequestCondition(parser, patterns);
+	}
+
+	private static MockHttpServletRequest createRequest(String requestUri) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+		ServletRequestPathUtils.parseAndCache(request);
+		return request;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.annotation.AliasFor;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.ClassUtils;
 import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.accept.PathExtensionContentNegotiationStrategy;
@@ -46,12 +47,18 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.HandlerTypePredicate;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.handler.RequestMatchResult;
 import org.springframework.web.servlet.mvc.condition.ConsumesRequestCondition;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -174,6 +181,154 @@ public class RequestMappingHandlerMappingTests {
 		assertThat(info.getPatternsCondition().getMatchingCondition(request)).isNull();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void pathPatternParser() throws Exception {
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		this.wac.registerSingleton("userController", UserController.class);
+		this.wac.refresh();
+		this.handlerMapping.afterPropertiesSet();
+
+		RequestMappingInfo info = this.handlerMapping.getHandlerMethods().keySet().iterator().next();
+		assertThat(info.getPathPatternsCondition()).isNotNull();
+		assertThat(info.getPathPatternsCondition().getPatternValues()).containsExactly("/user/{id}");
+		assertThat(info.getPatternsCondition().getPatterns()).containsExactly("/user/{id}");
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/user/42");
+		request.setContextPath("/app");
+		HandlerExecutionChain chain = this.handlerMapping.getHandler(request);
+
+		assertThat(chain).isNotNull();
+		assertThat(((HandlerMethod) chain.getHandler()).getMethod().getName()).isEqualTo("getUser");
+		assertThat(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)).isEqualTo("/user/{id}");
+		assertThat((Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE))
+				.containsOnly(entry("id", "42"));
+
+		request = new MockHttpServletRequest("GET", "/app/user/42/");
+		request.setContextPath("/app");
+		assertThat(this.handlerMapping.getHandler(request)).isNotNull();
+
+		request = new MockHttpServletRequest("GET", "/app/user/42/orders");
+		request.setContextPath("/app");
+		assertThat(this.handlerMapping.getHandler(request)).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void pathPatternParserWithEncodedPath() throws Exception {
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		this.wac.registerSingleton("userController", UserController.class);
+		this.wac.refresh();
+		this.handlerMapping.afterPropertiesSet();
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/user/a%20b");
+		request.setContextPath("/app");
+		assertThat(this.handlerMapping.getHandler(request)).isNotNull();
+		assertThat(request.getAttribute(HandlerMapping.LOOKUP_PATH)).isEqualTo("/user/a b");
+		assertThat((Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE))
+				.containsOnly(entry("id", "a b"));
+
+		request = new MockHttpServletRequest("GET", "/app/user/a%20b/orders/x%2Fy");
+		request.setContextPath("/app");
+		RequestMatchResult result = this.handlerMapping.match(request, "/user/{id}/{*rest}");
+		assertThat(result).isNotNull();
+		assertThat(result.extractUriTemplateVariables()).containsOnly(entry("id", "a b"), entry("rest", "/orders/x/y"));
+		assertThat(this.handlerMapping.match(request, "/user/{id}")).isNull();
+	}
+
+	@Test
+	public void pathPrefixIndex() throws Exception {
+		testPathPrefixIndex(false);
+	}
+
+	@Test
+	public void pathPrefixIndexWithPathPatternParser() throws Exception {
+		testPathPrefixIndex(true);
+	}
+
+	private void testPathPrefixIndex(boolean usePathPatternParser) throws Exception {
+		if (usePathPatternParser) {
+			this.handlerMapping.setPatternParser(new PathPatternParser());
+		}
+		this.handlerMapping.setUsePathPrefixIndex(true);
+		this.wac.registerSingleton("userController", UserController.class);
+		this.wac.registerSingleton("orderController", OrderController.class);
+		this.wac.refresh();
+		this.handlerMapping.afterPropertiesSet();
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/42");
+		HandlerExecutionChain chain = this.handlerMapping.getHandler(request);
+		assertThat(chain).isNotNull();
+		assertThat(((HandlerMethod) chain.getHandler()).getMethod().getName()).isEqualTo("getUser");
+		assertThat(request.getAttribute(RequestMappingHandlerMapping.LOOKUP_CANDIDATE_COUNT_ATTRIBUTE)).isEqualTo(1);
+
+		request = new MockHttpServletRequest("GET", "/orders/42/items");
+		chain = this.handlerMapping.getHandler(request);
+		assertThat(chain).isNotNull();
+		assertThat(((HandlerMethod) chain.getHandler()).getMethod().getName()).isEqualTo("getItems");
+		assertThat(request.getAttribute(RequestMappingHandlerMapping.LOOKUP_CANDIDATE_COUNT_ATTRIBUTE)).isEqualTo(2);
+
+		request = new MockHttpServletRequest("GET", "/other/42");
+		assertThat(this.handlerMapping.getHandler(request)).isNull();
+		assertThat(request.getAttribute(RequestMappingHandlerMapping.LOOKUP_CANDIDATE_COUNT_ATTRIBUTE)).isEqualTo(0);
+	}
+
+	@Test
+	public void pathPrefixIndexWithCaseInsensitivePathMatcher() throws Exception {
+		AntPathMatcher pathMatcher = new AntPathMatcher();
+		pathMatcher.setCaseSensitive(false);
+		this.handlerMapping.setPathMatcher(pathMatcher);
+		testPathPrefixIndexWithCaseInsensitiveMatching();
+	}
+
+	@Test
+	public void pathPrefixIndexWithCaseInsensitivePathPatternParser() throws Exception {
+		PathPatternParser parser = new PathPatternParser();
+		parser.setCaseSensitive(false);
+		this.handlerMapping.setPatternParser(parser);
+		testPathPrefixIndexWithCaseInsensitiveMatching();
+	}
+
+	@Test
+	public void pathPrefixIndexWithCaseInsensitivePathMatcherSetAfterInitialization() throws Exception {
+		this.handlerMapping.setUsePathPrefixIndex(true);
+		this.wac.refresh();
+		this.handlerMapping.afterPropertiesSet();
+
+		AntPathMatcher pathMatcher = new AntPathMatcher();
+		pathMatcher.setCaseSensitive(false);
+		this.handlerMapping.setPathMatcher(pathMatcher);
+		RequestMappingInfo.BuilderConfiguration config = new RequestMappingInfo.BuilderConfiguration();
+		config.setPathMatcher(pathMatcher);
+		Method method = UserController.class.getMethod("getUser");
+		this.handlerMapping.registerMapping(
+				RequestMappingInfo.paths("/user/{id}").options(config).build(), new UserController(), method);
+
+		HandlerExecutionChain chain = this.handlerMapping.getHandler(new MockHttpServletRequest("GET", "/USER/42"));
+		assertThat(chain).isNotNull();
+		assertThat(((HandlerMethod) chain.getHandler()).getMethod()).isEqualTo(method);
+	}
+
+	private void testPathPrefixIndexWithCaseInsensitiveMatching() throws Exception {
+		this.handlerMapping.setUsePathPrefixIndex(true);
+		this.wac.registerSingleton("userController", UserController.class);
+		this.wac.registerSingleton("orderController", OrderController.class);
+		this.wac.refresh();
+		this.handlerMapping.afterPropertiesSet();
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/USER/42");
+		HandlerExecutionChain chain = this.handlerMapping.getHandler(request);
+		assertThat(chain).isNotNull();
+		assertThat(((HandlerMethod) chain.getHandler()).getMethod().getName()).isEqualTo("getUser");
+		assertThat(request.getAttribute(RequestMappingHandlerMapping.LOOKUP_CANDIDATE_COUNT_ATTRIBUTE))
+				.isEqualTo(this.handlerMapping.getHandlerMethods().size());
+
+		request = new MockHttpServletRequest("GET", "/Orders/42/Items");
+		chain = this.handlerMapping.getHandler(request);
+		assertThat(chain).isNotNull();
+		assertThat(((HandlerMethod) chain.getHandler()).getMethod().getName()).isEqualTo("getItems");
+	}
+
 	@Test
 	public void resolveRequestMappingViaComposedAnnotation() throws Exception {
 		RequestMappingInfo info = assertComposedAnnotationMapping("postJson", "/postJson", RequestMethod.POST);
@@ -316,6 +471,20 @@ public class RequestMappingHandlerMappingTests {
 	}
 
 
+	@RestController
+	@RequestMapping("/orders")
+	static class OrderController {
+
+		@GetMapping("/{id}")
+		public void getOrder() {
+		}
+
+		@GetMapping("/{id}/items")
+		public void getItems() {
+		}
+	}
+
+
 	private static class Foo {
 	}
 